@@ -8,9 +8,12 @@ group = "com.adas"
 version = "0.0.1-SNAPSHOT"
 description = "api"
 
+// 가상 스레드 모드는 Java 21 이상에서만 켜진다: ./gradlew build -PjavaVersion=21
+val javaVersion = (findProperty("javaVersion") as String?)?.toInt() ?: 17
+
 java {
     toolchain {
-        languageVersion = JavaLanguageVersion.of(17)
+        languageVersion = JavaLanguageVersion.of(javaVersion)
     }
 }
 
@@ -29,6 +32,7 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-webflux")
+    implementation("org.springframework.boot:spring-boot-starter-websocket")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
 
 
@@ -41,6 +45,9 @@ dependencies {
     // JPA
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 
+    // Metrics
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
     // Lombok
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
@@ -59,3 +66,66 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+// 동시 업로드 부하 비교(플랫폼 스레드 vs 가상 스레드): ./gradlew loadTest -PjavaVersion=21
+val loadTest by tasks.registering(Test::class) {
+    description = "Runs upload concurrency load tests."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    maxHeapSize = "1g"
+    // 단계별 동시 호출 수가 WebClient 기본 커넥션 풀 한도에 막히지 않도록 한다
+    systemProperty("reactor.netty.pool.maxConnections", "4096")
+    testLogging {
+        showStandardStreams = true
+    }
+    shouldRunAfter(tasks.test)
+}
+
+// 마이크로 벤치마크(JMH): ./gradlew jmh [-Pjmh.includes=SpeechMerge] [-Pjmh.args="-p words=1000 -f 1"]
+// 결과는 build/reports/jmh/results.json, GC 프로파일러로 할당량(gc.alloc.rate.norm)을 함께 기록한다.
+val jmhVersion = "1.37"
+
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations["jmhImplementation"].extendsFrom(configurations.implementation.get())
+configurations["jmhRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+    // 저장 벤치마크의 기본 DB(H2 메모리, MySQL 모드)
+    "jmhRuntimeOnly"("com.h2database:h2")
+}
+
+val jmh by tasks.registering(JavaExec::class) {
+    description = "Runs JMH benchmarks with the GC profiler."
+    group = "benchmark"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    val results = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.upToDateWhen { false }
+    doFirst { results.get().asFile.parentFile.mkdirs() }
+    args((findProperty("jmh.includes") as String?) ?: ".*")
+    args("-prof", "gc", "-rf", "json", "-rff", results.get().asFile.path)
+    (findProperty("jmh.args") as String?)?.split(" ")?.filter { it.isNotBlank() }?.let { args(it) }
+}
+
+// 벤치마크 코드가 깨지지 않도록 check에서 컴파일까지는 확인한다
+tasks.check {
+    dependsOn(tasks.named("jmhClasses"))
+}
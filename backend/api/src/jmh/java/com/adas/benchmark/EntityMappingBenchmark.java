@@ -0,0 +1,141 @@
+package com.adas.benchmark;
+
+import com.adas.application.recording.RecordingQueryService;
+import com.adas.domain.diarization.DiarizationSegment;
+import com.adas.domain.diarization.DiarizationSegmentRepository;
+import com.adas.domain.job.ProcessingJobRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.domain.speaker.SpeakerTurn;
+import com.adas.domain.speaker.SpeakerTurnRepository;
+import com.adas.domain.speech.SpeechMergeService;
+import com.adas.domain.speech.Turn;
+import com.adas.domain.transcript.TranscriptSegment;
+import com.adas.domain.transcript.TranscriptSegmentRepository;
+import com.adas.domain.transcript.TranscriptTimeline;
+import com.adas.domain.transcript.TranscriptTimelineRepository;
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.presentation.media.TranscriptController;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 엔티티 생성(MediaProcessingService의 persist* 경로)과 조회 매핑(RecordingQueryService DTO 변환 + TranscriptController 맵 구성),
+ * 단어 전사를 압축 타임라인 한 행으로 인코딩/디코딩하는 비용.
+ * 리포지토리는 미리 만든 엔티티 목록을 돌려주는 프록시로 바꿔 DB 없이 매핑 비용만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EntityMappingBenchmark {
+
+    @Param({"1000", "20000", "500000"})
+    int words;
+
+    @Param({"2", "20"})
+    int speakers;
+
+    private Recording recording;
+    private SttResponse stt;
+    private DiarizationResponse diar;
+    private List<Turn> turns;
+    private TranscriptController controller;
+    private TranscriptTimeline timeline;
+
+    @Setup
+    public void setUp() {
+        Workloads workload = Workloads.meeting(words, speakers);
+        recording = Recording.createFromUpload("bench.wav", "ko", 1L << 20);
+        stt = new SttResponse("ko", workload.words);
+        diar = new DiarizationResponse(workload.segments);
+        turns = new SpeechMergeService().merge(stt, diar);
+
+        List<TranscriptSegment> transcripts = transcriptSegments();
+        List<DiarizationSegment> diarization = diarizationSegments();
+        List<SpeakerTurn> speakerTurns = speakerTurns();
+        RecordingQueryService queryService = new RecordingQueryService(
+            repository(RecordingRepository.class, null),
+            repository(TranscriptSegmentRepository.class, transcripts),
+            repository(TranscriptTimelineRepository.class, null),
+            repository(DiarizationSegmentRepository.class, diarization),
+            repository(SpeakerTurnRepository.class, speakerTurns),
+            repository(ProcessingJobRepository.class, null));
+        controller = new TranscriptController(queryService);
+        timeline = transcriptTimelineEncode();
+    }
+
+    @Benchmark
+    public List<TranscriptSegment> transcriptSegments() {
+        List<TranscriptSegment> list = new ArrayList<>(stt.words().size());
+        for (SttResponse.Word w : stt.words()) {
+            list.add(TranscriptSegment.transcribeSegment(recording, w.start(), w.end(), w.text(), w.confidence(), stt.lang(), "stt"));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<DiarizationSegment> diarizationSegments() {
+        List<DiarizationSegment> list = new ArrayList<>(diar.segments().size());
+        for (DiarizationResponse.Segment s : diar.segments()) {
+            list.add(DiarizationSegment.identifySpeaker(recording, s.speaker(), s.start(), s.end(), s.confidence()));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<SpeakerTurn> speakerTurns() {
+        List<SpeakerTurn> list = new ArrayList<>(turns.size());
+        for (Turn t : turns) {
+            list.add(SpeakerTurn.createTurn(recording, t.getSpeaker(), t.getStart(), t.getEnd(), t.getText()));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public TranscriptTimeline transcriptTimelineEncode() {
+        return TranscriptTimeline.encode(recording, stt.lang(), "stt", stt.words());
+    }
+
+    @Benchmark
+    public List<SttResponse.Word> transcriptTimelineDecode() {
+        return timeline.copyTo(recording).words();
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> transcriptResponse() {
+        return controller.transcript(1L);
+    }
+
+    /**
+     * 조회 메서드(find*)는 rows(없으면 Optional.empty)를 돌려주고 나머지는 지원하지 않는 리포지토리.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T repository(Class<T> type, List<?> rows) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().startsWith("find")) {
+                return method.getReturnType() == Optional.class ? Optional.empty() : rows;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
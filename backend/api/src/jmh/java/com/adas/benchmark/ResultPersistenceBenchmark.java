@@ -0,0 +1,151 @@
+package com.adas.benchmark;
+
+import com.adas.application.media.ProcessingProperties;
+import com.adas.application.media.ResultRowWriter;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.transcript.TranscriptSegment;
+import com.adas.infrastructure.external.dto.SttResponse;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * 전사 행 저장. IDENTITY 키 엔티티를 saveAll할 때 Hibernate가 하는 것처럼 행마다 INSERT 후 생성 키를 읽는 방식(perRowIdentity)과
+ * ResultRowWriter의 JDBC 배치(jdbcBatch)를 비교한다. 둘 다 한 트랜잭션으로 커밋하고, 초당 저장 행 수는 rows 보조 지표로 나온다.
+ * 기본은 H2(MySQL 모드) 메모리 DB이며, MySQL은 빈 스키마를 가리키는 URL로 잰다(transcripts 테이블을 만들고 매번 비운다):
+ * -Pjmh.args="-p url=jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true -p user=... -p password=..."
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ResultPersistenceBenchmark {
+
+    private static final String INSERT = "INSERT INTO transcripts "
+        + "(recording_id, start_ms, end_ms, text, confidence, language, provider) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    String url;
+
+    @Param({"sa"})
+    String user;
+
+    @Param({""})
+    String password;
+
+    @Param({"1000", "20000"})
+    int words;
+
+    @Param({"1000"})
+    int batchSize;
+
+    private SingleConnectionDataSource dataSource;
+    private Connection connection;
+    private ResultRowWriter writer;
+    private List<TranscriptSegment> rows;
+
+    /**
+     * 호출마다 저장한 행 수(초당 값으로 보고된다).
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+
+        public long rows;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        dataSource = new SingleConnectionDataSource(url, user, password, true);
+        dataSource.setAutoCommit(false);
+        connection = dataSource.getConnection();
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TABLE IF NOT EXISTS transcripts (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "recording_id BIGINT NOT NULL, start_ms BIGINT NOT NULL, end_ms BIGINT NOT NULL, text VARCHAR(2000), "
+                + "confidence DOUBLE, language VARCHAR(10), provider VARCHAR(50))");
+        }
+        connection.commit();
+
+        ProcessingProperties props = new ProcessingProperties();
+        props.getPersistence().setBatchSize(batchSize);
+        writer = new ResultRowWriter(new JdbcTemplate(dataSource), props);
+
+        Recording recording = Recording.createFromUpload("bench.wav", "ko", 1L << 20);
+        Field id = Recording.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(recording, 1L);
+        rows = new ArrayList<>(words);
+        for (SttResponse.Word w : Workloads.meeting(words, 2).words) {
+            rows.add(TranscriptSegment.transcribeSegment(recording, w.start(), w.end(), w.text(), w.confidence(), "ko", "stt"));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void truncate() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("TRUNCATE TABLE transcripts");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public long perRowIdentity(Rows counter) throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement ps = connection.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS)) {
+            for (TranscriptSegment t : rows) {
+                ps.setLong(1, t.getRecording().getId());
+                ps.setLong(2, t.getStartMs());
+                ps.setLong(3, t.getEndMs());
+                ps.setString(4, t.getText());
+                ps.setObject(5, t.getConfidence(), Types.DOUBLE);
+                ps.setString(6, t.getLanguage());
+                ps.setString(7, t.getProvider());
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        counter.rows += rows.size();
+        return lastId;
+    }
+
+    @Benchmark
+    public void jdbcBatch(Rows counter) throws SQLException {
+        writer.insertTranscripts(rows);
+        connection.commit();
+        counter.rows += rows.size();
+    }
+}
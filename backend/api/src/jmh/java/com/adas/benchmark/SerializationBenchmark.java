@@ -0,0 +1,65 @@
+package com.adas.benchmark;
+
+import com.adas.application.dto.ProcessResponse;
+import com.adas.domain.speech.SpeechMergeService;
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.presentation.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 업로드 응답(ApiResponse&lt;ProcessResponse&gt;) JSON 직렬화. 응답 스트림에 바로 쓰는 Spring MVC처럼 버리는 스트림에 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SerializationBenchmark {
+
+    @Param({"1000", "20000", "500000"})
+    int words;
+
+    @Param({"2", "20"})
+    int speakers;
+
+    // Spring Boot 기본 설정(JSR-310, 날짜는 ISO 문자열)과 같은 ObjectMapper
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private ProcessResponse processResponse;
+    private ApiResponse<ProcessResponse> apiResponse;
+
+    @Setup
+    public void setUp() {
+        Workloads workload = Workloads.meeting(words, speakers);
+        SttResponse stt = new SttResponse("ko", workload.words);
+        DiarizationResponse diar = new DiarizationResponse(workload.segments);
+        processResponse = new ProcessResponse("1", "ko", stt.words(), diar.segments(), new SpeechMergeService().merge(stt, diar));
+        apiResponse = ApiResponse.successBody(processResponse);
+    }
+
+    @Benchmark
+    public void processResponse() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), processResponse);
+    }
+
+    @Benchmark
+    public void apiResponse() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), apiResponse);
+    }
+}
@@ -0,0 +1,89 @@
+package com.adas.benchmark;
+
+import com.adas.domain.speech.SpeakerTimeline;
+import com.adas.domain.speech.SpeechMergeService;
+import com.adas.domain.speech.Turn;
+import com.adas.domain.speech.WordTimeline;
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.external.dto.WordBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 화자 병합(SpeechMergeService). Word 목록 입력, 디코더가 만드는 WordBuffer 입력, 열 저장소 변환을 뺀 병합 자체를 나눠 재고,
+ * 말소리 없는 틈에서 나눠 ForkJoinPool(코어 수)에서 실행하는 병렬 병합(임계값 1, 분할 최소 1천 단어)도 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SpeechMergeBenchmark {
+
+    @Param({"1000", "20000", "500000"})
+    int words;
+
+    @Param({"2", "20"})
+    int speakers;
+
+    private final SpeechMergeService service = new SpeechMergeService();
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final SpeechMergeService parallelService = new SpeechMergeService(pool, 1, 1_000);
+    private SttResponse stt;
+    private SttResponse sttBuffer;
+    private DiarizationResponse diar;
+    private WordTimeline wordTimeline;
+    private SpeakerTimeline speakerTimeline;
+
+    @Setup
+    public void setUp() {
+        Workloads workload = Workloads.meeting(words, speakers);
+        stt = new SttResponse("ko", workload.words);
+        WordBuffer.Builder buffer = WordBuffer.builder(words);
+        workload.words.forEach(w -> buffer.add(w.start(), w.end(), w.text(), w.confidence().floatValue()));
+        sttBuffer = new SttResponse("ko", buffer.build());
+        diar = new DiarizationResponse(workload.segments);
+        wordTimeline = WordTimeline.from(workload.words);
+        speakerTimeline = SpeakerTimeline.from(workload.segments);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Turn> mergeWordList() {
+        return service.merge(stt, diar);
+    }
+
+    @Benchmark
+    public List<Turn> mergeWordBuffer() {
+        return service.merge(sttBuffer, diar);
+    }
+
+    @Benchmark
+    public List<Turn> mergeTimelines() {
+        return service.mergeTimelines(wordTimeline, speakerTimeline);
+    }
+
+    @Benchmark
+    public List<Turn> mergeTimelinesParallel() {
+        return parallelService.mergeTimelines(wordTimeline, speakerTimeline);
+    }
+}
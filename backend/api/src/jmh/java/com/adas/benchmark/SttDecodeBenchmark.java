@@ -0,0 +1,74 @@
+package com.adas.benchmark;
+
+import com.adas.infrastructure.external.SttResponseDecoder;
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+/**
+ * STT 응답 디코딩. ObjectMapper 데이터 바인딩(List&lt;Word&gt;)과 SttResponseDecoder(WordBuffer)를 비교하고, 디코더는 WebClient처럼
+ * 8KiB 조각으로 받는 경우도 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SttDecodeBenchmark {
+
+    private static final int CHUNK = 8192;
+
+    @Param({"1000", "20000", "500000"})
+    int words;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private SttResponseDecoder decoder;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        json = Workloads.meeting(words, 2).sttJson();
+        decoder = new SttResponseDecoder(json.length);
+    }
+
+    @Benchmark
+    public SttResponse jackson() throws IOException {
+        return objectMapper.readValue(json, SttResponse.class);
+    }
+
+    @Benchmark
+    public SttResponse streaming() {
+        return decoder.decode(json);
+    }
+
+    @Benchmark
+    public SttResponse streamingChunks() {
+        Flux<DataBuffer> chunks = Flux.range(0, (json.length + CHUNK - 1) / CHUNK)
+            .<DataBuffer>map(i -> DefaultDataBufferFactory.sharedInstance.wrap(
+                ByteBuffer.wrap(json, i * CHUNK, Math.min(CHUNK, json.length - i * CHUNK))));
+        return decoder.decodeToMono(chunks, ResolvableType.forClass(SttResponse.class), MediaType.APPLICATION_JSON, Map.of())
+            .block(Duration.ofMinutes(1));
+    }
+}
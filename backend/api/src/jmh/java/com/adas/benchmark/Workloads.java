@@ -0,0 +1,70 @@
+package com.adas.benchmark;
+
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.SttResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 합성 입력. 회의 녹음처럼 단어 길이 150~600ms, 단어 사이 0~300ms 쉼, 화자는 5~40단어마다 바뀐다.
+ * 같은 (words, speakers)면 항상 같은 데이터를 만든다.
+ */
+final class Workloads {
+
+    private static final String[] VOCABULARY = {"안녕하세요", "오늘", "회의를", "시작하겠습니다", "네", "그렇습니다", "다음",
+        "안건은", "예산", "일정", "검토", "부탁드립니다", "질문", "있으신가요", "감사합니다", "그럼"};
+
+    final List<SttResponse.Word> words;
+    final List<DiarizationResponse.Segment> segments;
+
+    private Workloads(List<SttResponse.Word> words, List<DiarizationResponse.Segment> segments) {
+        this.words = words;
+        this.segments = segments;
+    }
+
+    static Workloads meeting(int wordCount, int speakerCount) {
+        SplittableRandom random = new SplittableRandom(wordCount * 31L + speakerCount);
+        List<SttResponse.Word> words = new ArrayList<>(wordCount);
+        List<DiarizationResponse.Segment> segments = new ArrayList<>();
+        long cursor = 0;
+        int left = 0;
+        int speaker = 0;
+        long segmentStart = 0;
+        for (int i = 0; i < wordCount; i++) {
+            if (left == 0) {
+                if (i > 0) {
+                    segments.add(new DiarizationResponse.Segment(segmentStart, cursor, "SPEAKER_" + speaker, 0.9));
+                    speaker = (speaker + 1 + random.nextInt(Math.max(1, speakerCount - 1))) % speakerCount;
+                }
+                left = 5 + random.nextInt(36);
+                segmentStart = cursor;
+            }
+            long start = cursor + random.nextInt(300);
+            long end = start + 150 + random.nextInt(450);
+            String text = VOCABULARY[random.nextInt(VOCABULARY.length)];
+            words.add(new SttResponse.Word(start, end, text, 0.5 + random.nextInt(500) / 1000.0));
+            cursor = end;
+            left--;
+        }
+        segments.add(new DiarizationResponse.Segment(segmentStart, cursor, "SPEAKER_" + speaker, 0.9));
+        return new Workloads(words, segments);
+    }
+
+    /**
+     * STT 서비스 응답 형식의 JSON.
+     */
+    byte[] sttJson() {
+        StringBuilder sb = new StringBuilder(words.size() * 80).append("{\"lang\":\"ko\",\"words\":[");
+        for (int i = 0; i < words.size(); i++) {
+            SttResponse.Word w = words.get(i);
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"start\":").append(w.start()).append(",\"end\":").append(w.end())
+                .append(",\"text\":\"").append(w.text()).append("\",\"confidence\":").append(w.confidence()).append('}');
+        }
+        return sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,8 @@
+package com.adas.application.dto;
+
+/**
+ * 일괄 업로드 접수 결과 (record). 파일은 접수 뒤 백그라운드에서 작업으로 등록되며 진행 상태는 일괄 상태 조회로 확인한다.
+ */
+public record BatchReceipt(Long batchId, int fileCount) {
+
+}
@@ -0,0 +1,19 @@
+package com.adas.application.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 업로드 진행 상태 조회 응답 (record). progress는 끝난(완료/실패) 파일 비율, durationProgress는 길이를 아는 파일 기준 끝난 녹음 길이
+ * 비율이다.
+ */
+public record BatchStatusResponse(Long batchId, String status, int total, int queued, int processing, int completed,
+                                  int failed, double progress, double durationProgress, List<Item> files) {
+
+    /**
+     * 파일 하나의 처리 상태.
+     */
+    public record Item(int seq, String filename, Long recordingId, Long jobId, Long durationMs, String status,
+                       String message) {
+
+    }
+}
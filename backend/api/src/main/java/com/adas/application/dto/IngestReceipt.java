@@ -0,0 +1,8 @@
+package com.adas.application.dto;
+
+/**
+ * 비동기 업로드 접수 결과 (record).
+ */
+public record IngestReceipt(Long recordingId, Long jobId, String status) {
+
+}
@@ -0,0 +1,34 @@
+package com.adas.application.dto;
+
+import com.adas.domain.speech.Turn;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * 실시간 수집 세션이 클라이언트로 보내는 메시지 (record). type: opened | update | completed | error
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LiveMessage(
+    String type,
+    Long recordingId,
+    Integer window,
+    List<Turn> finalized,
+    List<Turn> provisional,
+    String message) {
+
+    public static LiveMessage opened(Long recordingId) {
+        return new LiveMessage("opened", recordingId, null, null, null, null);
+    }
+
+    public static LiveMessage update(Long recordingId, int window, List<Turn> finalized, List<Turn> provisional) {
+        return new LiveMessage("update", recordingId, window, finalized, provisional, null);
+    }
+
+    public static LiveMessage completed(Long recordingId) {
+        return new LiveMessage("completed", recordingId, null, null, null, null);
+    }
+
+    public static LiveMessage error(Long recordingId, String message) {
+        return new LiveMessage("error", recordingId, null, null, null, message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.adas.application.dto;
+
+import java.time.Instant;
+
+/**
+ * Recording 처리 상태 조회 응답 (record).
+ */
+public record ProcessingStatusResponse(String status, String message, Instant updatedAt) {
+
+}
@@ -0,0 +1,17 @@
+package com.adas.application.job;
+
+import com.adas.domain.job.JobLane;
+import com.adas.domain.job.ProcessingJob;
+
+/**
+ * 노드가 임대해 처리 중인 작업 스냅샷 (불변 record).
+ */
+public record ClaimedJob(Long id, Long recordingId, String mediaPath, String originalFilename,
+                         String language, Integer maxSpeakers, JobLane lane) {
+
+    static ClaimedJob from(ProcessingJob job) {
+        return new ClaimedJob(job.getId(), job.getRecording().getId(), job.getMediaPath(),
+            job.getOriginalFilename(), job.getLanguage(), job.getMaxSpeakers(),
+            job.getLane() != null ? job.getLane() : JobLane.INTERACTIVE);
+    }
+}
@@ -0,0 +1,180 @@
+package com.adas.application.job;
+
+import com.adas.application.dto.ProcessResponse;
+import com.adas.application.media.ProcessingProperties;
+import com.adas.application.media.RecordingResultCache;
+import com.adas.domain.job.IngestBatch;
+import com.adas.domain.job.IngestBatchItem;
+import com.adas.domain.job.IngestBatchItemRepository;
+import com.adas.domain.job.IngestBatchRepository;
+import com.adas.domain.job.JobLane;
+import com.adas.domain.job.JobStatus;
+import com.adas.domain.job.ProcessingJob;
+import com.adas.domain.job.ProcessingJobRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.infrastructure.media.MediaProbeService;
+import com.adas.infrastructure.media.MediaStorage;
+import com.adas.infrastructure.media.StoredMedia;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 접수된 일괄 업로드의 파일을 백그라운드에서 작업으로 등록한다. 파일마다 길이를 추출하는 대로 바로 등록하므로, 다음 파일의 길이 추출과
+ * 앞 파일의 처리가 겹친다. 순서(priority_key)는 모든 파일이 일괄 접수 시각(createdAt) 기준이라, 대기 중인 작업은 일괄 안에서 짧은 파일부터
+ * 처리되고 이어서 등록하는 경우에도 접수 뒤 쌓인 대기 시간을 잃지 않는다.
+ * 등록 대기 항목은 DB에 남아 있어 접수 노드가 중단돼도 registration-timeout-ms 뒤 다른 노드가 이어서 등록한다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
+public class IngestBatchRegistrar {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestBatchRegistrar.class);
+    private static final int STALLED_BATCHES_PER_SWEEP = 10;
+
+    private final IngestBatchRepository batchRepository;
+    private final IngestBatchItemRepository itemRepository;
+    private final RecordingRepository recordingRepository;
+    private final ProcessingJobRepository jobRepository;
+    private final MediaStorage mediaStorage;
+    private final MediaProbeService mediaProbeService;
+    private final RecordingResultCache resultCache;
+    private final TransactionTemplate transactionTemplate;
+    private final JobSchedulingPolicy schedulingPolicy;
+    private final ProcessingProperties props;
+    private final TaskExecutor executor;
+    /**
+     * 이 노드에서 등록을 기다리거나 진행 중인 일괄 id
+     */
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+
+    public IngestBatchRegistrar(IngestBatchRepository batchRepository,
+                                IngestBatchItemRepository itemRepository,
+                                RecordingRepository recordingRepository,
+                                ProcessingJobRepository jobRepository,
+                                MediaStorage mediaStorage,
+                                MediaProbeService mediaProbeService,
+                                RecordingResultCache resultCache,
+                                TransactionTemplate transactionTemplate,
+                                JobSchedulingPolicy schedulingPolicy,
+                                ProcessingProperties props,
+                                @Qualifier("batchRegistrationExecutor") TaskExecutor executor) {
+        this.batchRepository = batchRepository;
+        this.itemRepository = itemRepository;
+        this.recordingRepository = recordingRepository;
+        this.jobRepository = jobRepository;
+        this.mediaStorage = mediaStorage;
+        this.mediaProbeService = mediaProbeService;
+        this.resultCache = resultCache;
+        this.transactionTemplate = transactionTemplate;
+        this.schedulingPolicy = schedulingPolicy;
+        this.props = props;
+        this.executor = executor;
+    }
+
+    /**
+     * 커밋된 일괄 업로드의 등록을 등록 풀에 넘긴다. 이미 이 노드에서 등록 중이면 무시한다.
+     */
+    public void registerAsync(Long batchId) {
+        if (!scheduled.add(batchId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    register(batchId);
+                } catch (RuntimeException e) {
+                    log.warn("batch {} registration stopped: {}", batchId, e.getMessage());
+                } finally {
+                    scheduled.remove(batchId);
+                }
+            });
+        } catch (RuntimeException e) {
+            scheduled.remove(batchId);
+            log.warn("batch {} registration not scheduled: {}", batchId, e.getMessage());
+        }
+    }
+
+    /**
+     * 접수 노드가 등록을 끝내지 못한 일괄 업로드를 이어서 등록한다.
+     */
+    @Scheduled(fixedDelayString = "${processing.job.recovery-interval-ms:30000}")
+    public void resumeStalled() {
+        Instant before = Instant.now().minusMillis(props.getBatch().getRegistrationTimeoutMs());
+        itemRepository.findStalledBatchIds(before, STALLED_BATCHES_PER_SWEEP).forEach(this::registerAsync);
+    }
+
+    /**
+     * 일괄 업로드의 등록 대기 파일을 순서대로 길이를 추출해 바로 등록한다. 파일 하나의 실패는 그 항목만 FAILED로 남긴다.
+     */
+    void register(Long batchId) {
+        Optional<IngestBatch> found = batchRepository.findById(batchId);
+        if (found.isEmpty()) {
+            return;
+        }
+        IngestBatch batch = found.get();
+        List<IngestBatchItem> pending =
+            itemRepository.findByBatchIdAndStatusAndJobIdIsNullAndMediaPathIsNotNullOrderBySeq(batchId, JobStatus.QUEUED);
+        for (IngestBatchItem item : pending) {
+            Long duration = mediaProbeService.safeProbeFileDurationMs(Paths.get(item.getMediaPath()));
+            registerOne(batch, item, duration, batch.getCreatedAt());
+        }
+    }
+
+    /**
+     * 항목을 잠근 트랜잭션 안에서 결과를 재사용하거나 Recording과 작업을 등록한다. 작업이 넘겨받지 않은 파일(재사용, 실패)은 커밋 뒤 지운다.
+     */
+    private void registerOne(IngestBatch batch, IngestBatchItem pending, Long duration, Instant enqueuedAt) {
+        StoredMedia media = new StoredMedia(Paths.get(pending.getMediaPath()), pending.getOriginalFilename(),
+            pending.getSizeBytes() != null ? pending.getSizeBytes() : 0L, pending.getContentSha256());
+        JobStatus outcome;
+        try {
+            outcome = transactionTemplate.execute(tx -> itemRepository.lockPending(pending.getId())
+                .map(item -> enqueue(batch, item, media, duration, enqueuedAt))
+                .orElse(null));
+        } catch (RuntimeException e) {
+            log.warn("batch {} file {} not registered: {}", batch.getId(), media.filename(), e.getMessage());
+            String reason = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            outcome = transactionTemplate.execute(tx -> itemRepository.lockPending(pending.getId())
+                .map(item -> {
+                    item.rejected(reason);
+                    return JobStatus.FAILED;
+                })
+                .orElse(null));
+        }
+        if (outcome != null && outcome.isTerminal()) {
+            mediaStorage.delete(media);
+        }
+    }
+
+    private JobStatus enqueue(IngestBatch batch, IngestBatchItem item, StoredMedia media, Long duration,
+                              Instant enqueuedAt) {
+        Optional<ProcessResponse> cached = resultCache.reuse(media, batch.getSource(), batch.getLanguage(), null,
+            batch.isUseCache());
+        if (cached.isPresent()) {
+            item.reused(Long.valueOf(cached.get().recordingId()), duration);
+            return JobStatus.COMPLETED;
+        }
+        Recording rec = Recording.createFromUpload(batch.getSource(), batch.getLanguage(), media.sizeBytes());
+        rec.specifyDuration(duration);
+        rec.fingerprint(media.sha256(), null);
+        ProcessingJob job = ProcessingJob.enqueue(
+            recordingRepository.save(rec), media.path().toString(), media.filename(), batch.getLanguage(), null);
+        job.assignToBatch(batch.getId());
+        schedulingPolicy.schedule(job, JobLane.BULK, duration, enqueuedAt);
+        item.enqueued(jobRepository.save(job), duration);
+        return JobStatus.QUEUED;
+    }
+}
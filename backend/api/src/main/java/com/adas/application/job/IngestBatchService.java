@@ -0,0 +1,212 @@
+package com.adas.application.job;
+
+import com.adas.application.dto.BatchReceipt;
+import com.adas.application.dto.BatchStatusResponse;
+import com.adas.application.media.ProcessingProperties;
+import com.adas.common.exception.CustomException;
+import com.adas.common.exception.NotFoundException;
+import com.adas.common.exception.TooManyRequestsException;
+import com.adas.domain.job.IngestBatch;
+import com.adas.domain.job.IngestBatchItem;
+import com.adas.domain.job.IngestBatchItemRepository;
+import com.adas.domain.job.IngestBatchRepository;
+import com.adas.domain.job.JobStatus;
+import com.adas.domain.job.ProcessingJob;
+import com.adas.domain.job.ProcessingJobRepository;
+import com.adas.infrastructure.media.MediaStorage;
+import com.adas.infrastructure.media.StoredMedia;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 일괄 업로드 접수/조회 서비스. 여러 파일 또는 zip 아카이브를 받아 항목마다 저장소에 스트리밍으로 보관하고, 파일 목록을 등록 대기 항목으로
+ * 기록한 뒤 곧바로 일괄 id를 돌려준다. 길이 추출·결과 재사용 확인·작업 등록은 요청 스레드가 아니라 IngestBatchRegistrar가 백그라운드에서
+ * 진행한다. 일괄 작업은 대량 차선으로 등록되어 단건 업로드를 가로막지 않는다(JobSchedulingPolicy).
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
+public class IngestBatchService {
+
+    private static final String DEFAULT_SOURCE = "batch";
+
+    private final IngestBatchRepository batchRepository;
+    private final IngestBatchItemRepository itemRepository;
+    private final ProcessingJobRepository jobRepository;
+    private final MediaStorage mediaStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final ProcessingProperties props;
+    private final IngestJobService ingestJobService;
+    private final IngestBatchRegistrar registrar;
+
+    /**
+     * 일괄 업로드를 접수한다. 파일 수가 max-files를 넘거나 미디어가 하나도 없으면 CustomException(400), 일괄 작업 대기열(batch.queue-capacity,
+     * 등록 대기 파일 포함)에 들어갈 자리가 없으면 TooManyRequestsException(429)으로 거절하며 이때 보관한 파일은 모두 지운다. 접수 후에는
+     * 파일 하나의 등록 실패가 나머지에 영향을 주지 않고 해당 항목만 FAILED로 남는다.
+     */
+    public BatchReceipt submit(List<MultipartFile> files, String language, String source, boolean useCache) {
+        int capacity = props.getBatch().getQueueCapacity();
+        long queued = jobRepository.countByStatusAndBatchIdIsNotNull(JobStatus.QUEUED)
+            + itemRepository.countByStatusAndJobIdIsNullAndMediaPathIsNotNull(JobStatus.QUEUED);
+        if (queued >= capacity) {
+            throw new TooManyRequestsException("Batch queue is full, retry later",
+                ingestJobService.retryAfterSeconds(queued - capacity + 1));
+        }
+
+        List<StoredMedia> spooled = spool(files);
+        String src = source != null && !source.isBlank() ? source : DEFAULT_SOURCE;
+        IngestBatch batch;
+        try {
+            if (queued + spooled.size() > capacity) {
+                throw new TooManyRequestsException("Batch queue cannot take " + spooled.size() + " more files",
+                    ingestJobService.retryAfterSeconds(queued + spooled.size() - capacity));
+            }
+            batch = transactionTemplate.execute(tx -> {
+                IngestBatch opened = batchRepository.save(IngestBatch.open(src, language, spooled.size(), useCache));
+                List<IngestBatchItem> items = new ArrayList<>();
+                for (int seq = 0; seq < spooled.size(); seq++) {
+                    StoredMedia media = spooled.get(seq);
+                    items.add(IngestBatchItem.pending(opened, seq, media.filename(), media.path().toString(),
+                        media.sizeBytes(), media.sha256()));
+                }
+                itemRepository.saveAll(items);
+                return opened;
+            });
+        } catch (RuntimeException e) {
+            spooled.forEach(mediaStorage::delete);
+            throw e;
+        }
+
+        registrar.registerAsync(batch.getId());
+        return new BatchReceipt(batch.getId(), spooled.size());
+    }
+
+    /**
+     * 일괄 업로드의 파일별 상태와 전체 진행률. 작업으로 등록된 파일은 작업의 현재 단계를 그대로 보여준다.
+     */
+    public BatchStatusResponse getStatus(Long batchId) {
+        IngestBatch batch = batchRepository.findById(batchId)
+            .orElseThrow(() -> new NotFoundException("Batch not found: " + batchId));
+        List<IngestBatchItem> items = itemRepository.findByBatchIdOrderBySeq(batch.getId());
+        Map<Long, ProcessingJob> jobs = jobRepository.findAllById(items.stream()
+                .map(IngestBatchItem::getJobId)
+                .filter(id -> id != null)
+                .toList()).stream()
+            .collect(Collectors.toMap(ProcessingJob::getId, Function.identity()));
+
+        List<BatchStatusResponse.Item> files = new ArrayList<>();
+        int queued = 0;
+        int processing = 0;
+        int completed = 0;
+        int failed = 0;
+        long totalDuration = 0;
+        long doneDuration = 0;
+        for (IngestBatchItem item : items) {
+            ProcessingJob job = item.getJobId() != null ? jobs.get(item.getJobId()) : null;
+            JobStatus status = job != null ? job.getStatus() : item.getStatus();
+            String message = job != null ? job.getErrorMessage() : item.getErrorMessage();
+            switch (status) {
+                case QUEUED -> queued++;
+                case COMPLETED -> completed++;
+                case FAILED -> failed++;
+                default -> processing++;
+            }
+            if (item.getDurationMs() != null) {
+                totalDuration += item.getDurationMs();
+                if (status.isTerminal()) {
+                    doneDuration += item.getDurationMs();
+                }
+            }
+            files.add(new BatchStatusResponse.Item(item.getSeq(), item.getOriginalFilename(), item.getRecordingId(),
+                item.getJobId(), item.getDurationMs(), status.apiValue(), message));
+        }
+
+        int total = items.size();
+        int done = completed + failed;
+        String status = total > 0 && done == total ? "completed" : queued == total ? "queued" : "processing";
+        return new BatchStatusResponse(batch.getId(), status, total, queued, processing, completed, failed,
+            total == 0 ? 0.0 : (double) done / total,
+            totalDuration == 0 ? 0.0 : (double) doneDuration / totalDuration,
+            files);
+    }
+
+    /**
+     * 업로드 파일과 zip 항목을 순서대로 저장소에 보관한다. zip은 항목 단위로 스트리밍해 풀며 아카이브 전체를 메모리에 올리지 않는다. 실패하면
+     * 이미 보관한 파일을 지운다.
+     */
+    private List<StoredMedia> spool(List<MultipartFile> files) {
+        List<StoredMedia> spooled = new ArrayList<>();
+        try {
+            for (MultipartFile file : files != null ? files : List.<MultipartFile>of()) {
+                if (file == null || file.isEmpty()) {
+                    continue;
+                }
+                if (isZip(file)) {
+                    spoolArchive(file, spooled);
+                } else {
+                    ensureRoom(spooled);
+                    spooled.add(mediaStorage.store(file));
+                }
+            }
+            if (spooled.isEmpty()) {
+                throw new CustomException("Batch contains no media files");
+            }
+            return spooled;
+        } catch (RuntimeException e) {
+            spooled.forEach(mediaStorage::delete);
+            throw e;
+        }
+    }
+
+    private void spoolArchive(MultipartFile archive, List<StoredMedia> spooled) {
+        try (ZipInputStream zip = new ZipInputStream(archive.getInputStream())) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                String name = entry.getName();
+                String filename = name.substring(name.lastIndexOf('/') + 1);
+                // 디렉터리와 macOS 메타데이터(__MACOSX/, ._*), 숨김 파일은 건너뛴다.
+                if (entry.isDirectory() || filename.isEmpty() || filename.startsWith(".")
+                    || name.startsWith("__MACOSX/")) {
+                    continue;
+                }
+                ensureRoom(spooled);
+                StoredMedia media = mediaStorage.store(zip, filename);
+                if (media.sizeBytes() == 0) {
+                    mediaStorage.delete(media);
+                    continue;
+                }
+                spooled.add(media);
+            }
+        } catch (ZipException e) {
+            throw new CustomException("Invalid zip archive " + archive.getOriginalFilename() + ": " + e.getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive: " + archive.getOriginalFilename(), e);
+        }
+    }
+
+    private void ensureRoom(List<StoredMedia> spooled) {
+        if (spooled.size() >= props.getBatch().getMaxFiles()) {
+            throw new CustomException("Batch exceeds " + props.getBatch().getMaxFiles() + " files");
+        }
+    }
+
+    private static boolean isZip(MultipartFile file) {
+        String name = file.getOriginalFilename();
+        String type = file.getContentType();
+        return (name != null && name.toLowerCase(Locale.ROOT).endsWith(".zip"))
+            || "application/zip".equals(type) || "application/x-zip-compressed".equals(type);
+    }
+}
@@ -0,0 +1,100 @@
+package com.adas.application.job;
+
+import com.adas.application.dto.IngestReceipt;
+import com.adas.application.dto.ProcessResponse;
+import com.adas.application.media.AdmissionController;
+import com.adas.application.media.RecordingResultCache;
+import com.adas.application.media.ProcessingProperties;
+import com.adas.common.exception.TooManyRequestsException;
+import com.adas.domain.job.JobStatus;
+import com.adas.domain.job.ProcessingJob;
+import com.adas.domain.job.ProcessingJobRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.infrastructure.media.MediaProbeService;
+import com.adas.infrastructure.media.MediaStorage;
+import com.adas.infrastructure.media.StoredMedia;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 비동기 업로드 접수 서비스: 파일을 공유 저장소에 보관하고 Recording과 QUEUED 작업을 커밋한 뒤 즉시 반환한다. 실제 처리는 각 노드의
+ * ProcessingJobDispatcher가 영속 큐에서 작업을 가져가 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
+public class IngestJobService {
+
+    private static final String DEFAULT_SOURCE = "ingest";
+    /**
+     * 큐 처리 속도를 추정하는 최근 구간
+     */
+    private static final Duration DRAIN_WINDOW = Duration.ofMinutes(5);
+
+    private final RecordingRepository recordingRepository;
+    private final ProcessingJobRepository jobRepository;
+    private final MediaStorage mediaStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final ProcessingProperties props;
+    private final RecordingResultCache resultCache;
+    private final MediaProbeService mediaProbeService;
+    private final JobSchedulingPolicy schedulingPolicy;
+
+    /**
+     * 업로드를 접수한다. 대기 작업이 한도에 도달했으면 파일을 보관하기 전에 429로 거절하며, Retry-After는 최근 완료 속도로 자리가 날 때까지의
+     * 시간을 추정한다. useCache이면 같은 내용의 완료된 결과를 먼저 찾는다.
+     */
+    public IngestReceipt submit(MultipartFile file, String language, String source, boolean useCache) {
+        long queued = jobRepository.countByStatusAndBatchIdIsNull(JobStatus.QUEUED);
+        if (queued >= props.getJob().getQueueCapacity()) {
+            throw new TooManyRequestsException("Processing queue is full, retry later",
+                retryAfterSeconds(queued - props.getJob().getQueueCapacity() + 1));
+        }
+
+        StoredMedia media = mediaStorage.store(file);
+        String src = source != null && !source.isBlank() ? source : DEFAULT_SOURCE;
+
+        ProcessingJob job;
+        try {
+            // 같은 내용의 완료된 결과가 있으면 작업을 만들지 않고 즉시 완료로 응답한다.
+            Optional<ProcessResponse> cached = resultCache.reuse(media, src, language, null, useCache);
+            if (cached.isPresent()) {
+                mediaStorage.delete(media);
+                return new IngestReceipt(Long.valueOf(cached.get().recordingId()), null, JobStatus.COMPLETED.apiValue());
+            }
+            // 접수 시 길이를 추출해 짧은 녹음이 먼저 처리되도록 순서를 정한다. 워커는 이 길이를 그대로 쓴다.
+            Long duration = mediaProbeService.safeProbeFileDurationMs(media.path());
+            job = transactionTemplate.execute(tx -> {
+                Recording rec = Recording.createFromUpload(src, language, media.sizeBytes());
+                rec.specifyDuration(duration);
+                rec.fingerprint(media.sha256(), null);
+                ProcessingJob enqueued = ProcessingJob.enqueue(
+                    recordingRepository.save(rec), media.path().toString(), media.filename(), language, null);
+                schedulingPolicy.schedule(enqueued, schedulingPolicy.laneFor(src, false), duration);
+                return jobRepository.save(enqueued);
+            });
+        } catch (RuntimeException e) {
+            mediaStorage.delete(media);
+            throw e;
+        }
+        return new IngestReceipt(job.getRecording().getId(), job.getId(), JobStatus.QUEUED.apiValue());
+    }
+
+    /**
+     * 대기 작업 backlog개가 빠지기까지의 시간(초)을 최근 완료 속도로 추정한다.
+     */
+    long retryAfterSeconds(long backlog) {
+        long completed = jobRepository.countByStatusAndUpdatedAtAfter(
+            JobStatus.COMPLETED, Instant.now().minus(DRAIN_WINDOW));
+        long maxSeconds = props.getAdmission().getMaxRetryAfterSeconds();
+        return AdmissionController.estimateRetryAfter(backlog,
+            completed / (double) DRAIN_WINDOW.toSeconds(), maxSeconds, maxSeconds);
+    }
+}
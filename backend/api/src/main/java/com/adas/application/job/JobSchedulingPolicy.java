@@ -0,0 +1,56 @@
+package com.adas.application.job;
+
+import com.adas.application.media.ProcessingProperties;
+import com.adas.domain.job.JobLane;
+import com.adas.domain.job.ProcessingJob;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업의 처리 차선과 가져가는 순서(priority_key)를 정한다. 순서는 가중 공정 큐의 가상 완료 시각처럼 접수 시각에 녹음 길이/차선 가중치만큼의
+ * 지연을 더한 값으로, 짧은 녹음이 긴 녹음을 앞지르되(SJF) 지연에 상한(max-delay-ms)이 있어 오래 기다린 작업은 결국 먼저 처리된다(aging).
+ */
+@Component
+@RequiredArgsConstructor
+public class JobSchedulingPolicy {
+
+    private final ProcessingProperties props;
+
+    /**
+     * 일괄 업로드이거나 bulk-sources에 속한 source면 대량 차선, 아니면 대화형 차선
+     */
+    public JobLane laneFor(String source, boolean batch) {
+        if (batch || (source != null && props.getScheduling().getBulkSources().contains(source))) {
+            return JobLane.BULK;
+        }
+        return JobLane.INTERACTIVE;
+    }
+
+    public long priorityKey(JobLane lane, Long durationMs, Instant enqueuedAt) {
+        ProcessingProperties.Scheduling scheduling = props.getScheduling();
+        long estimate = durationMs != null ? durationMs : scheduling.getUnknownDurationMs();
+        double weight = lane == JobLane.BULK ? scheduling.getBulkWeight() : scheduling.getInteractiveWeight();
+        double delay = estimate * scheduling.getDelayPerDurationMs() / Math.max(weight, 0.001);
+        return enqueuedAt.toEpochMilli() + (long) Math.min(delay, scheduling.getMaxDelayMs());
+    }
+
+    public void schedule(ProcessingJob job, JobLane lane, Long durationMs) {
+        schedule(job, lane, durationMs, Instant.now());
+    }
+
+    /**
+     * enqueuedAt을 접수 시각으로 순서를 정한다. 일괄 업로드처럼 여러 작업을 같은 시각 기준으로 맞출 때 쓴다.
+     */
+    public void schedule(ProcessingJob job, JobLane lane, Long durationMs, Instant enqueuedAt) {
+        job.schedule(lane, durationMs, priorityKey(lane, durationMs, enqueuedAt));
+    }
+
+    /**
+     * 이 노드가 지금 더 가져갈 수 있는 대량 작업 수. 워커 중 interactive-reserved-workers개는 대화형 작업 몫으로 남긴다.
+     */
+    public int bulkLimit(int workers, int bulkInFlight) {
+        int reserved = Math.min(props.getScheduling().getInteractiveReservedWorkers(), workers - 1);
+        return Math.max(0, workers - Math.max(0, reserved) - bulkInFlight);
+    }
+}
@@ -0,0 +1,11 @@
+package com.adas.application.job;
+
+/**
+ * 처리 중인 작업의 임대가 만료되어 다른 노드로 넘어갔을 때 사용하는 예외. 이 노드는 작업을 즉시 중단해야 한다.
+ */
+public class LeaseLostException extends RuntimeException {
+
+    public LeaseLostException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,141 @@
+package com.adas.application.job;
+
+import com.adas.application.media.MediaProcessingService;
+import com.adas.application.media.ProcessingProperties;
+import com.adas.domain.job.JobLane;
+import com.adas.domain.job.JobStatus;
+import com.adas.infrastructure.media.MediaStorage;
+import com.adas.infrastructure.media.StoredMedia;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 작업 디스패처: 빈 워커 수만큼 영속 큐에서 작업을 임대해 워커 풀에서 처리하고, 진행 중 작업의 임대를 주기적으로 연장하며, 만료된 임대를 회수한다.
+ * 인스턴스를 늘리면 각 노드가 자신의 워커 수만큼 작업을 나눠 가져가므로 처리량이 수평 확장된다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
+public class ProcessingJobDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessingJobDispatcher.class);
+
+    private final ProcessingJobQueue queue;
+    private final MediaProcessingService mediaProcessingService;
+    private final MediaStorage mediaStorage;
+    private final ProcessingProperties props;
+    private final TaskExecutor executor;
+    private final String nodeId;
+    private final JobSchedulingPolicy schedulingPolicy;
+    /**
+     * 진행 중 작업 id → 차선
+     */
+    private final Map<Long, JobLane> inFlight = new ConcurrentHashMap<>();
+
+    public ProcessingJobDispatcher(ProcessingJobQueue queue,
+                                   MediaProcessingService mediaProcessingService,
+                                   MediaStorage mediaStorage,
+                                   ProcessingProperties props,
+                                   JobSchedulingPolicy schedulingPolicy,
+                                   @Qualifier("ingestJobExecutor") TaskExecutor executor) {
+        this.queue = queue;
+        this.mediaProcessingService = mediaProcessingService;
+        this.mediaStorage = mediaStorage;
+        this.props = props;
+        this.schedulingPolicy = schedulingPolicy;
+        this.executor = executor;
+        String configured = props.getJob().getNodeId();
+        this.nodeId = configured != null && !configured.isBlank() ? configured : defaultNodeId();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 빈 워커 수만큼 작업을 가져온다. 대량 차선 작업은 대화형 몫으로 남겨 둔 워커를 제외한 범위에서만 가져간다.
+     */
+    @Scheduled(fixedDelayString = "${processing.job.poll-interval-ms:1000}")
+    public void poll() {
+        int workers = props.getJob().getWorkers();
+        int free = workers - inFlight.size();
+        if (free <= 0) {
+            return;
+        }
+        int bulkInFlight = (int) inFlight.values().stream().filter(lane -> lane == JobLane.BULK).count();
+        List<ClaimedJob> claimed = queue.claim(nodeId, Math.min(free, props.getJob().getClaimBatchSize()),
+            schedulingPolicy.bulkLimit(workers, bulkInFlight));
+        for (ClaimedJob job : claimed) {
+            inFlight.put(job.id(), job.lane());
+            executor.execute(() -> run(job));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${processing.job.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (!inFlight.isEmpty()) {
+            queue.renewLeases(nodeId, Set.copyOf(inFlight.keySet()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${processing.job.recovery-interval-ms:30000}")
+    public void recoverExpiredLeases() {
+        RecoveredLeases recovered = queue.recoverExpiredLeases(props.getJob().getClaimBatchSize());
+        if (recovered.recovered() > 0) {
+            log.info("recovered {} job(s) with expired leases, {} failed", recovered.recovered(),
+                recovered.failedMediaPaths().size());
+        }
+        recovered.failedMediaPaths().forEach(mediaStorage::deletePath);
+    }
+
+    /**
+     * 임대한 작업 하나를 끝까지 처리한다. 실패 시 FAILED로 기록하고, 임대를 잃은 경우에는 새 소유 노드가 파일을 쓰므로 건드리지 않는다.
+     */
+    void run(ClaimedJob job) {
+        StoredMedia media = null;
+        try {
+            media = mediaStorage.open(job.mediaPath(), job.originalFilename());
+            mediaProcessingService.processStored(
+                job.recordingId(), media, job.language(), job.maxSpeakers(),
+                stage -> queue.advance(job.id(), nodeId, stage));
+            queue.advance(job.id(), nodeId, JobStatus.COMPLETED);
+            mediaStorage.delete(media);
+        } catch (LeaseLostException e) {
+            log.warn("job {} abandoned: {}", job.id(), e.getMessage());
+        } catch (Exception e) {
+            log.warn("job {} failed: {}", job.id(), e.getMessage());
+            failQuietly(job.id(), e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            mediaStorage.delete(media);
+        } finally {
+            inFlight.remove(job.id());
+        }
+    }
+
+    private void failQuietly(Long jobId, String reason) {
+        try {
+            queue.fail(jobId, nodeId, reason);
+        } catch (LeaseLostException e) {
+            log.warn("job {} failure not recorded: {}", jobId, e.getMessage());
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,136 @@
+package com.adas.application.job;
+
+import com.adas.application.media.ProcessingProperties;
+import com.adas.domain.job.JobLane;
+import com.adas.domain.job.JobStatus;
+import com.adas.domain.job.ProcessingJob;
+import com.adas.domain.job.ProcessingJobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB(processing_jobs) 기반 영속 작업 큐. 작업 임대/연장/회수와 상태 전환을 각각 짧은 트랜잭션으로 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
+public class ProcessingJobQueue {
+
+    private static final Set<JobStatus> TERMINAL = Set.of(JobStatus.COMPLETED, JobStatus.FAILED);
+    private static final List<String> INTERACTIVE_ONLY = List.of(JobLane.INTERACTIVE.name());
+    private static final List<String> BULK_ONLY = List.of(JobLane.BULK.name());
+    /**
+     * lockClaimable과 같은 순서
+     */
+    private static final Comparator<ProcessingJob> CLAIM_ORDER = Comparator
+        .comparing(ProcessingJob::getPriorityKey)
+        .thenComparing(ProcessingJob::getId);
+
+    private final ProcessingJobRepository jobRepository;
+    private final ProcessingProperties props;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 대기 작업을 최대 limit개, 그중 대량 차선 작업은 최대 bulkLimit개 임대한다. 차선마다 따로 잠가 가져오므로 순서상 앞선 대량 작업이
+     * 조회 한도를 차지해 대화형 작업을 밀어내지 않는다. 대화형 작업을 먼저 채우고 남은 자리만큼 대량 작업을 가져온 뒤 priority_key 순으로 돌려준다.
+     * SKIP LOCKED로 잠금 경합 없이 노드마다 서로 다른 작업을 받으며, 임대한 작업의 대기 시간은 차선별로 processing.job.queue.wait에 기록한다.
+     */
+    @Transactional
+    public List<ClaimedJob> claim(String owner, int limit, int bulkLimit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        Instant leaseUntil = now.plus(leaseDuration());
+        List<ProcessingJob> jobs = new ArrayList<>(jobRepository.lockClaimable(INTERACTIVE_ONLY, limit));
+        int bulk = Math.min(limit - jobs.size(), bulkLimit);
+        if (bulk > 0) {
+            jobs.addAll(jobRepository.lockClaimable(BULK_ONLY, bulk));
+            jobs.sort(CLAIM_ORDER);
+        }
+        for (ProcessingJob job : jobs) {
+            job.claim(owner, now, leaseUntil);
+            if (job.getCreatedAt() != null) {
+                queueWait(job.getLane()).record(Duration.between(job.getCreatedAt(), now));
+            }
+        }
+        return jobs.stream().map(ClaimedJob::from).toList();
+    }
+
+    /**
+     * 임대 소유자를 확인한 뒤 단계를 전환한다. 임대를 잃었으면 LeaseLostException.
+     */
+    @Transactional
+    public void advance(Long jobId, String owner, JobStatus status) {
+        ownedJob(jobId, owner).advanceTo(status);
+    }
+
+    @Transactional
+    public void fail(Long jobId, String owner, String reason) {
+        ProcessingJob job = ownedJob(jobId, owner);
+        if (!job.getStatus().isTerminal()) {
+            job.fail(reason);
+        }
+    }
+
+    /**
+     * 진행 중 작업의 임대를 연장한다(하트비트).
+     */
+    @Transactional
+    public int renewLeases(String owner, Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        return jobRepository.renewLeases(owner, jobIds, now, now.plus(leaseDuration()), TERMINAL);
+    }
+
+    /**
+     * 임대가 만료된 작업(노드 중단 등)을 대기열로 되돌리거나, 시도 한도를 넘었으면 FAILED로 종료한다.
+     * FAILED로 끝난 작업의 스풀 파일은 처리할 노드가 없으므로 경로를 돌려줘 커밋 뒤 호출자가 지우게 한다.
+     */
+    @Transactional
+    public RecoveredLeases recoverExpiredLeases(int limit) {
+        List<ProcessingJob> expired = jobRepository.lockExpiredLeases(Instant.now(), limit);
+        List<String> failedMediaPaths = new ArrayList<>();
+        for (ProcessingJob job : expired) {
+            job.reclaimExpiredLease(props.getJob().getMaxAttempts());
+            if (job.getStatus() == JobStatus.FAILED) {
+                failedMediaPaths.add(job.getMediaPath());
+            }
+        }
+        return new RecoveredLeases(expired.size(), failedMediaPaths);
+    }
+
+    private ProcessingJob ownedJob(Long jobId, String owner) {
+        ProcessingJob job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new LeaseLostException("Job not found: " + jobId));
+        if (!job.isLeasedBy(owner)) {
+            throw new LeaseLostException("Lease on job " + jobId + " is no longer held by " + owner);
+        }
+        return job;
+    }
+
+    private Timer queueWait(JobLane lane) {
+        return Timer.builder("processing.job.queue.wait")
+            .description("Time jobs waited in the queue before a node claimed them")
+            .tag("lane", (lane != null ? lane : JobLane.INTERACTIVE).name().toLowerCase())
+            .publishPercentiles(0.5, 0.95)
+            .register(meterRegistry);
+    }
+
+    private Duration leaseDuration() {
+        return Duration.ofMillis(props.getJob().getLeaseDurationMs());
+    }
+}
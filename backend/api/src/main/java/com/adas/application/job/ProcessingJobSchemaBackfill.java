@@ -0,0 +1,78 @@
+package com.adas.application.job;
+
+import com.adas.domain.job.JobLane;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 차선 도입 전에 만든 processing_jobs 테이블의 lane, priority_key를 NOT NULL로 바꾼다. ddl-auto(update)는 기존 컬럼의 제약을 고치지
+ * 않으므로 기동 시 null 행을 채운 뒤(대화형 차선, 가장 먼저 가져가도록 0) 컬럼을 변경한다. 이미 NOT NULL이면 아무것도 하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
+public class ProcessingJobSchemaBackfill implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessingJobSchemaBackfill.class);
+    private static final String TABLE = "processing_jobs";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill("lane", "'" + JobLane.INTERACTIVE.name() + "'");
+        backfill("priority_key", "0");
+    }
+
+    private void backfill(String column, String defaultValue) {
+        String type = nullableColumnType(column);
+        if (type == null) {
+            return;
+        }
+        int filled = jdbcTemplate.update(
+            "UPDATE " + TABLE + " SET " + column + " = " + defaultValue + " WHERE " + column + " IS NULL");
+        jdbcTemplate.execute(
+            "ALTER TABLE " + TABLE + " MODIFY " + column + " " + type + " DEFAULT " + defaultValue + " NOT NULL");
+        log.info("processing_jobs.{} backfilled {} rows and set NOT NULL", column, filled);
+    }
+
+    /**
+     * 컬럼이 null을 허용하면 그 타입 정의, 아니면(또는 테이블이 없으면) null
+     */
+    private String nullableColumnType(String column) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+            DatabaseMetaData meta = con.getMetaData();
+            boolean upper = meta.storesUpperCaseIdentifiers();
+            try (ResultSet rs = meta.getColumns(con.getCatalog(), null,
+                upper ? TABLE.toUpperCase(Locale.ROOT) : TABLE, upper ? column.toUpperCase(Locale.ROOT) : column)) {
+                if (!rs.next() || rs.getInt("NULLABLE") != DatabaseMetaData.columnNullable) {
+                    return null;
+                }
+                return columnType(rs.getString("TYPE_NAME"), rs.getInt("COLUMN_SIZE"));
+            }
+        });
+    }
+
+    private static String columnType(String typeName, int size) {
+        String type = typeName.toUpperCase(Locale.ROOT);
+        if (type.equals("ENUM")) {
+            // Hibernate가 @Enumerated(STRING)에 만드는 MySQL enum 정의와 같게
+            return Arrays.stream(JobLane.values())
+                .map(lane -> "'" + lane.name() + "'")
+                .collect(Collectors.joining(",", "enum(", ")"));
+        }
+        return type.contains("CHAR") ? type + "(" + size + ")" : type;
+    }
+}
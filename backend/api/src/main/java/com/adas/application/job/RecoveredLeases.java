@@ -0,0 +1,10 @@
+package com.adas.application.job;
+
+import java.util.List;
+
+/**
+ * 만료된 임대 회수 결과 (불변 record). failedMediaPaths는 시도 한도를 넘어 FAILED로 종료된 작업의 스풀 파일 경로다.
+ */
+public record RecoveredLeases(int recovered, List<String> failedMediaPaths) {
+
+}
@@ -0,0 +1,259 @@
+package com.adas.application.live;
+
+import com.adas.application.dto.LiveMessage;
+import com.adas.application.media.ProcessingProperties;
+import com.adas.application.media.ResultRowWriter;
+import com.adas.application.media.SpeakerTurnDiffWriter;
+import com.adas.common.exception.ServiceBusyException;
+import com.adas.common.exception.UpstreamTimeoutException;
+import com.adas.domain.diarization.DiarizationSegment;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.domain.speech.LiveTranscriptAssembler;
+import com.adas.domain.speech.SpeechMergeService;
+import com.adas.domain.speech.TurnDelta;
+import com.adas.domain.transcript.TranscriptSegment;
+import com.adas.infrastructure.external.DiarizationClient;
+import com.adas.infrastructure.external.SttClient;
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.media.AudioChunk;
+import com.adas.infrastructure.media.MediaStorage;
+import com.adas.infrastructure.media.StoredMedia;
+import com.adas.infrastructure.media.WavChunker;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+/**
+ * 실시간 수집 애플리케이션 서비스: 녹음 중 전송되는 PCM 프레임을 stepMs 간격의 겹치는 구간으로 나눠 STT/Diarization을 동시에 호출하고,
+ * 구간이 처리될 때마다 확정/잠정 턴을 클라이언트로 보내며 확정 결과를 바로 영속화한다. 첫 자막까지의 지연은 녹음 길이가 아니라 stepMs와
+ * 구간 하나의 처리 시간으로 정해진다.
+ */
+@Service
+@EnableConfigurationProperties(ProcessingProperties.class)
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
+public class LiveIngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveIngestService.class);
+    private static final String SOURCE = "live";
+
+    private final SttClient sttClient;
+    private final DiarizationClient diarizationClient;
+    private final SpeechMergeService mergeService;
+    private final RecordingRepository recordingRepository;
+    private final ResultRowWriter resultRowWriter;
+    private final SpeakerTurnDiffWriter speakerTurnDiffWriter;
+    private final MediaStorage mediaStorage;
+    private final WavChunker wavChunker;
+    private final ProcessingProperties props;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    public LiveIngestService(SttClient sttClient,
+                             DiarizationClient diarizationClient,
+                             SpeechMergeService mergeService,
+                             RecordingRepository recordingRepository,
+                             ResultRowWriter resultRowWriter,
+                             SpeakerTurnDiffWriter speakerTurnDiffWriter,
+                             MediaStorage mediaStorage,
+                             WavChunker wavChunker,
+                             ProcessingProperties props,
+                             TransactionTemplate transactionTemplate,
+                             @Qualifier("liveIngestExecutor") Executor executor) {
+        this.sttClient = sttClient;
+        this.diarizationClient = diarizationClient;
+        this.mergeService = mergeService;
+        this.recordingRepository = recordingRepository;
+        this.resultRowWriter = resultRowWriter;
+        this.speakerTurnDiffWriter = speakerTurnDiffWriter;
+        this.mediaStorage = mediaStorage;
+        this.wavChunker = wavChunker;
+        this.props = props;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    /**
+     * 세션을 연다: Recording을 만들고 스풀 파일을 할당한다. 노드의 동시 세션 수를 넘으면 ServiceBusyException.
+     */
+    public LiveSession open(String language, Integer maxSpeakers, Integer sampleRate, Integer channels,
+                            Consumer<LiveMessage> listener) {
+        int rate = sampleRate != null ? sampleRate : props.getLive().getDefaultSampleRate();
+        int ch = channels != null ? channels : 1;
+        if (rate <= 0 || ch < 1 || ch > 2) {
+            throw new IllegalArgumentException("Unsupported pcm format: " + rate + "Hz, " + ch + "ch");
+        }
+        if (activeSessions.incrementAndGet() > props.getLive().getMaxSessions()) {
+            activeSessions.decrementAndGet();
+            throw new ServiceBusyException("Too many live sessions, retry later");
+        }
+        try {
+            Recording rec = transactionTemplate.execute(tx ->
+                recordingRepository.save(Recording.createFromUpload(SOURCE, language, 0L)));
+            StoredMedia spool = mediaStorage.allocate("live-" + rec.getId() + ".pcm");
+            LiveSession session = new LiveSession(rec.getId(), language, maxSpeakers, rate, ch, spool,
+                new LiveTranscriptAssembler(mergeService, props.getLive().getOverlapMs()), listener);
+            listener.accept(LiveMessage.opened(rec.getId()));
+            return session;
+        } catch (RuntimeException e) {
+            activeSessions.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * 프레임을 스풀에 이어 쓰고, 새로 채워진 구간이 있으면 세션의 처리 순서 뒤에 붙인다.
+     */
+    public void append(LiveSession session, ByteBuffer frame) {
+        if (session.isFinishing()) {
+            throw new IllegalStateException("Live session is finishing: " + session.getRecordingId());
+        }
+        session.write(frame);
+        long step = props.getLive().getStepMs();
+        while (session.receivedMs() >= (session.getNextWindow() + 1L) * step) {
+            int index = session.advanceWindow();
+            long end = (index + 1L) * step;
+            long seam = end - props.getLive().getOverlapMs() / 2;
+            session.enqueue(() -> {
+                try {
+                    processWindow(session, index, windowStart(index), end, seam);
+                } catch (RuntimeException e) {
+                    log.warn("live window {} of recording {} not applied", index, session.getRecordingId(), e);
+                    session.getListener().accept(LiveMessage.error(session.getRecordingId(), e.getMessage()));
+                }
+            }, executor);
+        }
+    }
+
+    /**
+     * 남은 녹음을 마지막 구간으로 처리해 모든 결과를 확정하고 Recording을 완료로 기록한다. 연결이 끊긴 경우에도 호출해 그때까지의 결과를
+     * 남긴다. 이미 종료 중인 세션이면 아무 것도 하지 않는다.
+     */
+    public CompletableFuture<Void> finish(LiveSession session) {
+        if (!session.markFinishing()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        int index = session.advanceWindow();
+        long end = session.receivedMs();
+        return session.enqueue(() -> {
+            try {
+                processWindow(session, index, windowStart(index), end, Long.MAX_VALUE);
+                transactionTemplate.executeWithoutResult(tx ->
+                    recordingRepository.findById(session.getRecordingId()).ifPresent(r -> {
+                        r.specifySize(session.getReceivedBytes());
+                        r.specifyDuration(end);
+                        r.markCompleted();
+                    }));
+                session.getListener().accept(LiveMessage.completed(session.getRecordingId()));
+            } finally {
+                activeSessions.decrementAndGet();
+                session.closeSpool();
+                mediaStorage.delete(session.getSpool());
+            }
+        }, executor);
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    private long windowStart(int index) {
+        return Math.max(0, index * props.getLive().getStepMs() - props.getLive().getOverlapMs());
+    }
+
+    /**
+     * 구간 하나 처리: 스풀에서 [start, end) 구간을 WAV로 떼어 STT/Diarization을 동시에 호출하고, 확정분을 저장한 뒤 클라이언트에 알린다.
+     * 외부 호출이 실패한 구간은 결과 없이 경계만 넘기고 오류를 알린다(세션은 계속된다).
+     */
+    private void processWindow(LiveSession session, int index, long start, long end, long seam) {
+        long offset = start;
+        SttResponse stt = null;
+        DiarizationResponse diar = null;
+        if (end > start) {
+            StoredMedia spool = session.getSpool();
+            AudioChunk chunk = wavChunker.extractWindow(spool.path(), session.getSampleRate(), session.getChannels(),
+                index, start, end, spool.path().resolveSibling(spool.path().getFileName() + "-w" + index + ".wav"));
+            offset = chunk.offsetMs();
+            try {
+                RemoteResults remote = fetch(session, chunk);
+                stt = remote.stt();
+                diar = remote.diar();
+            } catch (RuntimeException e) {
+                log.warn("live window {} of recording {} failed: {}", index, session.getRecordingId(), e.getMessage());
+                session.getListener().accept(LiveMessage.error(session.getRecordingId(),
+                    "Window " + index + " failed: " + e.getMessage()));
+            } finally {
+                wavChunker.delete(List.of(chunk));
+            }
+        }
+
+        LiveTranscriptAssembler.Update update = session.getAssembler().accept(offset, seam, stt, diar);
+        persist(session, update);
+        session.getListener().accept(LiveMessage.update(
+            session.getRecordingId(), index, update.finalizedTurns(), update.provisionalTurns()));
+    }
+
+    private RemoteResults fetch(LiveSession session, AudioChunk chunk) {
+        FileSystemResource resource = new FileSystemResource(chunk.path());
+        String filename = chunk.path().getFileName().toString();
+        Mono<Optional<SttResponse>> stt = sttClient.transcribeAsync(resource, filename, session.getLanguage())
+            .timeout(Duration.ofMillis(props.getSttTimeoutMs()),
+                Mono.error(() -> new UpstreamTimeoutException("STT timed out after " + props.getSttTimeoutMs() + "ms")))
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty());
+        Mono<Optional<DiarizationResponse>> diar = diarizationClient
+            .diarizeAsync(resource, filename, session.getLanguage(), session.getMaxSpeakers())
+            .timeout(Duration.ofMillis(props.getDiarizationTimeoutMs()),
+                Mono.error(() -> new UpstreamTimeoutException(
+                    "Diarization timed out after " + props.getDiarizationTimeoutMs() + "ms")))
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty());
+        return Mono.zip(stt, diar)
+            .map(t -> new RemoteResults(t.getT1().orElse(null), t.getT2().orElse(null)))
+            .block();
+    }
+
+    /**
+     * 확정된 단어/화자 구간을 행으로 추가하고 세션 병합기에 덧붙여, 바뀐 턴만 저장한다. 다음 구간에서 이어지는 턴은 같은 행을 고친다.
+     */
+    private void persist(LiveSession session, LiveTranscriptAssembler.Update update) {
+        TurnDelta delta = session.getMerger().append(update.finalizedWords(), update.finalizedSegments());
+        if (update.finalizedWords().isEmpty() && update.finalizedSegments().isEmpty() && delta.isEmpty()) {
+            return;
+        }
+        String lang = session.getAssembler().getLang();
+        Map<Long, Long> keys = transactionTemplate.execute(tx -> {
+            Recording rec = recordingRepository.getReferenceById(session.getRecordingId());
+            resultRowWriter.insertTranscripts(update.finalizedWords().stream()
+                .map(w -> TranscriptSegment.transcribeSegment(
+                    rec, w.start(), w.end(), w.text(), w.confidence(), lang, "stt"))
+                .toList());
+            resultRowWriter.insertDiarizationSegments(update.finalizedSegments().stream()
+                .map(s -> DiarizationSegment.identifySpeaker(rec, s.speaker(), s.start(), s.end(), s.confidence()))
+                .toList());
+            return speakerTurnDiffWriter.apply(rec, delta);
+        });
+        session.getMerger().rekey(keys);
+    }
+
+    private record RemoteResults(SttResponse stt, DiarizationResponse diar) {
+
+    }
+}
@@ -0,0 +1,106 @@
+package com.adas.application.live;
+
+import com.adas.application.dto.LiveMessage;
+import com.adas.domain.speech.IncrementalSpeechMerger;
+import com.adas.domain.speech.LiveTranscriptAssembler;
+import com.adas.infrastructure.media.StoredMedia;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 실시간 수집 세션 하나의 상태. 수신한 16bit PCM 프레임을 스풀 파일에 이어 쓰고, 구간 처리는 tail에 이어 붙여 순서대로 실행한다.
+ * 프레임 수신(append)은 연결 스레드 하나에서만 호출된다고 가정한다.
+ */
+@Getter
+public class LiveSession {
+
+    private final Long recordingId;
+    private final String language;
+    private final Integer maxSpeakers;
+    private final int sampleRate;
+    private final int channels;
+    private final StoredMedia spool;
+    private final LiveTranscriptAssembler assembler;
+    private final Consumer<LiveMessage> listener;
+    /**
+     * 확정 결과로 저장된 턴(key = speaker_turns 행 id)
+     */
+    private final IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+    @Getter(AccessLevel.NONE)
+    private final FileChannel out;
+
+    private long receivedBytes;
+    private int nextWindow;
+    private volatile boolean finishing;
+    @Getter(AccessLevel.NONE)
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+    LiveSession(Long recordingId, String language, Integer maxSpeakers, int sampleRate, int channels,
+                StoredMedia spool, LiveTranscriptAssembler assembler, Consumer<LiveMessage> listener) {
+        this.recordingId = recordingId;
+        this.language = language;
+        this.maxSpeakers = maxSpeakers;
+        this.sampleRate = sampleRate;
+        this.channels = channels;
+        this.spool = spool;
+        this.assembler = assembler;
+        this.listener = listener;
+        try {
+            this.out = FileChannel.open(spool.path(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open live spool: " + spool.path(), e);
+        }
+    }
+
+    public long byteRate() {
+        return (long) sampleRate * channels * 2;
+    }
+
+    public long receivedMs() {
+        return receivedBytes * 1000 / byteRate();
+    }
+
+    void write(ByteBuffer frame) {
+        try {
+            while (frame.hasRemaining()) {
+                receivedBytes += out.write(frame);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append live frame", e);
+        }
+    }
+
+    int advanceWindow() {
+        return nextWindow++;
+    }
+
+    synchronized boolean markFinishing() {
+        if (finishing) {
+            return false;
+        }
+        finishing = true;
+        return true;
+    }
+
+    synchronized CompletableFuture<Void> enqueue(Runnable task, Executor executor) {
+        // 앞 구간이 실패해도 뒤 구간과 종료 처리는 이어서 실행한다.
+        tail = tail.exceptionally(e -> null).thenRunAsync(task, executor);
+        return tail;
+    }
+
+    void closeSpool() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            // 스풀은 곧 삭제되므로 닫기 실패는 무시한다.
+        }
+    }
+}
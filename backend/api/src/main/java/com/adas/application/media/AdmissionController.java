@@ -0,0 +1,256 @@
+package com.adas.application.media;
+
+import com.adas.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 동기 처리 요청의 입장 제어. 동시 처리 수(maxInFlight)를 넘는 요청은 제한된 대기열(maxQueued)에서 최대 maxQueueWaitMs까지 기다리고, 대기열이
+ * 가득 찼거나 대기 시간을 넘기면 TooManyRequestsException(429)으로 즉시 거절한다. Retry-After는 최근 처리 완료 속도로 대기열이 비는 시간을 추정한다.
+ * 지표: media.admission.in_flight, media.admission.queue.depth, media.admission.queue.wait, media.admission.rejected(reason),
+ * media.admission.drain.rate
+ */
+@Component
+@EnableConfigurationProperties(ProcessingProperties.class)
+public class AdmissionController {
+
+    private static final String METRIC = "media.admission";
+    private static final int RATE_SAMPLES = 32;
+
+    private final ProcessingProperties.Admission props;
+    private final Object lock = new Object();
+    // 남은 슬롯 수와 슬롯을 기다리는 요청(도착 순). lock으로 보호한다
+    private int available;
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final long[] completions = new long[RATE_SAMPLES];
+    private int completionCount;
+    private int completionHead;
+    private final Timer queueWait;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public AdmissionController(ProcessingProperties props, MeterRegistry meterRegistry) {
+        this.props = props.getAdmission();
+        this.available = Math.max(1, this.props.getMaxInFlight());
+        this.queueWait = Timer.builder(METRIC + ".queue.wait")
+            .description("Time requests waited for a processing slot")
+            .register(meterRegistry);
+        this.rejectedQueueFull = meterRegistry.counter(METRIC + ".rejected", "reason", "queue_full");
+        this.rejectedTimeout = meterRegistry.counter(METRIC + ".rejected", "reason", "timeout");
+        Gauge.builder(METRIC + ".in_flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder(METRIC + ".queue.depth", queued, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder(METRIC + ".drain.rate", this, AdmissionController::drainRatePerSecond)
+            .description("Recent completions per second")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 처리 슬롯을 얻을 때까지 호출 스레드를 막는다(동기 처리용). 반환된 Permit은 처리가 끝나면 반드시 닫아야 한다.
+     */
+    public Permit admit() {
+        return admitAsync().block();
+    }
+
+    /**
+     * 처리 슬롯을 얻으면 Permit을 내보내는 Mono. 기다리는 동안 어떤 스레드도 점유하지 않으며, 슬롯이 반납되면 반납한 스레드에서 다음
+     * 대기 요청에 넘긴다. 대기 중 구독을 취소하면 대기열에서 빠지고, 넘겨받는 도중 취소돼 전달되지 못한 Permit은 바로 반납한다.
+     */
+    public Mono<Permit> admitAsync() {
+        if (!props.isEnabled()) {
+            return Mono.fromSupplier(() -> new Permit(false));
+        }
+        return Mono.create(sink -> {
+            Waiter waiter = null;
+            boolean admitted = false;
+            synchronized (lock) {
+                if (available > 0 && waiters.isEmpty()) {
+                    available--;
+                    admitted = true;
+                } else if (waiters.size() < props.getMaxQueued()) {
+                    waiter = new Waiter(sink);
+                    waiters.addLast(waiter);
+                    queued.set(waiters.size());
+                }
+            }
+            if (admitted) {
+                sink.success(acquired());
+                return;
+            }
+            if (waiter == null) {
+                rejectedQueueFull.increment();
+                sink.error(new TooManyRequestsException("Processing queue is full, retry later", retryAfterSeconds()));
+                return;
+            }
+            Waiter queuedWaiter = waiter;
+            Disposable timer = Schedulers.parallel().schedule(() -> {
+                if (abandon(queuedWaiter)) {
+                    rejectedTimeout.increment();
+                    sink.error(new TooManyRequestsException("Timed out waiting for a processing slot",
+                        retryAfterSeconds()));
+                }
+            }, props.getMaxQueueWaitMs(), TimeUnit.MILLISECONDS);
+            sink.onCancel(() -> {
+                if (!abandon(queuedWaiter)) {
+                    queuedWaiter.closeGranted();
+                }
+            });
+            sink.onDispose(timer);
+        });
+    }
+
+    /**
+     * 지금 거절된 요청이 다시 시도하기까지 권장 대기 시간(초).
+     */
+    public long retryAfterSeconds() {
+        return estimateRetryAfter(queued.get() + 1L, drainRatePerSecond(),
+            Math.max(1, TimeUnit.MILLISECONDS.toSeconds(props.getMaxQueueWaitMs())), props.getMaxRetryAfterSeconds());
+    }
+
+    /**
+     * backlog개가 perSecond 속도로 빠지는 데 걸리는 시간(초)을 [1, maxSeconds]로 제한해 반환한다. 속도를 모르면 fallbackSeconds.
+     */
+    public static long estimateRetryAfter(long backlog, double perSecond, long fallbackSeconds, long maxSeconds) {
+        long seconds = perSecond > 0 ? (long) Math.ceil(backlog / perSecond) : fallbackSeconds;
+        return Math.max(1, Math.min(maxSeconds, seconds));
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * 최근 RATE_SAMPLES개 완료 기준 초당 완료 수. 마지막 완료 이후 시간도 포함하므로 처리가 멈추면 값이 줄어든다. 표본이 부족하면 0.
+     */
+    synchronized double drainRatePerSecond() {
+        if (completionCount < 2) {
+            return 0;
+        }
+        int oldest = (completionHead - completionCount + RATE_SAMPLES) % RATE_SAMPLES;
+        long elapsed = System.nanoTime() - completions[oldest];
+        return elapsed <= 0 ? 0 : (completionCount - 1) * 1_000_000_000.0 / elapsed;
+    }
+
+    private Permit acquired() {
+        inFlight.incrementAndGet();
+        return new Permit(true);
+    }
+
+    /**
+     * 아직 슬롯을 넘겨받지 않은 대기 요청을 대기열에서 뺀다. 이미 넘겨받았으면 false.
+     */
+    private boolean abandon(Waiter waiter) {
+        synchronized (lock) {
+            if (!waiter.settle()) {
+                return false;
+            }
+            waiters.remove(waiter);
+            queued.set(waiters.size());
+        }
+        queueWait.record(System.nanoTime() - waiter.started, TimeUnit.NANOSECONDS);
+        return true;
+    }
+
+    /**
+     * 슬롯을 반납한다. 기다리는 요청이 있으면 슬롯을 풀지 않고 가장 먼저 온 요청에 바로 넘긴다.
+     */
+    private void release() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            completions[completionHead] = System.nanoTime();
+            completionHead = (completionHead + 1) % RATE_SAMPLES;
+            completionCount = Math.min(RATE_SAMPLES, completionCount + 1);
+        }
+        Waiter next;
+        synchronized (lock) {
+            do {
+                next = waiters.pollFirst();
+            } while (next != null && !next.settle());
+            queued.set(waiters.size());
+            if (next == null) {
+                available++;
+                return;
+            }
+        }
+        queueWait.record(System.nanoTime() - next.started, TimeUnit.NANOSECONDS);
+        next.grant(acquired());
+    }
+
+    /**
+     * 획득한 처리 슬롯. 여러 번 닫아도 한 번만 반납한다.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final AtomicBoolean held;
+
+        private Permit(boolean held) {
+            this.held = new AtomicBoolean(held);
+        }
+
+        @Override
+        public void close() {
+            if (held.compareAndSet(true, false)) {
+                release();
+            }
+        }
+    }
+
+    /**
+     * 슬롯을 기다리는 요청 하나. 슬롯을 넘겨받거나(release) 시간 초과·취소로 빠지는 것(abandon) 중 먼저 settle한 쪽만 처리한다.
+     */
+    private static final class Waiter {
+
+        private final MonoSink<Permit> sink;
+        private final long started = System.nanoTime();
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private final AtomicReference<Permit> granted = new AtomicReference<>();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        private boolean settle() {
+            return settled.compareAndSet(false, true);
+        }
+
+        private void grant(Permit permit) {
+            granted.set(permit);
+            sink.success(permit);
+            if (cancelled.get()) {
+                permit.close();
+            }
+        }
+
+        /**
+         * 넘겨받는 도중 취소돼 구독자에게 전달되지 못했을 수 있는 Permit을 반납한다. grant와 어느 쪽이 먼저 끝나도 한쪽은 Permit을 본다
+         * (여러 번 닫아도 한 번만 반납).
+         */
+        private void closeGranted() {
+            cancelled.set(true);
+            Permit permit = granted.get();
+            if (permit != null) {
+                permit.close();
+            }
+        }
+    }
+}
@@ -1,34 +1,60 @@
 package com.adas.application.media;
 
 import com.adas.application.dto.ProcessResponse;
+import com.adas.application.media.ProcessingProperties.ExecutionMode;
+import com.adas.common.exception.UpstreamTimeoutException;
 import com.adas.domain.diarization.DiarizationSegment;
+import com.adas.domain.job.JobStatus;
 import com.adas.domain.recording.Recording;
 import com.adas.domain.speaker.SpeakerTurn;
 import com.adas.domain.transcript.TranscriptSegment;
+import com.adas.domain.speech.IncrementalSpeechMerger;
 import com.adas.domain.speech.Turn;
+import com.adas.domain.speech.TurnDelta;
 import com.adas.domain.speech.SpeechMergeService;
+import com.adas.domain.speech.TranscriptStitcher;
+import com.adas.domain.speech.TranscriptStitcher.ChunkTranscript;
 import com.adas.infrastructure.external.DiarizationClient;
 import com.adas.infrastructure.external.SttClient;
 import com.adas.infrastructure.external.dto.DiarizationResponse;
 import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.media.AudioChunk;
 import com.adas.infrastructure.media.MediaProbeService;
+import com.adas.infrastructure.media.MediaStorage;
+import com.adas.infrastructure.media.StoredMedia;
+import com.adas.infrastructure.media.WavChunker;
 import com.adas.domain.diarization.DiarizationSegmentRepository;
 import com.adas.domain.recording.RecordingRepository;
 import com.adas.domain.speaker.SpeakerTurnRepository;
 import com.adas.domain.transcript.TranscriptSegmentRepository;
+import com.adas.domain.transcript.TranscriptTimeline;
+import com.adas.domain.transcript.TranscriptTimelineRepository;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * 애플리케이션 서비스 계층: 업로드 파일을 받아 외부 STT/Diarization 호출, 병합, 영속화까지 담당.
  */
 @Service
 @RequiredArgsConstructor
+@EnableConfigurationProperties(ProcessingProperties.class)
 @ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
 public class MediaProcessingService {
 
@@ -38,36 +64,326 @@ public class MediaProcessingService {
 
     private final RecordingRepository recordingRepository;
     private final TranscriptSegmentRepository transcriptSegmentRepository;
+    private final TranscriptTimelineRepository transcriptTimelineRepository;
     private final DiarizationSegmentRepository diarizationSegmentRepository;
     private final SpeakerTurnRepository speakerTurnRepository;
+    private final SpeakerTurnDiffWriter speakerTurnDiffWriter;
+    private final ResultRowWriter resultRowWriter;
     private final MediaProbeService mediaProbeService;
+    private final MediaStorage mediaStorage;
+    private final ProcessingProperties props;
+    private final TransactionTemplate transactionTemplate;
+    private final RecordingResultCache resultCache;
+    private final WavChunker wavChunker;
+    private final TranscriptStitcher transcriptStitcher;
+    private final AdmissionController admissionController;
+    private final Scheduler mediaBlockingScheduler;
 
     /**
-     * 업로드 파일 처리 전체 흐름.
+     * 업로드 파일 처리 전체 흐름. 업로드는 디스크에 한 번만 기록(spool)하고 길이 추출과 STT/Diarization 전송이 같은 파일을 공유하며, 요청이
+     * 끝나면 성공/실패와 관계없이 삭제한다. 같은 내용·옵션으로 완료된 결과가 있으면(useCache) 외부 호출 없이 재사용한다. DB 트랜잭션은 Recording 생성과 결과 영속화 두 구간에만 짧게 열고, 외부 호출 동안에는 커넥션을 점유하지
+     * 않는다. 외부 호출이나 영속화가 실패하면 먼저 만든 Recording을 삭제해 보상한다. 외부 호출이 필요한 요청만 입장 제어를 거치며, 한도를
+     * 넘으면 TooManyRequestsException으로 거절한다.
      */
-    @Transactional
-    public ProcessResponse process(MultipartFile file, String language, Integer maxSpeakers) {
+    public ProcessResponse process(MultipartFile file, String language, Integer maxSpeakers, boolean useCache) {
+        StoredMedia media = mediaStorage.store(file);
+        try {
+            Optional<ProcessResponse> cached = resultCache.reuse(media, "api", language, maxSpeakers, useCache);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            AdmissionController.Permit permit = admissionController.admit();
+            try {
+                return processSpooled(media, language, maxSpeakers);
+            } finally {
+                permit.close();
+            }
+        } finally {
+            mediaStorage.delete(media);
+        }
+    }
+
+    /**
+     * process()의 논블로킹 버전. 요청 스레드를 점유하지 않고 STT/Diarization 호출을 Mono로 합성하며(PARALLEL 모드는 Mono.zip), 스풀·길이
+     * 추출·DB 영속화 같은 블로킹 구간만 mediaBlockingScheduler에서 실행한다. 입장 대기와 외부 응답 대기 동안에는 어떤 스레드도 붙잡지
+     * 않으므로, 동시 업로드 수는 스레드 수가 아니라 입장 제어 한도로 제한된다. 구독을 취소하면 진행 중인 외부 호출도 취소되고 보관 파일은
+     * 삭제된다.
+     */
+    public Mono<ProcessResponse> processReactive(MultipartFile file, String language, Integer maxSpeakers,
+                                                 boolean useCache) {
+        return Mono.usingWhen(
+            blocking(() -> mediaStorage.store(file)),
+            media -> blocking(() -> resultCache.reuse(media, "api", language, maxSpeakers, useCache))
+                .flatMap(cached -> cached.map(Mono::just).orElseGet(() -> Mono.usingWhen(
+                    admissionController.admitAsync(),
+                    permit -> processSpooledReactive(media, language, maxSpeakers),
+                    permit -> Mono.fromRunnable(permit::close)))),
+            media -> blocking(() -> {
+                mediaStorage.delete(media);
+                return true;
+            }));
+    }
+
+    private ProcessResponse processSpooled(StoredMedia media, String language, Integer maxSpeakers) {
         // 1) Recording 생성 저장
-        Recording rec = Recording.createFromUpload("api", language, file != null ? file.getSize() : null);
-        Long duration = mediaProbeService.safeProbeDurationMs(file);
-        rec.specifyDuration(duration);
-        rec = recordingRepository.save(rec);
+        Recording rec = createRecording(media, language, maxSpeakers);
 
-        // 2) 외부 서비스 호출
-        SttResponse stt = sttClient.transcribe(file, language);
-        DiarizationResponse diar = diarizationClient.diarize(file, language, maxSpeakers);
+        try {
+            // 2) 외부 서비스 호출
+            RemoteResults remote = fetchRemoteResults(
+                transcribe(media, language), diarize(media, language, maxSpeakers));
 
-        // 3) 병합(턴 생성)
+            // 3) 병합 후 영속화, 응답 DTO 구성
+            return completeRecording(rec, remote);
+        } catch (RuntimeException e) {
+            discardRecording(rec.getId(), e);
+            throw e;
+        }
+    }
+
+    private Mono<ProcessResponse> processSpooledReactive(StoredMedia media, String language, Integer maxSpeakers) {
+        return blocking(() -> createRecording(media, language, maxSpeakers))
+            .flatMap(rec -> remoteResults(media, language, maxSpeakers)
+                .publishOn(mediaBlockingScheduler)
+                .map(remote -> completeRecording(rec, remote))
+                .onErrorResume(RuntimeException.class, e -> blocking(() -> {
+                    discardRecording(rec.getId(), e);
+                    return e;
+                }).flatMap(Mono::error)));
+    }
+
+    /**
+     * 길이를 추출하고 Recording을 짧은 트랜잭션으로 생성한다.
+     */
+    private Recording createRecording(StoredMedia media, String language, Integer maxSpeakers) {
+        Long duration = mediaProbeService.safeProbeFileDurationMs(media.path());
+        return transactionTemplate.execute(tx -> {
+            Recording r = Recording.createFromUpload("api", language, media.sizeBytes());
+            r.specifyDuration(duration);
+            r.fingerprint(media.sha256(), maxSpeakers);
+            return recordingRepository.save(r);
+        });
+    }
+
+    /**
+     * 외부 호출 결과를 병합(턴 생성)하고 세그먼트/턴을 짧은 트랜잭션으로 영속화한 뒤 응답 DTO를 만든다.
+     */
+    private ProcessResponse completeRecording(Recording rec, RemoteResults remote) {
+        SttResponse stt = remote.stt();
+        DiarizationResponse diar = remote.diar();
         List<Turn> turns = mergeService.merge(stt, diar);
+        transactionTemplate.executeWithoutResult(tx -> {
+            persistResults(rec, stt, diar, turns);
+            recordingRepository.findById(rec.getId()).ifPresent(Recording::markCompleted);
+        });
+        return toResponse(rec.getId(), stt, diar, turns);
+    }
+
+    /**
+     * 블로킹 작업을 mediaBlockingScheduler에서 실행하는 지연 Mono.
+     */
+    private <T> Mono<T> blocking(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(mediaBlockingScheduler);
+    }
+
+    /**
+     * 디스크에 보관된 업로드 파일 처리(비동기 작업용). 외부 호출 구간은 트랜잭션 없이 수행한다. 전사 구간과 화자 구간은 도착하는 대로
+     * IncrementalSpeechMerger에 반영하고, 바뀐 턴과 그 구간의 행만 짧은 트랜잭션으로 저장한다. 임대 만료로 재시도된 작업이면 이전 시도가
+     * 남긴 행으로 병합기를 채우므로 같은 결과는 다시 쓰지 않는다. 단계가 바뀔 때마다 onStage로 알린다.
+     */
+    public ProcessResponse processStored(Long recordingId, StoredMedia media, String language, Integer maxSpeakers,
+                                         Consumer<JobStatus> onStage) {
+        // 1) 길이 추출(일괄 업로드처럼 접수 시 이미 추출했으면 건너뛴다)
+        onStage.accept(JobStatus.PROBING);
+        recordingRepository.findById(recordingId)
+            .filter(r -> r.getDurationMs() == null)
+            .ifPresent(r -> {
+                Long duration = mediaProbeService.safeProbeFileDurationMs(media.path());
+                if (duration != null) {
+                    r.specifyDuration(duration);
+                    recordingRepository.save(r);
+                }
+            });
+        IncrementalResult result = restoreResult(recordingId);
+
+        // 2) 외부 서비스 호출. 구간 전사 결과와 화자 구간을 도착 순서대로 병합·저장한다
+        onStage.accept(JobStatus.TRANSCRIBING);
+        if (props.getExecutionMode() != ExecutionMode.PARALLEL) {
+            try (Stream<TranscriptStitcher.Part> parts = transcribeParts(media, language).toStream()) {
+                parts.forEach(result::applyWords);
+            }
+            onStage.accept(JobStatus.DIARIZING);
+            DiarizationResponse diar = optional(diarize(media, language, maxSpeakers)).block().orElse(null);
+            // 3) 병합(턴 변경분 생성)과 저장
+            onStage.accept(JobStatus.MERGING);
+            result.applySegments(diar);
+        } else {
+            // 한쪽이 실패하면 Flux.merge가 나머지 호출을 취소한다
+            Flux<Consumer<IncrementalResult>> updates = Flux.merge(
+                transcribeParts(media, language).map(part -> r -> r.applyWords(part)),
+                optional(diarize(media, language, maxSpeakers)).map(diar -> r -> r.applySegments(diar.orElse(null))));
+            try (Stream<Consumer<IncrementalResult>> stream = updates.toStream()) {
+                stream.forEach(update -> update.accept(result));
+            }
+            onStage.accept(JobStatus.MERGING);
+        }
 
-        // 4) 세그먼트/턴 영속화
+        // 4) 남은 결과(시간축 전사)를 저장하고 완료로 기록
+        onStage.accept(JobStatus.PERSISTING);
+        result.complete();
+        return result.toResponse();
+    }
+
+    /**
+     * 이전 시도가 남긴 전사/화자 구간/턴 행으로 병합기를 채운다. 처음 처리하는 녹음이면 빈 병합기다.
+     */
+    private IncrementalResult restoreResult(Long recordingId) {
+        List<SttResponse.Word> words;
+        if (props.getPersistence().getTranscriptStorage() == ProcessingProperties.TranscriptStorage.TIMELINE) {
+            words = transcriptTimelineRepository.findByRecordingId(recordingId)
+                .map(TranscriptTimeline::words)
+                .orElse(List.of());
+        } else {
+            words = transcriptSegmentRepository.findByRecordingIdOrderByStartMsAsc(recordingId).stream()
+                .map(t -> new SttResponse.Word(t.getStartMs(), t.getEndMs(), t.getText(), t.getConfidence()))
+                .toList();
+        }
+        List<DiarizationResponse.Segment> segments =
+            diarizationSegmentRepository.findByRecordingIdOrderByStartMsAsc(recordingId).stream()
+                .map(d -> new DiarizationResponse.Segment(d.getStartMs(), d.getEndMs(), d.getSpeakerLabel(),
+                    d.getConfidence()))
+                .toList();
+        IncrementalResult result = new IncrementalResult(recordingId, !words.isEmpty());
+        result.persist(result.merger.restore(words, segments, speakerTurnDiffWriter.load(recordingId)), null);
+        return result;
+    }
+
+    /**
+     * STT 호출(지연 실행 Mono, 타임아웃 포함). 구간 분할이 켜져 있고 녹음이 구간보다 긴 PCM WAV이면 겹치는 구간으로 나눠 최대
+     * maxConcurrency개씩 동시에 전사한 뒤 원본 시간축으로 이어 붙인다. 이때 타임아웃은 구간 요청마다 적용한다.
+     */
+    private Mono<SttResponse> transcribe(StoredMedia media, String language) {
+        ProcessingProperties.Chunking chunking = props.getChunking();
+        if (!chunking.isEnabled()) {
+            return withSttTimeout(sttClient.transcribeAsync(media.toResource(), media.filename(), language));
+        }
+        return Mono.using(
+            () -> wavChunker.split(media.path(), chunking.getWindowMs(), chunking.getOverlapMs()),
+            chunks -> chunks.isEmpty()
+                ? withSttTimeout(sttClient.transcribeAsync(media.toResource(), media.filename(), language))
+                : transcribeChunks(chunks, language).collectList().map(transcriptStitcher::stitch),
+            wavChunker::delete);
+    }
+
+    /**
+     * transcribe()와 같은 호출이지만, 구간마다 원본 시간축으로 이어 붙인 결과를 구간 순서대로 도착하는 즉시 내보낸다. 구간으로 나누지
+     * 않으면 전체 범위 하나를 내보낸다. 결과가 없는 구간도 빈 단어로 내보내 그 범위의 이전 결과를 지우게 한다.
+     */
+    private Flux<TranscriptStitcher.Part> transcribeParts(StoredMedia media, String language) {
+        ProcessingProperties.Chunking chunking = props.getChunking();
+        Mono<TranscriptStitcher.Part> whole = Mono.defer(() -> optional(withSttTimeout(
+                sttClient.transcribeAsync(media.toResource(), media.filename(), language))))
+            .map(stt -> new TranscriptStitcher.Part(Long.MIN_VALUE, Long.MAX_VALUE, stt.map(SttResponse::lang).orElse(null),
+                stt.map(SttResponse::words).orElse(List.of())));
+        if (!chunking.isEnabled()) {
+            return whole.flux();
+        }
+        return Flux.using(
+            () -> wavChunker.split(media.path(), chunking.getWindowMs(), chunking.getOverlapMs()),
+            chunks -> {
+                if (chunks.isEmpty()) {
+                    return whole.flux();
+                }
+                TranscriptStitcher.Session session = transcriptStitcher.session(chunks.stream()
+                    .map(c -> new ChunkTranscript(c.offsetMs(), c.durationMs(), null))
+                    .toList());
+                return transcribeChunks(chunks, language).map(chunk -> session.next(chunk.stt()));
+            },
+            wavChunker::delete);
+    }
+
+    /**
+     * 구간마다 STT를 최대 maxConcurrency개씩 동시에 호출하고 결과를 구간 순서대로 내보낸다. 결과가 없는 구간은 stt가 null이다.
+     */
+    private Flux<ChunkTranscript> transcribeChunks(List<AudioChunk> chunks, String language) {
+        return Flux.fromIterable(chunks)
+            .flatMapSequential(chunk -> withSttTimeout(sttClient.transcribeAsync(
+                    new FileSystemResource(chunk.path()), chunk.path().getFileName().toString(), language))
+                    .map(stt -> new ChunkTranscript(chunk.offsetMs(), chunk.durationMs(), stt))
+                    .defaultIfEmpty(new ChunkTranscript(chunk.offsetMs(), chunk.durationMs(), null)),
+                Math.max(1, props.getChunking().getMaxConcurrency()));
+    }
+
+    /**
+     * Diarization 호출(지연 실행 Mono, 타임아웃 포함).
+     */
+    private Mono<DiarizationResponse> diarize(StoredMedia media, String language, Integer maxSpeakers) {
+        return diarizationClient.diarizeAsync(media.toResource(), media.filename(), language, maxSpeakers)
+            .timeout(Duration.ofMillis(props.getDiarizationTimeoutMs()),
+                Mono.error(() -> new UpstreamTimeoutException(
+                    "Diarization timed out after " + props.getDiarizationTimeoutMs() + "ms")));
+    }
+
+    private Mono<SttResponse> withSttTimeout(Mono<SttResponse> call) {
+        return call.timeout(Duration.ofMillis(props.getSttTimeoutMs()),
+            Mono.error(() -> new UpstreamTimeoutException("STT timed out after " + props.getSttTimeoutMs() + "ms")));
+    }
+
+    /**
+     * STT/Diarization 호출. SEQUENTIAL 모드는 두 호출을 차례로 수행하고(지연 = 합), PARALLEL 모드는 동시에 호출한 뒤 합류한다(지연 = 최대값).
+     */
+    private RemoteResults fetchRemoteResults(Mono<SttResponse> sttCall, Mono<DiarizationResponse> diarCall) {
+        // 타임아웃은 transcribe()/diarize()에서 적용된다. 병렬 모드에서 한쪽이 실패하면 Mono.zip이 나머지 호출을 취소한다.
+        if (props.getExecutionMode() != ExecutionMode.PARALLEL) {
+            SttResponse sttResult = optional(sttCall).block().orElse(null);
+            DiarizationResponse diarResult = optional(diarCall).block().orElse(null);
+            return new RemoteResults(sttResult, diarResult);
+        }
+        return remoteResults(sttCall, diarCall).block();
+    }
+
+    /**
+     * fetchRemoteResults()의 논블로킹 버전. SEQUENTIAL 모드는 STT 완료 후 Diarization을 구독하고, PARALLEL 모드는 Mono.zip으로 합류한다.
+     */
+    private Mono<RemoteResults> remoteResults(StoredMedia media, String language, Integer maxSpeakers) {
+        return remoteResults(transcribe(media, language), diarize(media, language, maxSpeakers));
+    }
+
+    private Mono<RemoteResults> remoteResults(Mono<SttResponse> sttCall, Mono<DiarizationResponse> diarCall) {
+        Mono<Optional<SttResponse>> stt = optional(sttCall);
+        Mono<Optional<DiarizationResponse>> diar = optional(diarCall);
+        if (props.getExecutionMode() != ExecutionMode.PARALLEL) {
+            return stt.flatMap(s -> diar.map(d -> new RemoteResults(s.orElse(null), d.orElse(null))));
+        }
+        return Mono.zip(stt, diar)
+            .map(t -> new RemoteResults(t.getT1().orElse(null), t.getT2().orElse(null)));
+    }
+
+    private static <T> Mono<Optional<T>> optional(Mono<T> call) {
+        return call.map(Optional::of).defaultIfEmpty(Optional.empty());
+    }
+
+    /**
+     * 실패한 처리의 보상: 결과 없이 남은 Recording을 삭제한다. 보상 실패는 원래 예외에 덧붙인다.
+     */
+    private void discardRecording(Long recordingId, RuntimeException cause) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> recordingRepository.deleteById(recordingId));
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void persistResults(Recording rec, SttResponse stt, DiarizationResponse diar, List<Turn> turns) {
         persistTranscriptSegments(rec, stt);
         persistDiarizationSegments(rec, diar);
         persistSpeakerTurns(rec, turns);
+    }
 
-        // 5) 응답 DTO 구성
+    private static ProcessResponse toResponse(Long recordingId, SttResponse stt, DiarizationResponse diar,
+                                              List<Turn> turns) {
         return new ProcessResponse(
-            String.valueOf(rec.getId()),
+            String.valueOf(recordingId),
             stt != null ? stt.lang() : null,
             stt != null ? stt.words() : null,
             diar != null ? diar.segments() : null,
@@ -79,13 +395,17 @@ public class MediaProcessingService {
         if (stt == null || stt.words() == null || stt.words().isEmpty()) {
             return;
         }
+        if (props.getPersistence().getTranscriptStorage() == ProcessingProperties.TranscriptStorage.TIMELINE) {
+            transcriptTimelineRepository.save(TranscriptTimeline.encode(rec, stt.lang(), "stt", stt.words()));
+            return;
+        }
         List<TranscriptSegment> list = new ArrayList<>();
         for (SttResponse.Word w : stt.words()) {
             TranscriptSegment t = TranscriptSegment.transcribeSegment(
                 rec, w.start(), w.end(), w.text(), w.confidence(), stt.lang(), "stt");
             list.add(t);
         }
-        transcriptSegmentRepository.saveAll(list);
+        resultRowWriter.insertTranscripts(list);
     }
 
     private void persistDiarizationSegments(Recording rec, DiarizationResponse diar) {
@@ -98,7 +418,7 @@ public class MediaProcessingService {
                 rec, s.speaker(), s.start(), s.end(), s.confidence());
             list.add(d);
         }
-        diarizationSegmentRepository.saveAll(list);
+        resultRowWriter.insertDiarizationSegments(list);
     }
 
     private void persistSpeakerTurns(Recording rec, List<Turn> turns) {
@@ -111,6 +431,124 @@ public class MediaProcessingService {
                 rec, t.getSpeaker(), t.getStart(), t.getEnd(), t.getText());
             list.add(st);
         }
-        speakerTurnRepository.saveAll(list);
+        resultRowWriter.insertSpeakerTurns(list);
+    }
+
+    /**
+     * 작업 하나의 점진 병합 상태. 병합기에 반영한 변경분과 바뀐 행을 짧은 트랜잭션으로 저장하고, 새 턴의 행 id를 병합기에 돌려준다.
+     */
+    private final class IncrementalResult {
+
+        private final Long recordingId;
+        private final IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+        private String lang;
+        private boolean timelineChanged;
+        private boolean timelineStored;
+
+        private IncrementalResult(Long recordingId, boolean timelineStored) {
+            this.recordingId = recordingId;
+            this.timelineStored = timelineStored;
+        }
+
+        /**
+         * 구간 전사 결과로 그 구간(단어 중앙 시각 기준)의 단어를 바꾼다. 행 저장 형식이면 그 구간의 전사 행도 함께 바꾼다.
+         */
+        void applyWords(TranscriptStitcher.Part part) {
+            if (lang == null) {
+                lang = part.lang();
+            }
+            List<SttResponse.Word> previous = merger.wordsCenteredIn(part.fromMs(), part.toMs());
+            List<SttResponse.Word> words = new ArrayList<>(part.words());
+            words.sort(Comparator.comparingLong(SttResponse.Word::start));
+            boolean changed = !previous.equals(words);
+            TurnDelta delta = merger.replaceWordsCenteredIn(part.fromMs(), part.toMs(), words);
+            if (!changed) {
+                persist(delta, null);
+                return;
+            }
+            if (!isRowStorage()) {
+                timelineChanged = true;
+                persist(delta, null);
+                return;
+            }
+            String rowLang = lang;
+            persist(delta, rec -> {
+                if (!previous.isEmpty()) {
+                    transcriptSegmentRepository.deleteByRecordingIdAndMidpointRange(recordingId,
+                        Math.max(0L, part.fromMs()), Math.min(Long.MAX_VALUE / 2, part.toMs()));
+                }
+                resultRowWriter.insertTranscripts(words.stream()
+                    .map(w -> TranscriptSegment.transcribeSegment(
+                        rec, w.start(), w.end(), w.text(), w.confidence(), rowLang, "stt"))
+                    .toList());
+            });
+        }
+
+        /**
+         * 화자 구간 전체를 바꾼다. 이전 시도와 같으면 화자 구간 행은 다시 쓰지 않는다.
+         */
+        void applySegments(DiarizationResponse diar) {
+            List<DiarizationResponse.Segment> previous = merger.segments().stream().toList();
+            List<DiarizationResponse.Segment> segments =
+                new ArrayList<>(diar != null && diar.segments() != null ? diar.segments() : List.of());
+            segments.sort(Comparator.comparingLong(DiarizationResponse.Segment::start));
+            TurnDelta delta = merger.replaceSegments(Long.MIN_VALUE, Long.MAX_VALUE, segments);
+            if (previous.equals(segments)) {
+                persist(delta, null);
+                return;
+            }
+            persist(delta, rec -> {
+                if (!previous.isEmpty()) {
+                    diarizationSegmentRepository.deleteByRecordingId(recordingId);
+                }
+                persistDiarizationSegments(rec, new DiarizationResponse(segments));
+            });
+        }
+
+        /**
+         * 시간축 전사가 바뀌었으면 한 행으로 다시 저장하고 녹음을 완료로 기록한다.
+         */
+        void complete() {
+            transactionTemplate.executeWithoutResult(tx -> {
+                Recording rec = recordingRepository.getReferenceById(recordingId);
+                if (timelineChanged) {
+                    if (timelineStored) {
+                        transcriptTimelineRepository.deleteByRecordingId(recordingId);
+                    }
+                    persistTranscriptSegments(rec, new SttResponse(lang, new ArrayList<>(merger.words())));
+                }
+                rec.markCompleted();
+            });
+        }
+
+        /**
+         * 턴 변경분과 함께 쓸 행(rows, 없으면 null)을 한 트랜잭션으로 저장한다. 쓸 것이 없으면 트랜잭션을 열지 않는다.
+         */
+        void persist(TurnDelta delta, Consumer<Recording> rows) {
+            if (rows == null && delta.isEmpty()) {
+                return;
+            }
+            Map<Long, Long> keys = transactionTemplate.execute(tx -> {
+                Recording rec = recordingRepository.getReferenceById(recordingId);
+                if (rows != null) {
+                    rows.accept(rec);
+                }
+                return speakerTurnDiffWriter.apply(rec, delta);
+            });
+            merger.rekey(keys);
+        }
+
+        ProcessResponse toResponse() {
+            return MediaProcessingService.toResponse(recordingId, new SttResponse(lang, new ArrayList<>(merger.words())),
+                new DiarizationResponse(new ArrayList<>(merger.segments())), merger.turns());
+        }
+
+        private boolean isRowStorage() {
+            return props.getPersistence().getTranscriptStorage() != ProcessingProperties.TranscriptStorage.TIMELINE;
+        }
+    }
+
+    private record RemoteResults(SttResponse stt, DiarizationResponse diar) {
+
     }
 }
\ No newline at end of file
@@ -0,0 +1,289 @@
+package com.adas.application.media;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 업로드 처리 파이프라인 설정. application.yml의 `processing.*` 값을 매핑한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "processing")
+public class ProcessingProperties {
+
+    /**
+     * STT/Diarization 호출 방식(SEQUENTIAL: 순차, PARALLEL: 동시 호출 후 합류)
+     */
+    private ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+    /**
+     * STT 호출 타임아웃(ms)
+     */
+    private long sttTimeoutMs = 30_000;
+    /**
+     * Diarization 호출 타임아웃(ms)
+     */
+    private long diarizationTimeoutMs = 60_000;
+    /**
+     * 비동기 처리 작업(ingest) 설정
+     */
+    private Job job = new Job();
+    /**
+     * 긴 녹음의 구간 분할 STT 설정
+     */
+    private Chunking chunking = new Chunking();
+    /**
+     * WebSocket 실시간 수집 설정
+     */
+    private Live live = new Live();
+    /**
+     * 동기 처리 요청의 입장 제어(동시 처리 수, 대기열) 설정
+     */
+    private Admission admission = new Admission();
+    /**
+     * 논블로킹 처리 경로(/api/v1/media/process/reactive)의 블로킹 구간 실행 설정
+     */
+    private Reactive reactive = new Reactive();
+    /**
+     * 일괄 업로드(/api/ingest/batch) 설정
+     */
+    private Batch batch = new Batch();
+    /**
+     * 작업 큐의 차선/가져가는 순서 설정
+     */
+    private Scheduling scheduling = new Scheduling();
+    /**
+     * 화자 병합(SpeechMergeService) 분할 병렬 실행 설정
+     */
+    private Merge merge = new Merge();
+    /**
+     * 결과 행(전사/화자 구간/턴) 일괄 저장 설정
+     */
+    private Persistence persistence = new Persistence();
+
+    @Getter
+    @Setter
+    public static class Job {
+
+        /**
+         * 이 노드에서 동시에 처리할 작업 수(워커 스레드 수). 0이면 이 노드는 작업을 가져가지 않는다.
+         */
+        private int workers = 4;
+        /**
+         * 대기(QUEUED) 상태로 쌓일 수 있는 작업 수. 초과 시 업로드를 거절한다.
+         */
+        private int queueCapacity = 100;
+        /**
+         * 임대 소유자로 기록되는 노드 식별자. 미지정 시 호스트명 기반으로 생성한다.
+         */
+        private String nodeId;
+        /**
+         * 대기 작업 조회 주기(ms)
+         */
+        private long pollIntervalMs = 1_000;
+        /**
+         * 한 번에 가져갈 최대 작업 수(빈 워커 수를 넘지 않는다)
+         */
+        private int claimBatchSize = 4;
+        /**
+         * 작업 임대 기간(ms). 이 기간 안에 하트비트가 없으면 다른 노드가 작업을 회수한다.
+         */
+        private long leaseDurationMs = 60_000;
+        /**
+         * 진행 중 작업의 임대 연장 주기(ms)
+         */
+        private long heartbeatIntervalMs = 15_000;
+        /**
+         * 만료 임대 회수 주기(ms)
+         */
+        private long recoveryIntervalMs = 30_000;
+        /**
+         * 작업당 최대 시도 횟수. 임대 만료로 회수될 때 이 횟수에 도달했으면 FAILED로 종료한다.
+         */
+        private int maxAttempts = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Chunking {
+
+        /**
+         * 구간 분할 사용 여부. 현재는 PCM WAV만 분할하며, 그 외 형식은 단일 요청으로 처리한다.
+         */
+        private boolean enabled = false;
+        /**
+         * 구간 길이(ms). 이보다 짧은 녹음은 분할하지 않는다.
+         */
+        private long windowMs = 300_000;
+        /**
+         * 인접 구간이 겹치는 길이(ms). 경계에서 잘린 단어를 양쪽 구간에서 온전히 인식하기 위한 여유분이다.
+         */
+        private long overlapMs = 2_000;
+        /**
+         * 동시에 STT로 보내는 구간 수(STT 워커 수에 맞춘다)
+         */
+        private int maxConcurrency = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Live {
+
+        /**
+         * 구간 간격(ms). 이만큼 녹음이 쌓일 때마다 STT/Diarization을 호출하므로 첫 자막까지의 지연 하한이 된다.
+         */
+        private long stepMs = 5_000;
+        /**
+         * 각 구간이 앞 구간과 겹치는 길이(ms). 경계 단어 인식과 구간 간 화자 레이블 대응에 쓴다.
+         */
+        private long overlapMs = 1_000;
+        /**
+         * 클라이언트가 지정하지 않았을 때의 PCM 샘플레이트(Hz)
+         */
+        private int defaultSampleRate = 16_000;
+        /**
+         * 노드당 동시 실시간 세션 수. 초과 시 연결을 거절한다.
+         */
+        private int maxSessions = 20;
+        /**
+         * 구간 처리 스레드 수(세션 안에서는 구간을 순서대로 처리한다)
+         */
+        private int workers = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+
+        /**
+         * 입장 제어 사용 여부
+         */
+        private boolean enabled = true;
+        /**
+         * 동시에 STT/Diarization 처리를 진행할 수 있는 요청 수
+         */
+        private int maxInFlight = 8;
+        /**
+         * 처리 슬롯을 기다릴 수 있는 요청 수. 초과 시 즉시 429로 거절한다.
+         */
+        private int maxQueued = 16;
+        /**
+         * 대기열에서 기다리는 최대 시간(ms). 이 안에 슬롯을 얻지 못하면 429로 거절한다.
+         */
+        private long maxQueueWaitMs = 10_000;
+        /**
+         * Retry-After 상한(초)
+         */
+        private long maxRetryAfterSeconds = 60;
+    }
+
+    @Getter
+    @Setter
+    public static class Reactive {
+
+        /**
+         * 스풀/길이 추출/DB 영속화 같은 블로킹 구간을 실행할 최대 스레드 수. DB 커넥션 풀 크기 정도로 둔다.
+         */
+        private int blockingThreads = 10;
+        /**
+         * 블로킹 스레드가 모두 사용 중일 때 대기할 수 있는 작업 수
+         */
+        private int blockingQueueCapacity = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * 일괄 업로드 하나에 담을 수 있는 최대 파일 수(zip 항목 포함)
+         */
+        private int maxFiles = 500;
+        /**
+         * 일괄 업로드로 대기(QUEUED) 중일 수 있는 작업 수. 단건 업로드의 job.queue-capacity와 따로 센다.
+         */
+        private int queueCapacity = 2_000;
+        /**
+         * 접수 후 이 시간(ms)이 지나도 등록되지 않은 파일이 남은 일괄 업로드는 다른 노드(또는 재시작한 노드)가 이어서 등록한다.
+         */
+        private long registrationTimeoutMs = 600_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Scheduling {
+
+        /**
+         * 대화형 차선 가중치. 같은 길이라도 가중치가 클수록 덜 늦춰진다.
+         */
+        private double interactiveWeight = 4;
+        /**
+         * 대량 차선 가중치
+         */
+        private double bulkWeight = 1;
+        /**
+         * 가중치 1에서 녹음 길이 1ms당 늦춰지는 순번(ms). 0이면 차선 안에서 접수 순으로 처리한다.
+         */
+        private double delayPerDurationMs = 1.0;
+        /**
+         * 녹음 길이로 늦춰지는 최대 시간(ms). 이보다 늦게 접수된 작업은 긴 작업을 앞지르지 못하므로 기아 상한이 된다.
+         */
+        private long maxDelayMs = 1_800_000;
+        /**
+         * 길이를 추출하지 못한 녹음의 추정 길이(ms)
+         */
+        private long unknownDurationMs = 600_000;
+        /**
+         * 단건 업로드라도 대량 차선으로 보낼 Recording.source 값(예: archive)
+         */
+        private List<String> bulkSources = new ArrayList<>();
+        /**
+         * 노드마다 대화형 작업용으로 남겨 두는 워커 수. 대량 작업은 나머지 워커만 사용한다(워커가 1개면 예약하지 않음).
+         */
+        private int interactiveReservedWorkers = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Merge {
+
+        /**
+         * 이 단어 수 이상이면 말소리 없는 틈에서 나눠 병렬로 병합한다. 0이면 항상 순차 병합한다.
+         */
+        private int parallelThresholdWords = 200_000;
+        /**
+         * 분할 하나의 최소 단어 수
+         */
+        private int minPartitionWords = 20_000;
+        /**
+         * 병합용 ForkJoinPool 스레드 수. 0이면 CPU 코어 수.
+         */
+        private int parallelism = 0;
+    }
+
+    @Getter
+    @Setter
+    public static class Persistence {
+
+        /**
+         * JDBC 배치 한 번에 보내는 행 수(MySQL은 rewriteBatchedStatements로 여러 행 INSERT 하나가 된다)
+         */
+        private int batchSize = 1_000;
+        /**
+         * 단어 전사 저장 형식(TIMELINE: 녹음당 압축 바이너리 한 행, ROWS: 단어마다 transcripts 한 행). 실시간 수집은 항상 ROWS로 쓴다.
+         */
+        private TranscriptStorage transcriptStorage = TranscriptStorage.TIMELINE;
+    }
+
+    public enum ExecutionMode {
+        SEQUENTIAL,
+        PARALLEL
+    }
+
+    public enum TranscriptStorage {
+        ROWS,
+        TIMELINE
+    }
+}
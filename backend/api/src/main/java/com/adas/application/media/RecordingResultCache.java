@@ -0,0 +1,144 @@
+package com.adas.application.media;
+
+import com.adas.application.dto.ProcessResponse;
+import com.adas.domain.diarization.DiarizationSegment;
+import com.adas.domain.diarization.DiarizationSegmentRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.domain.speaker.SpeakerTurn;
+import com.adas.domain.speaker.SpeakerTurnRepository;
+import com.adas.domain.speech.Turn;
+import com.adas.domain.transcript.TranscriptSegment;
+import com.adas.domain.transcript.TranscriptSegmentRepository;
+import com.adas.domain.transcript.TranscriptTimeline;
+import com.adas.domain.transcript.TranscriptTimelineRepository;
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.media.StoredMedia;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 내용 주소 기반 결과 캐시: 같은 (SHA-256, 언어, 최대 화자 수)로 이미 완료된 Recording이 있으면 외부 서비스 호출 없이 그 결과 행을 새 Recording으로
+ * 복제한다. 조회 결과는 `media.result.cache` 카운터(result=hit|miss|bypass)와 `media.result.cache.hit.ratio` 게이지로 노출한다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
+public class RecordingResultCache {
+
+    private static final String METRIC = "media.result.cache";
+
+    private final RecordingRepository recordingRepository;
+    private final TranscriptSegmentRepository transcriptSegmentRepository;
+    private final TranscriptTimelineRepository transcriptTimelineRepository;
+    private final DiarizationSegmentRepository diarizationSegmentRepository;
+    private final SpeakerTurnRepository speakerTurnRepository;
+    private final ResultRowWriter resultRowWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+
+    public RecordingResultCache(RecordingRepository recordingRepository,
+                                TranscriptSegmentRepository transcriptSegmentRepository,
+                                TranscriptTimelineRepository transcriptTimelineRepository,
+                                DiarizationSegmentRepository diarizationSegmentRepository,
+                                SpeakerTurnRepository speakerTurnRepository,
+                                ResultRowWriter resultRowWriter,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry) {
+        this.recordingRepository = recordingRepository;
+        this.transcriptSegmentRepository = transcriptSegmentRepository;
+        this.transcriptTimelineRepository = transcriptTimelineRepository;
+        this.diarizationSegmentRepository = diarizationSegmentRepository;
+        this.speakerTurnRepository = speakerTurnRepository;
+        this.resultRowWriter = resultRowWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.hits = meterRegistry.counter(METRIC, "result", "hit");
+        this.misses = meterRegistry.counter(METRIC, "result", "miss");
+        this.bypasses = meterRegistry.counter(METRIC, "result", "bypass");
+        Gauge.builder(METRIC + ".hit.ratio", this, RecordingResultCache::hitRatio)
+            .description("Share of cache lookups answered from an earlier recording")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 재사용 가능한 결과가 있으면 새 Recording(source)에 복제해 응답을 만든다. enabled=false이거나 해시가 없으면 조회하지 않는다.
+     */
+    public Optional<ProcessResponse> reuse(StoredMedia media, String source, String language, Integer maxSpeakers,
+                                           boolean enabled) {
+        if (!enabled || media.sha256() == null) {
+            bypasses.increment();
+            return Optional.empty();
+        }
+        Optional<ProcessResponse> cached = transactionTemplate.execute(tx -> recordingRepository
+            .findFirstByContentSha256AndLanguageAndMaxSpeakersAndCompletedAtIsNotNullOrderByIdDesc(
+                media.sha256(), language, maxSpeakers)
+            .map(origin -> copyResults(origin, media, source)));
+        (cached.isPresent() ? hits : misses).increment();
+        return cached;
+    }
+
+    double hitRatio() {
+        double lookups = hits.count() + misses.count();
+        return lookups == 0 ? 0.0 : hits.count() / lookups;
+    }
+
+    private ProcessResponse copyResults(Recording origin, StoredMedia media, String source) {
+        Recording rec = Recording.createFromUpload(source, origin.getLanguage(), media.sizeBytes());
+        rec.specifyDuration(origin.getDurationMs());
+        rec.fingerprint(origin.getContentSha256(), origin.getMaxSpeakers());
+        rec.markCompleted();
+        rec = recordingRepository.save(rec);
+
+        List<DiarizationSegment> segments = diarizationSegmentRepository.findByRecordingIdOrderByStartMsAsc(origin.getId());
+        List<SpeakerTurn> turns = speakerTurnRepository.findByRecordingIdOrderByStartMsAsc(origin.getId());
+
+        Recording target = rec;
+        // 원본의 저장 형식을 그대로 따른다(압축 단어 타임라인이면 바이트를 그대로 복사)
+        List<SttResponse.Word> words;
+        String lang;
+        Optional<TranscriptTimeline> timeline = transcriptTimelineRepository.findByRecordingId(origin.getId());
+        if (timeline.isPresent()) {
+            transcriptTimelineRepository.save(timeline.get().copyTo(target));
+            words = timeline.get().words();
+            lang = timeline.get().getLanguage();
+        } else {
+            List<TranscriptSegment> transcripts =
+                transcriptSegmentRepository.findByRecordingIdOrderByStartMsAsc(origin.getId());
+            resultRowWriter.insertTranscripts(transcripts.stream()
+                .map(t -> TranscriptSegment.transcribeSegment(target, t.getStartMs(), t.getEndMs(), t.getText(),
+                    t.getConfidence(), t.getLanguage(), t.getProvider()))
+                .toList());
+            words = transcripts.stream()
+                .map(t -> new SttResponse.Word(t.getStartMs(), t.getEndMs(), t.getText(), t.getConfidence()))
+                .toList();
+            lang = transcripts.isEmpty() ? origin.getLanguage() : transcripts.get(0).getLanguage();
+        }
+        resultRowWriter.insertDiarizationSegments(segments.stream()
+            .map(d -> DiarizationSegment.identifySpeaker(target, d.getSpeakerLabel(), d.getStartMs(), d.getEndMs(),
+                d.getConfidence()))
+            .toList());
+        resultRowWriter.insertSpeakerTurns(turns.stream()
+            .map(s -> SpeakerTurn.createTurn(target, s.getSpeakerLabel(), s.getStartMs(), s.getEndMs(), s.getText()))
+            .toList());
+
+        return new ProcessResponse(
+            String.valueOf(rec.getId()),
+            lang,
+            words,
+            segments.stream()
+                .map(d -> new DiarizationResponse.Segment(d.getStartMs(), d.getEndMs(), d.getSpeakerLabel(),
+                    d.getConfidence()))
+                .toList(),
+            turns.stream()
+                .map(s -> Turn.startSpeaking(s.getSpeakerLabel(), s.getStartMs(), s.getEndMs(), s.getText()))
+                .toList());
+    }
+}
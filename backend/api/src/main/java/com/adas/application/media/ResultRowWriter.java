@@ -0,0 +1,135 @@
+package com.adas.application.media;
+
+import com.adas.domain.diarization.DiarizationSegment;
+import com.adas.domain.speaker.SpeakerTurn;
+import com.adas.domain.speech.TurnDelta.KeyedTurn;
+import com.adas.domain.transcript.TranscriptSegment;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전사/화자 구간/턴 행을 JDBC 배치로 저장한다. 엔티티가 IDENTITY 키라 Hibernate는 saveAll에서도 행마다 INSERT를 한 번씩 보내므로,
+ * 결과 행처럼 한 번에 많이 쓰는 경로는 이 writer를 쓴다. 저장한 엔티티에는 id가 채워지지 않고 영속성 컨텍스트에도 들어가지 않는다.
+ * 호출자의 트랜잭션(JPA 트랜잭션 포함)에 참여한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
+public class ResultRowWriter {
+
+    private static final String INSERT_TRANSCRIPT = "INSERT INTO transcripts "
+        + "(recording_id, start_ms, end_ms, text, confidence, language, provider) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DIARIZATION = "INSERT INTO diar_segments "
+        + "(recording_id, speaker_label, start_ms, end_ms, confidence) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_SPEAKER_TURN = "INSERT INTO speaker_turns "
+        + "(recording_id, speaker_label, start_ms, end_ms, text) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_SPEAKER_TURN = "UPDATE speaker_turns "
+        + "SET speaker_label = ?, start_ms = ?, end_ms = ?, text = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProcessingProperties props;
+
+    public void insertTranscripts(List<TranscriptSegment> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_TRANSCRIPT, rows, batchSize(), (ps, t) -> {
+            ps.setLong(1, t.getRecording().getId());
+            ps.setLong(2, t.getStartMs());
+            ps.setLong(3, t.getEndMs());
+            ps.setString(4, t.getText());
+            ps.setObject(5, t.getConfidence(), Types.DOUBLE);
+            ps.setString(6, t.getLanguage());
+            ps.setString(7, t.getProvider());
+        });
+    }
+
+    public void insertDiarizationSegments(List<DiarizationSegment> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_DIARIZATION, rows, batchSize(), (ps, d) -> {
+            ps.setLong(1, d.getRecording().getId());
+            ps.setString(2, d.getSpeakerLabel());
+            ps.setLong(3, d.getStartMs());
+            ps.setLong(4, d.getEndMs());
+            ps.setObject(5, d.getConfidence(), Types.DOUBLE);
+        });
+    }
+
+    public void insertSpeakerTurns(List<SpeakerTurn> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SPEAKER_TURN, rows, batchSize(), (ps, s) -> {
+            ps.setLong(1, s.getRecording().getId());
+            ps.setString(2, s.getSpeakerLabel());
+            ps.setLong(3, s.getStartMs());
+            ps.setLong(4, s.getEndMs());
+            ps.setString(5, s.getText());
+        });
+    }
+
+    /**
+     * insertSpeakerTurns와 같지만 생성된 행 id를 rows 순서대로 돌려준다. 배치 하나로 보낸다.
+     */
+    public List<Long> insertSpeakerTurnsReturningIds(List<SpeakerTurn> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SPEAKER_TURN, new String[] {"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    SpeakerTurn s = rows.get(i);
+                    ps.setLong(1, s.getRecording().getId());
+                    ps.setString(2, s.getSpeakerLabel());
+                    ps.setLong(3, s.getStartMs());
+                    ps.setLong(4, s.getEndMs());
+                    ps.setString(5, s.getText());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return rows.size();
+                }
+            }, keys);
+        List<Long> ids = keys.getKeyList().stream()
+            .map(key -> ((Number) key.values().iterator().next()).longValue())
+            .toList();
+        if (ids.size() != rows.size()) {
+            throw new IllegalStateException("Expected " + rows.size() + " generated ids but got " + ids.size());
+        }
+        return ids;
+    }
+
+    /**
+     * 턴 행을 key(행 id)로 찾아 내용을 고친다.
+     */
+    public void updateSpeakerTurns(List<KeyedTurn> turns) {
+        if (turns.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SPEAKER_TURN, turns, batchSize(), (ps, k) -> {
+            ps.setString(1, k.turn().getSpeaker());
+            ps.setLong(2, k.turn().getStart());
+            ps.setLong(3, k.turn().getEnd());
+            ps.setString(4, k.turn().getText());
+            ps.setLong(5, k.key());
+        });
+    }
+
+    private int batchSize() {
+        return Math.max(1, props.getPersistence().getBatchSize());
+    }
+}
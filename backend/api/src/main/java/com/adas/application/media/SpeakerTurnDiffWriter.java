@@ -0,0 +1,59 @@
+package com.adas.application.media;
+
+import com.adas.domain.recording.Recording;
+import com.adas.domain.speaker.SpeakerTurn;
+import com.adas.domain.speaker.SpeakerTurnRepository;
+import com.adas.domain.speech.Turn;
+import com.adas.domain.speech.TurnDelta;
+import com.adas.domain.speech.TurnDelta.KeyedTurn;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * IncrementalSpeechMerger가 내보낸 턴 변경분을 speaker_turns에 반영한다. 턴 key는 행 id이며, 새 턴은 행을 추가한 뒤 받은 id를 병합기에
+ * 돌려준다(rekey). 저장된 턴을 다시 읽거나 전체를 다시 쓰지 않는다. 호출자의 트랜잭션 안에서 실행해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
+public class SpeakerTurnDiffWriter {
+
+    private final SpeakerTurnRepository speakerTurnRepository;
+    private final ResultRowWriter resultRowWriter;
+
+    /**
+     * 녹음의 저장된 턴(key = 행 id, 시작 시각 순). 재처리할 때 병합기를 채우는 데 쓴다.
+     */
+    public List<KeyedTurn> load(Long recordingId) {
+        return speakerTurnRepository.findByRecordingIdOrderByStartMsAsc(recordingId).stream()
+            .map(r -> new KeyedTurn(r.getId(),
+                Turn.startSpeaking(r.getSpeakerLabel(), r.getStartMs(), r.getEndMs(), r.getText())))
+            .toList();
+    }
+
+    /**
+     * 사라진 턴의 행은 지우고, 바뀐 턴은 같은 행을 고치고, 새 턴은 행을 추가한다. 새 턴의 임시 key → 행 id를 돌려준다.
+     */
+    public Map<Long, Long> apply(Recording rec, TurnDelta delta) {
+        if (delta.isEmpty()) {
+            return Map.of();
+        }
+        if (!delta.removed().isEmpty()) {
+            speakerTurnRepository.deleteAllByIdInBatch(delta.removed());
+        }
+        resultRowWriter.updateSpeakerTurns(delta.updated());
+        List<Long> ids = resultRowWriter.insertSpeakerTurnsReturningIds(delta.inserted().stream()
+            .map(k -> SpeakerTurn.createTurn(rec, k.turn().getSpeaker(), k.turn().getStart(), k.turn().getEnd(),
+                k.turn().getText()))
+            .toList());
+        Map<Long, Long> keys = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            keys.put(delta.inserted().get(i).key(), ids.get(i));
+        }
+        return keys;
+    }
+}
@@ -1,12 +1,16 @@
 package com.adas.application.recording;
 
 import com.adas.application.dto.DiarizationSegmentResponse;
+import com.adas.application.dto.ProcessingStatusResponse;
 import com.adas.application.dto.RecordingResponse;
 import com.adas.application.dto.SegmentsResponse;
 import com.adas.application.dto.SpeakerTurnResponse;
 import com.adas.application.dto.TranscriptSegmentResponse;
 import com.adas.common.exception.NotFoundException;
 import com.adas.domain.diarization.DiarizationSegment;
+import com.adas.domain.job.JobStatus;
+import com.adas.domain.job.ProcessingJob;
+import com.adas.domain.job.ProcessingJobRepository;
 import com.adas.domain.recording.Recording;
 import com.adas.domain.recording.RecordingRepository;
 import com.adas.domain.speaker.SpeakerTurn;
@@ -14,6 +18,10 @@ import com.adas.domain.transcript.TranscriptSegment;
 import com.adas.domain.diarization.DiarizationSegmentRepository;
 import com.adas.domain.speaker.SpeakerTurnRepository;
 import com.adas.domain.transcript.TranscriptSegmentRepository;
+import com.adas.domain.transcript.TranscriptTimeline;
+import com.adas.domain.transcript.TranscriptTimelineRepository;
+import com.adas.infrastructure.external.dto.SttResponse;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -32,8 +40,10 @@ public class RecordingQueryService {
 
     private final RecordingRepository recordingRepository;
     private final TranscriptSegmentRepository transcriptRepo;
+    private final TranscriptTimelineRepository timelineRepo;
     private final DiarizationSegmentRepository diarizationRepo;
     private final SpeakerTurnRepository turnRepo;
+    private final ProcessingJobRepository jobRepo;
 
     public RecordingResponse getRecording(Long id) {
         Recording r =
@@ -45,10 +55,12 @@ public class RecordingQueryService {
     }
 
     public SegmentsResponse getSegments(Long id) {
-        List<TranscriptSegmentResponse> transcripts =
-            transcriptRepo.findByRecordingIdOrderByStartMsAsc(id).stream()
+        // 압축 단어 타임라인이 있으면 그것을, 없으면(행 저장 형식/실시간 수집) 단어별 행을 읽는다
+        List<TranscriptSegmentResponse> transcripts = timelineRepo.findByRecordingId(id)
+            .map(RecordingQueryService::toTranscriptDtos)
+            .orElseGet(() -> transcriptRepo.findByRecordingIdOrderByStartMsAsc(id).stream()
                 .map(RecordingQueryService::toTranscriptDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
         List<DiarizationSegmentResponse> diarization =
             diarizationRepo.findByRecordingIdOrderByStartMsAsc(id).stream()
                 .map(RecordingQueryService::toDiarDto)
@@ -62,11 +74,34 @@ public class RecordingQueryService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * 가장 최근 처리 작업의 상태. 작업 없이 동기 처리된 Recording은 completed로 본다.
+     */
+    public ProcessingStatusResponse getProcessingStatus(Long id) {
+        return jobRepo.findTopByRecordingIdOrderByIdDesc(id)
+            .map(RecordingQueryService::toStatusDto)
+            .orElseGet(() -> new ProcessingStatusResponse(JobStatus.COMPLETED.apiValue(), null, null));
+    }
+
+    private static ProcessingStatusResponse toStatusDto(ProcessingJob j) {
+        return new ProcessingStatusResponse(j.getStatus().apiValue(), j.getErrorMessage(), j.getUpdatedAt());
+    }
+
     private static TranscriptSegmentResponse toTranscriptDto(TranscriptSegment t) {
         return new TranscriptSegmentResponse(
             t.getStartMs(), t.getEndMs(), t.getText(), t.getConfidence(), t.getLanguage(), t.getProvider());
     }
 
+    private static List<TranscriptSegmentResponse> toTranscriptDtos(TranscriptTimeline t) {
+        List<SttResponse.Word> words = t.words();
+        List<TranscriptSegmentResponse> list = new ArrayList<>(words.size());
+        for (SttResponse.Word w : words) {
+            list.add(new TranscriptSegmentResponse(
+                w.start(), w.end(), w.text(), w.confidence(), t.getLanguage(), t.getProvider()));
+        }
+        return list;
+    }
+
     private static DiarizationSegmentResponse toDiarDto(DiarizationSegment d) {
         return new DiarizationSegmentResponse(d.getStartMs(), d.getEndMs(), d.getSpeakerLabel(), d.getConfidence());
     }
@@ -0,0 +1,11 @@
+package com.adas.common.exception;
+
+/**
+ * 처리 대기열이 가득 차 요청을 받을 수 없을 때 사용하는 예외.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.adas.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 한도를 넘어 요청을 즉시 거절할 때 사용하는 예외. retryAfterSeconds는 현재 처리 속도로 추정한 재시도 권장 대기 시간이다.
+ */
+@Getter
+public class TooManyRequestsException extends ServiceBusyException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.adas.common.exception;
+
+/**
+ * 외부 서비스(STT, Diarization) 호출이 제한 시간 내에 끝나지 않았을 때 사용하는 예외.
+ */
+public class UpstreamTimeoutException extends RuntimeException {
+
+    public UpstreamTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.adas.common.exception;
+
+/**
+ * 외부 서비스(STT, Diarization)의 서킷 브레이커가 열려 호출하지 않고 바로 실패시킬 때 사용하는 예외.
+ */
+public class UpstreamUnavailableException extends ServiceBusyException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -2,10 +2,20 @@ package com.adas.domain.diarization;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DiarizationSegmentRepository extends JpaRepository<DiarizationSegment, Long> {
     
     List<DiarizationSegment> findByRecordingIdOrderByStartMsAsc(Long recordingId);
+
+    /**
+     * 재처리 시 이전 결과를 지운다.
+     */
+    @Modifying
+    @Query("DELETE FROM DiarizationSegment d WHERE d.recording.id = :recordingId")
+    int deleteByRecordingId(@Param("recordingId") Long recordingId);
 }
\ No newline at end of file
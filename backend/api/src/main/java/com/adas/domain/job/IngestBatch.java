@@ -0,0 +1,61 @@
+package com.adas.domain.job;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * 여러 파일(또는 zip 아카이브)을 한 번에 접수한 일괄 업로드. 파일별 처리 상태는 IngestBatchItem과 연결된 ProcessingJob이 가진다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "ingest_batches")
+public class IngestBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String source;
+
+    @Column(length = 10)
+    private String language;
+
+    @Column(name = "file_count", nullable = false)
+    private int fileCount;
+
+    /**
+     * 같은 내용의 완료된 결과를 재사용할지. 접수 뒤 백그라운드 등록에서 쓴다.
+     */
+    @Column(name = "use_cache", nullable = false)
+    private boolean useCache;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    public static IngestBatch open(String source, String language, int fileCount, boolean useCache) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("Source cannot be null or empty");
+        }
+        if (fileCount <= 0) {
+            throw new IllegalArgumentException("Batch must contain at least one file");
+        }
+        IngestBatch batch = new IngestBatch();
+        batch.source = source;
+        batch.language = language;
+        batch.fileCount = fileCount;
+        batch.useCache = useCache;
+        return batch;
+    }
+}
@@ -0,0 +1,144 @@
+package com.adas.domain.job;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 업로드에 포함된 파일 하나. 접수 시에는 보관한 파일 정보만 가진 등록 대기 상태(QUEUED, jobId 없음)로 저장되고, 백그라운드 등록이 끝나면
+ * 작업으로 등록(jobId로 진행 상태 조회)되거나 결과 재사용(COMPLETED)·등록 실패(FAILED)로 작업 없이 끝난다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "ingest_batch_items", indexes = @Index(name = "idx_ingest_batch_items_batch", columnList = "batch_id, seq"))
+public class IngestBatchItem {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "batch_id")
+    private IngestBatch batch;
+
+    @Column(nullable = false)
+    private int seq;
+
+    @Column(name = "original_filename", length = 255)
+    private String originalFilename;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "recording_id")
+    private Long recordingId;
+
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    @Column(name = "error_message", length = MAX_ERROR_LENGTH)
+    private String errorMessage;
+
+    /**
+     * 등록을 기다리는 동안 보관 중인 파일 경로. 등록이 끝나면(작업이 경로를 넘겨받거나 파일을 지우면) null이 된다.
+     */
+    @Column(name = "media_path", length = 500)
+    private String mediaPath;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "content_sha256", length = 64)
+    private String contentSha256;
+
+    /**
+     * 저장소에 보관하고 아직 작업으로 등록하지 않은 파일.
+     */
+    public static IngestBatchItem pending(IngestBatch batch, int seq, String filename, String mediaPath, long sizeBytes,
+                                          String contentSha256) {
+        if (mediaPath == null || mediaPath.isBlank()) {
+            throw new IllegalArgumentException("Media path cannot be null or empty");
+        }
+        IngestBatchItem item = of(batch, seq, filename, null, JobStatus.QUEUED);
+        item.mediaPath = mediaPath;
+        item.sizeBytes = sizeBytes;
+        item.contentSha256 = contentSha256;
+        return item;
+    }
+
+    public boolean isPending() {
+        return status == JobStatus.QUEUED && jobId == null && mediaPath != null;
+    }
+
+    /**
+     * 작업으로 등록한다. 보관 파일은 작업이 넘겨받는다.
+     */
+    public void enqueued(ProcessingJob job, Long durationMs) {
+        ensurePending();
+        this.recordingId = job.getRecording().getId();
+        this.jobId = job.getId();
+        this.durationMs = durationMs;
+        this.mediaPath = null;
+    }
+
+    /**
+     * 같은 내용의 완료된 결과를 재사용해 작업 없이 끝낸다.
+     */
+    public void reused(Long recordingId, Long durationMs) {
+        ensurePending();
+        this.status = JobStatus.COMPLETED;
+        this.recordingId = recordingId;
+        this.durationMs = durationMs;
+        this.mediaPath = null;
+    }
+
+    /**
+     * 등록 중 실패해 처리하지 못한 파일로 끝낸다.
+     */
+    public void rejected(String reason) {
+        ensurePending();
+        this.status = JobStatus.FAILED;
+        this.mediaPath = null;
+        this.errorMessage = reason != null && reason.length() > MAX_ERROR_LENGTH
+            ? reason.substring(0, MAX_ERROR_LENGTH)
+            : reason;
+    }
+
+    private void ensurePending() {
+        if (!isPending()) {
+            throw new IllegalStateException("Batch item already registered: " + status);
+        }
+    }
+
+    private static IngestBatchItem of(IngestBatch batch, int seq, String filename, Long durationMs, JobStatus status) {
+        if (batch == null) {
+            throw new IllegalArgumentException("Batch cannot be null");
+        }
+        IngestBatchItem item = new IngestBatchItem();
+        item.batch = batch;
+        item.seq = seq;
+        item.originalFilename = filename;
+        item.durationMs = durationMs;
+        item.status = status;
+        return item;
+    }
+}
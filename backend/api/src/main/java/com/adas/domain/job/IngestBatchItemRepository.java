@@ -0,0 +1,41 @@
+package com.adas.domain.job;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IngestBatchItemRepository extends JpaRepository<IngestBatchItem, Long> {
+
+    List<IngestBatchItem> findByBatchIdOrderBySeq(Long batchId);
+
+    /**
+     * 아직 작업으로 등록하지 않은 항목(seq 순)
+     */
+    List<IngestBatchItem> findByBatchIdAndStatusAndJobIdIsNullAndMediaPathIsNotNullOrderBySeq(Long batchId,
+                                                                                            JobStatus status);
+
+    /**
+     * 작업으로 등록하지 않은 항목 수. 일괄 작업 대기열 한도 계산에 등록된 대기 작업과 함께 센다.
+     */
+    long countByStatusAndJobIdIsNullAndMediaPathIsNotNull(JobStatus status);
+
+    /**
+     * 등록 대기 항목을 잠그고 가져온다. 다른 트랜잭션이 잠갔거나 이미 등록된 항목이면 비어 있으므로 여러 노드가 같은 항목을 두 번 등록하지 않는다.
+     */
+    @Query(value = "SELECT * FROM ingest_batch_items WHERE id = :id AND status = 'QUEUED' AND job_id IS NULL "
+        + "AND media_path IS NOT NULL FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<IngestBatchItem> lockPending(@Param("id") Long id);
+
+    /**
+     * before 전에 접수됐는데 아직 등록 대기 항목이 남은 일괄 업로드 id(접수 노드 중단 등).
+     */
+    @Query(value = "SELECT DISTINCT i.batch_id FROM ingest_batch_items i JOIN ingest_batches b ON b.id = i.batch_id "
+        + "WHERE i.status = 'QUEUED' AND i.job_id IS NULL AND i.media_path IS NOT NULL AND b.created_at < :before "
+        + "ORDER BY i.batch_id LIMIT :limit", nativeQuery = true)
+    List<Long> findStalledBatchIds(@Param("before") Instant before, @Param("limit") int limit);
+}
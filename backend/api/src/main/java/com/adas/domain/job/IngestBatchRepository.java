@@ -0,0 +1,9 @@
+package com.adas.domain.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IngestBatchRepository extends JpaRepository<IngestBatch, Long> {
+
+}
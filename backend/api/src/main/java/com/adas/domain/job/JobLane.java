@@ -0,0 +1,9 @@
+package com.adas.domain.job;
+
+/**
+ * 작업 처리 차선. INTERACTIVE는 사람이 결과를 기다리는 단건 업로드, BULK는 일괄 업로드처럼 개별 응답 시간보다 처리량이 중요한 작업이다.
+ */
+public enum JobLane {
+    INTERACTIVE,
+    BULK
+}
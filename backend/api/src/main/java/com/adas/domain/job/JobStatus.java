@@ -0,0 +1,27 @@
+package com.adas.domain.job;
+
+/**
+ * 처리 작업 상태. QUEUED → PROBING → TRANSCRIBING → DIARIZING → MERGING → PERSISTING → COMPLETED 순으로 진행하며, 어느 단계에서든 FAILED로
+ * 종료될 수 있다.
+ */
+public enum JobStatus {
+    QUEUED,
+    PROBING,
+    TRANSCRIBING,
+    DIARIZING,
+    MERGING,
+    PERSISTING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+
+    /**
+     * API 응답용 소문자 표기(예: "transcribing").
+     */
+    public String apiValue() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,213 @@
+package com.adas.domain.job;
+
+import com.adas.domain.recording.Recording;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * 업로드 파일의 비동기 처리 작업 엔티티. Recording과 함께 저장되어 처리 상태를 추적하며, 작업을 가져간 노드의 임대(lease) 정보를 함께 기록한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "processing_jobs",
+    indexes = @Index(name = "idx_processing_jobs_claim", columnList = "status, lease_owner, priority_key, id"))
+public class ProcessingJob {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "recording_id")
+    private Recording recording;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    @Column(name = "media_path", nullable = false, length = 500)
+    private String mediaPath;
+
+    @Column(name = "original_filename", length = 255)
+    private String originalFilename;
+
+    @Column(length = 10)
+    private String language;
+
+    @Column(name = "max_speakers")
+    private Integer maxSpeakers;
+
+    /**
+     * 일괄 업로드로 접수된 작업이면 해당 IngestBatch id
+     */
+    @Column(name = "batch_id")
+    private Long batchId;
+
+    /**
+     * 접수 시 추출한 녹음 길이(ms). 알 수 없으면 null.
+     */
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    @ColumnDefault("'INTERACTIVE'")
+    private JobLane lane;
+
+    /**
+     * 가져가는 순서(작은 값부터). 접수 시각(epoch ms)에 차선 가중치와 녹음 길이로 정한 지연을 더한 값이다.
+     */
+    @Column(name = "priority_key", nullable = false)
+    @ColumnDefault("0")
+    private Long priorityKey;
+
+    @Column(name = "error_message", length = MAX_ERROR_LENGTH)
+    private String errorMessage;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    public static ProcessingJob enqueue(Recording recording, String mediaPath, String originalFilename,
+                                        String language, Integer maxSpeakers) {
+        if (recording == null) {
+            throw new IllegalArgumentException("Recording cannot be null");
+        }
+        if (mediaPath == null || mediaPath.isBlank()) {
+            throw new IllegalArgumentException("Media path cannot be null or empty");
+        }
+
+        ProcessingJob job = new ProcessingJob();
+        job.recording = recording;
+        job.mediaPath = mediaPath;
+        job.originalFilename = originalFilename;
+        job.language = language;
+        job.maxSpeakers = maxSpeakers;
+        job.status = JobStatus.QUEUED;
+        // 순서를 따로 정하지 않으면 대화형 차선에서 접수 순으로 처리한다.
+        job.lane = JobLane.INTERACTIVE;
+        job.priorityKey = Instant.now().toEpochMilli();
+        return job;
+    }
+
+    /**
+     * 일괄 업로드에 속한 작업으로 표시한다.
+     */
+    public void assignToBatch(Long batchId) {
+        if (batchId == null) {
+            throw new IllegalArgumentException("Batch id cannot be null");
+        }
+        this.batchId = batchId;
+    }
+
+    /**
+     * 처리 차선과 가져가는 순서를 정한다. durationMs는 알 수 없으면 null.
+     */
+    public void schedule(JobLane lane, Long durationMs, long priorityKey) {
+        if (lane == null) {
+            throw new IllegalArgumentException("Lane cannot be null");
+        }
+        if (durationMs != null && durationMs < 0) {
+            throw new IllegalArgumentException("Duration cannot be negative");
+        }
+        this.lane = lane;
+        this.durationMs = durationMs;
+        this.priorityKey = priorityKey;
+    }
+
+    /**
+     * 노드가 대기 중인 작업을 가져간다. 임대 만료 전까지 다른 노드는 이 작업을 가져갈 수 없다.
+     */
+    public void claim(String owner, Instant now, Instant leaseUntil) {
+        if (owner == null || owner.isBlank()) {
+            throw new IllegalArgumentException("Lease owner cannot be null or empty");
+        }
+        if (status != JobStatus.QUEUED || leaseOwner != null) {
+            throw new IllegalStateException("Job is not claimable: " + status);
+        }
+        this.leaseOwner = owner;
+        this.leaseExpiresAt = leaseUntil;
+        this.heartbeatAt = now;
+        this.attempts++;
+    }
+
+    public boolean isLeasedBy(String owner) {
+        return leaseOwner != null && leaseOwner.equals(owner);
+    }
+
+    /**
+     * 임대가 만료된(노드 중단 등) 작업을 회수한다. 시도 횟수가 한도에 도달했으면 FAILED로 종료하고, 아니면 다시 대기열로 돌린다.
+     */
+    public void reclaimExpiredLease(int maxAttempts) {
+        ensureNotTerminal();
+        if (attempts >= maxAttempts) {
+            fail("lease expired after " + attempts + " attempts (last owner: " + leaseOwner + ")");
+            return;
+        }
+        this.status = JobStatus.QUEUED;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+    }
+
+    public void advanceTo(JobStatus next) {
+        if (next == null || next == JobStatus.QUEUED || next == JobStatus.FAILED) {
+            throw new IllegalArgumentException("Invalid next status: " + next);
+        }
+        ensureNotTerminal();
+        this.status = next;
+        if (next.isTerminal()) {
+            this.leaseExpiresAt = null;
+        }
+    }
+
+    public void fail(String reason) {
+        ensureNotTerminal();
+        this.status = JobStatus.FAILED;
+        this.leaseExpiresAt = null;
+        this.errorMessage = reason != null && reason.length() > MAX_ERROR_LENGTH
+            ? reason.substring(0, MAX_ERROR_LENGTH)
+            : reason;
+    }
+
+    private void ensureNotTerminal() {
+        if (status.isTerminal()) {
+            throw new IllegalStateException("Job already finished: " + status);
+        }
+    }
+}
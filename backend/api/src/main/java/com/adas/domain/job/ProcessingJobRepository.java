@@ -0,0 +1,58 @@
+package com.adas.domain.job;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProcessingJobRepository extends JpaRepository<ProcessingJob, Long> {
+
+    Optional<ProcessingJob> findTopByRecordingIdOrderByIdDesc(Long recordingId);
+
+    long countByStatus(JobStatus status);
+
+    /**
+     * 단건 업로드(일괄 업로드에 속하지 않은) 작업 수
+     */
+    long countByStatusAndBatchIdIsNull(JobStatus status);
+
+    /**
+     * 일괄 업로드에 속한 작업 수
+     */
+    long countByStatusAndBatchIdIsNotNull(JobStatus status);
+
+    /**
+     * since 이후 해당 상태로 바뀐 작업 수. 큐 전체(모든 노드)의 처리 속도 추정에 쓴다.
+     */
+    long countByStatusAndUpdatedAtAfter(JobStatus status, Instant since);
+
+    /**
+     * 아무 노드도 가져가지 않은 대기 작업을 잠그고 가져온다. 다른 트랜잭션이 잠근 행은 건너뛰므로 여러 노드가 동시에 호출해도 같은 작업을 받지 않는다.
+     * lanes에 속한 작업만 priority_key가 작은 순(짧은 녹음·오래 기다린 작업 우선)으로 가져온다. 컬럼을 가공하지 않고 비교·정렬해야
+     * (status, lease_owner, priority_key, id) 인덱스 순서대로 읽으므로, lane과 priority_key는 NOT NULL로 둔다(ProcessingJobSchemaBackfill).
+     */
+    @Query(value = "SELECT * FROM processing_jobs WHERE status = 'QUEUED' AND lease_owner IS NULL "
+        + "AND lane IN (:lanes) "
+        + "ORDER BY priority_key, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ProcessingJob> lockClaimable(@Param("lanes") Collection<String> lanes, @Param("limit") int limit);
+
+    /**
+     * 임대가 만료된 진행 중 작업을 잠그고 가져온다.
+     */
+    @Query(value = "SELECT * FROM processing_jobs WHERE lease_owner IS NOT NULL AND lease_expires_at < :now "
+        + "AND status NOT IN ('COMPLETED', 'FAILED') ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ProcessingJob> lockExpiredLeases(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE ProcessingJob j SET j.leaseExpiresAt = :leaseUntil, j.heartbeatAt = :now "
+        + "WHERE j.id IN :ids AND j.leaseOwner = :owner AND j.status NOT IN :terminal")
+    int renewLeases(@Param("owner") String owner, @Param("ids") Collection<Long> ids,
+                    @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil,
+                    @Param("terminal") Collection<JobStatus> terminal);
+}
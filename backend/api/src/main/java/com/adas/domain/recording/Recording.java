@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import lombok.AccessLevel;
@@ -18,7 +19,7 @@ import org.hibernate.annotations.CreationTimestamp;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "recordings")
+@Table(name = "recordings", indexes = @Index(name = "idx_recordings_content", columnList = "content_sha256, language, max_speakers"))
 public class Recording {
 
     @Id
@@ -37,6 +38,15 @@ public class Recording {
     @Column(name = "duration_ms")
     private Long durationMs;
 
+    @Column(name = "content_sha256", length = 64)
+    private String contentSha256;
+
+    @Column(name = "max_speakers")
+    private Integer maxSpeakers;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
@@ -56,6 +66,38 @@ public class Recording {
         this.durationMs = durationMs;
     }
 
+    /**
+     * 실시간 수집처럼 생성 시점에 크기를 알 수 없는 녹음의 최종 크기를 기록한다.
+     */
+    public void specifySize(Long sizeBytes) {
+        if (sizeBytes != null && sizeBytes < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        this.sizeBytes = sizeBytes;
+    }
+
+    /**
+     * 업로드 내용 해시와 처리 옵션을 기록한다. 처리가 완료된 뒤 같은 (해시, 언어, 최대 화자 수) 업로드의 결과 재사용 키가 된다.
+     */
+    public void fingerprint(String contentSha256, Integer maxSpeakers) {
+        if (contentSha256 != null && contentSha256.length() != 64) {
+            throw new IllegalArgumentException("Content hash must be a SHA-256 hex string");
+        }
+        this.contentSha256 = contentSha256;
+        this.maxSpeakers = maxSpeakers;
+    }
+
+    /**
+     * 전사/화자 분리 결과가 모두 저장되었음을 기록한다.
+     */
+    public void markCompleted() {
+        this.completedAt = Instant.now();
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+
     public void markAsProcessedBy(String source) {
         if (source == null || source.trim().isEmpty()) {
             throw new IllegalArgumentException("Source cannot be null or empty");
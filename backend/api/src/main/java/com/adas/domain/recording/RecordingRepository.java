@@ -1,8 +1,15 @@
 package com.adas.domain.recording;
 
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RecordingRepository extends JpaRepository<Recording, Long> {
-}
\ No newline at end of file
+
+    /**
+     * 같은 내용과 처리 옵션으로 완료된 가장 최근 Recording. language/maxSpeakers가 null이면 IS NULL로 비교한다.
+     */
+    Optional<Recording> findFirstByContentSha256AndLanguageAndMaxSpeakersAndCompletedAtIsNotNullOrderByIdDesc(
+        String contentSha256, String language, Integer maxSpeakers);
+}
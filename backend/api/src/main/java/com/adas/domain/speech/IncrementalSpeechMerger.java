@@ -0,0 +1,469 @@
+package com.adas.domain.speech;
+
+import com.adas.domain.speech.TurnDelta.KeyedTurn;
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.SttResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * 단어/화자 구간을 나눠 받아 턴을 점진적으로 갱신하는 병합기. 녹음 하나에 하나씩 만들어 순서대로 호출한다(스레드 안전하지 않음).
+ * 1) 추가/교체된 단어와, 바뀐 화자 구간과 겹치는 단어만 다시 라벨링한다
+ * 2) 라벨이 바뀔 수 있는 단어를 포함한 턴과 앞뒤로 맞닿은 턴만 다시 만들고, 나머지 턴은 그대로 둔다
+ * 3) 다시 만든 턴을 기존 턴과 시간·화자로 짝지어 key 기준 변경분(TurnDelta)으로 돌려준다. 턴이 하나 끼어들어도 뒤 턴은 그대로다
+ * 현재 턴은 항상 보관 중인 단어/구간(words(), segments())를 SpeechMergeService로 한 번에 병합한 결과와 같다(화자 구간이 없으면 턴도
+ * 없다). 시작 시각이 같으면 먼저 받은 단어/구간이 앞선다. 새 턴은 음수 임시 key로 내보내며, 저장한 뒤 rekey로 행 id를 붙인다.
+ */
+public class IncrementalSpeechMerger {
+
+    private static final Comparator<SttResponse.Word> WORD_ORDER = Comparator.comparingLong(SttResponse.Word::start);
+    private static final Comparator<DiarizationResponse.Segment> SEGMENT_ORDER =
+        Comparator.comparingLong(DiarizationResponse.Segment::start);
+
+    private final List<SttResponse.Word> words = new ArrayList<>();
+    // words와 같은 순서의 화자 레이블(겹치는 구간이 없으면 UNKNOWN, 화자 구간이 없어 턴이 없는 동안은 null일 수 있다)
+    private final List<String> labels = new ArrayList<>();
+    private final List<DiarizationResponse.Segment> segments = new ArrayList<>();
+    private final List<Entry> turns = new ArrayList<>();
+    private long maxWordMs;
+    private long maxSegmentMs;
+    private long nextProvisionalKey = -1;
+
+    /**
+     * 저장된 단어/화자 구간/턴(key = 행 id)으로 비어 있는 병합기를 채운다. 저장된 턴이 단어/구간을 병합한 결과와 다르면 맞추는 변경분을
+     * 돌려준다(보통은 비어 있다). 이미 결과가 있으면 IllegalStateException.
+     */
+    public TurnDelta restore(List<SttResponse.Word> storedWords, List<DiarizationResponse.Segment> storedSegments,
+                             List<KeyedTurn> storedTurns) {
+        if (!words.isEmpty() || !segments.isEmpty() || !turns.isEmpty()) {
+            throw new IllegalStateException("Merger already holds results");
+        }
+        List<SttResponse.Word> addedWords = sorted(storedWords, WORD_ORDER);
+        List<DiarizationResponse.Segment> addedSegments = sorted(storedSegments, SEGMENT_ORDER);
+        addedWords.forEach(w -> Turn.validateTimeRange(w.start(), w.end()));
+        addedSegments.forEach(s -> Turn.validateSpeaker(s.speaker()));
+        for (SttResponse.Word w : addedWords) {
+            maxWordMs = Math.max(maxWordMs, w.end() - w.start());
+            words.add(w);
+            labels.add(null);
+        }
+        for (DiarizationResponse.Segment s : addedSegments) {
+            maxSegmentMs = Math.max(maxSegmentMs, s.end() - s.start());
+            segments.add(s);
+        }
+        List<Entry> rebuilt = List.of();
+        if (!segments.isEmpty()) {
+            for (int i = 0; i < words.size(); i++) {
+                labels.set(i, label(words.get(i)));
+            }
+            rebuilt = build(0, words.size());
+        }
+        List<KeyedTurn> before = new ArrayList<>(storedTurns != null ? storedTurns : List.of());
+        before.sort(Comparator.comparingLong(k -> k.turn().getStart()));
+        TurnDelta delta = reconcile(before, rebuilt);
+        turns.addAll(rebuilt);
+        return delta;
+    }
+
+    /**
+     * 단어/화자 구간을 덧붙인다(기존 것은 지우지 않는다). 인자는 null이어도 된다.
+     */
+    public TurnDelta append(List<SttResponse.Word> newWords, List<DiarizationResponse.Segment> newSegments) {
+        return apply(0, 0, newWords, 0, 0, newSegments);
+    }
+
+    /**
+     * 시작 시각이 [fromMs, toMs)인 단어와 화자 구간을 지우고 새 단어/구간으로 바꾼다(예: 다시 전사한 구간). 새 단어가 시간 범위 밖에 있어도 된다.
+     * 단어는 시작 &lt; 종료인 0 이상 시각, 화자 구간은 레이블이 있어야 하며, 아니면 아무것도 바꾸지 않고 IllegalArgumentException을 던진다.
+     */
+    public TurnDelta replace(long fromMs, long toMs, List<SttResponse.Word> newWords,
+                             List<DiarizationResponse.Segment> newSegments) {
+        return apply(fromMs, toMs, newWords, fromMs, toMs, newSegments);
+    }
+
+    /**
+     * 시작 시각이 [fromMs, toMs)인 단어만 새 단어로 바꾼다(화자 구간은 그대로). 구간 분할 전사에서 구간 하나의 결과를 반영할 때 쓴다.
+     */
+    public TurnDelta replaceWords(long fromMs, long toMs, List<SttResponse.Word> newWords) {
+        return apply(fromMs, toMs, newWords, 0, 0, null);
+    }
+
+    /**
+     * 중앙 시각이 [fromMs, toMs)인 단어만 새 단어로 바꾼다(화자 구간은 그대로). 겹치는 구간으로 나눠 전사한 결과는 단어 중앙 시각으로 구간을
+     * 나누므로(TranscriptStitcher), 구간 하나의 결과를 반영할 때 쓴다.
+     */
+    public TurnDelta replaceWordsCenteredIn(long fromMs, long toMs, List<SttResponse.Word> newWords) {
+        long lo = fromMs == Long.MIN_VALUE ? fromMs : fromMs - maxWordMs;
+        List<SttResponse.Word> kept = new ArrayList<>();
+        for (SttResponse.Word w : words(lo, toMs)) {
+            long mid = midpoint(w);
+            if (mid < fromMs || mid >= toMs) {
+                kept.add(w);
+            }
+        }
+        if (newWords != null) {
+            kept.addAll(newWords);
+        }
+        return apply(lo, toMs, kept, 0, 0, null);
+    }
+
+    /**
+     * 시작 시각이 [fromMs, toMs)인 화자 구간만 새 구간으로 바꾼다(단어는 그대로).
+     */
+    public TurnDelta replaceSegments(long fromMs, long toMs, List<DiarizationResponse.Segment> newSegments) {
+        return apply(0, 0, null, fromMs, toMs, newSegments);
+    }
+
+    /**
+     * 저장한 새 턴의 임시 key를 행 id로 바꾼다(임시 key → 행 id).
+     */
+    public void rekey(Map<Long, Long> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        for (Entry e : turns) {
+            Long key = keys.get(e.key);
+            if (key != null) {
+                e.key = key;
+            }
+        }
+    }
+
+    private TurnDelta apply(long wordFromMs, long wordToMs, List<SttResponse.Word> newWords,
+                            long segmentFromMs, long segmentToMs, List<DiarizationResponse.Segment> newSegments) {
+        List<SttResponse.Word> addedWords = sorted(newWords, WORD_ORDER);
+        List<DiarizationResponse.Segment> addedSegments = sorted(newSegments, SEGMENT_ORDER);
+        addedWords.forEach(w -> Turn.validateTimeRange(w.start(), w.end()));
+        addedSegments.forEach(s -> Turn.validateSpeaker(s.speaker()));
+
+        // 1) 화자 구간 교체. 지우거나 더한 구간이 걸친 시간 [segFrom, segTo)의 단어는 라벨이 바뀔 수 있다
+        long segFrom = Long.MAX_VALUE;
+        long segTo = Long.MIN_VALUE;
+        int segLo = lowerBound(segments, segmentFromMs, DiarizationResponse.Segment::start);
+        int segHi = lowerBound(segments, segmentToMs, DiarizationResponse.Segment::start);
+        for (DiarizationResponse.Segment s : segments.subList(segLo, Math.max(segLo, segHi))) {
+            segFrom = Math.min(segFrom, s.start());
+            segTo = Math.max(segTo, s.end());
+        }
+        if (segLo < segHi) {
+            segments.subList(segLo, segHi).clear();
+        }
+        for (DiarizationResponse.Segment s : addedSegments) {
+            segFrom = Math.min(segFrom, s.start());
+            segTo = Math.max(segTo, s.end());
+            maxSegmentMs = Math.max(maxSegmentMs, s.end() - s.start());
+        }
+        insertSorted(segments, null, addedSegments, SEGMENT_ORDER, DiarizationResponse.Segment::start);
+
+        // 2) 단어 교체. 지우거나 더한 단어는 시작 시각이 [wordFrom, wordTo]인 연속 구간 안에 있다
+        long wordFrom = Long.MAX_VALUE;
+        long wordTo = Long.MIN_VALUE;
+        int wordLo = lowerBound(words, wordFromMs, SttResponse.Word::start);
+        int wordHi = lowerBound(words, wordToMs, SttResponse.Word::start);
+        if (wordLo < wordHi) {
+            wordFrom = Math.max(wordFromMs, words.get(wordLo).start());
+            wordTo = words.get(wordHi - 1).start();
+            words.subList(wordLo, wordHi).clear();
+            labels.subList(wordLo, wordHi).clear();
+        }
+        int removedWords = Math.max(0, wordHi - wordLo);
+        for (SttResponse.Word w : addedWords) {
+            wordFrom = Math.min(wordFrom, w.start());
+            wordTo = Math.max(wordTo, w.start());
+            maxWordMs = Math.max(maxWordMs, w.end() - w.start());
+        }
+        insertSorted(words, labels, addedWords, WORD_ORDER, SttResponse.Word::start);
+
+        // 화자 구간이 없으면 한 번에 병합해도 턴이 없으므로 모든 턴을 지운다
+        if (segments.isEmpty()) {
+            List<Long> removed = turns.stream().map(e -> e.key).toList();
+            turns.clear();
+            return removed.isEmpty() ? TurnDelta.empty() : new TurnDelta(List.of(), List.of(), removed);
+        }
+
+        // 3) 다시 라벨링할 단어 [lo, hi): 바뀐 단어 구간 + 바뀐 화자 구간과 겹칠 수 있는 단어. 턴이 없었으면(화자 구간이 막 생겼으면) 전부
+        int lo = words.size();
+        int hi = 0;
+        if (wordFrom <= wordTo) {
+            lo = lowerBound(words, wordFrom, SttResponse.Word::start);
+            hi = lowerBound(words, wordTo + 1, SttResponse.Word::start);
+            if (lo == hi) {
+                hi = Math.min(words.size(), lo + 1); // 지우기만 했으면 빈자리 뒤 단어부터 본다
+            }
+        }
+        if (segFrom < segTo) {
+            lo = Math.min(lo, lowerBound(words, segFrom - maxWordMs, SttResponse.Word::start));
+            hi = Math.max(hi, lowerBound(words, segTo, SttResponse.Word::start));
+        }
+        if (turns.isEmpty()) {
+            lo = 0;
+            hi = words.size();
+        }
+        int sizeChange = addedWords.size() - removedWords;
+        if (lo >= hi && sizeChange == 0) {
+            return TurnDelta.empty();
+        }
+        lo = Math.min(lo, words.size());
+        hi = Math.max(hi, lo);
+        for (int i = lo; i < hi; i++) {
+            labels.set(i, label(words.get(i)));
+        }
+
+        // 4) 다시 만들 턴의 단어 범위 [from, to): 앞뒤로 맞닿은 턴까지 넓혀 턴 경계에서 자른다
+        int from = lo;
+        if (from > 0) {
+            String previous = labels.get(from - 1);
+            from--;
+            while (from > 0 && Objects.equals(labels.get(from - 1), previous)) {
+                from--;
+            }
+        }
+        int to = hi;
+        if (to < words.size()) {
+            String next = labels.get(to);
+            to++;
+            while (to < words.size() && Objects.equals(labels.get(to), next)) {
+                to++;
+            }
+        }
+
+        // 5) 기존 턴 중 [from, to - sizeChange)를 덮는 턴을 새 턴으로 바꾸고 변경분을 만든다
+        int first = 0;
+        int covered = 0;
+        while (first < turns.size() && covered < from) {
+            covered += turns.get(first++).wordCount;
+        }
+        int last = first;
+        while (last < turns.size() && covered < to - sizeChange) {
+            covered += turns.get(last++).wordCount;
+        }
+        List<Entry> rebuilt = build(from, to);
+        List<KeyedTurn> before = turns.subList(first, last).stream().map(e -> new KeyedTurn(e.key, e.turn)).toList();
+        TurnDelta delta = reconcile(before, rebuilt);
+        turns.subList(first, last).clear();
+        turns.addAll(first, rebuilt);
+        return delta;
+    }
+
+    /**
+     * 현재 턴(시작 시각 순).
+     */
+    public List<Turn> turns() {
+        return turns.stream().map(e -> e.turn).toList();
+    }
+
+    /**
+     * 현재 턴과 key.
+     */
+    public List<KeyedTurn> keyedTurns() {
+        return turns.stream().map(e -> new KeyedTurn(e.key, e.turn)).toList();
+    }
+
+    public List<SttResponse.Word> words() {
+        return Collections.unmodifiableList(words);
+    }
+
+    public List<DiarizationResponse.Segment> segments() {
+        return Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * 시작 시각이 [fromMs, toMs)인 보관 단어(시작 시각 순).
+     */
+    public List<SttResponse.Word> words(long fromMs, long toMs) {
+        int lo = lowerBound(words, fromMs, SttResponse.Word::start);
+        int hi = lowerBound(words, toMs, SttResponse.Word::start);
+        return lo < hi ? List.copyOf(words.subList(lo, hi)) : List.of();
+    }
+
+    /**
+     * 중앙 시각이 [fromMs, toMs)인 보관 단어(시작 시각 순).
+     */
+    public List<SttResponse.Word> wordsCenteredIn(long fromMs, long toMs) {
+        long lo = fromMs == Long.MIN_VALUE ? fromMs : fromMs - maxWordMs;
+        return words(lo, toMs).stream()
+            .filter(w -> midpoint(w) >= fromMs && midpoint(w) < toMs)
+            .toList();
+    }
+
+    private static long midpoint(SttResponse.Word w) {
+        return (w.start() + w.end()) / 2;
+    }
+
+    /**
+     * 기존 턴(before)과 다시 만든 턴(after)을 시작 시각 순으로 훑으며 같은 턴끼리 짝지어 key를 이어 준다. 짝지은 턴은 내용이 바뀐 경우만
+     * updated, 짝이 없는 기존 턴은 removed, 짝이 없는 새 턴은 임시 key를 받아 inserted가 된다.
+     */
+    private TurnDelta reconcile(List<KeyedTurn> before, List<Entry> after) {
+        List<KeyedTurn> inserted = new ArrayList<>();
+        List<KeyedTurn> updated = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < before.size() || j < after.size()) {
+            KeyedTurn old = i < before.size() ? before.get(i) : null;
+            Entry next = j < after.size() ? after.get(j) : null;
+            if (old != null && next != null && sameTurn(old.turn(), next.turn)) {
+                next.key = old.key();
+                if (!TurnDelta.sameContent(old.turn(), next.turn)) {
+                    updated.add(new KeyedTurn(next.key, next.turn));
+                }
+                i++;
+                j++;
+            } else if (next == null || (old != null && old.turn().getStart() < next.turn.getStart())) {
+                removed.add(old.key());
+                i++;
+            } else {
+                next.key = nextProvisionalKey--;
+                inserted.add(new KeyedTurn(next.key, next.turn));
+                j++;
+            }
+        }
+        return new TurnDelta(inserted, updated, removed);
+    }
+
+    /**
+     * 같은 행으로 이어 쓸 턴: 시작 시각이 같거나, 같은 화자이면서 시간이 겹친다.
+     */
+    private static boolean sameTurn(Turn a, Turn b) {
+        return a.getStart() == b.getStart()
+            || (Objects.equals(a.getSpeaker(), b.getSpeaker()) && a.getStart() < b.getEnd() && b.getStart() < a.getEnd());
+    }
+
+    /**
+     * words[from, to)로 턴을 만든다. SpeechMergeService와 같은 텍스트 규칙을 따른다(첫 단어는 그대로, 이후 빈 단어는 건너뛴다).
+     */
+    private List<Entry> build(int from, int to) {
+        List<Entry> built = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        String speaker = null;
+        long start = 0;
+        long end = 0;
+        boolean hasText = false;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            SttResponse.Word w = words.get(i);
+            String label = labels.get(i);
+            if (count == 0 || !label.equals(speaker)) {
+                if (count > 0) {
+                    built.add(new Entry(Turn.merged(speaker, start, end, hasText ? text.toString() : null), count));
+                }
+                speaker = label;
+                start = w.start();
+                end = w.end();
+                text.setLength(0);
+                hasText = w.text() != null;
+                if (hasText) {
+                    text.append(w.text());
+                }
+                count = 1;
+            } else {
+                end = w.end();
+                if (w.text() != null && !w.text().trim().isEmpty()) {
+                    if (hasText) {
+                        text.append(' ');
+                    }
+                    text.append(w.text());
+                    hasText = true;
+                }
+                count++;
+            }
+        }
+        if (count > 0) {
+            built.add(new Entry(Turn.merged(speaker, start, end, hasText ? text.toString() : null), count));
+        }
+        return built;
+    }
+
+    /**
+     * 단어와 가장 많이 겹치는 구간의 화자(겹침이 같으면 앞 구간). 단어와 겹칠 수 있는 구간은 시작 시각이 [start - 가장 긴 구간, end)에 있다.
+     */
+    private String label(SttResponse.Word w) {
+        long best = 0;
+        String chosen = SpeakerTimeline.UNKNOWN;
+        for (int s = lowerBound(segments, w.start() - maxSegmentMs, DiarizationResponse.Segment::start);
+             s < segments.size() && segments.get(s).start() < w.end(); s++) {
+            DiarizationResponse.Segment segment = segments.get(s);
+            long overlap = Math.min(w.end(), segment.end()) - Math.max(w.start(), segment.start());
+            if (overlap > best) {
+                best = overlap;
+                chosen = segment.speaker();
+            }
+        }
+        return chosen;
+    }
+
+    private static <T> List<T> sorted(List<T> items, Comparator<T> order) {
+        List<T> copy = items == null ? new ArrayList<>() : new ArrayList<>(items);
+        copy.sort(order);
+        return copy;
+    }
+
+    /**
+     * 정렬된 added를 list에 끼워 넣는다(시작 시각이 같으면 기존 항목 뒤). 끼워 넣을 자리의 범위만 한 번에 다시 쓴다. parallel이 있으면 같은
+     * 자리에 null(아직 모름)을 넣는다.
+     */
+    private static <T> void insertSorted(List<T> list, List<String> parallel, List<T> added, Comparator<T> order,
+                                         ToLongFunction<T> start) {
+        if (added.isEmpty()) {
+            return;
+        }
+        int from = upperBound(list, start.applyAsLong(added.get(0)), start);
+        int to = upperBound(list, start.applyAsLong(added.get(added.size() - 1)), start);
+        List<T> merged = new ArrayList<>(to - from + added.size());
+        List<String> mergedParallel = new ArrayList<>(to - from + added.size());
+        int a = from;
+        int b = 0;
+        while (a < to || b < added.size()) {
+            if (b >= added.size() || (a < to && order.compare(list.get(a), added.get(b)) <= 0)) {
+                merged.add(list.get(a));
+                mergedParallel.add(parallel != null ? parallel.get(a) : null);
+                a++;
+            } else {
+                merged.add(added.get(b++));
+                mergedParallel.add(null);
+            }
+        }
+        list.subList(from, to).clear();
+        list.addAll(from, merged);
+        if (parallel != null) {
+            parallel.subList(from, to).clear();
+            parallel.addAll(from, mergedParallel);
+        }
+    }
+
+    private static <T> int lowerBound(List<T> list, long key, ToLongFunction<T> start) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (start.applyAsLong(list.get(mid)) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static <T> int upperBound(List<T> list, long key, ToLongFunction<T> start) {
+        return key == Long.MAX_VALUE ? list.size() : lowerBound(list, key + 1, start);
+    }
+
+    private static final class Entry {
+
+        private final Turn turn;
+        private final int wordCount;
+        private long key;
+
+        private Entry(Turn turn, int wordCount) {
+            this.turn = turn;
+            this.wordCount = wordCount;
+        }
+    }
+}
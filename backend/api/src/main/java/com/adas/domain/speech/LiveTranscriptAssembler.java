@@ -0,0 +1,194 @@
+package com.adas.domain.speech;
+
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.SttResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 실시간 수집 세션 하나의 구간(window) 결과를 순서대로 받아 확정/잠정 결과를 나누는 도메인 모델. 세션마다 하나씩 만들고 구간 순서대로
+ * 호출해야 한다(스레드 안전하지 않음).
+ * 1) 구간 결과를 원본 시간축으로 이동하고, 이전 경계(seam) 이전 결과는 앞 구간 것이므로 버린다
+ * 2) 이번 경계 이전 단어/화자 구간은 확정, 이후는 다음 구간(겹침 포함)이 다시 인식하므로 잠정으로 둔다
+ * 3) 구간마다 독립적으로 붙는 화자 레이블은 이미 확정된 구간과 겹치는 길이로 세션 레이블에 맞춘다
+ * 4) 확정 단어로 턴을 만들되 마지막 턴은 다음 구간에서 이어질 수 있으므로 세션이 끝날 때까지 잠정으로 둔다
+ */
+public class LiveTranscriptAssembler {
+
+    private final SpeechMergeService mergeService;
+    private final long contextMs;
+
+    private long seamMs = 0;
+    private String lang;
+    private final List<SttResponse.Word> openWords = new ArrayList<>();
+    private final List<DiarizationResponse.Segment> finalSegments = new ArrayList<>();
+    private final Set<String> knownSpeakers = new HashSet<>();
+
+    /**
+     * contextMs: 다음 구간이 앞 구간과 겹치는 길이. 화자 레이블 대응에 쓰도록 경계 직전 이만큼의 확정 화자 구간을 남겨 둔다.
+     */
+    public LiveTranscriptAssembler(SpeechMergeService mergeService, long contextMs) {
+        this.mergeService = mergeService;
+        this.contextMs = contextMs;
+    }
+
+    /**
+     * 구간 결과를 반영한다. nextSeamMs 이전 결과를 확정하며, 마지막 구간이면 Long.MAX_VALUE를 넘겨 남은 결과를 모두 확정한다.
+     */
+    public Update accept(long offsetMs, long nextSeamMs, SttResponse stt, DiarizationResponse diar) {
+        if (nextSeamMs <= seamMs) {
+            throw new IllegalArgumentException("Seam must move forward: " + nextSeamMs + " <= " + seamMs);
+        }
+        boolean last = nextSeamMs == Long.MAX_VALUE;
+        if (lang == null && stt != null) {
+            lang = stt.lang();
+        }
+
+        // 1) 단어: 이전 경계 이후만 채택, 이번 경계 기준으로 확정/잠정 분리
+        List<SttResponse.Word> finalizedWords = new ArrayList<>();
+        List<SttResponse.Word> pendingWords = new ArrayList<>();
+        if (stt != null && stt.words() != null) {
+            List<SttResponse.Word> shifted = new ArrayList<>();
+            for (SttResponse.Word w : stt.words()) {
+                shifted.add(new SttResponse.Word(w.start() + offsetMs, w.end() + offsetMs, w.text(), w.confidence()));
+            }
+            shifted.sort(Comparator.comparingLong(SttResponse.Word::start));
+            for (SttResponse.Word w : shifted) {
+                long mid = (w.start() + w.end()) / 2;
+                if (mid < seamMs) {
+                    continue;
+                }
+                (mid < nextSeamMs ? finalizedWords : pendingWords).add(w);
+            }
+        }
+
+        // 2) 화자 구간: 세션 레이블로 맞춘 뒤 경계에서 잘라 확정/잠정 분리
+        List<DiarizationResponse.Segment> finalizedSegments = new ArrayList<>();
+        List<DiarizationResponse.Segment> pendingSegments = new ArrayList<>();
+        if (diar != null && diar.segments() != null) {
+            List<DiarizationResponse.Segment> shifted = new ArrayList<>();
+            for (DiarizationResponse.Segment s : diar.segments()) {
+                shifted.add(new DiarizationResponse.Segment(
+                    s.start() + offsetMs, s.end() + offsetMs, s.speaker(), s.confidence()));
+            }
+            Map<String, String> labels = alignSpeakers(shifted);
+            shifted.sort(Comparator.comparingLong(DiarizationResponse.Segment::start));
+            for (DiarizationResponse.Segment s : shifted) {
+                String speaker = labels.getOrDefault(s.speaker(), s.speaker());
+                long start = Math.max(s.start(), seamMs);
+                long cut = Math.min(s.end(), nextSeamMs);
+                if (start < cut) {
+                    finalizedSegments.add(new DiarizationResponse.Segment(start, cut, speaker, s.confidence()));
+                }
+                if (Math.max(start, nextSeamMs) < s.end()) {
+                    pendingSegments.add(new DiarizationResponse.Segment(
+                        Math.max(start, nextSeamMs), s.end(), speaker, s.confidence()));
+                }
+            }
+        }
+        seamMs = nextSeamMs;
+        finalSegments.addAll(finalizedSegments);
+        finalizedSegments.forEach(s -> knownSpeakers.add(s.speaker()));
+
+        // 3) 확정 단어로 턴 생성: 마지막 턴을 제외하고 확정
+        openWords.addAll(finalizedWords);
+        List<Turn> openTurns = merge(openWords, finalSegments);
+        List<Turn> finalizedTurns = new ArrayList<>(last ? openTurns : openTurns.subList(0,
+            Math.max(0, openTurns.size() - 1)));
+        if (last) {
+            openWords.clear();
+        } else if (!finalizedTurns.isEmpty()) {
+            long openFrom = openTurns.get(openTurns.size() - 1).getStart();
+            openWords.removeIf(w -> w.start() < openFrom);
+            long keepFrom = Math.min(openFrom, seamMs - contextMs);
+            finalSegments.removeIf(s -> s.end() <= keepFrom);
+        }
+
+        // 4) 잠정 턴: 열린 턴 + 다음 구간에서 다시 인식될 단어
+        List<Turn> provisionalTurns = List.of();
+        if (!last) {
+            List<SttResponse.Word> words = new ArrayList<>(openWords);
+            words.addAll(pendingWords);
+            List<DiarizationResponse.Segment> segs = new ArrayList<>(finalSegments);
+            segs.addAll(pendingSegments);
+            provisionalTurns = merge(words, segs);
+        }
+        return new Update(finalizedWords, finalizedSegments, finalizedTurns, provisionalTurns);
+    }
+
+    public String getLang() {
+        return lang;
+    }
+
+    /**
+     * 구간 레이블 → 세션 레이블. 확정 구간과 가장 많이 겹치는 세션 레이블에 겹침이 큰 순서로 하나씩 대응시킨다. 겹침 근거가 없으면 구간
+     * 레이블을 그대로 쓰되, 이번 구간에서 이미 다른 화자에게 배정된 레이블이면 새 레이블을 만든다.
+     */
+    private Map<String, String> alignSpeakers(List<DiarizationResponse.Segment> window) {
+        List<Candidate> candidates = new ArrayList<>();
+        Map<String, Map<String, Long>> overlaps = new HashMap<>();
+        for (DiarizationResponse.Segment s : window) {
+            for (DiarizationResponse.Segment f : finalSegments) {
+                long overlap = Math.min(s.end(), f.end()) - Math.max(s.start(), f.start());
+                if (overlap > 0) {
+                    overlaps.computeIfAbsent(s.speaker(), k -> new HashMap<>())
+                        .merge(f.speaker(), overlap, Long::sum);
+                }
+            }
+        }
+        overlaps.forEach((local, bySession) ->
+            bySession.forEach((session, ms) -> candidates.add(new Candidate(local, session, ms))));
+        candidates.sort(Comparator.comparingLong(Candidate::overlapMs).reversed());
+
+        Map<String, String> labels = new HashMap<>();
+        Set<String> assigned = new HashSet<>();
+        for (Candidate c : candidates) {
+            if (!labels.containsKey(c.local()) && assigned.add(c.session())) {
+                labels.put(c.local(), c.session());
+            }
+        }
+        for (DiarizationResponse.Segment s : window) {
+            String local = s.speaker();
+            if (labels.containsKey(local)) {
+                continue;
+            }
+            String label = local;
+            for (int n = knownSpeakers.size(); assigned.contains(label); n++) {
+                label = "SPEAKER_" + n;
+            }
+            assigned.add(label);
+            labels.put(local, label);
+        }
+        return labels;
+    }
+
+    private List<Turn> merge(List<SttResponse.Word> words, List<DiarizationResponse.Segment> segments) {
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        // 화자 구간이 아직 없으면 화자 미상 턴으로 묶어 자막을 먼저 보여준다.
+        List<DiarizationResponse.Segment> segs = segments.isEmpty()
+            ? List.of(new DiarizationResponse.Segment(
+                words.stream().mapToLong(SttResponse.Word::start).min().orElse(0),
+                words.stream().mapToLong(SttResponse.Word::end).max().orElse(0), "UNKNOWN", null))
+            : segments;
+        return mergeService.merge(new SttResponse(lang, words), new DiarizationResponse(segs));
+    }
+
+    /**
+     * 한 구간 반영 결과: 새로 확정된 단어/화자 구간/턴과 현재 잠정 턴 (불변 record).
+     */
+    public record Update(List<SttResponse.Word> finalizedWords, List<DiarizationResponse.Segment> finalizedSegments,
+                         List<Turn> finalizedTurns, List<Turn> provisionalTurns) {
+
+    }
+
+    private record Candidate(String local, String session, long overlapMs) {
+
+    }
+}
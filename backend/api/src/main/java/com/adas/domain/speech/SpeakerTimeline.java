@@ -0,0 +1,123 @@
+package com.adas.domain.speech;
+
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 병합용 화자 구간 열 저장소. 시작 시각 순(같으면 입력 순)으로 정렬된 시작/종료(ms) 배열과 화자 번호 배열을 보관하고, 화자 레이블은
+ * 사전(speakers)에 한 번만 둔다. 0번은 항상 겹치는 구간이 없는 단어에 붙는 UNKNOWN이다.
+ * maxEnds[i]는 0..i 구간 종료 시각의 최댓값으로, 스윕 병합이 더는 겹칠 수 없는 앞쪽 구간을 건너뛰는 데 쓴다.
+ */
+public final class SpeakerTimeline {
+
+    public static final String UNKNOWN = "UNKNOWN";
+    public static final int UNKNOWN_ID = 0;
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final int[] speakerIds;
+    private final List<String> speakers;
+
+    private SpeakerTimeline(long[] starts, long[] ends, int[] speakerIds, List<String> speakers) {
+        this.starts = starts;
+        this.ends = ends;
+        this.speakerIds = speakerIds;
+        this.speakers = speakers;
+        this.maxEnds = new long[ends.length];
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < ends.length; i++) {
+            max = Math.max(max, ends[i]);
+            maxEnds[i] = max;
+        }
+    }
+
+    public static SpeakerTimeline from(List<DiarizationResponse.Segment> segments) {
+        int n = segments.size();
+        long[] rawStarts = new long[n];
+        long[] rawEnds = new long[n];
+        int[] rawIds = new int[n];
+        List<String> speakers = new ArrayList<>();
+        Map<String, Integer> ids = new HashMap<>();
+        speakers.add(UNKNOWN);
+        ids.put(UNKNOWN, UNKNOWN_ID);
+        int i = 0;
+        for (DiarizationResponse.Segment s : segments) {
+            rawStarts[i] = s.start();
+            rawEnds[i] = s.end();
+            rawIds[i] = ids.computeIfAbsent(s.speaker(), k -> {
+                speakers.add(k);
+                return speakers.size() - 1;
+            });
+            i++;
+        }
+
+        int[] order = TimelineOrder.stableOrder(rawStarts);
+        if (order == null) {
+            return new SpeakerTimeline(rawStarts, rawEnds, rawIds, speakers);
+        }
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        int[] speakerIds = new int[n];
+        for (int k = 0; k < n; k++) {
+            starts[k] = rawStarts[order[k]];
+            ends[k] = rawEnds[order[k]];
+            speakerIds[k] = rawIds[order[k]];
+        }
+        return new SpeakerTimeline(starts, ends, speakerIds, speakers);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    public long start(int index) {
+        return starts[index];
+    }
+
+    public long end(int index) {
+        return ends[index];
+    }
+
+    /**
+     * 0..index 구간 중 가장 늦은 종료 시각.
+     */
+    public long maxEnd(int index) {
+        return maxEnds[index];
+    }
+
+    /**
+     * 종료 시각이 time보다 늦은 구간이 처음 나올 수 있는 번호(maxEnds 이분 탐색). 그 앞 구간은 모두 time 이전에 끝났다.
+     */
+    public int firstEndingAfter(long time) {
+        int low = 0;
+        int high = maxEnds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (maxEnds[mid] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int speakerId(int index) {
+        return speakerIds[index];
+    }
+
+    /**
+     * 화자 번호의 레이블. 입력 레이블이 null이었으면 null.
+     */
+    public String speaker(int speakerId) {
+        return speakers.get(speakerId);
+    }
+
+    public int speakerCount() {
+        return speakers.size();
+    }
+}
@@ -3,19 +3,41 @@ package com.adas.domain.speech;
 import com.adas.infrastructure.external.dto.DiarizationResponse;
 import com.adas.infrastructure.external.dto.SttResponse;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import org.springframework.stereotype.Service;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * STT 단어 배열과 Diarization 세그먼트를 겹침 기준으로 라벨링하고 연속된 동일 화자 단어들을 하나의 턴으로 묶는 도메인 서비스.
+ * 병렬 풀을 받으면 parallelThresholdWords 이상인 입력을 말소리가 없는 구간에서 나눠 풀에서 병합한 뒤 이어 붙인다(결과는 순차 병합과 같다).
  */
-@Service
 public class SpeechMergeService {
 
+    private final ForkJoinPool pool;
+    private final int parallelThresholdWords;
+    private final int minPartitionWords;
+
+    /**
+     * 항상 호출 스레드에서 순차 병합한다.
+     */
+    public SpeechMergeService() {
+        this(null, 0, 0);
+    }
+
+    /**
+     * @param pool                   분할 병합을 실행할 풀(null이면 순차 병합만 한다)
+     * @param parallelThresholdWords 분할 병합을 시작하는 단어 수(0 이하면 끄기)
+     * @param minPartitionWords      분할 하나의 최소 단어 수
+     */
+    public SpeechMergeService(ForkJoinPool pool, int parallelThresholdWords, int minPartitionWords) {
+        this.pool = pool;
+        this.parallelThresholdWords = parallelThresholdWords;
+        this.minPartitionWords = Math.max(1, minPartitionWords);
+    }
+
     /**
-     * STT 단어 단위 결과와 Diarization 구간을 겹침 기준으로 매칭해 화자 턴을 생성한다. 
-     * 1) 각 단어를 최대로 겹치는 화자 세그먼트에 라벨링 
+     * STT 단어 단위 결과와 Diarization 구간을 겹침 기준으로 매칭해 화자 턴을 생성한다.
+     * 1) 각 단어를 최대로 겹치는 화자 세그먼트에 라벨링
      * 2) 동일 화자 레이블이 연속되는 단어들을 하나의 턴으로 병합
      */
     public List<Turn> merge(SttResponse stt, DiarizationResponse diar) {
@@ -23,48 +45,160 @@ public class SpeechMergeService {
             || diar == null || diar.segments() == null || diar.segments().isEmpty()) {
             return List.of();
         }
+        return mergeTimelines(WordTimeline.from(stt.words()), SpeakerTimeline.from(diar.segments()));
+    }
 
-        List<SttResponse.Word> words = new ArrayList<>(stt.words());
-        List<DiarizationResponse.Segment> segs = new ArrayList<>(diar.segments());
-        words.sort(Comparator.comparingLong(SttResponse.Word::start));
-        segs.sort(Comparator.comparingLong(DiarizationResponse.Segment::start));
-
-        // Assign best-overlap speaker to each word.
-        List<LabeledWord> labeled = new ArrayList<>();
-        for (SttResponse.Word w : words) {
-            DiarizationResponse.Segment best = bestOverlap(w, segs);
-            String speaker = best != null ? best.speaker() : "UNKNOWN";
-            labeled.add(new LabeledWord(w, speaker));
+    /**
+     * 열 저장소 위에서 병합한다. 단어마다 객체를 만들지 않고, 턴 텍스트는 턴마다 한 번 StringBuilder에서 만든다.
+     * 단어와 구간이 모두 시작 시각 순이므로 화자 매칭은 스윕 라인으로 O(W + S)에 끝난다(구간이 서로 크게 포개지지 않는 한).
+     */
+    public List<Turn> mergeTimelines(WordTimeline words, SpeakerTimeline speakers) {
+        if (words.size() == 0 || speakers.size() == 0) {
+            return new ArrayList<>();
         }
+        if (pool != null && parallelThresholdWords > 0 && words.size() >= parallelThresholdWords) {
+            int[] bounds = partitionAtSilence(words);
+            if (bounds.length > 2) {
+                return mergeParallel(words, speakers, bounds);
+            }
+        }
+        return mergeRange(words, speakers, 0, words.size()).turns;
+    }
 
-        // Group contiguous words with same speaker into turns.
+    /**
+     * 분할 경계(첫 값 0, 마지막 값 size). 앞 단어가 모두 끝난 뒤 시작하는 단어(말소리 없는 틈)에서만 자르고, 분할은 minPartitionWords 이상,
+     * 풀 병렬도의 4배 개수 정도로 맞춘다.
+     */
+    int[] partitionAtSilence(WordTimeline words) {
+        int n = words.size();
+        int target = Math.max(minPartitionWords, n / (pool.getParallelism() * 4));
+        List<Integer> cuts = new ArrayList<>();
+        cuts.add(0);
+        long maxEnd = words.end(0);
+        int next = target;
+        for (int i = 1; i < n; i++) {
+            if (i >= next && n - i >= minPartitionWords && words.start(i) >= maxEnd) {
+                cuts.add(i);
+                next = i + target;
+            }
+            maxEnd = Math.max(maxEnd, words.end(i));
+        }
+        cuts.add(n);
+        return cuts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private List<Turn> mergeParallel(WordTimeline words, SpeakerTimeline speakers, int[] bounds) {
+        List<ForkJoinTask<Partial>> tasks = new ArrayList<>(bounds.length - 1);
+        for (int p = 0; p + 1 < bounds.length; p++) {
+            int from = bounds[p];
+            int to = bounds[p + 1];
+            tasks.add(pool.submit(() -> mergeRange(words, speakers, from, to)));
+        }
         List<Turn> turns = new ArrayList<>();
-        Turn current = null;
-        for (LabeledWord lw : labeled) {
-            if (current == null || !current.isSameSpeaker(lw.speaker)) {
-                if (current != null) {
-                    turns.add(current);
+        try {
+            for (ForkJoinTask<Partial> task : tasks) {
+                stitch(turns, task.join());
+            }
+        } catch (IllegalArgumentException e) {
+            // 검증 실패는 순차 병합으로 다시 돌려 순차와 같은 단어에서 같은 예외를 던진다
+            tasks.forEach(t -> t.cancel(false));
+            return mergeRange(words, speakers, 0, words.size()).turns;
+        }
+        return turns;
+    }
+
+    /**
+     * 분할 결과를 이어 붙인다. 분할 첫머리가 앞 분할 마지막 턴의 화자를 이어가면 그 단어들(prefix)을 마지막 턴에 합친다.
+     */
+    private static void stitch(List<Turn> turns, Partial partial) {
+        if (partial.continues) {
+            Turn last = turns.get(turns.size() - 1);
+            Turn.validateTimeRange(last.getStart(), partial.prefixMinEnd);
+            String text = last.getText();
+            if (partial.prefixText != null) {
+                text = text == null ? partial.prefixText : text + " " + partial.prefixText;
+            }
+            turns.set(turns.size() - 1, Turn.merged(last.getSpeaker(), last.getStart(), partial.prefixEnd, text));
+        }
+        turns.addAll(partial.turns);
+    }
+
+    /**
+     * words[from, to)를 병합한다. from > 0이면 words[from - 1]의 화자를 이어가는 첫머리 단어들은 턴으로 만들지 않고 prefix로 돌려준다.
+     */
+    private static Partial mergeRange(WordTimeline words, SpeakerTimeline speakers, int from, int to) {
+        Partial partial = new Partial();
+        StringBuilder text = new StringBuilder();
+        int runSpeaker = -1;
+        long runStart = 0;
+        long runEnd = 0;
+        boolean hasText = false;
+        boolean inPrefix = false;
+        long prefixMinEnd = Long.MAX_VALUE;
+        if (from > 0) {
+            long previousStart = words.start(from - 1);
+            runSpeaker = bestOverlap(previousStart, words.end(from - 1), speakers, speakers.firstEndingAfter(previousStart));
+            inPrefix = true;
+        }
+        int first = speakers.firstEndingAfter(words.start(from)); // 이보다 앞 구간은 모두 현재 단어 시작 전에 끝났다
+        for (int i = from; i < to; i++) {
+            long wordStart = words.start(i);
+            long wordEnd = words.end(i);
+            while (first < speakers.size() && speakers.maxEnd(first) <= wordStart) {
+                first++;
+            }
+            int speaker = bestOverlap(wordStart, wordEnd, speakers, first);
+            if (speaker != runSpeaker) {
+                if (inPrefix) {
+                    partial.endPrefix(i > from, runEnd, prefixMinEnd, hasText ? text.toString() : null);
+                    inPrefix = false;
+                } else if (runSpeaker >= 0) {
+                    partial.turns.add(Turn.merged(speakers.speaker(runSpeaker), runStart, runEnd, hasText ? text.toString() : null));
                 }
-                current = Turn.startSpeaking(lw.speaker, lw.word.start(), lw.word.end(), lw.word.text());
+                Turn.validateTimeRange(wordStart, wordEnd);
+                Turn.validateSpeaker(speakers.speaker(speaker));
+                runSpeaker = speaker;
+                runStart = wordStart;
+                runEnd = wordEnd;
+                text.setLength(0);
+                hasText = !words.isNullText(i);
+                words.appendText(i, text);
             } else {
-                current.extendSpeech(lw.word.end(), lw.word.text());
+                if (inPrefix) {
+                    prefixMinEnd = Math.min(prefixMinEnd, wordEnd); // 턴 시작을 알게 되는 stitch에서 검증한다
+                } else {
+                    Turn.validateTimeRange(runStart, wordEnd);
+                }
+                runEnd = wordEnd;
+                if (!words.isBlankText(i)) {
+                    if (hasText) {
+                        text.append(' ');
+                    }
+                    words.appendText(i, text);
+                    hasText = true;
+                }
             }
         }
-        if (current != null) {
-            turns.add(current);
+        if (inPrefix) {
+            partial.endPrefix(true, runEnd, prefixMinEnd, hasText ? text.toString() : null);
+        } else {
+            partial.turns.add(Turn.merged(speakers.speaker(runSpeaker), runStart, runEnd, hasText ? text.toString() : null));
         }
-        return turns;
+        return partial;
     }
 
-    private static DiarizationResponse.Segment bestOverlap(SttResponse.Word w,
-        List<DiarizationResponse.Segment> segments) {
+    /**
+     * 단어와 가장 많이 겹치는 구간의 화자 번호. 겹치는 구간이 없으면 UNKNOWN, 겹침이 같으면 앞 구간.
+     * first 앞의 구간은 단어 시작 전에 끝났고, 단어 끝 이후에 시작하는 구간도 겹치지 않으므로 그 사이만 본다.
+     */
+    private static int bestOverlap(long wordStart, long wordEnd, SpeakerTimeline speakers, int first) {
         long best = 0; // 겹치는 구간이 있어야만 선택
-        DiarizationResponse.Segment chosen = null;
-        for (DiarizationResponse.Segment s : segments) {
-            long overlap = overlap(w.start(), w.end(), s.start(), s.end());
+        int chosen = SpeakerTimeline.UNKNOWN_ID;
+        for (int s = first; s < speakers.size() && speakers.start(s) < wordEnd; s++) {
+            long overlap = overlap(wordStart, wordEnd, speakers.start(s), speakers.end(s));
             if (overlap > best) {
                 best = overlap;
-                chosen = s;
+                chosen = speakers.speakerId(s);
             }
         }
         return chosen;
@@ -76,7 +210,22 @@ public class SpeechMergeService {
         return end - start; // can be negative if no overlap
     }
 
-    private record LabeledWord(SttResponse.Word word, String speaker) {
+    /**
+     * 한 분할의 병합 결과. continues면 첫머리 단어들(prefix)이 앞 분할 마지막 턴에 이어진다.
+     */
+    private static final class Partial {
 
+        private final List<Turn> turns = new ArrayList<>();
+        private boolean continues;
+        private long prefixEnd;
+        private long prefixMinEnd;
+        private String prefixText;
+
+        void endPrefix(boolean continues, long end, long minEnd, String text) {
+            this.continues = continues;
+            this.prefixEnd = end;
+            this.prefixMinEnd = minEnd;
+            this.prefixText = text;
+        }
     }
-}
\ No newline at end of file
+}
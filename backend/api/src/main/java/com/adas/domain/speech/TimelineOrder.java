@@ -0,0 +1,52 @@
+package com.adas.domain.speech;
+
+/**
+ * 열 저장소 정렬용 도우미. 키 배열을 건드리지 않고 안정 정렬 순서(원래 번호 배열)를 계산한다.
+ */
+final class TimelineOrder {
+
+    private TimelineOrder() {
+    }
+
+    /**
+     * keys를 오름차순(같으면 원래 순서)으로 읽는 번호 배열. 이미 정렬돼 있으면 null.
+     */
+    static int[] stableOrder(long[] keys) {
+        int n = keys.length;
+        boolean sorted = true;
+        for (int i = 1; i < n && sorted; i++) {
+            sorted = keys[i - 1] <= keys[i];
+        }
+        if (sorted) {
+            return null;
+        }
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        mergeSort(keys, order, new int[n], 0, n);
+        return order;
+    }
+
+    private static void mergeSort(long[] keys, int[] order, int[] tmp, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(keys, order, tmp, from, mid);
+        mergeSort(keys, order, tmp, mid, to);
+        if (keys[order[mid - 1]] <= keys[order[mid]]) {
+            return;
+        }
+        System.arraycopy(order, from, tmp, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int k = from; k < to; k++) {
+            if (right >= to || (left < mid && keys[tmp[left]] <= keys[tmp[right]])) {
+                order[k] = tmp[left++];
+            } else {
+                order[k] = tmp[right++];
+            }
+        }
+    }
+}
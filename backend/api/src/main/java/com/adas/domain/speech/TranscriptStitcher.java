@@ -0,0 +1,117 @@
+package com.adas.domain.speech;
+
+import com.adas.infrastructure.external.dto.SttResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * 구간별 STT 결과를 원본 시간축으로 이어 붙이는 도메인 서비스.
+ * 1) 각 구간 단어의 타임스탬프를 구간 시작 위치만큼 이동
+ * 2) 인접 구간이 겹치는 영역은 겹침 중앙을 경계로 앞 구간은 경계 이전, 뒤 구간은 경계 이후 단어만 채택
+ * 3) 경계에 걸쳐 양쪽에서 같은 단어가 남으면 한 번만 유지
+ */
+@Service
+public class TranscriptStitcher {
+
+    public SttResponse stitch(List<ChunkTranscript> chunks) {
+        if (chunks == null || chunks.isEmpty()) {
+            return null;
+        }
+
+        Session session = session(chunks);
+        String lang = null;
+        List<SttResponse.Word> words = new ArrayList<>();
+        for (ChunkTranscript chunk : chunks) {
+            Part part = session.next(chunk.stt());
+            if (lang == null) {
+                lang = part.lang();
+            }
+            words.addAll(part.words());
+        }
+        return new SttResponse(lang, words);
+    }
+
+    /**
+     * 구간 결과를 구간 순서대로 하나씩 받아 이어 붙이는 세션. 채택 범위는 구간 배치(layout의 위치/길이)만으로 정하므로 뒤 구간의 결과를
+     * 기다리지 않고 도착한 구간부터 내보낼 수 있다. layout의 stt는 보지 않는다.
+     */
+    public Session session(List<ChunkTranscript> layout) {
+        return new Session(List.copyOf(layout));
+    }
+
+    /**
+     * 두 구간 겹침 영역의 중앙. 겹치지 않으면 뒤 구간의 시작 위치.
+     */
+    private static long seam(ChunkTranscript left, ChunkTranscript right) {
+        long overlapEnd = Math.max(right.offsetMs(), left.offsetMs() + left.durationMs());
+        return (right.offsetMs() + overlapEnd) / 2;
+    }
+
+    private static boolean isDuplicate(SttResponse.Word last, SttResponse.Word next) {
+        return next.start() < last.end()
+            && last.text() != null
+            && last.text().equalsIgnoreCase(next.text());
+    }
+
+    /**
+     * 구간 결과를 원본 시간축으로 옮겨 채택 범위의 단어만 남긴다(스레드 안전하지 않음).
+     */
+    public static final class Session {
+
+        private final List<ChunkTranscript> layout;
+        private int index;
+        private SttResponse.Word last;
+
+        private Session(List<ChunkTranscript> layout) {
+            this.layout = layout;
+        }
+
+        /**
+         * 다음 구간의 STT 결과(없으면 null)를 이어 붙인다. 모든 구간을 받은 뒤 호출하면 IllegalStateException.
+         */
+        public Part next(SttResponse stt) {
+            if (index >= layout.size()) {
+                throw new IllegalStateException("All " + layout.size() + " chunks already stitched");
+            }
+            int i = index++;
+            ChunkTranscript chunk = layout.get(i);
+            long from = i == 0 ? Long.MIN_VALUE : seam(layout.get(i - 1), chunk);
+            long to = i == layout.size() - 1 ? Long.MAX_VALUE : seam(chunk, layout.get(i + 1));
+            if (stt == null || stt.words() == null) {
+                return new Part(from, to, null, List.of());
+            }
+
+            List<SttResponse.Word> words = new ArrayList<>();
+            for (SttResponse.Word w : stt.words()) {
+                SttResponse.Word shifted = new SttResponse.Word(
+                    w.start() + chunk.offsetMs(), w.end() + chunk.offsetMs(), w.text(), w.confidence());
+                long mid = (shifted.start() + shifted.end()) / 2;
+                if (mid < from || mid >= to) {
+                    continue;
+                }
+                if (last != null && isDuplicate(last, shifted)) {
+                    continue;
+                }
+                words.add(shifted);
+                last = shifted;
+            }
+            return new Part(from, to, stt.lang(), words);
+        }
+    }
+
+    /**
+     * 구간 하나를 이어 붙인 결과 (불변 record). 단어 중간 시각이 [fromMs, toMs)인 단어만 채택하며, 첫 구간의 fromMs는 Long.MIN_VALUE,
+     * 마지막 구간의 toMs는 Long.MAX_VALUE다.
+     */
+    public record Part(long fromMs, long toMs, String lang, List<SttResponse.Word> words) {
+
+    }
+
+    /**
+     * 원본 기준 위치(offsetMs)와 길이를 가진 구간 STT 결과 (불변 record).
+     */
+    public record ChunkTranscript(long offsetMs, long durationMs, SttResponse stt) {
+
+    }
+}
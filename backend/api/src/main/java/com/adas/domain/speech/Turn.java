@@ -1,5 +1,6 @@
 package com.adas.domain.speech;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
@@ -11,7 +12,11 @@ public class Turn {
     private final String speaker;
     private long start;
     private long end;
+    @Getter(AccessLevel.NONE)
     private String text;
+    // extendSpeech로 이어 붙이는 중인 텍스트. null이 아니면 text보다 우선하고, text는 getText가 채우는 캐시다.
+    @Getter(AccessLevel.NONE)
+    private StringBuilder textBuilder;
 
     private Turn(String speaker, long start, long end, String text) {
         this.speaker = speaker;
@@ -27,13 +32,34 @@ public class Turn {
         return new Turn(speaker, startMs, endMs, initialText);
     }
 
+    /**
+     * 이미 검증한 단어 구간으로 완성된 턴을 만든다(SpeechMergeService 열 병합용).
+     */
+    static Turn merged(String speaker, long startMs, long endMs, String text) {
+        return new Turn(speaker, startMs, endMs, text);
+    }
+
     public void extendSpeech(long newEndMs, String additionalText) {
         validateTimeRange(this.start, newEndMs);
         
         this.end = newEndMs;
         if (additionalText != null && !additionalText.trim().isEmpty()) {
-            this.text = this.text == null ? additionalText : this.text + " " + additionalText;
+            if (this.textBuilder == null) {
+                this.textBuilder = this.text == null
+                    ? new StringBuilder(additionalText)
+                    : new StringBuilder(this.text).append(' ').append(additionalText);
+            } else {
+                this.textBuilder.append(' ').append(additionalText);
+            }
+            this.text = null;
+        }
+    }
+
+    public String getText() {
+        if (this.textBuilder != null && this.text == null) {
+            this.text = this.textBuilder.toString();
         }
+        return this.text;
     }
 
     public boolean isSameSpeaker(String speakerLabel) {
@@ -44,7 +70,7 @@ public class Turn {
         return this.end - this.start;
     }
 
-    private static void validateTimeRange(long startMs, long endMs) {
+    static void validateTimeRange(long startMs, long endMs) {
         if (startMs < 0 || endMs < 0) {
             throw new IllegalArgumentException("Times cannot be negative");
         }
@@ -53,7 +79,7 @@ public class Turn {
         }
     }
 
-    private static void validateSpeaker(String speaker) {
+    static void validateSpeaker(String speaker) {
         if (speaker == null || speaker.trim().isEmpty()) {
             throw new IllegalArgumentException("Speaker cannot be null or empty");
         }
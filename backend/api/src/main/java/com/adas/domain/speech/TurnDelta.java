@@ -0,0 +1,31 @@
+package com.adas.domain.speech;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 턴 목록 변경분 (불변 record). 각 턴은 key(저장된 행 id)로 구분하며, updated는 같은 key의 새 내용, removed는 사라진 key다. inserted는
+ * 아직 행이 없으므로 음수 임시 key를 가진다.
+ */
+public record TurnDelta(List<KeyedTurn> inserted, List<KeyedTurn> updated, List<Long> removed) {
+
+    public static TurnDelta empty() {
+        return new TurnDelta(List.of(), List.of(), List.of());
+    }
+
+    static boolean sameContent(Turn a, Turn b) {
+        return a.getStart() == b.getStart() && a.getEnd() == b.getEnd()
+            && Objects.equals(a.getSpeaker(), b.getSpeaker()) && Objects.equals(a.getText(), b.getText());
+    }
+
+    public boolean isEmpty() {
+        return inserted.isEmpty() && updated.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * key가 붙은 턴 (불변 record).
+     */
+    public record KeyedTurn(long key, Turn turn) {
+
+    }
+}
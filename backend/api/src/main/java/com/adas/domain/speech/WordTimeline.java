@@ -0,0 +1,116 @@
+package com.adas.domain.speech;
+
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.external.dto.WordBuffer;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 병합용 단어 열 저장소. 시작 시각 순(같으면 입력 순)으로 정렬된 시작/종료(ms) 배열과, 모든 단어 텍스트를 이어 붙인 char 버퍼의
+ * 구간(textOffsets[i] ~ textOffsets[i+1])을 보관한다. 텍스트가 null인 단어는 빈 구간 + nullTexts로 구분한다.
+ */
+public final class WordTimeline {
+
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] textOffsets;
+    private final char[] chars;
+    private final BitSet nullTexts;
+
+    private WordTimeline(long[] starts, long[] ends, int[] textOffsets, char[] chars, BitSet nullTexts) {
+        this.starts = starts;
+        this.ends = ends;
+        this.textOffsets = textOffsets;
+        this.chars = chars;
+        this.nullTexts = nullTexts;
+    }
+
+    /**
+     * STT 단어 목록으로 만든다. WordBuffer면 Word 객체를 만들지 않고 열을 바로 읽는다.
+     */
+    public static WordTimeline from(List<SttResponse.Word> words) {
+        int n = words.size();
+        long[] rawStarts = new long[n];
+        long[] rawEnds = new long[n];
+        String[] texts = new String[n];
+        if (words instanceof WordBuffer buffer) {
+            for (int i = 0; i < n; i++) {
+                rawStarts[i] = buffer.start(i);
+                rawEnds[i] = buffer.end(i);
+                texts[i] = buffer.text(i);
+            }
+        } else {
+            int i = 0;
+            for (SttResponse.Word w : words) {
+                rawStarts[i] = w.start();
+                rawEnds[i] = w.end();
+                texts[i] = w.text();
+                i++;
+            }
+        }
+
+        int[] order = TimelineOrder.stableOrder(rawStarts);
+        long[] starts = order == null ? rawStarts : new long[n];
+        long[] ends = order == null ? rawEnds : new long[n];
+        int[] textOffsets = new int[n + 1];
+        BitSet nullTexts = new BitSet();
+        int total = 0;
+        for (String text : texts) {
+            total += text != null ? text.length() : 0;
+        }
+        char[] chars = new char[total];
+        int offset = 0;
+        for (int i = 0; i < n; i++) {
+            int src = order == null ? i : order[i];
+            if (order != null) {
+                starts[i] = rawStarts[src];
+                ends[i] = rawEnds[src];
+            }
+            String text = texts[src];
+            textOffsets[i] = offset;
+            if (text == null) {
+                nullTexts.set(i);
+            } else {
+                text.getChars(0, text.length(), chars, offset);
+                offset += text.length();
+            }
+        }
+        textOffsets[n] = offset;
+        return new WordTimeline(starts, ends, textOffsets, chars, nullTexts);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    public long start(int index) {
+        return starts[index];
+    }
+
+    public long end(int index) {
+        return ends[index];
+    }
+
+    public boolean isNullText(int index) {
+        return nullTexts.get(index);
+    }
+
+    /**
+     * 텍스트가 비었거나 공백(String.trim 기준)뿐이면 true. null이면 true.
+     */
+    public boolean isBlankText(int index) {
+        for (int i = textOffsets[index]; i < textOffsets[index + 1]; i++) {
+            if (chars[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 단어 텍스트를 sb에 덧붙인다(null이면 아무것도 하지 않는다).
+     */
+    public void appendText(int index, StringBuilder sb) {
+        sb.append(chars, textOffsets[index], textOffsets[index + 1] - textOffsets[index]);
+    }
+}
@@ -2,10 +2,29 @@ package com.adas.domain.transcript;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TranscriptSegmentRepository extends JpaRepository<TranscriptSegment, Long> {
     
     List<TranscriptSegment> findByRecordingIdOrderByStartMsAsc(Long recordingId);
+
+    /**
+     * 재처리 시 이전 결과를 지운다.
+     */
+    @Modifying
+    @Query("DELETE FROM TranscriptSegment t WHERE t.recording.id = :recordingId")
+    int deleteByRecordingId(@Param("recordingId") Long recordingId);
+
+    /**
+     * 재처리 시 다시 전사한 구간의 이전 결과만 지운다(단어 중앙 시각 [fromMs, toMs), 범위는 0 이상 Long.MAX_VALUE / 2 이하).
+     */
+    @Modifying
+    @Query("DELETE FROM TranscriptSegment t WHERE t.recording.id = :recordingId "
+        + "AND t.startMs + t.endMs >= 2 * :fromMs AND t.startMs + t.endMs < 2 * :toMs")
+    int deleteByRecordingIdAndMidpointRange(@Param("recordingId") Long recordingId, @Param("fromMs") long fromMs,
+                                         @Param("toMs") long toMs);
 }
\ No newline at end of file
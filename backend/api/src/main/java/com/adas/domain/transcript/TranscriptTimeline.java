@@ -0,0 +1,130 @@
+package com.adas.domain.transcript;
+
+import com.adas.domain.recording.Recording;
+import com.adas.infrastructure.external.dto.SttResponse;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 녹음 하나의 단어 전사 전체를 한 행의 압축 바이너리(TranscriptTimelineCodec)로 저장하는 엔티티. 단어마다 transcripts 행을 두는 대신 쓴다.
+ * 언어/제공자는 녹음 단위로 한 번만 두고, 신뢰도는 0.0001 단위로 저장한다. 단어 목록은 처음 읽을 때 한 번 푼다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "transcript_timelines")
+public class TranscriptTimeline {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "recording_id", unique = true)
+    private Recording recording;
+
+    @Column(length = 10)
+    private String language;
+
+    @Column(length = 50)
+    private String provider;
+
+    @Column(name = "word_count", nullable = false)
+    private Integer wordCount;
+
+    @Getter(AccessLevel.NONE)
+    @Lob
+    @Column(nullable = false, length = 1 << 30)
+    private byte[] payload;
+
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private List<SttResponse.Word> words;
+
+    /**
+     * 단어를 검증(TranscriptSegment와 같은 규칙)하고 시작 시각 순으로 인코딩한다.
+     */
+    public static TranscriptTimeline encode(Recording recording, String language, String provider,
+                                            List<SttResponse.Word> words) {
+        validateProvider(provider);
+        for (SttResponse.Word w : words) {
+            validateTimeRange(w.start(), w.end());
+            validateConfidence(w.confidence());
+        }
+
+        TranscriptTimeline timeline = new TranscriptTimeline();
+        timeline.recording = recording;
+        timeline.language = language;
+        timeline.provider = provider;
+        timeline.wordCount = words.size();
+        timeline.payload = TranscriptTimelineCodec.encode(words);
+        return timeline;
+    }
+
+    /**
+     * 같은 내용을 다른 녹음에 붙인다(다시 인코딩하지 않는다).
+     */
+    public TranscriptTimeline copyTo(Recording target) {
+        TranscriptTimeline copy = new TranscriptTimeline();
+        copy.recording = target;
+        copy.language = language;
+        copy.provider = provider;
+        copy.wordCount = wordCount;
+        copy.payload = payload;
+        return copy;
+    }
+
+    /**
+     * 시작 시각 순 단어(읽기 전용). 처음 호출할 때 푼다.
+     */
+    public List<SttResponse.Word> words() {
+        if (words == null) {
+            words = TranscriptTimelineCodec.decode(payload);
+        }
+        return words;
+    }
+
+    public int sizeBytes() {
+        return payload.length;
+    }
+
+    private static void validateTimeRange(Long startMs, Long endMs) {
+        if (startMs == null || endMs == null) {
+            throw new IllegalArgumentException("Start and end times cannot be null");
+        }
+        if (startMs < 0 || endMs < 0) {
+            throw new IllegalArgumentException("Times cannot be negative");
+        }
+        if (startMs >= endMs) {
+            throw new IllegalArgumentException("Start time must be before end time");
+        }
+    }
+
+    private static void validateConfidence(Double confidence) {
+        if (confidence != null && (confidence < 0.0 || confidence > 1.0)) {
+            throw new IllegalArgumentException("Confidence must be between 0.0 and 1.0");
+        }
+    }
+
+    private static void validateProvider(String provider) {
+        if (provider == null || provider.trim().isEmpty()) {
+            throw new IllegalArgumentException("Provider cannot be null or empty");
+        }
+        if (provider.length() > 50) {
+            throw new IllegalArgumentException("Provider name cannot exceed 50 characters");
+        }
+    }
+}
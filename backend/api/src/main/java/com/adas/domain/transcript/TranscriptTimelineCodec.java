@@ -0,0 +1,220 @@
+package com.adas.domain.transcript;
+
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.external.dto.WordBuffer;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 녹음 하나의 단어 전사를 열 단위 바이너리로 인코딩한다.
+ * 헤더(압축하지 않음): 매직 "AWTL", 버전(1바이트), 단어 수(int), 본문 원래 길이(int).
+ * 본문(Deflate): 시작 시각 순으로 시작 델타, 길이(종료 - 시작), 신뢰도(0.0001 단위 uint16, 없으면 0xFFFF), 텍스트 UTF-8 길이 + 1(없으면 0),
+ * 텍스트 UTF-8을 열마다 이어 쓴다. 정수는 zigzag varint. 압축은 BEST_SPEED(기본 수준보다 몇 % 크지만 몇 배 빠르다).
+ */
+final class TranscriptTimelineCodec {
+
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 13;
+    private static final byte[] MAGIC = {'A', 'W', 'T', 'L'};
+    private static final int CONFIDENCE_SCALE = 10_000;
+    private static final int NO_CONFIDENCE = 0xFFFF;
+
+    private TranscriptTimelineCodec() {
+    }
+
+    static byte[] encode(List<SttResponse.Word> words) {
+        List<SttResponse.Word> sorted = new ArrayList<>(words);
+        sorted.sort(Comparator.comparingLong(SttResponse.Word::start));
+        ByteArrayOutputStream body = new ByteArrayOutputStream(sorted.size() * 8);
+        long previous = 0;
+        for (SttResponse.Word w : sorted) {
+            writeVarLong(body, w.start() - previous);
+            previous = w.start();
+        }
+        for (SttResponse.Word w : sorted) {
+            writeVarLong(body, w.end() - w.start());
+        }
+        for (SttResponse.Word w : sorted) {
+            int q = w.confidence() == null ? NO_CONFIDENCE : (int) Math.round(w.confidence() * CONFIDENCE_SCALE);
+            body.write(q >>> 8);
+            body.write(q);
+        }
+        List<byte[]> texts = new ArrayList<>(sorted.size());
+        for (SttResponse.Word w : sorted) {
+            byte[] utf8 = w.text() == null ? null : w.text().getBytes(StandardCharsets.UTF_8);
+            texts.add(utf8);
+            writeVarLong(body, utf8 == null ? 0 : utf8.length + 1L);
+        }
+        for (byte[] utf8 : texts) {
+            if (utf8 != null) {
+                body.write(utf8, 0, utf8.length);
+            }
+        }
+        byte[] raw = body.toByteArray();
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_BYTES + raw.length / 3);
+            out.write(MAGIC, 0, MAGIC.length);
+            out.write(VERSION);
+            writeInt(out, sorted.size());
+            writeInt(out, raw.length);
+            byte[] chunk = new byte[8_192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 헤더의 단어 수(본문을 풀지 않는다).
+     */
+    static int wordCount(byte[] data) {
+        checkHeader(data);
+        return ByteBuffer.wrap(data, 5, 4).getInt();
+    }
+
+    static WordBuffer decode(byte[] data) {
+        int count = wordCount(data);
+        int rawLength = ByteBuffer.wrap(data, 9, 4).getInt();
+        if (count < 0 || rawLength < 0 || count > rawLength) {
+            throw new IllegalStateException("Corrupted transcript timeline");
+        }
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, HEADER_BYTES, data.length - HEADER_BYTES);
+            int read = 0;
+            byte[] spare = new byte[1]; // 본문을 다 채운 뒤에도 스트림 끝까지 읽어 길이가 맞는지 확인한다
+            while (!inflater.finished()) {
+                int n = read < rawLength ? inflater.inflate(raw, read, rawLength - read) : inflater.inflate(spare);
+                boolean stuck = n == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary());
+                if (stuck || (n > 0 && read == rawLength)) {
+                    throw new IllegalStateException("Corrupted transcript timeline");
+                }
+                read += n;
+            }
+            if (read != rawLength) {
+                throw new IllegalStateException("Corrupted transcript timeline");
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted transcript timeline", e);
+        } finally {
+            inflater.end();
+        }
+
+        Reader in = new Reader(raw);
+        long[] starts = new long[count];
+        long start = 0;
+        for (int i = 0; i < count; i++) {
+            start += in.varLong();
+            starts[i] = start;
+        }
+        long[] ends = new long[count];
+        for (int i = 0; i < count; i++) {
+            ends[i] = starts[i] + in.varLong();
+        }
+        float[] confidences = new float[count];
+        for (int i = 0; i < count; i++) {
+            int q = in.u16();
+            confidences[i] = q == NO_CONFIDENCE ? Float.NaN : (float) q / CONFIDENCE_SCALE;
+        }
+        int[] lengths = new int[count];
+        for (int i = 0; i < count; i++) {
+            lengths[i] = (int) in.varLong();
+        }
+        WordBuffer.Builder words = WordBuffer.builder(count);
+        for (int i = 0; i < count; i++) {
+            String text = lengths[i] == 0 ? null : in.utf8(lengths[i] - 1);
+            words.add(starts[i], ends[i], text, confidences[i]);
+        }
+        if (in.position != raw.length) {
+            throw new IllegalStateException("Corrupted transcript timeline");
+        }
+        return words.build();
+    }
+
+    private static void checkHeader(byte[] data) {
+        if (data == null || data.length < HEADER_BYTES
+            || data[0] != MAGIC[0] || data[1] != MAGIC[1] || data[2] != MAGIC[2] || data[3] != MAGIC[3]) {
+            throw new IllegalStateException("Not a transcript timeline");
+        }
+        if (data[4] != VERSION) {
+            throw new IllegalStateException("Unsupported transcript timeline version: " + data[4]);
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long varLong() {
+            long zigzag = 0;
+            for (int shift = 0; ; shift += 7) {
+                if (shift > 63) {
+                    throw new IllegalStateException("Corrupted transcript timeline");
+                }
+                byte b = next();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        int u16() {
+            return (next() & 0xFF) << 8 | (next() & 0xFF);
+        }
+
+        String utf8(int length) {
+            if (length < 0 || length > bytes.length - position) {
+                throw new IllegalStateException("Corrupted transcript timeline");
+            }
+            String text = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return text;
+        }
+
+        private byte next() {
+            if (position >= bytes.length) {
+                throw new IllegalStateException("Corrupted transcript timeline");
+            }
+            return bytes[position++];
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.adas.domain.transcript;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TranscriptTimelineRepository extends JpaRepository<TranscriptTimeline, Long> {
+
+    Optional<TranscriptTimeline> findByRecordingId(Long recordingId);
+
+    /**
+     * 재처리 시 이전 결과를 지운다.
+     */
+    @Modifying
+    @Query("DELETE FROM TranscriptTimeline t WHERE t.recording.id = :recordingId")
+    int deleteByRecordingId(@Param("recordingId") Long recordingId);
+}
@@ -0,0 +1,307 @@
+package com.adas.infrastructure.external;
+
+import com.adas.common.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.core.io.Resource;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * 외부 서비스로 동시에 보내는 요청 수를 응답 지연에 맞춰 조절하는 필터. 한도를 넘는 요청은 max-queued개까지 대기열에서 max-queue-wait-ms 동안
+ * 기다리고, 넘치거나 시간이 지나면 UpstreamUnavailableException(503)으로 거절한다.
+ * 응답 지연은 업로드 크기 1MiB당 지연(PAYLOAD_BYTES 속성, 1MiB 미만은 1MiB로 계산)으로 정규화해 파일 길이 차이를 혼잡으로 오인하지 않게 한다.
+ * - GRADIENT: 장기 지연 평균/단기 지연 평균(허용 배율 tolerance)으로 한도를 줄이거나, 지연이 그대로면 sqrt(한도)만큼 늘린다
+ * - AIMD: 성공하면 1씩 늘리고 실패하면 backoff-ratio배로 줄인다
+ * 두 방식 모두 연결 오류/5xx/타임아웃은 backoff-ratio배로 줄이며(UpstreamUnavailableException으로 호출 전에 거절된 요청은 세지 않는다),
+ * 한도의 절반도 쓰지 않을 때는 늘리지 않는다. ResilienceFilter 안쪽에 두어 재시도/헤지 요청도 각자 슬롯을 쓴다.
+ * 지표: external.limit, external.limit.in_flight, external.limit.queued, external.limit.rtt(window=short|long, 1MiB당 ms),
+ * external.limit.rejected (모두 tag service)
+ */
+public class AdaptiveConcurrencyLimiter implements ExchangeFilterFunction {
+
+    /**
+     * 요청 본문 크기(byte) 속성. 지정하면 응답 지연을 크기로 정규화한다.
+     */
+    public static final String PAYLOAD_BYTES = AdaptiveConcurrencyLimiter.class.getName() + ".payloadBytes";
+
+    private static final double BYTES_PER_UNIT = 1024 * 1024;
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 100;
+
+    private final String service;
+    private final Options options;
+    private final LongSupplier nanoClock;
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private final Counter rejected;
+
+    private double limit;
+    private int inFlight;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(String service, Options options, MeterRegistry meterRegistry) {
+        this(service, options, meterRegistry, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String service, Options options, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.service = service;
+        this.options = options;
+        this.nanoClock = nanoClock;
+        this.limit = clamp(options.getInitialLimit());
+        Gauge.builder("external.limit", this, AdaptiveConcurrencyLimiter::getLimit).tag("service", service)
+            .description("Current adaptive concurrency limit").register(meterRegistry);
+        Gauge.builder("external.limit.in_flight", this, AdaptiveConcurrencyLimiter::getInFlight).tag("service", service)
+            .register(meterRegistry);
+        Gauge.builder("external.limit.queued", this, AdaptiveConcurrencyLimiter::getQueued).tag("service", service)
+            .register(meterRegistry);
+        Gauge.builder("external.limit.rtt", this, l -> l.rttMillis(false)).tags("service", service, "window", "short")
+            .description("Response time per MiB of upload").register(meterRegistry);
+        Gauge.builder("external.limit.rtt", this, l -> l.rttMillis(true)).tags("service", service, "window", "long")
+            .description("Response time per MiB of upload").register(meterRegistry);
+        this.rejected = meterRegistry.counter("external.limit.rejected", "service", service);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!options.isEnabled()) {
+            return next.exchange(request);
+        }
+        double units = request.attribute(PAYLOAD_BYTES)
+            .map(bytes -> Math.max(1.0, ((Number) bytes).doubleValue() / BYTES_PER_UNIT))
+            .orElse(1.0);
+        return acquire().flatMap(permit -> {
+            long started = nanoClock.getAsLong();
+            return next.exchange(request)
+                .doOnNext(response -> {
+                    if (response.statusCode().is5xxServerError()) {
+                        permit.drop();
+                    } else {
+                        permit.sample((nanoClock.getAsLong() - started) / units);
+                    }
+                })
+                .doOnError(e -> {
+                    // 서킷이 열려 보내지 않은 호출처럼 서버에 닿지 않고 거절된 요청은 혼잡 신호가 아니다.
+                    if (e instanceof UpstreamUnavailableException) {
+                        permit.ignore();
+                    } else {
+                        permit.drop();
+                    }
+                })
+                .doOnCancel(permit::ignore);
+        });
+    }
+
+    /**
+     * 요청 슬롯을 얻는다. 한도 안이면 바로, 아니면 대기열에서 기다린다.
+     */
+    Mono<Permit> acquire() {
+        Mono<Permit> permit = Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink);
+            synchronized (this) {
+                if (inFlight < (int) limit) {
+                    inFlight++;
+                    sink.success(new Permit(inFlight));
+                    return;
+                }
+                if (waiters.size() >= options.getMaxQueued()) {
+                    rejected.increment();
+                    sink.error(rejection("queue is full"));
+                    return;
+                }
+                sink.onCancel(() -> cancel(waiter));
+                waiters.addLast(waiter);
+            }
+        });
+        return permit.timeout(Duration.ofMillis(options.getMaxQueueWaitMs()), Mono.defer(() -> {
+            rejected.increment();
+            return Mono.error(rejection("timed out waiting for a slot"));
+        }));
+    }
+
+    /**
+     * PAYLOAD_BYTES 속성 값으로 쓸 리소스 크기. 알 수 없으면 -1.
+     */
+    public static long sizeOf(Resource resource) {
+        try {
+            return resource.contentLength();
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    public synchronized double getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return waiters.size();
+    }
+
+    synchronized double rttMillis(boolean longWindow) {
+        return (longWindow ? longRttNanos : shortRttNanos) / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private synchronized void cancel(Waiter waiter) {
+        if (!waiters.remove(waiter) && waiter.permit != null) {
+            // 대기 중 취소와 슬롯 배정이 겹쳤으면 배정된 슬롯을 돌려준다.
+            waiter.permit.ignore();
+        }
+    }
+
+    private void release() {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                Waiter waiter = waiters.pollFirst();
+                inFlight++;
+                waiter.permit = new Permit(inFlight);
+                granted.add(waiter);
+            }
+        }
+        // 구독자가 이어서 요청을 보내므로 잠금 밖에서 깨운다.
+        granted.forEach(w -> w.sink.success(w.permit));
+    }
+
+    private synchronized void onSample(double sampleNanos, int inFlightAtStart) {
+        double rttNanos = Math.max(1, sampleNanos);
+        shortRttNanos = shortRttNanos == 0 ? rttNanos : shortRttNanos + (rttNanos - shortRttNanos) / SHORT_WINDOW;
+        longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) / LONG_WINDOW;
+        // 한도의 절반도 쓰지 않았으면 지연이 한도를 반영하지 않으므로 늘리지 않는다.
+        boolean appLimited = inFlightAtStart * 2 < limit;
+        double next;
+        if (options.getAlgorithm() == Algorithm.AIMD) {
+            next = appLimited ? limit : limit + 1;
+        } else {
+            // 장기 평균이 단기 평균보다 훨씬 크면(부하가 빠진 뒤) 장기 평균을 끌어내려 회복을 빠르게 한다.
+            if (longRttNanos / shortRttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, options.getTolerance() * longRttNanos / shortRttNanos));
+            double target = limit * gradient + Math.sqrt(limit);
+            if (appLimited && target > limit) {
+                target = limit;
+            }
+            next = limit * (1 - options.getSmoothing()) + target * options.getSmoothing();
+        }
+        limit = clamp(next);
+    }
+
+    private synchronized void onDrop() {
+        limit = clamp(limit * options.getBackoffRatio());
+    }
+
+    private double clamp(double value) {
+        return Math.max(Math.max(1, options.getMinLimit()), Math.min(options.getMaxLimit(), value));
+    }
+
+    private UpstreamUnavailableException rejection(String reason) {
+        return new UpstreamUnavailableException(service + " concurrency limit " + (int) getLimit() + " reached: " + reason);
+    }
+
+    public enum Algorithm {
+        GRADIENT,
+        AIMD
+    }
+
+    /**
+     * 사용 중인 슬롯. 결과(sample/drop/ignore) 중 처음 한 번만 반영하고 슬롯을 돌려준다.
+     */
+    final class Permit {
+
+        private final int inFlightAtStart;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        void sample(double rttNanos) {
+            if (done.compareAndSet(false, true)) {
+                onSample(rttNanos, inFlightAtStart);
+                release();
+            }
+        }
+
+        void drop() {
+            if (done.compareAndSet(false, true)) {
+                onDrop();
+                release();
+            }
+        }
+
+        void ignore() {
+            if (done.compareAndSet(false, true)) {
+                release();
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final MonoSink<Permit> sink;
+        private Permit permit;
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+
+    /**
+     * 동시 요청 한도 설정. external.{service}.concurrency-limit.* 값을 매핑한다.
+     */
+    @Getter
+    @Setter
+    public static class Options {
+
+        private boolean enabled = true;
+        private Algorithm algorithm = Algorithm.GRADIENT;
+        /**
+         * 시작 한도
+         */
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        /**
+         * 한도를 넘은 요청이 기다릴 수 있는 수. 초과 시 바로 거절한다.
+         */
+        private int maxQueued = 100;
+        /**
+         * 한도를 넘은 요청이 기다리는 최대 시간(ms)
+         */
+        private long maxQueueWaitMs = 30_000;
+        /**
+         * GRADIENT: 장기 평균 대비 단기 지연이 이 배율까지 늘어도 한도를 줄이지 않는다
+         */
+        private double tolerance = 1.5;
+        /**
+         * GRADIENT: 새 한도를 반영하는 비율(0~1)
+         */
+        private double smoothing = 0.2;
+        /**
+         * 실패(연결 오류, 5xx, 타임아웃) 시 한도에 곱하는 비율
+         */
+        private double backoffRatio = 0.9;
+    }
+}
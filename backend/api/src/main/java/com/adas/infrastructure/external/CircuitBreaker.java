@@ -0,0 +1,155 @@
+package com.adas.infrastructure.external;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 외부 서비스 하나의 서킷 브레이커. 최근 window-size개 호출 중 실패 비율이 failure-rate-threshold% 이상이면 열려(OPEN) open-ms 동안 호출을
+ * 막고, 그 뒤 반열림(HALF_OPEN) 상태에서 half-open-calls개의 시험 호출을 허용한다. 시험 호출이 모두 성공하면 닫히고(CLOSED), 하나라도 실패하면
+ * 다시 열린다. 취소된 호출(onCancel)은 성공/실패로 세지 않는다. 요청을 보낸 뒤 slow-call-ms가 지나 취소된 호출은 ResilienceFilter가
+ * 실패로 알린다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final Options options;
+    private final LongSupplier nanoClock;
+    private final boolean[] window;
+
+    @Getter
+    private State state = State.CLOSED;
+    private int windowHead;
+    private int windowCount;
+    private int windowFailures;
+    private long openUntil;
+    private int probesIssued;
+    private int probeSuccesses;
+
+    public CircuitBreaker(Options options, LongSupplier nanoClock) {
+        this.options = options;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[Math.max(1, options.getWindowSize())];
+    }
+
+    /**
+     * 호출을 시작해도 되는지 확인한다. true를 받았으면 결과를 onSuccess/onFailure/onCancel 중 하나로 반드시 알려야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (!options.isEnabled()) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openUntil < 0) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesIssued = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesIssued >= options.getHalfOpenCalls()) {
+                return false;
+            }
+            probesIssued++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (!options.isEnabled()) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (++probeSuccesses >= options.getHalfOpenCalls()) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (!options.isEnabled()) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= options.getMinimumCalls()
+                && windowFailures * 100.0 / windowCount >= options.getFailureRateThreshold()) {
+                open();
+            }
+        }
+    }
+
+    public synchronized void onCancel() {
+        if (state == State.HALF_OPEN && probesIssued > probeSuccesses) {
+            probesIssued--;
+        }
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            windowFailures -= window[windowHead] ? 1 : 0;
+        } else {
+            windowCount++;
+        }
+        window[windowHead] = failure;
+        windowFailures += failure ? 1 : 0;
+        windowHead = (windowHead + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntil = nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(options.getOpenMs());
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowHead = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    /**
+     * 서킷 브레이커 설정. external.{service}.resilience.circuit-breaker.* 값을 매핑한다.
+     */
+    @Getter
+    @Setter
+    public static class Options {
+
+        private boolean enabled = true;
+        /**
+         * 열리는 실패 비율(%)
+         */
+        private double failureRateThreshold = 50;
+        /**
+         * 실패 비율을 계산할 최근 호출 수
+         */
+        private int windowSize = 20;
+        /**
+         * 실패 비율을 판단하기 위한 최소 호출 수
+         */
+        private int minimumCalls = 10;
+        /**
+         * 열린 뒤 시험 호출을 허용하기까지의 시간(ms)
+         */
+        private long openMs = 30_000;
+        /**
+         * 반열림 상태에서 허용할 시험 호출 수
+         */
+        private int halfOpenCalls = 3;
+        /**
+         * 요청을 보낸 뒤 이 시간(ms)이 지나도록 응답이 없어 취소된 호출(호출자 타임아웃 등)은 실패로 센다. 그보다 빨리 취소된 호출은 세지 않는다
+         */
+        private long slowCallMs = 10_000;
+    }
+}
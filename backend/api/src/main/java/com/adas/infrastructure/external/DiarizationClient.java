@@ -3,14 +3,15 @@ package com.adas.infrastructure.external;
 import com.adas.infrastructure.external.dto.DiarizationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 /**
  * Diarization(화자 분리) Python 서비스 호출용 인프라 클라이언트.
@@ -26,12 +27,12 @@ public class DiarizationClient {
     }
 
     /**
-     * 화자 분리 요청.
+     * 디스크에 기록된 업로드 파일 대상 요청(지연 실행 Mono). 구독 시점에 요청이 전송되며, 구독 취소 시 진행 중인 요청도 취소된다.
+     * 파일 리소스는 힙에 올리지 않고 고정 크기 버퍼 단위로 읽어 전송한다.
      */
-    public DiarizationResponse diarize(MultipartFile file, String language, Integer maxSpeakers) {
+    public Mono<DiarizationResponse> diarizeAsync(Resource media, String filename, String language, Integer maxSpeakers) {
         MultipartBodyBuilder mb = new MultipartBodyBuilder();
-        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : "upload";
-        mb.part("file", file.getResource()).filename(filename);
+        mb.part("file", media).filename(filename != null ? filename : "upload");
         if (language != null && !language.isBlank()) {
             mb.part("language", language);
         }
@@ -42,10 +43,10 @@ public class DiarizationClient {
 
         return webClient.post()
             .uri("/diarize")
+            .attribute(AdaptiveConcurrencyLimiter.PAYLOAD_BYTES, AdaptiveConcurrencyLimiter.sizeOf(media))
             .contentType(MediaType.MULTIPART_FORM_DATA)
             .body(BodyInserters.fromMultipartData(body))
             .retrieve()
-            .bodyToMono(DiarizationResponse.class)
-            .block();
+            .bodyToMono(DiarizationResponse.class);
     }
 }
@@ -0,0 +1,325 @@
+package com.adas.infrastructure.external;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * 같은 외부 서비스의 여러 복제본에 요청을 나눠 보내는 클라이언트 측 부하 분산 필터. WebClient의 baseUrl(첫 번째 복제본)로 만들어진 요청 URL을
+ * 선택한 복제본 주소로 바꿔 보낸다.
+ * 1) 선택: 격리되지 않은 복제본 중 점수가 가장 낮은 것(LEAST_OUTSTANDING: 진행 중 요청 수, EWMA: 응답 지연 EWMA x 진행 중 요청 수)
+ * 2) 격리: 연속 failure-threshold회 실패(연결 오류, 5xx)하면 ejection-ms 동안 제외하고, 다시 격리될 때마다 두 배로 늘린다(max-ejection-ms)
+ * 3) 복귀: 격리가 끝난 복제본은 slow-start-ms 동안 가중치를 10%에서 100%로 올려 요청을 조금씩 받는다
+ * 모든 복제본이 격리되면 격리가 가장 먼저 끝나는 복제본으로 보낸다.
+ * 지표: external.endpoint.outstanding(service, endpoint), external.endpoint.ejections(service, endpoint)
+ */
+public class EndpointBalancer implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(EndpointBalancer.class);
+    private static final double MIN_SLOW_START_WEIGHT = 0.1;
+
+    private final String service;
+    private final String primaryBase;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final Options options;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger rotation = new AtomicInteger();
+
+    public EndpointBalancer(String service, List<String> baseUrls, Options options, MeterRegistry meterRegistry) {
+        this(service, baseUrls, options, meterRegistry, System::nanoTime);
+    }
+
+    EndpointBalancer(String service, List<String> baseUrls, Options options, MeterRegistry meterRegistry,
+                     LongSupplier nanoClock) {
+        if (baseUrls == null || baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("At least one endpoint is required for " + service);
+        }
+        this.service = service;
+        this.options = options;
+        this.nanoClock = nanoClock;
+        this.primaryBase = trimSlash(baseUrls.get(0));
+        for (String url : baseUrls) {
+            Endpoint endpoint = new Endpoint(trimSlash(url));
+            endpoints.add(endpoint);
+            if (meterRegistry != null) {
+                Gauge.builder("external.endpoint.outstanding", endpoint.outstanding, AtomicInteger::get)
+                    .tags("service", service, "endpoint", endpoint.baseUrl)
+                    .register(meterRegistry);
+                endpoint.ejectionCounter = meterRegistry.counter("external.endpoint.ejections",
+                    "service", service, "endpoint", endpoint.baseUrl);
+            }
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            Endpoint endpoint = select();
+            ClientRequest routed = ClientRequest.from(request).url(endpoint.resolve(request.url())).build();
+            Call call = endpoint.start();
+            return next.exchange(routed)
+                .doOnNext(response -> {
+                    if (response.statusCode().is5xxServerError()) {
+                        call.failure();
+                    } else {
+                        call.success();
+                    }
+                })
+                .doOnError(e -> call.failure())
+                .doOnCancel(call::cancel);
+        });
+    }
+
+    /**
+     * 다음 요청을 보낼 복제본을 고른다. 점수가 같으면 돌아가며 고른다.
+     */
+    Endpoint select() {
+        long now = nanoClock.getAsLong();
+        double defaultLatency = defaultLatency();
+        int offset = Math.floorMod(rotation.getAndIncrement(), endpoints.size());
+        Endpoint best = null;
+        double bestScore = Double.MAX_VALUE;
+        Endpoint soonest = null;
+        for (int i = 0; i < endpoints.size(); i++) {
+            Endpoint e = endpoints.get((offset + i) % endpoints.size());
+            synchronized (e) {
+                if (e.isEjected(now)) {
+                    if (soonest == null || e.ejectedUntil < soonest.ejectedUntil) {
+                        soonest = e;
+                    }
+                    continue;
+                }
+                double score = e.score(now, defaultLatency);
+                if (score < bestScore) {
+                    bestScore = score;
+                    best = e;
+                }
+            }
+        }
+        return best != null ? best : soonest;
+    }
+
+    List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * 아직 응답 지연 표본이 없는 복제본의 추정 지연: 표본이 있는 복제본의 평균(없으면 1ms)
+     */
+    private double defaultLatency() {
+        double sum = 0;
+        int n = 0;
+        for (Endpoint e : endpoints) {
+            if (e.ewmaNanos > 0) {
+                sum += e.ewmaNanos;
+                n++;
+            }
+        }
+        return n > 0 ? sum / n : TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public enum Strategy {
+        LEAST_OUTSTANDING,
+        EWMA
+    }
+
+    /**
+     * 부하 분산 설정. external.{service}.load-balancing.* 값을 매핑한다.
+     */
+    @Getter
+    @Setter
+    public static class Options {
+
+        /**
+         * 복제본 선택 방식
+         */
+        private Strategy strategy = Strategy.LEAST_OUTSTANDING;
+        /**
+         * 격리하기까지 연속 실패 횟수
+         */
+        private int failureThreshold = 3;
+        /**
+         * 첫 격리 시간(ms). 다시 격리될 때마다 두 배로 늘어난다.
+         */
+        private long ejectionMs = 10_000;
+        /**
+         * 최대 격리 시간(ms)
+         */
+        private long maxEjectionMs = 120_000;
+        /**
+         * 격리에서 돌아온 복제본의 가중치를 100%까지 올리는 시간(ms). 0이면 바로 전부 받는다.
+         */
+        private long slowStartMs = 30_000;
+        /**
+         * 응답 지연 EWMA의 시간 상수(ms). 작을수록 최근 응답에 빠르게 반응한다.
+         */
+        private long ewmaDecayMs = 10_000;
+    }
+
+    /**
+     * 복제본 하나의 상태. 진행 중 요청 수 외의 필드는 이 객체로 동기화한다.
+     */
+    final class Endpoint {
+
+        @Getter
+        private final String baseUrl;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private Counter ejectionCounter;
+        private double ewmaNanos;
+        private long ewmaUpdatedAt;
+        private int consecutiveFailures;
+        private int ejections;
+        private long ejectedUntil;
+        private long recoveringSince = -1;
+
+        private Endpoint(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        int getOutstanding() {
+            return outstanding.get();
+        }
+
+        synchronized boolean isEjected(long now) {
+            if (ejectedUntil == 0) {
+                return false;
+            }
+            if (now - ejectedUntil < 0) {
+                return true;
+            }
+            // 격리가 끝났으면 slow-start를 시작한다.
+            recoveringSince = ejectedUntil;
+            ejectedUntil = 0;
+            return false;
+        }
+
+        synchronized double score(long now, double defaultLatency) {
+            double load = outstanding.get() + 1;
+            if (options.getStrategy() == Strategy.EWMA) {
+                load *= ewmaNanos > 0 ? ewmaNanos : defaultLatency;
+            }
+            return load / weight(now);
+        }
+
+        /**
+         * slow-start 가중치: 복귀 직후 10%에서 slow-start-ms 동안 선형으로 100%까지
+         */
+        synchronized double weight(long now) {
+            if (recoveringSince < 0 || options.getSlowStartMs() <= 0) {
+                return 1.0;
+            }
+            double progress = (now - recoveringSince) / (double) TimeUnit.MILLISECONDS.toNanos(options.getSlowStartMs());
+            if (progress >= 1.0) {
+                recoveringSince = -1;
+                return 1.0;
+            }
+            return Math.max(MIN_SLOW_START_WEIGHT, progress);
+        }
+
+        URI resolve(URI url) {
+            String s = url.toString();
+            if (baseUrl.equals(primaryBase) || !s.startsWith(primaryBase)) {
+                return url;
+            }
+            return URI.create(baseUrl + s.substring(primaryBase.length()));
+        }
+
+        Call start() {
+            outstanding.incrementAndGet();
+            return new Call(this, nanoClock.getAsLong());
+        }
+
+        synchronized void recordSuccess(long latencyNanos, long now) {
+            consecutiveFailures = 0;
+            if (recoveringSince < 0) {
+                ejections = 0;
+            }
+            if (ewmaNanos <= 0) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double elapsed = Math.max(0, now - ewmaUpdatedAt);
+                double alpha = 1 - Math.exp(-elapsed / TimeUnit.MILLISECONDS.toNanos(Math.max(1, options.getEwmaDecayMs())));
+                ewmaNanos += alpha * (latencyNanos - ewmaNanos);
+            }
+            ewmaUpdatedAt = now;
+        }
+
+        synchronized void recordFailure(long now) {
+            if (ejectedUntil != 0 || ++consecutiveFailures < options.getFailureThreshold()) {
+                return;
+            }
+            long ejectionMs = Math.min(options.getMaxEjectionMs(), options.getEjectionMs() << Math.min(ejections, 20));
+            ejections++;
+            consecutiveFailures = 0;
+            recoveringSince = -1;
+            ejectedUntil = now + TimeUnit.MILLISECONDS.toNanos(ejectionMs);
+            if (ejectedUntil == 0) {
+                ejectedUntil = 1;
+            }
+            if (ejectionCounter != null) {
+                ejectionCounter.increment();
+            }
+            log.warn("{} endpoint {} ejected for {}ms", service, baseUrl, ejectionMs);
+        }
+    }
+
+    /**
+     * 진행 중인 요청 하나. 성공/실패/취소 중 처음 한 번만 반영한다.
+     */
+    final class Call {
+
+        private final Endpoint endpoint;
+        private final long startedAt;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Call(Endpoint endpoint, long startedAt) {
+            this.endpoint = endpoint;
+            this.startedAt = startedAt;
+        }
+
+        void success() {
+            if (finish()) {
+                long now = nanoClock.getAsLong();
+                endpoint.recordSuccess(now - startedAt, now);
+            }
+        }
+
+        void failure() {
+            if (finish()) {
+                endpoint.recordFailure(nanoClock.getAsLong());
+            }
+        }
+
+        void cancel() {
+            finish();
+        }
+
+        private boolean finish() {
+            if (done.compareAndSet(false, true)) {
+                endpoint.outstanding.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+}
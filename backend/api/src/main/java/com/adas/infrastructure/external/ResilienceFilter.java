@@ -0,0 +1,284 @@
+package com.adas.infrastructure.external;
+
+import com.adas.common.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ConnectTimeoutException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+/**
+ * 외부 서비스 호출의 복원력 필터. EndpointBalancer보다 바깥에 두어 재시도와 헤지 요청이 복제본을 다시 고르게 한다.
+ * 1) 서킷 브레이커(CircuitBreaker): 열려 있으면 호출하지 않고 UpstreamUnavailableException(503)으로 바로 실패한다
+ * 2) 재시도: 연결 오류(요청이 서버에 닿지 않아 다시 보내도 안전)만 지터를 준 지수 백오프로 최대 max-retries번 다시 보낸다
+ * 3) 헤지(선택): 최근 성공 응답 지연의 p95가 지나도록 응답이 없으면 두 번째 요청을 보내고 먼저 온 응답을 쓴다. 그 전에 첫 요청이
+ *    연결 오류가 아닌 오류로 끝나면 헤지하지 않는다
+ * 연결 오류/5xx 응답은 브레이커의 실패로, 그 밖의 응답은 성공으로 센다. 안쪽 AdaptiveConcurrencyLimiter의 거절(UpstreamUnavailableException)은
+ * 세지 않는다. 호출자가 취소한 호출은 요청을 보낸 뒤 circuit-breaker.slow-call-ms가 지났으면 실패로 세므로, 응답하지 않는 복제본을 호출자
+ * 타임아웃이 먼저 끊어도 브레이커가 열린다.
+ * 지표: external.circuit.state(0 닫힘, 1 반열림, 2 열림), external.circuit.rejected, external.retries, external.hedge.sent,
+ * external.hedge.wins(winner=primary|hedge) (모두 tag service)
+ */
+public class ResilienceFilter implements ExchangeFilterFunction {
+
+    private static final long NOT_SENT = Long.MIN_VALUE;
+
+    private final String service;
+    private final Options options;
+    private final LongSupplier nanoClock;
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+    private final LatencyWindow latencies;
+    private final Counter rejected;
+    private final Counter retries;
+    private final Counter hedgesSent;
+    private final Counter primaryWins;
+    private final Counter hedgeWins;
+
+    public ResilienceFilter(String service, Options options, MeterRegistry meterRegistry) {
+        this(service, options, meterRegistry, System::nanoTime);
+    }
+
+    ResilienceFilter(String service, Options options, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.service = service;
+        this.options = options;
+        this.nanoClock = nanoClock;
+        this.circuitBreaker = new CircuitBreaker(options.getCircuitBreaker(), nanoClock);
+        this.latencies = new LatencyWindow(options.getHedging().getWindowSize());
+        Gauge.builder("external.circuit.state", circuitBreaker, b -> b.getState().ordinal())
+            .tag("service", service)
+            .register(meterRegistry);
+        this.rejected = meterRegistry.counter("external.circuit.rejected", "service", service);
+        this.retries = meterRegistry.counter("external.retries", "service", service);
+        this.hedgesSent = meterRegistry.counter("external.hedge.sent", "service", service);
+        this.primaryWins = meterRegistry.counter("external.hedge.wins", "service", service, "winner", "primary");
+        this.hedgeWins = meterRegistry.counter("external.hedge.wins", "service", service, "winner", "hedge");
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                rejected.increment();
+                return Mono.error(new UpstreamUnavailableException(
+                    service + " circuit is open, skipping call to " + request.url()));
+            }
+            AtomicBoolean settled = new AtomicBoolean();
+            AtomicLong sentAt = new AtomicLong(NOT_SENT);
+            Mono<ClientResponse> attempt = retrying(measured(request, next, sentAt));
+            Duration hedgeDelay = options.getHedging().isEnabled() ? latencies.hedgeDelay(options.getHedging()) : null;
+            return (hedgeDelay != null ? hedged(attempt, hedgeDelay) : attempt)
+                .doOnNext(response -> {
+                    if (settled.compareAndSet(false, true)) {
+                        if (response.statusCode().is5xxServerError()) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onSuccess();
+                        }
+                    }
+                })
+                .doOnError(e -> {
+                    if (settled.compareAndSet(false, true)) {
+                        // 안쪽 동시 요청 한도가 보내기 전에 거절한 호출은 서버 상태와 무관하므로 세지 않는다.
+                        if (e instanceof UpstreamUnavailableException) {
+                            circuitBreaker.onCancel();
+                        } else {
+                            circuitBreaker.onFailure();
+                        }
+                    }
+                })
+                .doOnCancel(() -> {
+                    if (settled.compareAndSet(false, true)) {
+                        long sent = sentAt.get();
+                        if (sent != NOT_SENT && nanoClock.getAsLong() - sent
+                            >= TimeUnit.MILLISECONDS.toNanos(options.getCircuitBreaker().getSlowCallMs())) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onCancel();
+                        }
+                    }
+                });
+        });
+    }
+
+    /**
+     * 요청 한 번. 성공 응답의 지연을 헤지 기준으로 기록하고, 처음 보낸 시각을 sentAt에 남긴다.
+     */
+    private Mono<ClientResponse> measured(ClientRequest request, ExchangeFunction next, AtomicLong sentAt) {
+        return Mono.defer(() -> {
+            long started = nanoClock.getAsLong();
+            sentAt.compareAndSet(NOT_SENT, started);
+            return next.exchange(request).doOnNext(response -> {
+                if (!response.statusCode().is5xxServerError()) {
+                    latencies.record(TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - started));
+                }
+            });
+        });
+    }
+
+    private Mono<ClientResponse> retrying(Mono<ClientResponse> call) {
+        Options.Retry retry = options.getRetry();
+        if (retry.getMaxRetries() <= 0) {
+            return call;
+        }
+        return call.retryWhen(Retry.backoff(retry.getMaxRetries(), Duration.ofMillis(retry.getInitialBackoffMs()))
+            .maxBackoff(Duration.ofMillis(retry.getMaxBackoffMs()))
+            .jitter(retry.getJitter())
+            .filter(ResilienceFilter::isConnectError)
+            .doBeforeRetry(signal -> retries.increment())
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /**
+     * 첫 요청이 delay 안에 응답하지 않으면 같은 요청을 한 번 더 보내고 먼저 도착한 응답을 쓴다. 늦게 도착한 응답은 본문을 버린다.
+     * 헤지를 보내기 전에 첫 요청이 연결 오류가 아닌 오류(읽기 타임아웃, 요청 중 연결 끊김 등)로 끝나면 요청이 서버에 닿았을 수 있으므로
+     * 헤지를 보내지 않고 그 오류로 실패한다(재시도와 같은 기준).
+     */
+    private Mono<ClientResponse> hedged(Mono<ClientResponse> attempt, Duration delay) {
+        AtomicBoolean decided = new AtomicBoolean();
+        AtomicReference<Throwable> primaryError = new AtomicReference<>();
+        Sinks.Empty<Void> primaryFailed = Sinks.empty();
+        Mono<ClientResponse> primary = attempt
+            .doOnError(e -> {
+                primaryError.set(e);
+                if (!isConnectError(e)) {
+                    primaryFailed.tryEmitEmpty();
+                }
+            })
+            .flatMap(r -> win(r, decided, primaryWins));
+        Mono<ClientResponse> hedge = Mono.firstWithSignal(Mono.delay(delay), primaryFailed.asMono().then(Mono.<Long>empty()))
+            .flatMap(tick -> {
+                hedgesSent.increment();
+                return attempt;
+            })
+            .flatMap(r -> win(r, decided, hedgeWins));
+        // 두 요청 모두 값 없이 끝나면 첫 요청의 오류로 실패한다.
+        return Mono.firstWithValue(primary, hedge)
+            .onErrorMap(NoSuchElementException.class, e -> primaryError.get() != null ? primaryError.get() : e);
+    }
+
+    private static Mono<ClientResponse> win(ClientResponse response, AtomicBoolean decided, Counter wins) {
+        if (decided.compareAndSet(false, true)) {
+            wins.increment();
+            return Mono.just(response);
+        }
+        return response.releaseBody().then(Mono.empty());
+    }
+
+    /**
+     * 요청이 서버에 닿기 전에 실패한 연결 오류인지
+     */
+    static boolean isConnectError(Throwable e) {
+        Throwable cause = e instanceof WebClientRequestException ? e.getCause() : e;
+        return cause instanceof ConnectException || cause instanceof ConnectTimeoutException;
+    }
+
+    /**
+     * 최근 성공 응답 지연(ms) 표본. 헤지 지연을 정하는 데 쓴다.
+     */
+    static final class LatencyWindow {
+
+        private final long[] samples;
+        private int head;
+        private int count;
+
+        LatencyWindow(int size) {
+            this.samples = new long[Math.max(1, size)];
+        }
+
+        synchronized void record(long latencyMs) {
+            samples[head] = latencyMs;
+            head = (head + 1) % samples.length;
+            count = Math.min(samples.length, count + 1);
+        }
+
+        /**
+         * 표본이 min-samples개 이상이면 max(p(percentile), min-delay-ms), 아니면 null(헤지하지 않음)
+         */
+        synchronized Duration hedgeDelay(Options.Hedging hedging) {
+            if (count < Math.max(1, hedging.getMinSamples())) {
+                return null;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(hedging.getPercentile() * count) - 1;
+            long delay = sorted[Math.max(0, Math.min(count - 1, index))];
+            return Duration.ofMillis(Math.max(hedging.getMinDelayMs(), delay));
+        }
+    }
+
+    /**
+     * 복원력 설정. external.{service}.resilience.* 값을 매핑한다.
+     */
+    @Getter
+    @Setter
+    public static class Options {
+
+        private CircuitBreaker.Options circuitBreaker = new CircuitBreaker.Options();
+        private Retry retry = new Retry();
+        private Hedging hedging = new Hedging();
+
+        @Getter
+        @Setter
+        public static class Retry {
+
+            /**
+             * 연결 오류 시 최대 재시도 횟수. 0이면 재시도하지 않는다.
+             */
+            private int maxRetries = 2;
+            /**
+             * 첫 재시도 대기(ms). 재시도마다 두 배로 늘어난다.
+             */
+            private long initialBackoffMs = 100;
+            /**
+             * 최대 재시도 대기(ms)
+             */
+            private long maxBackoffMs = 2_000;
+            /**
+             * 대기 시간에 더하거나 빼는 무작위 비율(0~1)
+             */
+            private double jitter = 0.5;
+        }
+
+        @Getter
+        @Setter
+        public static class Hedging {
+
+            private boolean enabled = false;
+            /**
+             * 두 번째 요청을 보낼 응답 지연 백분위(0~1)
+             */
+            private double percentile = 0.95;
+            /**
+             * 헤지를 시작하기 위한 최소 지연 표본 수
+             */
+            private int minSamples = 20;
+            /**
+             * 지연 표본 수(최근 성공 응답 기준)
+             */
+            private int windowSize = 100;
+            /**
+             * 두 번째 요청을 보내기 전 최소 대기(ms)
+             */
+            private long minDelayMs = 100;
+        }
+    }
+}
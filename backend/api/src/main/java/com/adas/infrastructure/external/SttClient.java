@@ -3,14 +3,15 @@ package com.adas.infrastructure.external;
 import com.adas.infrastructure.external.dto.SttResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 /**
  * STT(Speech-To-Text) Python 서비스 호출용 인프라 클라이언트.
@@ -26,12 +27,12 @@ public class SttClient {
     }
 
     /**
-     * 파일 전사 요청.
+     * 디스크에 기록된 업로드 파일 대상 요청(지연 실행 Mono). 구독 시점에 요청이 전송되며, 구독 취소 시 진행 중인 요청도 취소된다.
+     * 파일 리소스는 힙에 올리지 않고 고정 크기 버퍼 단위로 읽어 전송한다.
      */
-    public SttResponse transcribe(MultipartFile file, String language) {
+    public Mono<SttResponse> transcribeAsync(Resource media, String filename, String language) {
         MultipartBodyBuilder mb = new MultipartBodyBuilder();
-        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : "upload";
-        mb.part("file", file.getResource()).filename(filename);
+        mb.part("file", media).filename(filename != null ? filename : "upload");
         if (language != null && !language.isBlank()) {
             mb.part("language", language);
         }
@@ -39,10 +40,10 @@ public class SttClient {
 
         return webClient.post()
             .uri("/stt/transcribe")
+            .attribute(AdaptiveConcurrencyLimiter.PAYLOAD_BYTES, AdaptiveConcurrencyLimiter.sizeOf(media))
             .contentType(MediaType.MULTIPART_FORM_DATA)
             .body(BodyInserters.fromMultipartData(body))
             .retrieve()
-            .bodyToMono(SttResponse.class)
-            .block();
+            .bodyToMono(SttResponse.class);
     }
 }
@@ -0,0 +1,276 @@
+package com.adas.infrastructure.external;
+
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.external.dto.WordBuffer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * STT 응답(JSON)을 도착하는 대로 토큰 단위로 읽어 SttResponse로 만드는 디코더. words 배열은 Word 객체 목록 대신 WordBuffer(원시 배열 +
+ * 텍스트 풀)에 바로 쌓으므로, 응답 전체를 메모리에 모으거나 단어마다 record/Double을 만들지 않는다.
+ * 응답이 maxBytes를 넘으면 DataBufferLimitException으로 실패한다. 알 수 없는 필드는 건너뛴다.
+ */
+public class SttResponseDecoder implements Decoder<SttResponse> {
+
+    private static final List<MimeType> MIME_TYPES = List.of(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+        1e13, 1e14, 1e15};
+
+    private final int maxBytes;
+
+    public SttResponseDecoder(int maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return SttResponse.class.equals(elementType.toClass()) && (mimeType == null
+            || MIME_TYPES.stream().anyMatch(m -> m.isCompatibleWith(mimeType)));
+    }
+
+    @Override
+    public Flux<SttResponse> decode(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType,
+                                    Map<String, Object> hints) {
+        return Flux.from(decodeToMono(input, elementType, mimeType, hints));
+    }
+
+    @Override
+    public Mono<SttResponse> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType,
+                                          Map<String, Object> hints) {
+        return Mono.using(this::newState,
+            state -> Flux.from(input).doOnNext(buffer -> {
+                    try {
+                        state.feed(buffer);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .then(Mono.fromCallable(state::finish)),
+            State::close);
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return MIME_TYPES;
+    }
+
+    /**
+     * 한 번에 받은 JSON 바이트 전체를 디코딩한다(테스트/벤치마크용).
+     */
+    public SttResponse decode(byte[] json) {
+        State state = newState();
+        try {
+            state.feed(json, json.length);
+            return state.finish();
+        } finally {
+            state.close();
+        }
+    }
+
+    private State newState() {
+        try {
+            return new State(JSON_FACTORY.createNonBlockingByteArrayParser());
+        } catch (IOException e) {
+            throw new DecodingException("Could not create JSON parser", e);
+        }
+    }
+
+    /**
+     * 디코딩 한 번의 파서 상태. 최상위 객체(depth 1)의 lang/words와 words 배열 원소(depth 3)의 start/end/text/confidence만 읽는다.
+     */
+    private final class State {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private byte[] chunk = new byte[8192];
+        private long received;
+        private int depth;
+        private String topField;
+        private String wordField;
+        private boolean inWords;
+        private boolean started;
+        private String lang;
+        private WordBuffer.Builder words;
+        private long start;
+        private long end;
+        private char[] text = new char[64];
+        private int textLength = -1;
+        private float confidence;
+
+        private State(JsonParser parser) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        void feed(DataBuffer buffer) {
+            int n = buffer.readableByteCount();
+            if (chunk.length < n) {
+                chunk = new byte[n];
+            }
+            buffer.read(chunk, 0, n);
+            feed(chunk, n);
+        }
+
+        void feed(byte[] bytes, int length) {
+            received += length;
+            if (received > maxBytes) {
+                throw new DataBufferLimitException("Exceeded limit on max bytes to buffer : " + maxBytes);
+            }
+            try {
+                feeder.feedInput(bytes, 0, length);
+                drain();
+            } catch (IOException e) {
+                throw new DecodingException("JSON decoding error: " + e.getMessage(), e);
+            }
+        }
+
+        SttResponse finish() {
+            try {
+                feeder.endOfInput();
+                drain();
+            } catch (IOException e) {
+                throw new DecodingException("JSON decoding error: " + e.getMessage(), e);
+            }
+            if (!started) {
+                return null;
+            }
+            if (depth != 0) {
+                throw new DecodingException("Incomplete STT response JSON");
+            }
+            return new SttResponse(lang, words != null ? words.build() : null);
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // 파서 자원 정리 실패는 결과에 영향이 없다.
+            }
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                onToken(token);
+            }
+        }
+
+        private void onToken(JsonToken token) throws IOException {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    if (depth == 0 && token != JsonToken.START_OBJECT) {
+                        throw new DecodingException("STT response must be a JSON object");
+                    }
+                    started = true;
+                    depth++;
+                    if (depth == 2 && token == JsonToken.START_ARRAY && "words".equals(topField)) {
+                        inWords = true;
+                        words = WordBuffer.builder(1024);
+                    } else if (inWords && depth == 3 && token == JsonToken.START_OBJECT) {
+                        start = 0;
+                        end = 0;
+                        textLength = -1;
+                        confidence = Float.NaN;
+                        wordField = null;
+                    }
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    if (inWords && depth == 3 && token == JsonToken.END_OBJECT) {
+                        words.add(start, end, textLength < 0 ? null : text, 0, Math.max(0, textLength), confidence);
+                    } else if (inWords && depth == 2) {
+                        inWords = false;
+                    }
+                    depth--;
+                }
+                case FIELD_NAME -> {
+                    if (depth == 1) {
+                        topField = parser.currentName();
+                    } else if (inWords && depth == 3) {
+                        wordField = parser.currentName();
+                    }
+                }
+                default -> onScalar(token);
+            }
+        }
+
+        private void onScalar(JsonToken token) throws IOException {
+            if (depth == 1 && "lang".equals(topField)) {
+                lang = token == JsonToken.VALUE_NULL ? null : parser.getText();
+            } else if (depth == 1 && "words".equals(topField) && token == JsonToken.VALUE_NULL) {
+                words = null;
+            } else if (inWords && depth == 3 && wordField != null && token != JsonToken.VALUE_NULL) {
+                switch (wordField) {
+                    case "start" -> start = token == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : (long) number(token);
+                    case "end" -> end = token == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : (long) number(token);
+                    case "confidence" -> confidence = (float) number(token);
+                    case "text" -> copyText();
+                    default -> {
+                        // 모르는 필드는 무시한다.
+                    }
+                }
+            }
+        }
+
+        /**
+         * 숫자 값. 흔한 형태(부호, 정수부, 소수부 15자리 이하)는 문자 배열에서 바로 계산해 Jackson이 실수마다 만드는 String을 피한다.
+         */
+        private double number(JsonToken token) throws IOException {
+            if (token != JsonToken.VALUE_NUMBER_FLOAT) {
+                return parser.getValueAsDouble();
+            }
+            char[] chars = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+            int i = offset;
+            boolean negative = chars[i] == '-';
+            if (negative) {
+                i++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int fraction = -1;
+            for (; i < offset + length; i++) {
+                char c = chars[i];
+                if (c == '.' && fraction < 0) {
+                    fraction = 0;
+                } else if (c >= '0' && c <= '9' && digits < 15) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digits++;
+                    if (fraction >= 0) {
+                        fraction++;
+                    }
+                } else {
+                    return parser.getDoubleValue();
+                }
+            }
+            double value = mantissa / POWERS_OF_TEN[Math.max(0, fraction)];
+            return negative ? -value : value;
+        }
+
+        private void copyText() throws IOException {
+            int length = parser.getTextLength();
+            if (text.length < length) {
+                text = new char[Math.max(length, text.length * 2)];
+            }
+            System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), text, 0, length);
+            textLength = length;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.adas.infrastructure.external.dto;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * 단어 전사 결과의 열 단위 저장소. 시작/종료(ms)는 long[], 신뢰도는 float[](없으면 NaN), 텍스트는 중복을 없앤 문자열 풀의 번호(int[])로
+ * 보관해 단어마다 객체를 두지 않는다. 읽기 전용 List&lt;Word&gt;로도 쓸 수 있으며, 이때 get(i)가 Word를 그때그때 만든다.
+ * 신뢰도는 float로 저장하므로 Word로 꺼낼 때 소수점 6자리로 반올림해 원래 10진 값을 복원한다.
+ */
+public final class WordBuffer extends AbstractList<SttResponse.Word> implements RandomAccess {
+
+    private static final double CONFIDENCE_SCALE = 1_000_000d;
+
+    private final long[] starts;
+    private final long[] ends;
+    private final float[] confidences;
+    private final int[] textIds;
+    private final String[] texts;
+    private final int size;
+
+    private WordBuffer(long[] starts, long[] ends, float[] confidences, int[] textIds, String[] texts, int size) {
+        this.starts = starts;
+        this.ends = ends;
+        this.confidences = confidences;
+        this.textIds = textIds;
+        this.texts = texts;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder(16);
+    }
+
+    public static Builder builder(int expectedWords) {
+        return new Builder(expectedWords);
+    }
+
+    @Override
+    public SttResponse.Word get(int index) {
+        checkIndex(index);
+        return new SttResponse.Word(starts[index], ends[index], textOf(index), boxedConfidence(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public long start(int index) {
+        checkIndex(index);
+        return starts[index];
+    }
+
+    public long end(int index) {
+        checkIndex(index);
+        return ends[index];
+    }
+
+    public String text(int index) {
+        checkIndex(index);
+        return textOf(index);
+    }
+
+    /**
+     * 텍스트 풀 번호. 같은 텍스트는 같은 번호를 갖고, 텍스트가 없으면(null) -1.
+     */
+    public int textId(int index) {
+        checkIndex(index);
+        return textIds[index];
+    }
+
+    /**
+     * 신뢰도. 없으면 NaN.
+     */
+    public float confidence(int index) {
+        checkIndex(index);
+        return confidences[index];
+    }
+
+    public int distinctTexts() {
+        return texts.length;
+    }
+
+    private String textOf(int index) {
+        int id = textIds[index];
+        return id < 0 ? null : texts[id];
+    }
+
+    private Double boxedConfidence(int index) {
+        float c = confidences[index];
+        return Float.isNaN(c) ? null : Math.round(c * CONFIDENCE_SCALE) / CONFIDENCE_SCALE;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    /**
+     * WordBuffer 빌더. 텍스트는 char 구간으로도 받아, 풀에 이미 있는 텍스트면 String을 새로 만들지 않는다.
+     */
+    public static final class Builder {
+
+        private long[] starts;
+        private long[] ends;
+        private float[] confidences;
+        private int[] textIds;
+        private int size;
+        // build()가 배열을 그대로 넘겼으면 다음 add 전에 복사한다.
+        private boolean shared;
+        private String[] texts = new String[64];
+        private int textCount;
+        // 오픈 어드레싱 해시 테이블: 텍스트 풀 번호 + 1 (0은 빈 칸)
+        private int[] table = new int[128];
+
+        private Builder(int expectedWords) {
+            int capacity = Math.max(16, expectedWords);
+            starts = new long[capacity];
+            ends = new long[capacity];
+            confidences = new float[capacity];
+            textIds = new int[capacity];
+        }
+
+        public Builder add(long start, long end, String text, float confidence) {
+            return text == null
+                ? add(start, end, null, 0, 0, confidence)
+                : add(start, end, text.toCharArray(), 0, text.length(), confidence);
+        }
+
+        /**
+         * chars[offset, offset+length) 구간을 텍스트로 단어를 추가한다(chars가 null이면 텍스트 없음). 배열은 호출 뒤 재사용해도 된다.
+         */
+        public Builder add(long start, long end, char[] chars, int offset, int length, float confidence) {
+            if (size == starts.length || shared) {
+                int capacity = size == starts.length ? size * 2 : starts.length;
+                shared = false;
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                confidences = Arrays.copyOf(confidences, capacity);
+                textIds = Arrays.copyOf(textIds, capacity);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            confidences[size] = confidence;
+            textIds[size] = chars == null ? -1 : intern(chars, offset, length);
+            size++;
+            return this;
+        }
+
+        /**
+         * 빈 칸이 1/4을 넘을 때만 배열을 크기에 맞게 줄인다. 이후 add는 만들어진 WordBuffer에 영향을 주지 않는다.
+         */
+        public WordBuffer build() {
+            WordBuffer buffer;
+            if (size * 4 >= starts.length * 3) {
+                buffer = new WordBuffer(starts, ends, confidences, textIds, Arrays.copyOf(texts, textCount), size);
+                shared = true;
+            } else {
+                buffer = new WordBuffer(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size),
+                    Arrays.copyOf(confidences, size), Arrays.copyOf(textIds, size), Arrays.copyOf(texts, textCount), size);
+            }
+            return buffer;
+        }
+
+        private int intern(char[] chars, int offset, int length) {
+            int hash = hash(chars, offset, length);
+            int mask = table.length - 1;
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                int entry = table[slot];
+                if (entry == 0) {
+                    return insert(slot, new String(chars, offset, length));
+                }
+                if (matches(texts[entry - 1], chars, offset, length)) {
+                    return entry - 1;
+                }
+            }
+        }
+
+        private int insert(int slot, String text) {
+            if (textCount == texts.length) {
+                texts = Arrays.copyOf(texts, textCount * 2);
+            }
+            texts[textCount] = text;
+            table[slot] = ++textCount;
+            if (textCount * 2 > table.length) {
+                rehash();
+            }
+            return textCount - 1;
+        }
+
+        private void rehash() {
+            table = new int[table.length * 2];
+            int mask = table.length - 1;
+            for (int id = 0; id < textCount; id++) {
+                String text = texts[id];
+                int slot = hash(text) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = id + 1;
+            }
+        }
+
+        private static int hash(char[] chars, int offset, int length) {
+            int h = 0;
+            for (int i = offset; i < offset + length; i++) {
+                h = 31 * h + chars[i];
+            }
+            return h ^ (h >>> 16);
+        }
+
+        private static int hash(String text) {
+            int h = text.hashCode();
+            return h ^ (h >>> 16);
+        }
+
+        private static boolean matches(String text, char[] chars, int offset, int length) {
+            if (text.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (text.charAt(i) != chars[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
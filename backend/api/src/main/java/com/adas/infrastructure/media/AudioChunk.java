@@ -0,0 +1,13 @@
+package com.adas.infrastructure.media;
+
+import java.nio.file.Path;
+
+/**
+ * 긴 오디오에서 잘라낸 구간 파일 (불변 record). offsetMs는 원본 기준 시작 위치이다.
+ */
+public record AudioChunk(int index, Path path, long offsetMs, long durationMs) {
+
+    public long endMs() {
+        return offsetMs + durationMs;
+    }
+}
@@ -1,23 +1,18 @@
 package com.adas.infrastructure.media;
 
 import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 /**
  * ffprobe를 사용하여 오디오 길이(ms)를 추출하는 인프라 서비스.
@@ -32,11 +27,11 @@ public class MediaProbeService {
     private final MediaProperties props;
 
     /**
-     * 실패 시 null을 반환하는 안전한 길이 추출.
+     * 디스크에 있는 파일 대상 안전한 길이 추출(실패 시 null). 업로드는 먼저 MediaStorage로 디스크에 기록한 뒤 경로로 넘긴다.
      */
-    public Long safeProbeDurationMs(MultipartFile file) {
+    public Long safeProbeFileDurationMs(Path path) {
         try {
-            return probeDurationMs(file);
+            return probeFileDurationMs(path);
         } catch (Exception e) {
             log.warn("ffprobe duration failed: {}", e.getMessage());
             return null;
@@ -46,16 +41,11 @@ public class MediaProbeService {
     /**
      * ffprobe를 실행하여 duration(초)을 얻고 ms로 변환한다.
      */
-    public Long probeDurationMs(MultipartFile file) throws IOException, InterruptedException {
-        if (file == null || file.isEmpty()) {
+    public Long probeFileDurationMs(Path path) throws IOException, InterruptedException {
+        if (path == null) {
             return null;
         }
 
-        File temp = File.createTempFile("upload-", ".bin");
-        try (FileOutputStream fos = new FileOutputStream(temp)) {
-            fos.write(file.getBytes());
-        }
-
         List<String> cmd = new ArrayList<>();
         cmd.add(props.getFfprobePath());
         cmd.add("-v");
@@ -64,33 +54,24 @@ public class MediaProbeService {
         cmd.add("format=duration");
         cmd.add("-of");
         cmd.add("default=noprint_wrappers=1:nokey=1");
-        cmd.add(temp.getAbsolutePath());
+        cmd.add(path.toAbsolutePath().toString());
 
         ProcessBuilder pb = new ProcessBuilder(cmd);
-        pb.redirectErrorStream(true);
+        // 손상 파일이면 stderr 로그가 길어져 파이프가 차고 ffprobe가 멈추므로 버린다. stdout은 길이 한 줄뿐이다.
+        pb.redirectError(ProcessBuilder.Redirect.DISCARD);
         Process proc = pb.start();
 
-        // 비동기 읽기 + 타임아웃 처리
-        ExecutorService ex = Executors.newSingleThreadExecutor();
-        Future<String> out = ex.submit(() -> {
-            try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(proc.getInputStream(), StandardCharsets.UTF_8))) {
-                return br.readLine();
-            }
-        });
-
+        // stdout은 한 줄뿐이라 파이프 버퍼를 넘지 않으므로, 호출마다 읽기 스레드를 만들지 않고 종료를 기다린 뒤 읽는다.
         boolean finished = proc.waitFor(props.getProbeTimeoutMs(), TimeUnit.MILLISECONDS);
-        String line = null;
-        try {
-            line = out.get(Math.max(1, (int) (props.getProbeTimeoutMs() / 1000)), TimeUnit.SECONDS);
-        } catch (Exception ignore) {
-        }
-        ex.shutdownNow();
-
         if (!finished) {
             proc.destroyForcibly();
             throw new InterruptedException("ffprobe timeout");
         }
+        String line;
+        try (BufferedReader br = new BufferedReader(
+            new InputStreamReader(proc.getInputStream(), StandardCharsets.UTF_8))) {
+            line = br.readLine();
+        }
 
         if (line == null || line.isBlank()) {
             return null;
@@ -102,10 +83,6 @@ public class MediaProbeService {
         } catch (NumberFormatException nfe) {
             log.debug("ffprobe parse failed: {}", line);
             return null;
-        } finally {
-            if (!temp.delete()) {
-                log.debug("temp file not deleted: {}", temp.getAbsolutePath());
-            }
         }
     }
 }
@@ -20,5 +20,9 @@ public class MediaProperties {
      * ffprobe 실행 타임아웃(ms)
      */
     private long probeTimeoutMs = 5000;
+    /**
+     * 비동기 처리 대기 중인 업로드 파일 보관 디렉터리
+     */
+    private String storageDir = System.getProperty("java.io.tmpdir") + "/adas-media";
 }
 
@@ -0,0 +1,145 @@
+package com.adas.infrastructure.media;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 요청 수명보다 오래 살아야 하는 업로드 파일을 `media.storage-dir` 아래에 보관하는 인프라 컴포넌트.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(MediaProperties.class)
+public class MediaStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaStorage.class);
+
+    private final MediaProperties props;
+
+    /**
+     * 업로드 파일을 저장소로 옮긴 뒤 저장된 파일을 한 번 읽어 SHA-256을 계산한다. 서블릿 컨테이너가 디스크에 받아 둔 파트 파일을 옮기므로
+     * (불가하면 스트림 복사) 다시 쓰지 않고, 해시는 쓰기 없이 순차 읽기만 더한다.
+     */
+    public StoredMedia store(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Upload file cannot be null or empty");
+        }
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : "upload";
+        try {
+            Path dir = Files.createDirectories(Paths.get(props.getStorageDir()));
+            Path target = dir.resolve(UUID.randomUUID() + extensionOf(filename));
+            file.transferTo(target.toFile());
+            return new StoredMedia(target, filename, Files.size(target), sha256(target));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store upload: " + filename, e);
+        }
+    }
+
+    /**
+     * 스트림을 끝까지 저장소에 기록한다(zip 항목처럼 호출자가 스트림을 계속 쓰는 경우용). 스트림은 닫지 않는다.
+     */
+    public StoredMedia store(InputStream source, String filename) {
+        String name = filename != null ? filename : "upload";
+        try {
+            Path dir = Files.createDirectories(Paths.get(props.getStorageDir()));
+            Path target = dir.resolve(UUID.randomUUID() + extensionOf(name));
+            MessageDigest digest = newSha256();
+            Files.copy(new DigestInputStream(source, digest), target);
+            return new StoredMedia(target, name, Files.size(target), HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store upload: " + name, e);
+        }
+    }
+
+    private static String sha256(Path path) throws IOException {
+        MessageDigest digest = newSha256();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(path)) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, n);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 점진적으로 기록할 빈 파일을 저장소에 만든다(실시간 수집 스풀용).
+     */
+    public StoredMedia allocate(String filename) {
+        try {
+            Path dir = Files.createDirectories(Paths.get(props.getStorageDir()));
+            Path target = Files.createFile(dir.resolve(UUID.randomUUID() + extensionOf(filename)));
+            return new StoredMedia(target, filename, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to allocate media file: " + filename, e);
+        }
+    }
+
+    /**
+     * 저장된 경로로부터 핸들을 복원한다.
+     */
+    public StoredMedia open(String path, String filename) {
+        Path p = Paths.get(path);
+        try {
+            return new StoredMedia(p, filename != null ? filename : p.getFileName().toString(), Files.size(p));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Stored media not readable: " + path, e);
+        }
+    }
+
+    public void delete(StoredMedia media) {
+        if (media == null) {
+            return;
+        }
+        delete(media.path());
+    }
+
+    /**
+     * 저장된 경로의 파일을 지운다(핸들을 복원할 필요가 없는 정리용).
+     */
+    public void deletePath(String path) {
+        if (path == null) {
+            return;
+        }
+        delete(Paths.get(path));
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("stored media not deleted: {}", path);
+        }
+    }
+
+    private static String extensionOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0 || dot == filename.length() - 1 || filename.length() - dot > 10) {
+            return ".bin";
+        }
+        return filename.substring(dot).replaceAll("[^A-Za-z0-9.]", "");
+    }
+}
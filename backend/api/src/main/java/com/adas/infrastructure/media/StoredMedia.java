@@ -0,0 +1,19 @@
+package com.adas.infrastructure.media;
+
+import java.nio.file.Path;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * 디스크에 보관된 업로드 미디어 파일 핸들 (불변 record). sha256은 보관 시점에 계산한 내용 해시(hex)이며, 경로로 복원한 경우 null이다.
+ */
+public record StoredMedia(Path path, String filename, long sizeBytes, String sha256) {
+
+    public StoredMedia(Path path, String filename, long sizeBytes) {
+        this(path, filename, sizeBytes, null);
+    }
+
+    public Resource toResource() {
+        return new FileSystemResource(path);
+    }
+}
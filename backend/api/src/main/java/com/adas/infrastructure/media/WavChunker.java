@@ -0,0 +1,188 @@
+package com.adas.infrastructure.media;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * PCM WAV 파일을 겹치는 구간(window)으로 나누는 인프라 컴포넌트. 헤더만 파싱하고 샘플 데이터는 FileChannel.transferTo로 복사하므로 힙에 올리지
+ * 않는다. PCM WAV가 아니면 빈 목록을 반환해 호출 측이 단일 요청으로 처리하게 한다.
+ */
+@Component
+public class WavChunker {
+
+    private static final Logger log = LoggerFactory.getLogger(WavChunker.class);
+    private static final int WAVE_FORMAT_PCM = 1;
+    private static final int HEADER_SIZE = 44;
+
+    /**
+     * windowMs 길이, overlapMs만큼 겹치는 구간 파일을 원본과 같은 디렉터리에 만든다. 원본이 한 구간 이하이면 빈 목록.
+     */
+    public List<AudioChunk> split(Path wav, long windowMs, long overlapMs) {
+        if (windowMs <= 0 || overlapMs < 0 || overlapMs >= windowMs) {
+            throw new IllegalArgumentException("Overlap must be smaller than window: " + overlapMs + " >= " + windowMs);
+        }
+        try (FileChannel src = FileChannel.open(wav, StandardOpenOption.READ)) {
+            WavFormat fmt = readFormat(src);
+            if (fmt == null) {
+                return List.of();
+            }
+            long windowBytes = fmt.align(windowMs * fmt.byteRate / 1000);
+            long strideBytes = fmt.align((windowMs - overlapMs) * fmt.byteRate / 1000);
+            if (fmt.dataSize <= windowBytes || strideBytes <= 0) {
+                return List.of();
+            }
+
+            List<AudioChunk> chunks = new ArrayList<>();
+            String base = wav.getFileName().toString().replaceFirst("\\.[^.]*$", "");
+            try {
+                for (long start = 0; start < fmt.dataSize; start += strideBytes) {
+                    long length = Math.min(windowBytes, fmt.dataSize - start);
+                    Path target = wav.resolveSibling(base + "-chunk-" + chunks.size() + ".wav");
+                    writeChunk(src, fmt, start, length, target);
+                    chunks.add(new AudioChunk(chunks.size(), target, fmt.toMs(start), fmt.toMs(length)));
+                    if (start + length >= fmt.dataSize) {
+                        break;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                delete(chunks);
+                throw e;
+            }
+            return chunks;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to split wav: " + wav, e);
+        }
+    }
+
+    /**
+     * 헤더 없는 16bit PCM 스풀 파일(실시간 수집)의 [startMs, endMs) 구간을 WAV 파일로 만든다. 아직 기록되지 않은 뒷부분은 잘라낸다.
+     */
+    public AudioChunk extractWindow(Path rawPcm, int sampleRate, int channels, int index, long startMs, long endMs,
+                                    Path target) {
+        if (sampleRate <= 0 || channels <= 0 || startMs < 0 || endMs <= startMs) {
+            throw new IllegalArgumentException("Invalid pcm window: " + startMs + "-" + endMs);
+        }
+        int blockAlign = channels * 2;
+        int byteRate = sampleRate * blockAlign;
+        try (FileChannel src = FileChannel.open(rawPcm, StandardOpenOption.READ)) {
+            WavFormat fmt = new WavFormat(channels, sampleRate, byteRate, blockAlign, 16, 0, src.size());
+            long start = fmt.align(startMs * byteRate / 1000);
+            long end = Math.min(fmt.align(endMs * byteRate / 1000), fmt.align(src.size()));
+            if (end <= start) {
+                throw new IllegalArgumentException("Pcm window not recorded yet: " + startMs + "-" + endMs);
+            }
+            writeChunk(src, fmt, start, end - start, target);
+            return new AudioChunk(index, target, fmt.toMs(start), fmt.toMs(end - start));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to extract pcm window: " + rawPcm, e);
+        }
+    }
+
+    public void delete(List<AudioChunk> chunks) {
+        for (AudioChunk chunk : chunks) {
+            try {
+                Files.deleteIfExists(chunk.path());
+            } catch (IOException e) {
+                log.debug("chunk not deleted: {}", chunk.path());
+            }
+        }
+    }
+
+    /**
+     * RIFF 청크를 순회해 fmt/data 위치를 찾는다. PCM이 아니거나 형식이 맞지 않으면 null.
+     */
+    private static WavFormat readFormat(FileChannel ch) throws IOException {
+        ByteBuffer riff = read(ch, 0, 12);
+        if (riff == null || riff.getInt(0) != 0x46464952 /* RIFF */ || riff.getInt(8) != 0x45564157 /* WAVE */) {
+            return null;
+        }
+        WavFormat fmt = null;
+        long pos = 12;
+        while (pos + 8 <= ch.size()) {
+            ByteBuffer head = read(ch, pos, 8);
+            int id = head.getInt(0);
+            long size = Integer.toUnsignedLong(head.getInt(4));
+            long body = pos + 8;
+            if (id == 0x20746d66 /* fmt */) {
+                ByteBuffer f = read(ch, body, 16);
+                if (f == null || (f.getShort(0) & 0xFFFF) != WAVE_FORMAT_PCM) {
+                    return null;
+                }
+                fmt = new WavFormat(f.getShort(2) & 0xFFFF, f.getInt(4), f.getInt(8), f.getShort(12) & 0xFFFF,
+                    f.getShort(14) & 0xFFFF, 0, 0);
+            } else if (id == 0x61746164 /* data */) {
+                if (fmt == null || fmt.byteRate <= 0 || fmt.blockAlign <= 0) {
+                    return null;
+                }
+                // 스트리밍 기록기는 data 크기를 0 또는 최대값으로 남기기도 하므로 파일 크기로 보정한다.
+                long available = ch.size() - body;
+                long dataSize = size == 0 || size > available ? available : size;
+                return fmt.withData(body, dataSize - dataSize % fmt.blockAlign);
+            }
+            pos = body + size + (size & 1);
+        }
+        return null;
+    }
+
+    private static void writeChunk(FileChannel src, WavFormat fmt, long start, long length, Path target)
+        throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0x46464952).putInt((int) (36 + length)).putInt(0x45564157);
+        header.putInt(0x20746d66).putInt(16).putShort((short) WAVE_FORMAT_PCM).putShort((short) fmt.channels)
+            .putInt(fmt.sampleRate).putInt(fmt.byteRate).putShort((short) fmt.blockAlign)
+            .putShort((short) fmt.bitsPerSample);
+        header.putInt(0x61746164).putInt((int) length);
+        header.flip();
+
+        try (FileChannel dst = FileChannel.open(target,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining()) {
+                dst.write(header);
+            }
+            long copied = 0;
+            while (copied < length) {
+                copied += src.transferTo(fmt.dataOffset + start + copied, length - copied, dst);
+            }
+        }
+    }
+
+    private static ByteBuffer read(FileChannel ch, long pos, int len) throws IOException {
+        if (pos + len > ch.size()) {
+            return null;
+        }
+        ByteBuffer buf = ByteBuffer.allocate(len).order(ByteOrder.LITTLE_ENDIAN);
+        while (buf.hasRemaining()) {
+            if (ch.read(buf, pos + buf.position()) < 0) {
+                return null;
+            }
+        }
+        return buf;
+    }
+
+    private record WavFormat(int channels, int sampleRate, int byteRate, int blockAlign, int bitsPerSample,
+                             long dataOffset, long dataSize) {
+
+        WavFormat withData(long offset, long size) {
+            return new WavFormat(channels, sampleRate, byteRate, blockAlign, bitsPerSample, offset, size);
+        }
+
+        long align(long bytes) {
+            return bytes - bytes % blockAlign;
+        }
+
+        long toMs(long bytes) {
+            return bytes * 1000 / byteRate;
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.adas.presentation.config;
 
+import com.adas.infrastructure.external.AdaptiveConcurrencyLimiter;
+import com.adas.infrastructure.external.EndpointBalancer;
+import com.adas.infrastructure.external.ResilienceFilter;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -23,7 +28,7 @@ public class ExternalServicesProperties {
      * Diarization 설정을 우선 사용하고, 미설정 시(또는 baseUrl 미지정) 'diar' 값을 폴백으로 사용한다.
      */
     public ServiceProperties getEffectiveDiarization() {
-        if (diarization != null && diarization.getBaseUrl() != null && !diarization.getBaseUrl().isBlank()) {
+        if (diarization != null && !diarization.effectiveEndpoints().isEmpty()) {
             return diarization;
         }
         return diar;
@@ -37,6 +42,22 @@ public class ExternalServicesProperties {
          * 서비스 베이스 URL (예: http://stt:8000/api/v1)
          */
         private String baseUrl;
+        /**
+         * 같은 서비스 복제본들의 베이스 URL 목록. 지정하면 baseUrl 대신 이 목록에 요청을 나눠 보낸다(클라이언트 측 부하 분산).
+         */
+        private List<String> endpoints = new ArrayList<>();
+        /**
+         * 복제본이 여러 개일 때의 선택/격리/복귀 설정
+         */
+        private EndpointBalancer.Options loadBalancing = new EndpointBalancer.Options();
+        /**
+         * 서킷 브레이커/연결 오류 재시도/헤지 요청 설정
+         */
+        private ResilienceFilter.Options resilience = new ResilienceFilter.Options();
+        /**
+         * 응답 지연에 맞춰 조절되는 동시 요청 한도 설정
+         */
+        private AdaptiveConcurrencyLimiter.Options concurrencyLimit = new AdaptiveConcurrencyLimiter.Options();
         /**
          * TCP 연결 타임아웃(ms)
          */
@@ -53,5 +74,69 @@ public class ExternalServicesProperties {
          * 쓰기 타임아웃(ms)
          */
         private int writeTimeoutMs = 60_000;
+        /**
+         * 응답 본문 최대 크기(byte). STT 응답은 스트리밍 디코더가, 그 밖의 응답은 기본 코덱이 이 크기까지 읽는다.
+         */
+        private int maxResponseBytes = 32 * 1024 * 1024;
+        /**
+         * 서비스 전용 연결 풀/프로토콜 설정
+         */
+        private Pool pool = new Pool();
+
+        /**
+         * 요청을 보낼 베이스 URL 목록: endpoints가 있으면 그 목록, 없으면 baseUrl 하나
+         */
+        public List<String> effectiveEndpoints() {
+            List<String> urls = endpoints.stream().filter(u -> u != null && !u.isBlank()).map(String::trim).toList();
+            if (!urls.isEmpty()) {
+                return urls;
+            }
+            return baseUrl != null && !baseUrl.isBlank() ? List.of(baseUrl) : List.of();
+        }
+    }
+
+    /**
+     * 서비스별 연결 풀 설정. external.{service}.pool.* 값을 매핑한다.
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * 최대 연결 수
+         */
+        private int maxConnections = 50;
+        /**
+         * 연결을 기다릴 수 있는 최대 요청 수. -1이면 max-connections의 두 배.
+         */
+        private int pendingAcquireMaxCount = -1;
+        /**
+         * 연결을 얻기까지 기다리는 최대 시간(ms)
+         */
+        private long pendingAcquireTimeoutMs = 45_000;
+        /**
+         * 유휴 연결을 닫는 시간(ms). 서버의 keep-alive 시간(uvicorn 기본 5s)보다 짧아야 닫힌 연결을 재사용하지 않는다.
+         */
+        private long maxIdleTimeMs = 4_000;
+        /**
+         * 연결 최대 수명(ms). 복제본 추가/교체 후 연결이 한쪽에 고정되지 않게 한다.
+         */
+        private long maxLifeTimeMs = 300_000;
+        /**
+         * 유휴/수명 초과 연결을 백그라운드에서 정리하는 주기(ms). 0이면 연결을 꺼낼 때만 확인한다.
+         */
+        private long evictInBackgroundMs = 10_000;
+        /**
+         * 연결 풀 지표(reactor.netty.connection.provider.*) 기록 여부
+         */
+        private boolean metrics = true;
+        /**
+         * HTTP/1.1 Upgrade로 h2c(평문 HTTP/2)를 제안한다. 서버가 지원하지 않으면 HTTP/1.1로 통신한다.
+         */
+        private boolean h2c = false;
+        /**
+         * 응답 압축(Accept-Encoding: gzip) 요청 여부
+         */
+        private boolean compress = true;
     }
 }
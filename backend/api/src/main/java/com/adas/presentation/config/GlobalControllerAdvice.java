@@ -2,11 +2,16 @@ package com.adas.presentation.config;
 
 import com.adas.common.exception.CustomException;
 import com.adas.common.exception.NotFoundException;
+import com.adas.common.exception.ServiceBusyException;
+import com.adas.common.exception.TooManyRequestsException;
+import com.adas.common.exception.UpstreamTimeoutException;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.netty.handler.timeout.WriteTimeoutException;
 import java.time.OffsetDateTime;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,6 +19,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
@@ -33,7 +39,8 @@ public class GlobalControllerAdvice {
         return problem(HttpStatus.NOT_FOUND, exception);
     }
 
-    @ExceptionHandler({MethodArgumentNotValidException.class, MissingServletRequestParameterException.class})
+    @ExceptionHandler({MethodArgumentNotValidException.class, MissingServletRequestParameterException.class,
+        MissingServletRequestPartException.class})
     public ProblemDetail handleBadRequest(Exception exception) {
         return problem(HttpStatus.BAD_REQUEST, exception);
     }
@@ -59,6 +66,25 @@ public class GlobalControllerAdvice {
         return problem(status, exception);
     }
 
+    @ExceptionHandler(UpstreamTimeoutException.class)
+    public ProblemDetail handleUpstreamTimeout(UpstreamTimeoutException exception) {
+        return problem(HttpStatus.GATEWAY_TIMEOUT, exception);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ProblemDetail> handleTooManyRequests(TooManyRequestsException exception) {
+        ProblemDetail pd = problem(HttpStatus.TOO_MANY_REQUESTS, exception);
+        pd.setProperty("retryAfterSeconds", exception.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+            .body(pd);
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ProblemDetail handleBusy(ServiceBusyException exception) {
+        return problem(HttpStatus.SERVICE_UNAVAILABLE, exception);
+    }
+
     @ExceptionHandler(Exception.class)
     public ProblemDetail handleException(Exception exception) {
         return problem(HttpStatus.INTERNAL_SERVER_ERROR, exception);
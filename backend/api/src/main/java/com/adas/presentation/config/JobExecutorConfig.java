@@ -0,0 +1,117 @@
+package com.adas.presentation.config;
+
+import com.adas.application.media.ProcessingProperties;
+import com.adas.domain.speech.SpeechMergeService;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 비동기 처리 작업과 실시간 수집용 워커 풀 설정. `spring.threads.virtual.enabled=true`이고 Java 21 이상에서 실행 중이면 작업마다 가상
+ * 스레드를 만들고, 그 외에는 고정 크기 플랫폼 스레드 풀을 쓴다.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ProcessingProperties.class)
+public class JobExecutorConfig {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 30_000;
+
+    /**
+     * 대기 작업은 DB 큐에 쌓이고, 디스패처는 빈 워커 수만큼만 작업을 가져오므로 풀 자체의 대기열은 두지 않는다. 가상 스레드 모드에서도 동시
+     * 실행 수는 워커 수로 제한한다.
+     */
+    @Bean(name = "ingestJobExecutor")
+    public AsyncTaskExecutor ingestJobExecutor(ProcessingProperties props, Environment environment) {
+        int workers = Math.max(1, props.getJob().getWorkers());
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = virtualExecutor("ingest-job-");
+            executor.setConcurrencyLimit(workers);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("ingest-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds((int) (SHUTDOWN_TIMEOUT_MS / 1000));
+        return executor;
+    }
+
+    /**
+     * 일괄 업로드 등록(길이 추출, 결과 재사용 조회, 작업 등록)을 요청 스레드 밖에서 실행하는 풀. 일괄 하나의 파일은 한 스레드가 순서대로
+     * 등록하고, 뒤에 접수된 일괄은 대기열에서 기다린다.
+     */
+    @Bean(name = "batchRegistrationExecutor")
+    public AsyncTaskExecutor batchRegistrationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("batch-register-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds((int) (SHUTDOWN_TIMEOUT_MS / 1000));
+        return executor;
+    }
+
+    /**
+     * 실시간 수집 구간 처리용 풀. 세션마다 구간을 순서대로 이어 실행하므로 대기열은 세션 수 × 밀린 구간 수만큼만 쌓인다. 가상 스레드 모드에서는
+     * 세션당 진행 중인 구간이 하나뿐이라 동시 실행 수가 max-sessions를 넘지 않으므로 별도 제한을 두지 않는다.
+     */
+    @Bean(name = "liveIngestExecutor")
+    public AsyncTaskExecutor liveIngestExecutor(ProcessingProperties props, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return virtualExecutor("live-ingest-");
+        }
+        int workers = Math.max(1, props.getLive().getWorkers());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("live-ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds((int) (SHUTDOWN_TIMEOUT_MS / 1000));
+        return executor;
+    }
+
+    /**
+     * 논블로킹 처리 경로에서 블로킹 구간(스풀, ffprobe, JPA)을 이벤트 루프 밖에서 실행하는 제한된 스케줄러. 스레드 수를 DB 커넥션 풀 크기
+     * 정도로 묶어 커넥션 대기로 스레드가 쌓이지 않게 한다.
+     */
+    @Bean(name = "mediaBlockingScheduler", destroyMethod = "dispose")
+    public Scheduler mediaBlockingScheduler(ProcessingProperties props) {
+        ProcessingProperties.Reactive reactive = props.getReactive();
+        return Schedulers.newBoundedElastic(Math.max(1, reactive.getBlockingThreads()),
+            Math.max(1, reactive.getBlockingQueueCapacity()), "media-blocking");
+    }
+
+    /**
+     * 긴 녹음의 화자 병합을 나눠 실행하는 풀. 일괄 재처리처럼 CPU를 오래 쓰는 병합이 공용 ForkJoinPool(병렬 스트림 등)을 차지하지 않게 따로 둔다.
+     */
+    @Bean(name = "mergeForkJoinPool", destroyMethod = "shutdown")
+    public ForkJoinPool mergeForkJoinPool(ProcessingProperties props) {
+        int parallelism = props.getMerge().getParallelism();
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public SpeechMergeService speechMergeService(ProcessingProperties props, ForkJoinPool mergeForkJoinPool) {
+        ProcessingProperties.Merge merge = props.getMerge();
+        return new SpeechMergeService(mergeForkJoinPool, merge.getParallelThresholdWords(), merge.getMinPartitionWords());
+    }
+
+    private static SimpleAsyncTaskExecutor virtualExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(SHUTDOWN_TIMEOUT_MS);
+        return executor;
+    }
+}
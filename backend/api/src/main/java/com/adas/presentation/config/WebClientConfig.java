@@ -1,58 +1,126 @@
 package com.adas.presentation.config;
 
+import com.adas.infrastructure.external.AdaptiveConcurrencyLimiter;
+import com.adas.infrastructure.external.EndpointBalancer;
+import com.adas.infrastructure.external.ResilienceFilter;
+import com.adas.infrastructure.external.SttResponseDecoder;
+import com.adas.presentation.config.ExternalServicesProperties.Pool;
 import com.adas.presentation.config.ExternalServicesProperties.ServiceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
- * 외부 Python 서비스(STT, Diarization) 호출용 WebClient 설정. 서비스별로 연결/응답/읽기/쓰기 타임아웃을 개별 설정한다.
+ * 외부 Python 서비스(STT, Diarization) 호출용 WebClient 설정. 서비스별로 연결/응답/읽기/쓰기 타임아웃, 연결 풀, 복제본 목록을 개별 설정한다.
  */
 @Configuration
 @EnableConfigurationProperties(ExternalServicesProperties.class)
 public class WebClientConfig {
 
+    private static final String READ_TIMEOUT_HANDLER = "adas.readTimeout";
+    private static final String WRITE_TIMEOUT_HANDLER = "adas.writeTimeout";
+
+    /**
+     * STT 서비스 전용 연결 풀. 컨텍스트 종료 시 연결을 닫는다.
+     */
+    @Bean(name = "sttConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider sttConnectionProvider(ExternalServicesProperties props) {
+        return connectionProvider("stt", props.getStt().getPool());
+    }
+
+    /**
+     * Diarization 서비스 전용 연결 풀.
+     */
+    @Bean(name = "diarizationConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider diarizationConnectionProvider(ExternalServicesProperties props) {
+        return connectionProvider("diarization", props.getEffectiveDiarization().getPool());
+    }
+
     /**
      * STT 서비스용 WebClient.
      */
     @Bean(name = "sttWebClient")
-    public WebClient sttWebClient(ExternalServicesProperties props) {
-        return build(props.getStt());
+    public WebClient sttWebClient(ExternalServicesProperties props, MeterRegistry meterRegistry,
+                                  @Qualifier("sttConnectionProvider") ConnectionProvider connectionProvider) {
+        return build("stt", props.getStt(), connectionProvider, meterRegistry);
     }
 
     /**
      * Diarization 서비스용 WebClient. 'external.diarization' 우선, 미설정 시 'external.diar'로 폴백.
      */
     @Bean(name = "diarizationWebClient")
-    public WebClient diarizationWebClient(ExternalServicesProperties props) {
-        return build(props.getEffectiveDiarization());
+    public WebClient diarizationWebClient(ExternalServicesProperties props, MeterRegistry meterRegistry,
+                                          @Qualifier("diarizationConnectionProvider") ConnectionProvider connectionProvider) {
+        return build("diarization", props.getEffectiveDiarization(), connectionProvider, meterRegistry);
+    }
+
+    /**
+     * 서비스 이름으로 구분되는 연결 풀. 지표는 Reactor Netty 기본 이름(reactor.netty.connection.provider.*, tag name=서비스)으로
+     * 전역 MeterRegistry에 기록된다.
+     */
+    static ConnectionProvider connectionProvider(String service, Pool pool) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(service)
+            .maxConnections(pool.getMaxConnections())
+            .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount() < 0
+                ? 2 * pool.getMaxConnections() : pool.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeoutMs()))
+            .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTimeMs()))
+            .maxLifeTime(Duration.ofMillis(pool.getMaxLifeTimeMs()))
+            .metrics(pool.isMetrics());
+        if (pool.getEvictInBackgroundMs() > 0) {
+            builder.evictInBackground(Duration.ofMillis(pool.getEvictInBackgroundMs()));
+        }
+        return builder.build();
     }
 
     /**
-     * 공통 WebClient 빌더. Reactor Netty 기반 타임아웃/핸들러를 구성한다.
+     * 공통 WebClient 빌더. 서비스 전용 연결 풀 위에 Reactor Netty 타임아웃을 구성하고, ResilienceFilter(서킷 브레이커/재시도/헤지)와
+     * AdaptiveConcurrencyLimiter(동시 요청 한도)를 거쳐 복제본이 여러 개면 EndpointBalancer로 요청을 나눠 보낸다.
+     * 한도는 실제로 보내는 요청 단위로 잡으므로 재시도/헤지 요청도 각자 슬롯을 쓰고, 서킷이 열려 거절된 호출은 한도에 닿지 않는다.
+     * STT 응답은 SttResponseDecoder가 스트리밍으로 읽고, 응답 크기는 max-response-bytes로 제한한다.
+     * 읽기/쓰기 타임아웃 핸들러는 요청마다 붙이고, 연결이 풀로 돌아갈 때 Reactor Netty가 떼어 내므로 유휴 연결에는 남지 않는다.
      */
-    private static WebClient build(ServiceProperties p) {
-        HttpClient httpClient = HttpClient.create()
+    static WebClient build(String service, ServiceProperties p, ConnectionProvider connectionProvider,
+                           MeterRegistry meterRegistry) {
+        Pool pool = p.getPool();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, p.getConnectTimeoutMs())
             .responseTimeout(Duration.ofMillis(p.getResponseTimeoutMs()))
-            .doOnConnected(conn -> {
-                long readSec = (long) Math.ceil(p.getReadTimeoutMs() / 1000.0);
-                long writeSec = (long) Math.ceil(p.getWriteTimeoutMs() / 1000.0);
-                conn.addHandlerLast(new ReadTimeoutHandler(readSec, TimeUnit.SECONDS));
-                conn.addHandlerLast(new WriteTimeoutHandler(writeSec, TimeUnit.SECONDS));
+            .compress(pool.isCompress())
+            .doOnRequest((request, conn) -> {
+                conn.addHandlerLast(READ_TIMEOUT_HANDLER, new ReadTimeoutHandler(p.getReadTimeoutMs(), TimeUnit.MILLISECONDS));
+                conn.addHandlerLast(WRITE_TIMEOUT_HANDLER, new WriteTimeoutHandler(p.getWriteTimeoutMs(), TimeUnit.MILLISECONDS));
             });
+        if (pool.isH2c()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
 
-        return WebClient.builder()
-            .baseUrl(p.getBaseUrl())
+        List<String> endpoints = p.effectiveEndpoints();
+        WebClient.Builder builder = WebClient.builder()
+            .baseUrl(endpoints.isEmpty() ? p.getBaseUrl() : endpoints.get(0))
             .clientConnector(new ReactorClientHttpConnector(httpClient))
-            .build();
+            .codecs(codecs -> {
+                codecs.defaultCodecs().maxInMemorySize(p.getMaxResponseBytes());
+                codecs.customCodecs().register(new SttResponseDecoder(p.getMaxResponseBytes()));
+            })
+            .filter(new ResilienceFilter(service, p.getResilience(), meterRegistry))
+            .filter(new AdaptiveConcurrencyLimiter(service, p.getConcurrencyLimit(), meterRegistry));
+        if (endpoints.size() > 1) {
+            builder.filter(new EndpointBalancer(service, endpoints, p.getLoadBalancing(), meterRegistry));
+        }
+        return builder.build();
     }
 }
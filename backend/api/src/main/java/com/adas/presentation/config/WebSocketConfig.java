@@ -0,0 +1,30 @@
+package com.adas.presentation.config;
+
+import com.adas.presentation.media.LiveIngestWebSocketHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * 실시간 수집 WebSocket 엔드포인트 등록. 허용 출처는 CorsConfig와 같게 둔다.
+ */
+@Configuration
+@EnableWebSocket
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final ObjectProvider<LiveIngestWebSocketHandler> liveIngestHandler;
+
+    public WebSocketConfig(ObjectProvider<LiveIngestWebSocketHandler> liveIngestHandler) {
+        this.liveIngestHandler = liveIngestHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        liveIngestHandler.ifAvailable(handler -> registry.addHandler(handler, "/api/ingest/live")
+            .setAllowedOrigins("http://localhost:5173"));
+    }
+}
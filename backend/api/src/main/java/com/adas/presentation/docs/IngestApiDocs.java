@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import java.util.Map;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
@@ -12,8 +13,28 @@ import org.springframework.web.multipart.MultipartFile;
 @Tag(name = "Ingest", description = "프런트 Recorder.vue 호환 업로드/폴링 API")
 public interface IngestApiDocs {
 
-    @Operation(summary = "오디오 업로드(Recorder 호환)", description = "recording_id와 transcript_url을 반환")
-    @ApiResponses({@ApiResponse(responseCode = "200", description = "성공", content = @Content)})
-    ResponseEntity<Map<String, Object>> ingest(MultipartFile file, String language, String source);
-}
+    @Operation(summary = "오디오 업로드(Recorder 호환)", description = "처리 작업을 큐에 넣고 recording_id와 transcript_url을 즉시 반환")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "같은 내용의 완료된 결과 재사용(status=completed, job_id=null)", content = @Content),
+        @ApiResponse(responseCode = "202", description = "접수", content = @Content),
+        @ApiResponse(responseCode = "429", description = "처리 대기열 포화(Retry-After 헤더 참고)", content = @Content)
+    })
+    ResponseEntity<Map<String, Object>> ingest(MultipartFile file, String language, String source, boolean useCache);
+
+    @Operation(summary = "일괄 업로드", description = "여러 파일 또는 zip 아카이브를 보관하고 batch_id와 status_url을 바로 반환. "
+        + "작업 등록은 백그라운드에서 파일별로 진행되며 대기 중인 작업은 같은 일괄 안에서 짧은 파일부터 처리")
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "접수", content = @Content),
+        @ApiResponse(responseCode = "400", description = "미디어 파일 없음, 잘못된 zip, 파일 수 초과", content = @Content),
+        @ApiResponse(responseCode = "429", description = "일괄 작업 대기열 포화(Retry-After 헤더 참고)", content = @Content)
+    })
+    ResponseEntity<Map<String, Object>> ingestBatch(List<MultipartFile> files, String language, String source,
+                                                    boolean useCache);
 
+    @Operation(summary = "일괄 업로드 진행 상태", description = "파일별 상태와 전체 진행률(파일 수 기준, 녹음 길이 기준)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content),
+        @ApiResponse(responseCode = "404", description = "일괄 업로드 없음", content = @Content)
+    })
+    ResponseEntity<Map<String, Object>> batchStatus(Long batchId);
+}
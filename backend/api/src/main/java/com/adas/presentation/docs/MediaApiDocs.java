@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
 @Tag(name = "Media", description = "업로드 처리(STT+Diarization) 엔드포인트")
 public interface MediaApiDocs {
@@ -18,12 +19,30 @@ public interface MediaApiDocs {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공", content = @Content(mediaType = "application/json")),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "415", description = "지원하지 않는 미디어 타입", content = @Content),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "처리 한도 초과(Retry-After 헤더 참고)", content = @Content),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "502", description = "상류 서비스 오류", content = @Content),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "504", description = "상류 서비스 타임아웃", content = @Content)
     })
     ResponseEntity<ApiResponse<ProcessResponse>> process(
         @Parameter(description = "업로드 오디오 파일", required = true) MultipartFile file,
         @Parameter(description = "언어 힌트(예: ko, en)") String language,
-        @Parameter(description = "최대 화자 수 힌트") Integer maxSpeakers
+        @Parameter(description = "최대 화자 수 힌트") Integer maxSpeakers,
+        @Parameter(description = "같은 내용·옵션으로 완료된 결과 재사용 여부(기본 true)") boolean useCache
+    );
+
+    @Operation(summary = "오디오 업로드 처리(논블로킹)",
+        description = "/process와 같은 결과를 반환하되, 외부 서비스 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공", content = @Content(mediaType = "application/json")),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "처리 한도 초과(Retry-After 헤더 참고)", content = @Content),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "502", description = "상류 서비스 오류", content = @Content),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "504", description = "상류 서비스 타임아웃", content = @Content)
+    })
+    Mono<ResponseEntity<ApiResponse<ProcessResponse>>> processReactive(
+        @Parameter(description = "업로드 오디오 파일", required = true) MultipartFile file,
+        @Parameter(description = "언어 힌트(예: ko, en)") String language,
+        @Parameter(description = "최대 화자 수 힌트") Integer maxSpeakers,
+        @Parameter(description = "같은 내용·옵션으로 완료된 결과 재사용 여부(기본 true)") boolean useCache
     );
 }
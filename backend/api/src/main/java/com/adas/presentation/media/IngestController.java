@@ -1,13 +1,19 @@
 package com.adas.presentation.media;
 
-import com.adas.application.media.MediaProcessingService;
-import com.adas.application.dto.ProcessResponse;
+import com.adas.application.dto.BatchReceipt;
+import com.adas.application.dto.BatchStatusResponse;
+import com.adas.application.dto.IngestReceipt;
+import com.adas.application.job.IngestBatchService;
+import com.adas.application.job.IngestJobService;
 import com.adas.presentation.docs.IngestApiDocs;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -16,26 +22,79 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
- * 프런트 Recorder.vue 호환용 업로드 엔드포인트. - POST /api/ingest/audio → { recording_id, transcript_url } - 이후
- * /api/v1/recordings/{id}/transcript를 폴링하면 완료 결과를 즉시 받을 수 있다.
+ * 프런트 Recorder.vue 호환용 업로드 엔드포인트. - POST /api/ingest/audio → 202 { recording_id, job_id, status, transcript_url } -
+ * 처리는 워커 풀에서 비동기로 진행되며, /api/v1/recordings/{id}/transcript를 폴링해 진행 상태와 결과를 받는다. - POST /api/ingest/batch
+ * (files[] 또는 zip) → 202 { batch_id, file_count, status_url } (파일은 접수 뒤 백그라운드에서 작업으로 등록) - GET /api/ingest/batches/{id} → 파일별 상태와 전체 진행률
  */
 @RestController
 @RequestMapping("/api/ingest")
 @RequiredArgsConstructor
 public class IngestController implements IngestApiDocs {
 
-    private final MediaProcessingService mediaProcessingService;
+    private final IngestJobService ingestJobService;
+    private final IngestBatchService ingestBatchService;
 
     @PostMapping(path = "/audio", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Map<String, Object>> ingest(
         @RequestPart("file") MultipartFile file,
         @RequestParam(value = "language", required = false) String language,
-        @RequestParam(value = "source", required = false) String source
+        @RequestParam(value = "source", required = false) String source,
+        @RequestParam(value = "useCache", defaultValue = "true") boolean useCache
     ) {
-        ProcessResponse resp = mediaProcessingService.process(file, language, null);
+        IngestReceipt receipt = ingestJobService.submit(file, language, source, useCache);
         Map<String, Object> body = new HashMap<>();
-        body.put("recording_id", resp.recordingId());
-        body.put("transcript_url", "/api/v1/recordings/" + resp.recordingId() + "/transcript");
+        body.put("recording_id", String.valueOf(receipt.recordingId()));
+        body.put("job_id", receipt.jobId());
+        body.put("status", receipt.status());
+        body.put("transcript_url", "/api/v1/recordings/" + receipt.recordingId() + "/transcript");
+        // 캐시 재사용으로 이미 완료된 경우 200, 큐에 넣은 경우 202
+        return receipt.jobId() == null ? ResponseEntity.ok(body) : ResponseEntity.accepted().body(body);
+    }
+
+    @PostMapping(path = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, Object>> ingestBatch(
+        @RequestPart("files") List<MultipartFile> files,
+        @RequestParam(value = "language", required = false) String language,
+        @RequestParam(value = "source", required = false) String source,
+        @RequestParam(value = "useCache", defaultValue = "true") boolean useCache
+    ) {
+        BatchReceipt receipt = ingestBatchService.submit(files, language, source, useCache);
+        Map<String, Object> body = new HashMap<>();
+        body.put("batch_id", receipt.batchId());
+        body.put("file_count", receipt.fileCount());
+        body.put("status_url", "/api/ingest/batches/" + receipt.batchId());
+        return ResponseEntity.accepted().body(body);
+    }
+
+    @GetMapping("/batches/{id}")
+    public ResponseEntity<Map<String, Object>> batchStatus(@PathVariable("id") Long batchId) {
+        BatchStatusResponse status = ingestBatchService.getStatus(batchId);
+        Map<String, Object> body = new HashMap<>();
+        body.put("batch_id", status.batchId());
+        body.put("status", status.status());
+        body.put("total", status.total());
+        body.put("queued", status.queued());
+        body.put("processing", status.processing());
+        body.put("completed", status.completed());
+        body.put("failed", status.failed());
+        body.put("progress", status.progress());
+        body.put("duration_progress", status.durationProgress());
+        body.put("files", status.files().stream().map(IngestController::toFileMap).toList());
         return ResponseEntity.ok(body);
     }
+
+    private static Map<String, Object> toFileMap(BatchStatusResponse.Item item) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("seq", item.seq());
+        m.put("filename", item.filename());
+        m.put("recording_id", item.recordingId() != null ? String.valueOf(item.recordingId()) : null);
+        m.put("job_id", item.jobId());
+        m.put("duration_ms", item.durationMs());
+        m.put("status", item.status());
+        m.put("message", item.message());
+        if (item.recordingId() != null) {
+            m.put("transcript_url", "/api/v1/recordings/" + item.recordingId() + "/transcript");
+        }
+        return m;
+    }
 }
@@ -0,0 +1,139 @@
+package com.adas.presentation.media;
+
+import com.adas.application.dto.LiveMessage;
+import com.adas.application.live.LiveIngestService;
+import com.adas.application.live.LiveSession;
+import com.adas.common.exception.ServiceBusyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 녹음 중 실시간 수집 엔드포인트. - WS /api/ingest/live?language=ko&sampleRate=16000&channels=1&maxSpeakers=2 - 클라이언트는
+ * 16bit little-endian PCM 프레임을 바이너리 메시지로 보내고, 녹음을 마치면 텍스트 {"type":"stop"}을 보낸다. 서버는 opened → update(확정/잠정
+ * 턴, 구간마다) → completed 순서로 JSON 텍스트 메시지를 보낸 뒤 연결을 닫는다. stop 없이 끊기면 그때까지의 녹음으로 마무리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto")
+public class LiveIngestWebSocketHandler extends BinaryWebSocketHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveIngestWebSocketHandler.class);
+    private static final String SESSION_ATTR = "liveSession";
+    private static final String OUTBOUND_ATTR = "liveOutbound";
+    private static final int SEND_TIME_LIMIT_MS = 10_000;
+    private static final int SEND_BUFFER_LIMIT = 1024 * 1024;
+    /**
+     * 바이너리 프레임 최대 크기. 16kHz mono 16bit 기준 약 2초 분량이다.
+     */
+    private static final int MAX_FRAME_BYTES = 64 * 1024;
+
+    private final LiveIngestService liveIngestService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession ws) throws IOException {
+        ws.setBinaryMessageSizeLimit(MAX_FRAME_BYTES);
+        // 구간 처리 스레드와 연결 스레드가 함께 보내므로 전송을 직렬화한다.
+        WebSocketSession outbound = new ConcurrentWebSocketSessionDecorator(ws, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT);
+        ws.getAttributes().put(OUTBOUND_ATTR, outbound);
+        MultiValueMap<String, String> query = UriComponentsBuilder.fromUri(ws.getUri()).build().getQueryParams();
+        try {
+            LiveSession session = liveIngestService.open(
+                query.getFirst("language"),
+                param(query, "maxSpeakers", Integer::valueOf),
+                param(query, "sampleRate", Integer::valueOf),
+                param(query, "channels", Integer::valueOf),
+                message -> send(outbound, message));
+            ws.getAttributes().put(SESSION_ATTR, session);
+        } catch (ServiceBusyException e) {
+            send(outbound, LiveMessage.error(null, e.getMessage()));
+            ws.close(CloseStatus.SERVICE_OVERLOAD);
+        } catch (IllegalArgumentException e) {
+            send(outbound, LiveMessage.error(null, e.getMessage()));
+            ws.close(CloseStatus.BAD_DATA);
+        }
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession ws, BinaryMessage message) {
+        LiveSession session = (LiveSession) ws.getAttributes().get(SESSION_ATTR);
+        if (session != null && !session.isFinishing()) {
+            liveIngestService.append(session, message.getPayload());
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession ws, TextMessage message) {
+        LiveSession session = (LiveSession) ws.getAttributes().get(SESSION_ATTR);
+        if (session == null || !"stop".equals(controlType(message))) {
+            return;
+        }
+        liveIngestService.finish(session).whenComplete((v, e) -> {
+            if (e != null) {
+                log.warn("live session {} not finalized", session.getRecordingId(), e);
+            }
+            close(ws, e == null ? CloseStatus.NORMAL : CloseStatus.SERVER_ERROR);
+        });
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession ws, CloseStatus status) {
+        LiveSession session = (LiveSession) ws.getAttributes().get(SESSION_ATTR);
+        if (session != null) {
+            liveIngestService.finish(session);
+        }
+    }
+
+    private void send(WebSocketSession outbound, LiveMessage message) {
+        if (!outbound.isOpen()) {
+            return;
+        }
+        try {
+            outbound.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+        } catch (IOException | RuntimeException e) {
+            log.debug("live message not delivered: {}", e.getMessage());
+        }
+    }
+
+    private String controlType(TextMessage message) {
+        try {
+            return objectMapper.readTree(message.getPayload()).path("type").asText();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void close(WebSocketSession ws, CloseStatus status) {
+        try {
+            ws.close(status);
+        } catch (IOException e) {
+            log.debug("live session close failed: {}", e.getMessage());
+        }
+    }
+
+    private static <T> T param(MultiValueMap<String, String> query, String name, Function<String, T> parser) {
+        String value = query.getFirst(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+}
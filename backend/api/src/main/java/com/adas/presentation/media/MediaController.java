@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping(path = "/api/v1/media")
@@ -28,12 +29,27 @@ public class MediaController implements MediaApiDocs {
     public ResponseEntity<ApiResponse<ProcessResponse>> process(
         @RequestPart("file") MultipartFile file,
         @RequestParam(value = "language", required = false) String language,
-        @RequestParam(value = "maxSpeakers", required = false) Integer maxSpeakers
+        @RequestParam(value = "maxSpeakers", required = false) Integer maxSpeakers,
+        @RequestParam(value = "useCache", defaultValue = "true") boolean useCache
     ) {
         log.info("/media/process called: filename={}, size={} bytes", file.getOriginalFilename(), file.getSize());
 
-        ProcessResponse resp = mediaProcessingService.process(file, language, maxSpeakers);
+        ProcessResponse resp = mediaProcessingService.process(file, language, maxSpeakers, useCache);
 
         return ApiResponse.success(resp);
     }
+
+    @PostMapping(path = "/process/reactive", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public Mono<ResponseEntity<ApiResponse<ProcessResponse>>> processReactive(
+        @RequestPart("file") MultipartFile file,
+        @RequestParam(value = "language", required = false) String language,
+        @RequestParam(value = "maxSpeakers", required = false) Integer maxSpeakers,
+        @RequestParam(value = "useCache", defaultValue = "true") boolean useCache
+    ) {
+        log.info("/media/process/reactive called: filename={}, size={} bytes",
+            file.getOriginalFilename(), file.getSize());
+
+        return mediaProcessingService.processReactive(file, language, maxSpeakers, useCache)
+            .map(ApiResponse::success);
+    }
 }
@@ -1,5 +1,6 @@
 package com.adas.presentation.media;
 
+import com.adas.application.dto.ProcessingStatusResponse;
 import com.adas.application.recording.RecordingQueryService;
 import com.adas.application.dto.SegmentsResponse;
 import com.adas.application.dto.SpeakerTurnResponse;
@@ -16,8 +17,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * Recorder.vue 호환용 트랜스크립트 폴링 엔드포인트. - GET /api/v1/recordings/{id}/transcript → { status: 'completed', transcripts: [],
- * speaker_turns: [] }
+ * Recorder.vue 호환용 트랜스크립트 폴링 엔드포인트. - GET /api/v1/recordings/{id}/transcript → { status, transcripts: [],
+ * speaker_turns: [], logs: [] } - status는 처리 작업 상태(queued/probing/.../completed/failed)를 그대로 반영한다.
  */
 @RestController
 @RequestMapping("/api/v1/recordings")
@@ -28,6 +29,7 @@ public class TranscriptController implements TranscriptApiDocs {
 
     @GetMapping("/{id}/transcript")
     public ResponseEntity<Map<String, Object>> transcript(@PathVariable Long id) {
+        ProcessingStatusResponse status = queryService.getProcessingStatus(id);
         SegmentsResponse segs = queryService.getSegments(id);
         List<SpeakerTurnResponse> turns = queryService.getTurns(id);
 
@@ -39,10 +41,10 @@ public class TranscriptController implements TranscriptApiDocs {
             turns.stream().map(TranscriptController::toTurnMap).toList();
 
         Map<String, Object> body = new HashMap<>();
-        body.put("status", "completed");
+        body.put("status", status.status());
         body.put("transcripts", transcripts);
         body.put("speaker_turns", speakerTurns);
-        body.put("logs", List.of());
+        body.put("logs", status.updatedAt() != null ? List.of(toLogMap(status)) : List.of());
         return ResponseEntity.ok(body);
     }
 
@@ -65,4 +67,13 @@ public class TranscriptController implements TranscriptApiDocs {
         m.put("text", s.text());
         return m;
     }
+
+    private static Map<String, Object> toLogMap(ProcessingStatusResponse s) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("created_at", s.updatedAt());
+        m.put("stage", s.status());
+        m.put("status", "failed".equals(s.status()) ? "error" : "ok");
+        m.put("message", s.message());
+        return m;
+    }
 }
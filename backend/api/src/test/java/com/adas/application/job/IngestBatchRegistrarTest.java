@@ -0,0 +1,220 @@
+package com.adas.application.job;
+
+import com.adas.application.dto.ProcessResponse;
+import com.adas.application.media.ProcessingProperties;
+import com.adas.application.media.RecordingResultCache;
+import com.adas.domain.job.IngestBatch;
+import com.adas.domain.job.IngestBatchItem;
+import com.adas.domain.job.IngestBatchItemRepository;
+import com.adas.domain.job.IngestBatchRepository;
+import com.adas.domain.job.JobLane;
+import com.adas.domain.job.JobStatus;
+import com.adas.domain.job.ProcessingJob;
+import com.adas.domain.job.ProcessingJobRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.infrastructure.media.MediaProbeService;
+import com.adas.infrastructure.media.MediaProperties;
+import com.adas.infrastructure.media.MediaStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestBatchRegistrarTest {
+
+    @TempDir
+    Path storageDir;
+
+    @Mock
+    private IngestBatchRepository batchRepository;
+
+    @Mock
+    private IngestBatchItemRepository itemRepository;
+
+    @Mock
+    private RecordingRepository recordingRepository;
+
+    @Mock
+    private ProcessingJobRepository jobRepository;
+
+    @Mock
+    private MediaProbeService mediaProbeService;
+
+    @Mock
+    private RecordingResultCache resultCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private static final Instant CREATED_AT = Instant.parse("2026-10-18T00:00:00Z");
+
+    private final ProcessingProperties props = new ProcessingProperties();
+    private final AtomicLong ids = new AtomicLong();
+    private final List<ProcessingJob> savedJobs = new ArrayList<>();
+    private IngestBatch batch;
+    private IngestBatchRegistrar registrar;
+
+    @BeforeEach
+    void setUp() {
+        MediaProperties mediaProperties = new MediaProperties();
+        mediaProperties.setStorageDir(storageDir.toString());
+        registrar = new IngestBatchRegistrar(batchRepository, itemRepository, recordingRepository, jobRepository,
+            new MediaStorage(mediaProperties), mediaProbeService, resultCache,
+            new TransactionTemplate(transactionManager), new JobSchedulingPolicy(props), props,
+            new SyncTaskExecutor());
+        batch = withId(IngestBatch.open("batch", "ko", 3, true));
+        ReflectionTestUtils.setField(batch, "createdAt", CREATED_AT);
+        when(batchRepository.findById(batch.getId())).thenReturn(Optional.of(batch));
+    }
+
+    @Test
+    void registerAsync_길이를_추출하는_대로_일괄_접수_시각_기준_순서로_등록() throws IOException {
+        // given
+        List<IngestBatchItem> items = pendingItems("a.wav", "b.wav", "c.wav");
+        stubPersistence();
+        when(mediaProbeService.safeProbeFileDurationMs(any())).thenReturn(90_000L, 30_000L, 60_000L);
+
+        // when
+        registrar.registerAsync(batch.getId());
+
+        // then - 다음 파일의 길이를 추출하기 전에 앞 파일을 등록한다
+        InOrder order = inOrder(mediaProbeService, recordingRepository);
+        for (int i = 0; i < items.size(); i++) {
+            order.verify(mediaProbeService).safeProbeFileDurationMs(any());
+            order.verify(recordingRepository).save(any(Recording.class));
+        }
+        JobSchedulingPolicy policy = new JobSchedulingPolicy(props);
+        assertThat(savedJobs).extracting(ProcessingJob::getOriginalFilename).containsExactly("a.wav", "b.wav", "c.wav");
+        assertThat(savedJobs).extracting(ProcessingJob::getPriorityKey).containsExactly(
+            policy.priorityKey(JobLane.BULK, 90_000L, CREATED_AT),
+            policy.priorityKey(JobLane.BULK, 30_000L, CREATED_AT),
+            policy.priorityKey(JobLane.BULK, 60_000L, CREATED_AT));
+        assertThat(savedJobs).extracting(ProcessingJob::getLane).containsOnly(JobLane.BULK);
+        assertThat(savedJobs).extracting(ProcessingJob::getBatchId).containsOnly(batch.getId());
+        assertThat(items).extracting(IngestBatchItem::getJobId).doesNotContainNull();
+        assertThat(items).extracting(IngestBatchItem::getMediaPath).containsOnlyNulls();
+        assertThat(storageDir.toFile().list()).hasSize(3);
+    }
+
+    @Test
+    void registerAsync_결과_재사용_파일은_작업없이_완료로_기록하고_파일_삭제() throws IOException {
+        // given
+        List<IngestBatchItem> items = pendingItems("a.wav");
+        when(resultCache.reuse(any(), eq("batch"), eq("ko"), isNull(), eq(true)))
+            .thenReturn(Optional.of(new ProcessResponse("42", "ko", List.of(), List.of(), List.of())));
+
+        // when
+        registrar.registerAsync(batch.getId());
+
+        // then
+        assertThat(items.get(0).getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(items.get(0).getRecordingId()).isEqualTo(42L);
+        verify(jobRepository, never()).save(any());
+        assertThat(storageDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    void registerAsync_등록에_실패한_파일만_FAILED로_남김() throws IOException {
+        // given
+        List<IngestBatchItem> items = pendingItems("a.wav", "b.wav");
+        stubPersistence();
+        when(mediaProbeService.safeProbeFileDurationMs(any())).thenReturn(1_000L);
+        doThrow(new IllegalStateException("db down"))
+            .doAnswer(inv -> withId(inv.getArgument(0)))
+            .when(recordingRepository).save(any(Recording.class));
+
+        // when
+        registrar.registerAsync(batch.getId());
+
+        // then
+        assertThat(items).extracting(IngestBatchItem::getStatus).containsExactly(JobStatus.FAILED, JobStatus.QUEUED);
+        assertThat(items.get(0).getErrorMessage()).isEqualTo("db down");
+        assertThat(items.get(1).getJobId()).isNotNull();
+        assertThat(storageDir.toFile().list()).hasSize(1);
+    }
+
+    @Test
+    void registerAsync_다른_노드가_이미_잠근_항목은_건너뜀() throws IOException {
+        // given
+        List<IngestBatchItem> items = pendingItems("a.wav");
+        when(itemRepository.lockPending(items.get(0).getId())).thenReturn(Optional.empty());
+
+        // when
+        registrar.registerAsync(batch.getId());
+
+        // then
+        assertThat(items.get(0).isPending()).isTrue();
+        verify(recordingRepository, never()).save(any());
+        assertThat(storageDir.toFile().list()).hasSize(1);
+    }
+
+    @Test
+    void resumeStalled_등록이_멈춘_일괄을_이어서_등록() throws IOException {
+        // given
+        List<IngestBatchItem> items = pendingItems("a.wav");
+        stubPersistence();
+        when(mediaProbeService.safeProbeFileDurationMs(any())).thenReturn(1_000L);
+        when(itemRepository.findStalledBatchIds(any(), anyInt())).thenReturn(List.of(batch.getId()));
+
+        // when
+        registrar.resumeStalled();
+
+        // then - 이어서 등록해도 일괄 접수 시각 기준 순서를 쓴다
+        assertThat(items.get(0).getJobId()).isNotNull();
+        assertThat(savedJobs).extracting(ProcessingJob::getPriorityKey).containsExactly(
+            new JobSchedulingPolicy(props).priorityKey(JobLane.BULK, 1_000L, CREATED_AT));
+    }
+
+    /**
+     * 저장소에 파일을 만들고 등록 대기 항목으로 조회되게 한다. lockPending은 기본으로 해당 항목을 돌려준다.
+     */
+    private List<IngestBatchItem> pendingItems(String... filenames) throws IOException {
+        List<IngestBatchItem> items = new ArrayList<>();
+        for (int seq = 0; seq < filenames.length; seq++) {
+            Path file = Files.writeString(storageDir.resolve(seq + "-" + filenames[seq]), filenames[seq]);
+            IngestBatchItem item = withId(
+                IngestBatchItem.pending(batch, seq, filenames[seq], file.toString(), Files.size(file), "%064x".formatted(seq)));
+            lenient().when(itemRepository.lockPending(item.getId())).thenReturn(Optional.of(item));
+            items.add(item);
+        }
+        when(itemRepository.findByBatchIdAndStatusAndJobIdIsNullAndMediaPathIsNotNullOrderBySeq(
+            batch.getId(), JobStatus.QUEUED)).thenReturn(items);
+        return items;
+    }
+
+    private void stubPersistence() {
+        lenient().when(recordingRepository.save(any(Recording.class))).thenAnswer(inv -> withId(inv.getArgument(0)));
+        when(jobRepository.save(any(ProcessingJob.class))).thenAnswer(inv -> {
+            ProcessingJob job = withId(inv.getArgument(0));
+            savedJobs.add(job);
+            return job;
+        });
+    }
+
+    private <T> T withId(T entity) {
+        ReflectionTestUtils.setField(entity, "id", ids.incrementAndGet());
+        return entity;
+    }
+}
@@ -0,0 +1,228 @@
+package com.adas.application.job;
+
+import com.adas.application.dto.BatchReceipt;
+import com.adas.application.dto.BatchStatusResponse;
+import com.adas.application.media.ProcessingProperties;
+import com.adas.common.exception.CustomException;
+import com.adas.common.exception.TooManyRequestsException;
+import com.adas.domain.job.IngestBatch;
+import com.adas.domain.job.IngestBatchItem;
+import com.adas.domain.job.IngestBatchItemRepository;
+import com.adas.domain.job.IngestBatchRepository;
+import com.adas.domain.job.JobStatus;
+import com.adas.domain.job.ProcessingJob;
+import com.adas.domain.job.ProcessingJobRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.infrastructure.media.MediaProperties;
+import com.adas.infrastructure.media.MediaStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestBatchServiceTest {
+
+    @TempDir
+    Path storageDir;
+
+    @Mock
+    private IngestBatchRepository batchRepository;
+
+    @Mock
+    private IngestBatchItemRepository itemRepository;
+
+    @Mock
+    private ProcessingJobRepository jobRepository;
+
+    @Mock
+    private IngestJobService ingestJobService;
+
+    @Mock
+    private IngestBatchRegistrar registrar;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ProcessingProperties props = new ProcessingProperties();
+    private final AtomicLong ids = new AtomicLong();
+    private final List<IngestBatchItem> savedItems = new ArrayList<>();
+    private IngestBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        MediaProperties mediaProperties = new MediaProperties();
+        mediaProperties.setStorageDir(storageDir.toString());
+        service = new IngestBatchService(batchRepository, itemRepository, jobRepository,
+            new MediaStorage(mediaProperties), new TransactionTemplate(transactionManager), props, ingestJobService,
+            registrar);
+    }
+
+    @Test
+    void submit_여러_파일과_zip_항목을_보관해_등록_대기로_기록하고_바로_반환() throws IOException {
+        // given
+        stubPersistence();
+        MultipartFile single = new MockMultipartFile("files", "a.wav", "audio/wav", bytes("a"));
+        MultipartFile archive = new MockMultipartFile("files", "archive.zip", "application/zip",
+            zip("meetings/b.wav", "b", "meetings/", null, "__MACOSX/._b.wav", "x", "c.webm", "c"));
+
+        // when
+        BatchReceipt receipt = service.submit(List.of(single, archive), "ko", null, false);
+
+        // then - 디렉터리와 메타데이터 항목은 건너뛰고, 길이 추출과 작업 등록은 등록기에 넘긴다
+        assertThat(receipt.fileCount()).isEqualTo(3);
+        assertThat(savedItems).extracting(IngestBatchItem::getOriginalFilename).containsExactly("a.wav", "b.wav", "c.webm");
+        assertThat(savedItems).allMatch(IngestBatchItem::isPending);
+        assertThat(savedItems).extracting(IngestBatchItem::getContentSha256).doesNotContainNull();
+        assertThat(savedItems.get(0).getBatch().isUseCache()).isFalse();
+        assertThat(savedItems.get(0).getBatch().getSource()).isEqualTo("batch");
+        verify(registrar).registerAsync(receipt.batchId());
+        verify(jobRepository, never()).save(any());
+        try (Stream<Path> stored = Files.list(storageDir)) {
+            assertThat(stored).hasSize(3);
+        }
+    }
+
+    @Test
+    void submit_파일_수가_한도를_넘으면_보관파일을_지우고_거절() {
+        // given
+        props.getBatch().setMaxFiles(2);
+        List<MultipartFile> files = List.of(
+            new MockMultipartFile("files", "a.wav", "audio/wav", bytes("a")),
+            new MockMultipartFile("files", "b.wav", "audio/wav", bytes("b")),
+            new MockMultipartFile("files", "c.wav", "audio/wav", bytes("c")));
+
+        // when & then
+        assertThatThrownBy(() -> service.submit(files, "ko", null, true))
+            .isInstanceOf(CustomException.class)
+            .hasMessage("Batch exceeds 2 files");
+        assertThat(storageDir.toFile().list()).isEmpty();
+        verify(batchRepository, never()).save(any());
+        verify(registrar, never()).registerAsync(any());
+    }
+
+    @Test
+    void submit_미디어가_없으면_거절() {
+        // when & then
+        assertThatThrownBy(() -> service.submit(
+            List.of(new MockMultipartFile("files", "empty.zip", "application/zip", new byte[0])), "ko", null, true))
+            .isInstanceOf(CustomException.class)
+            .hasMessage("Batch contains no media files");
+    }
+
+    @Test
+    void submit_등록_대기_파일까지_세어_일괄_대기열에_자리가_없으면_429() {
+        // given
+        props.getBatch().setQueueCapacity(3);
+        when(jobRepository.countByStatusAndBatchIdIsNotNull(JobStatus.QUEUED)).thenReturn(1L);
+        when(itemRepository.countByStatusAndJobIdIsNullAndMediaPathIsNotNull(JobStatus.QUEUED)).thenReturn(1L);
+        when(ingestJobService.retryAfterSeconds(1L)).thenReturn(5L);
+        List<MultipartFile> files = List.of(
+            new MockMultipartFile("files", "a.wav", "audio/wav", bytes("a")),
+            new MockMultipartFile("files", "b.wav", "audio/wav", bytes("b")));
+
+        // when & then
+        assertThatThrownBy(() -> service.submit(files, "ko", null, true))
+            .isInstanceOfSatisfying(TooManyRequestsException.class,
+                e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(5L));
+        assertThat(storageDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    void getStatus_작업_단계로_파일별_상태와_진행률_집계() {
+        // given
+        IngestBatch batch = withId(IngestBatch.open("batch", "ko", 4, true));
+        ProcessingJob running = withId(ProcessingJob.enqueue(withId(Recording.createFromUpload("batch", "ko", 1L)),
+            "/tmp/a.wav", "a.wav", "ko", null));
+        running.advanceTo(JobStatus.TRANSCRIBING);
+        ProcessingJob done = withId(ProcessingJob.enqueue(withId(Recording.createFromUpload("batch", "ko", 1L)),
+            "/tmp/b.wav", "b.wav", "ko", null));
+        done.advanceTo(JobStatus.COMPLETED);
+        List<IngestBatchItem> items = List.of(
+            IngestBatchItem.pending(batch, 0, "a.wav", "/tmp/a.wav", 1L, null),
+            IngestBatchItem.pending(batch, 1, "b.wav", "/tmp/b.wav", 1L, null),
+            IngestBatchItem.pending(batch, 2, "c.wav", "/tmp/c.wav", 1L, null),
+            IngestBatchItem.pending(batch, 3, "d.wav", "/tmp/d.wav", 1L, null));
+        items.get(0).enqueued(running, 90_000L);
+        items.get(1).enqueued(done, 30_000L);
+        items.get(2).rejected("unreadable");
+        when(batchRepository.findById(batch.getId())).thenReturn(Optional.of(batch));
+        when(itemRepository.findByBatchIdOrderBySeq(batch.getId())).thenReturn(items);
+        when(jobRepository.findAllById(List.of(running.getId(), done.getId()))).thenReturn(List.of(running, done));
+
+        // when
+        BatchStatusResponse status = service.getStatus(batch.getId());
+
+        // then
+        assertThat(status.status()).isEqualTo("processing");
+        assertThat(status.queued()).isEqualTo(1);
+        assertThat(status.processing()).isEqualTo(1);
+        assertThat(status.completed()).isEqualTo(1);
+        assertThat(status.failed()).isEqualTo(1);
+        assertThat(status.progress()).isCloseTo(0.5, within(1e-9));
+        assertThat(status.durationProgress()).isCloseTo(0.25, within(1e-9));
+        assertThat(status.files()).extracting(BatchStatusResponse.Item::status)
+            .containsExactly("transcribing", "completed", "failed", "queued");
+        assertThat(status.files().get(2).message()).isEqualTo("unreadable");
+    }
+
+    private void stubPersistence() {
+        when(batchRepository.save(any(IngestBatch.class))).thenAnswer(inv -> withId(inv.getArgument(0)));
+        when(itemRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<IngestBatchItem> items = inv.getArgument(0);
+            items.forEach(this::withId);
+            savedItems.addAll(items);
+            return items;
+        });
+    }
+
+    private <T> T withId(T entity) {
+        ReflectionTestUtils.setField(entity, "id", ids.incrementAndGet());
+        return entity;
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * (이름, 내용) 쌍으로 zip을 만든다. 내용이 null이면 디렉터리 항목.
+     */
+    private static byte[] zip(String... entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(entries[i]));
+                if (entries[i + 1] != null) {
+                    zip.write(bytes(entries[i + 1]));
+                }
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,180 @@
+package com.adas.application.job;
+
+import com.adas.application.dto.IngestReceipt;
+import com.adas.application.dto.ProcessResponse;
+import com.adas.application.media.ProcessingProperties;
+import com.adas.application.media.RecordingResultCache;
+import com.adas.common.exception.ServiceBusyException;
+import com.adas.common.exception.TooManyRequestsException;
+import com.adas.domain.job.JobLane;
+import com.adas.domain.job.JobStatus;
+import com.adas.domain.job.ProcessingJob;
+import com.adas.domain.job.ProcessingJobRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.infrastructure.media.MediaProbeService;
+import com.adas.infrastructure.media.MediaStorage;
+import com.adas.infrastructure.media.StoredMedia;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestJobServiceTest {
+
+    @Mock
+    private RecordingRepository recordingRepository;
+
+    @Mock
+    private ProcessingJobRepository jobRepository;
+
+    @Mock
+    private MediaStorage mediaStorage;
+
+    @Mock
+    private RecordingResultCache resultCache;
+
+    @Mock
+    private MediaProbeService mediaProbeService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private MultipartFile multipartFile;
+
+    private final StoredMedia media =
+        new StoredMedia(Path.of("/tmp/adas-media/a.webm"), "recording.webm", 2048L, "a".repeat(64));
+    private final ProcessingProperties props = new ProcessingProperties();
+    private IngestJobService service;
+
+    @BeforeEach
+    void setUp() {
+        props.getJob().setQueueCapacity(2);
+        service = new IngestJobService(recordingRepository, jobRepository, mediaStorage,
+            new TransactionTemplate(transactionManager), props, resultCache, mediaProbeService,
+            new JobSchedulingPolicy(props));
+    }
+
+    @Test
+    void submit_작업을_큐에_넣고_즉시_반환() {
+        // given
+        when(jobRepository.countByStatusAndBatchIdIsNull(JobStatus.QUEUED)).thenReturn(1L);
+        when(mediaStorage.store(multipartFile)).thenReturn(media);
+        when(recordingRepository.save(any(Recording.class))).thenAnswer(inv -> {
+            Recording r = inv.getArgument(0);
+            ReflectionTestUtils.setField(r, "id", 10L);
+            return r;
+        });
+        when(jobRepository.save(any(ProcessingJob.class))).thenAnswer(inv -> {
+            ProcessingJob j = inv.getArgument(0);
+            ReflectionTestUtils.setField(j, "id", 1L);
+            return j;
+        });
+
+        // when
+        IngestReceipt receipt = service.submit(multipartFile, "ko", "cm-700usb", true);
+
+        // then - 처리는 디스패처가 가져갈 때까지 시작하지 않는다
+        assertThat(receipt.recordingId()).isEqualTo(10L);
+        assertThat(receipt.jobId()).isEqualTo(1L);
+        assertThat(receipt.status()).isEqualTo("queued");
+        verify(jobRepository).save(argThat(j -> j.getStatus() == JobStatus.QUEUED
+            && j.getLeaseOwner() == null
+            && j.getMediaPath().equals(media.path().toString())
+            && j.getRecording().getSource().equals("cm-700usb")
+            && j.getRecording().getContentSha256().equals(media.sha256())));
+        verify(mediaStorage, never()).delete(any());
+    }
+
+    @Test
+    void submit_접수시_길이를_추출해_순서를_정하고_대량_source는_대량_차선() {
+        // given
+        props.getScheduling().setBulkSources(List.of("archive"));
+        when(jobRepository.countByStatusAndBatchIdIsNull(JobStatus.QUEUED)).thenReturn(0L);
+        when(mediaStorage.store(multipartFile)).thenReturn(media);
+        when(mediaProbeService.safeProbeFileDurationMs(media.path())).thenReturn(30_000L);
+        when(recordingRepository.save(any(Recording.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(jobRepository.save(any(ProcessingJob.class))).thenAnswer(inv -> inv.getArgument(0));
+        long before = System.currentTimeMillis();
+
+        // when
+        service.submit(multipartFile, "ko", "archive", true);
+
+        // then - 대량 차선 가중치 1: 30초 녹음은 30초 늦춰진다
+        verify(jobRepository).save(argThat(j -> j.getLane() == JobLane.BULK
+            && j.getDurationMs() == 30_000L
+            && j.getRecording().getDurationMs() == 30_000L
+            && j.getPriorityKey() >= before + 30_000L));
+    }
+
+    @Test
+    void submit_대기열_포화시_보관전에_ServiceBusy_예외() {
+        // given
+        when(jobRepository.countByStatusAndBatchIdIsNull(JobStatus.QUEUED)).thenReturn(2L);
+
+        // when & then
+        assertThatThrownBy(() -> service.submit(multipartFile, "ko", null, true))
+            .isInstanceOf(ServiceBusyException.class);
+        verifyNoInteractions(mediaStorage, recordingRepository);
+    }
+
+    @Test
+    void submit_대기열_포화시_최근_완료_속도로_RetryAfter_계산() {
+        // given - 최근 5분간 60건 완료(초당 0.2건), 자리가 나려면 1건이 빠져야 함
+        when(jobRepository.countByStatusAndBatchIdIsNull(JobStatus.QUEUED)).thenReturn(2L);
+        when(jobRepository.countByStatusAndUpdatedAtAfter(eq(JobStatus.COMPLETED), any())).thenReturn(60L);
+
+        // when & then
+        assertThatThrownBy(() -> service.submit(multipartFile, "ko", null, true))
+            .isInstanceOfSatisfying(TooManyRequestsException.class,
+                e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(5L));
+    }
+
+    @Test
+    void submit_저장_실패시_보관파일_삭제() {
+        // given
+        when(jobRepository.countByStatusAndBatchIdIsNull(JobStatus.QUEUED)).thenReturn(0L);
+        when(mediaStorage.store(multipartFile)).thenReturn(media);
+        when(recordingRepository.save(any(Recording.class))).thenThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> service.submit(multipartFile, "ko", null, true))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("db down");
+        verify(mediaStorage).delete(media);
+    }
+
+    @Test
+    void submit_같은_내용의_완료된_결과가_있으면_작업없이_완료() {
+        // given
+        when(jobRepository.countByStatusAndBatchIdIsNull(JobStatus.QUEUED)).thenReturn(0L);
+        when(mediaStorage.store(multipartFile)).thenReturn(media);
+        when(resultCache.reuse(media, "ingest", "ko", null, true))
+            .thenReturn(Optional.of(new ProcessResponse("12", "ko", List.of(), List.of(), List.of())));
+
+        // when
+        IngestReceipt receipt = service.submit(multipartFile, "ko", null, true);
+
+        // then
+        assertThat(receipt.recordingId()).isEqualTo(12L);
+        assertThat(receipt.jobId()).isNull();
+        assertThat(receipt.status()).isEqualTo("completed");
+        verify(jobRepository, never()).save(any());
+        verify(mediaStorage).delete(media);
+    }
+}
@@ -0,0 +1,81 @@
+package com.adas.application.job;
+
+import com.adas.application.media.ProcessingProperties;
+import com.adas.domain.job.JobLane;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JobSchedulingPolicyTest {
+
+    private static final Instant NOW = Instant.ofEpochMilli(1_000_000L);
+
+    private final ProcessingProperties props = new ProcessingProperties();
+    private final JobSchedulingPolicy policy = new JobSchedulingPolicy(props);
+
+    @Test
+    void priorityKey_짧은_녹음이_먼저_접수된_긴_녹음을_앞지름() {
+        // given - 3시간 회의 뒤 1분 후 30초 음성 메모 접수
+        long meeting = policy.priorityKey(JobLane.INTERACTIVE, 3 * 3_600_000L, NOW);
+        long memo = policy.priorityKey(JobLane.INTERACTIVE, 30_000L, NOW.plusSeconds(60));
+
+        // then
+        assertThat(memo).isLessThan(meeting);
+    }
+
+    @Test
+    void priorityKey_지연은_최대값으로_제한되어_오래_기다린_작업이_결국_먼저() {
+        // given
+        props.getScheduling().setMaxDelayMs(600_000L);
+        long meeting = policy.priorityKey(JobLane.BULK, 3 * 3_600_000L, NOW);
+
+        // when - 최대 지연보다 늦게 접수된 짧은 작업
+        long late = policy.priorityKey(JobLane.INTERACTIVE, 1_000L, NOW.plusMillis(600_001L));
+
+        // then
+        assertThat(meeting).isEqualTo(NOW.toEpochMilli() + 600_000L);
+        assertThat(late).isGreaterThan(meeting);
+    }
+
+    @Test
+    void priorityKey_같은_길이면_대량_차선이_더_늦춰짐() {
+        // when
+        long interactive = policy.priorityKey(JobLane.INTERACTIVE, 60_000L, NOW);
+        long bulk = policy.priorityKey(JobLane.BULK, 60_000L, NOW);
+
+        // then - 기본 가중치 4:1
+        assertThat(interactive).isEqualTo(NOW.toEpochMilli() + 15_000L);
+        assertThat(bulk).isEqualTo(NOW.toEpochMilli() + 60_000L);
+    }
+
+    @Test
+    void priorityKey_길이를_모르면_추정값_사용() {
+        // given
+        props.getScheduling().setUnknownDurationMs(120_000L);
+
+        // when & then
+        assertThat(policy.priorityKey(JobLane.BULK, null, NOW)).isEqualTo(NOW.toEpochMilli() + 120_000L);
+    }
+
+    @Test
+    void laneFor_일괄_업로드와_대량_source는_대량_차선() {
+        // given
+        props.getScheduling().setBulkSources(List.of("archive"));
+
+        // when & then
+        assertThat(policy.laneFor("ingest", false)).isEqualTo(JobLane.INTERACTIVE);
+        assertThat(policy.laneFor("archive", false)).isEqualTo(JobLane.BULK);
+        assertThat(policy.laneFor("ingest", true)).isEqualTo(JobLane.BULK);
+    }
+
+    @Test
+    void bulkLimit_대화형_몫의_워커를_남김() {
+        // when & then
+        assertThat(policy.bulkLimit(4, 0)).isEqualTo(3);
+        assertThat(policy.bulkLimit(4, 3)).isZero();
+        assertThat(policy.bulkLimit(1, 0)).isEqualTo(1);
+    }
+}
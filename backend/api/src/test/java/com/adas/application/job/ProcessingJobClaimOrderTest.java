@@ -0,0 +1,135 @@
+package com.adas.application.job;
+
+import com.adas.domain.job.JobLane;
+import com.adas.domain.job.ProcessingJob;
+import com.adas.domain.job.ProcessingJobRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.presentation.ApiApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 영속 큐의 임대 순서: 접수 시각에 녹음 길이/차선 가중치만큼의 지연을 더한 순서로 가져가고, 대량 차선 작업은 한도만큼만 가져간다.
+ */
+class ProcessingJobClaimOrderTest {
+
+    @TempDir
+    Path storageDir;
+
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        String db = "jdbc:h2:mem:claim-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+        // claim-batch-size=0: 디스패처가 작업을 가져가지 않도록 해 큐 순서만 확인한다
+        context = new SpringApplicationBuilder(ApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .run(
+                "--spring.datasource.url=" + db,
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--media.storage-dir=" + storageDir,
+                "--processing.job.claim-batch-size=0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void claim_짧은_녹음부터_대량_차선은_가중치만큼_늦게() {
+        // given
+        enqueue("meeting.webm", JobLane.INTERACTIVE, 3 * 3_600_000L);
+        enqueue("batch-long.wav", JobLane.BULK, 20 * 60_000L);
+        enqueue("batch-short.wav", JobLane.BULK, 60_000L);
+        enqueue("unknown.webm", JobLane.INTERACTIVE, null);
+        enqueue("memo.webm", JobLane.INTERACTIVE, 30_000L);
+
+        // when
+        List<ClaimedJob> claimed = context.getBean(ProcessingJobQueue.class).claim("test", 10, 10);
+
+        // then - 지연: 7.5s, 60s, 150s(추정 10분/4), 20분, 30분(상한)
+        assertThat(claimed).extracting(ClaimedJob::originalFilename).containsExactly(
+            "memo.webm", "batch-short.wav", "unknown.webm", "batch-long.wav", "meeting.webm");
+    }
+
+    @Test
+    void claim_대량_한도를_넘는_대량_작업은_남겨둠() {
+        // given
+        enqueue("batch-a.wav", JobLane.BULK, 1_000L);
+        enqueue("batch-b.wav", JobLane.BULK, 2_000L);
+        enqueue("memo.webm", JobLane.INTERACTIVE, 30_000L);
+        ProcessingJobQueue queue = context.getBean(ProcessingJobQueue.class);
+
+        // when
+        List<ClaimedJob> first = queue.claim("test", 3, 1);
+        List<ClaimedJob> second = queue.claim("test", 3, 0);
+
+        // then
+        assertThat(first).extracting(ClaimedJob::originalFilename).containsExactly("batch-a.wav", "memo.webm");
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    void claim_순서상_앞선_대량_작업이_대화형_작업을_밀어내지_않음() {
+        // given - 대량 작업이 모두 대화형 작업보다 앞 순서다
+        enqueue("batch-a.wav", JobLane.BULK, 1_000L);
+        enqueue("batch-b.wav", JobLane.BULK, 2_000L);
+        enqueue("batch-c.wav", JobLane.BULK, 3_000L);
+        enqueue("meeting.webm", JobLane.INTERACTIVE, 3 * 3_600_000L);
+
+        // when
+        List<ClaimedJob> claimed = context.getBean(ProcessingJobQueue.class).claim("test", 2, 1);
+
+        // then
+        assertThat(claimed).extracting(ClaimedJob::originalFilename).containsExactly("batch-a.wav", "meeting.webm");
+    }
+
+    @Test
+    void backfill_차선_도입_전_작업은_대화형_차선_맨_앞으로_채우고_컬럼을_NOT_NULL로() {
+        // given - 차선 도입 전 스키마: lane, priority_key가 null을 허용하고 값이 없는 작업이 남아 있다
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.execute("ALTER TABLE processing_jobs ALTER COLUMN lane SET NULL");
+        jdbc.execute("ALTER TABLE processing_jobs ALTER COLUMN priority_key SET NULL");
+        enqueue("memo.webm", JobLane.INTERACTIVE, 30_000L);
+        enqueue("legacy.webm", JobLane.INTERACTIVE, null);
+        jdbc.update("UPDATE processing_jobs SET lane = NULL, priority_key = NULL WHERE original_filename = 'legacy.webm'");
+
+        // when
+        context.getBean(ProcessingJobSchemaBackfill.class).run(null);
+
+        // then
+        assertThat(context.getBean(ProcessingJobQueue.class).claim("test", 10, 10))
+            .extracting(ClaimedJob::originalFilename).containsExactly("legacy.webm", "memo.webm");
+        assertThatThrownBy(() -> jdbc.update("UPDATE processing_jobs SET lane = NULL"))
+            .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbc.update("UPDATE processing_jobs SET priority_key = NULL"))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private void enqueue(String filename, JobLane lane, Long durationMs) {
+        context.getBean(TransactionTemplate.class).executeWithoutResult(tx -> {
+            Recording rec = context.getBean(RecordingRepository.class)
+                .save(Recording.createFromUpload("ingest", "ko", 1L));
+            ProcessingJob job = ProcessingJob.enqueue(rec, storageDir.resolve(filename).toString(), filename, "ko", null);
+            context.getBean(JobSchedulingPolicy.class).schedule(job, lane, durationMs);
+            context.getBean(ProcessingJobRepository.class).save(job);
+        });
+    }
+}
@@ -0,0 +1,165 @@
+package com.adas.application.job;
+
+import com.adas.application.media.MediaProcessingService;
+import com.adas.application.media.ProcessingProperties;
+import com.adas.domain.job.JobLane;
+import com.adas.domain.job.JobStatus;
+import com.adas.infrastructure.media.MediaStorage;
+import com.adas.infrastructure.media.StoredMedia;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessingJobDispatcherTest {
+
+    private static final String NODE = "node-a";
+
+    @Mock
+    private ProcessingJobQueue queue;
+
+    @Mock
+    private MediaProcessingService mediaProcessingService;
+
+    @Mock
+    private MediaStorage mediaStorage;
+
+    private final ProcessingProperties props = new ProcessingProperties();
+    private final StoredMedia media = new StoredMedia(Path.of("/tmp/adas-media/a.webm"), "a.webm", 2048L);
+    private final ClaimedJob job = new ClaimedJob(1L, 10L, "/tmp/adas-media/a.webm", "a.webm", "ko", null, JobLane.INTERACTIVE);
+    private final List<Runnable> submitted = new ArrayList<>();
+    private ProcessingJobDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        props.getJob().setNodeId(NODE);
+        props.getJob().setWorkers(2);
+        props.getJob().setClaimBatchSize(4);
+        dispatcher = new ProcessingJobDispatcher(queue, mediaProcessingService, mediaStorage, props,
+            new JobSchedulingPolicy(props), submitted::add);
+    }
+
+    @Test
+    void poll_빈_워커_수만큼만_임대() {
+        // given
+        when(queue.claim(NODE, 2, 1)).thenReturn(List.of(job));
+
+        // when
+        dispatcher.poll();
+
+        // then - 하나가 진행 중이므로 다음 조회는 1개만 요청
+        assertThat(submitted).hasSize(1);
+        dispatcher.poll();
+        verify(queue).claim(NODE, 1, 1);
+    }
+
+    @Test
+    void poll_대량_작업은_대화형_몫의_워커를_남기고_임대() {
+        // given - 워커 2개 중 1개는 대화형 몫
+        ClaimedJob bulk = new ClaimedJob(2L, 20L, "/tmp/adas-media/b.wav", "b.wav", "ko", null, JobLane.BULK);
+        when(queue.claim(NODE, 2, 1)).thenReturn(List.of(bulk));
+
+        // when
+        dispatcher.poll();
+        dispatcher.poll();
+
+        // then - 남은 워커 1개로는 대화형 작업만 가져간다
+        verify(queue).claim(NODE, 1, 0);
+    }
+
+    @Test
+    void poll_워커가_모두_사용중이면_임대하지_않음() {
+        // given
+        props.getJob().setWorkers(0);
+
+        // when
+        dispatcher.poll();
+
+        // then
+        verifyNoInteractions(queue);
+    }
+
+    @Test
+    void run_단계_보고후_완료_및_파일_삭제() {
+        // given
+        when(queue.claim(NODE, 2, 1)).thenReturn(List.of(job));
+        when(mediaStorage.open("/tmp/adas-media/a.webm", "a.webm")).thenReturn(media);
+        when(mediaProcessingService.processStored(eq(10L), eq(media), eq("ko"), isNull(), any()))
+            .thenAnswer(inv -> {
+                Consumer<JobStatus> onStage = inv.getArgument(4);
+                onStage.accept(JobStatus.PROBING);
+                return null;
+            });
+
+        // when
+        dispatcher.poll();
+        dispatcher.heartbeat();
+        submitted.get(0).run();
+
+        // then
+        InOrder inOrder = inOrder(queue, mediaStorage);
+        inOrder.verify(queue).renewLeases(NODE, Set.of(1L));
+        inOrder.verify(queue).advance(1L, NODE, JobStatus.PROBING);
+        inOrder.verify(queue).advance(1L, NODE, JobStatus.COMPLETED);
+        inOrder.verify(mediaStorage).delete(media);
+        clearInvocations(queue);
+        dispatcher.heartbeat();
+        verify(queue, never()).renewLeases(any(), any());
+    }
+
+    @Test
+    void run_처리_실패시_FAILED_기록() {
+        // given
+        when(mediaStorage.open("/tmp/adas-media/a.webm", "a.webm")).thenReturn(media);
+        when(mediaProcessingService.processStored(eq(10L), eq(media), eq("ko"), isNull(), any()))
+            .thenThrow(new IllegalStateException("stt down"));
+
+        // when
+        dispatcher.run(job);
+
+        // then
+        verify(queue).fail(1L, NODE, "stt down");
+        verify(mediaStorage).delete(media);
+    }
+
+    @Test
+    void run_임대를_잃으면_파일을_남기고_중단() {
+        // given
+        when(mediaStorage.open("/tmp/adas-media/a.webm", "a.webm")).thenReturn(media);
+        when(mediaProcessingService.processStored(eq(10L), eq(media), eq("ko"), isNull(), any()))
+            .thenThrow(new LeaseLostException("Lease on job 1 is no longer held by node-a"));
+
+        // when
+        dispatcher.run(job);
+
+        // then - 새 소유 노드가 같은 파일로 재처리한다
+        verify(queue, never()).fail(any(), any(), any());
+        verify(mediaStorage, never()).delete(any());
+    }
+
+    @Test
+    void recoverExpiredLeases_시도_한도로_FAILED된_작업의_파일_삭제() {
+        // given
+        when(queue.recoverExpiredLeases(4)).thenReturn(new RecoveredLeases(2, List.of("/tmp/adas-media/a.webm")));
+
+        // when
+        dispatcher.recoverExpiredLeases();
+
+        // then - 대기열로 돌아간 작업의 파일은 남긴다
+        verify(mediaStorage).deletePath("/tmp/adas-media/a.webm");
+        verifyNoMoreInteractions(mediaStorage);
+    }
+}
@@ -0,0 +1,158 @@
+package com.adas.application.job;
+
+import com.adas.application.dto.IngestReceipt;
+import com.adas.domain.job.JobStatus;
+import com.adas.domain.job.ProcessingJob;
+import com.adas.domain.job.ProcessingJobRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.infrastructure.media.MediaStorage;
+import com.adas.infrastructure.media.StoredMedia;
+import com.adas.presentation.ApiApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 같은 DB와 미디어 저장소를 공유하는 두 노드가 영속 큐의 작업을 중복 없이 나눠 처리하는지 검증한다.
+ */
+class ProcessingJobMultiNodeTest {
+
+    private static final int JOBS = 12;
+
+    @TempDir
+    Path storageDir;
+
+    private HttpServer stub;
+    private final AtomicInteger sttCalls = new AtomicInteger();
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/stt/transcribe", ex -> {
+            sttCalls.incrementAndGet();
+            respond(ex, "{\"lang\":\"ko\",\"words\":[{\"start\":0,\"end\":500,\"text\":\"안녕\",\"confidence\":0.9}]}");
+        });
+        stub.createContext("/diarize", ex ->
+            respond(ex, "{\"segments\":[{\"start\":0,\"end\":1000,\"speaker\":\"S1\",\"confidence\":0.8}]}"));
+        stub.setExecutor(Executors.newFixedThreadPool(8));
+        stub.start();
+
+        String db = "jdbc:h2:mem:jobs-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+        nodes.add(startNode("node-a", db));
+        nodes.add(startNode("node-b", db));
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+        stub.stop(0);
+    }
+
+    @Test
+    void 두_노드가_작업을_중복없이_나눠_처리하고_만료된_임대를_회수() throws Exception {
+        // given - 중단된 노드가 임대한 채 남긴 작업
+        ConfigurableApplicationContext nodeA = nodes.get(0);
+        Long orphanId = orphanJob(nodeA);
+
+        // when
+        IngestJobService ingest = nodeA.getBean(IngestJobService.class);
+        for (int i = 0; i < JOBS; i++) {
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "r" + i + ".webm", "audio/webm", ("audio-" + i).getBytes(StandardCharsets.UTF_8));
+            IngestReceipt receipt = ingest.submit(file, "ko", null, true);
+            assertThat(receipt.status()).isEqualTo("queued");
+        }
+
+        // then
+        ProcessingJobRepository jobs = nodeA.getBean(ProcessingJobRepository.class);
+        long deadline = System.currentTimeMillis() + 20_000;
+        while (jobs.findAll().stream().anyMatch(j -> !j.getStatus().isTerminal())
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        List<ProcessingJob> all = jobs.findAll();
+        assertThat(all).hasSize(JOBS + 1)
+            .allSatisfy(j -> assertThat(j.getStatus()).isEqualTo(JobStatus.COMPLETED));
+        assertThat(all).filteredOn(j -> !j.getId().equals(orphanId))
+            .allSatisfy(j -> assertThat(j.getAttempts()).isEqualTo(1));
+        assertThat(jobs.findById(orphanId).orElseThrow().getAttempts()).isEqualTo(2);
+        assertThat(sttCalls.get()).isEqualTo(JOBS + 1);
+        assertThat(all).filteredOn(j -> "node-a".equals(j.getLeaseOwner())).isNotEmpty();
+        assertThat(all).filteredOn(j -> "node-b".equals(j.getLeaseOwner())).isNotEmpty();
+        try (var files = Files.list(storageDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private Long orphanJob(ConfigurableApplicationContext node) {
+        StoredMedia media = node.getBean(MediaStorage.class).store(
+            new MockMultipartFile("file", "orphan.webm", "audio/webm", "orphan".getBytes(StandardCharsets.UTF_8)));
+        Instant past = Instant.now().minusSeconds(120);
+        return node.getBean(TransactionTemplate.class).execute(tx -> {
+            Recording rec = node.getBean(RecordingRepository.class)
+                .save(Recording.createFromUpload("ingest", "ko", media.sizeBytes()));
+            ProcessingJob job = ProcessingJob.enqueue(rec, media.path().toString(), media.filename(), "ko", null);
+            job.claim("dead-node", past, past.plusSeconds(60));
+            return node.getBean(ProcessingJobRepository.class).save(job).getId();
+        });
+    }
+
+    private ConfigurableApplicationContext startNode(String nodeId, String dbUrl) {
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        // 설정 파일보다 우선하도록 커맨드라인 인자로 전달
+        return new SpringApplicationBuilder(ApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .run(
+                "--spring.datasource.url=" + dbUrl,
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--media.storage-dir=" + storageDir,
+                "--external.stt.base-url=" + stubUrl,
+                "--external.diarization.base-url=" + stubUrl,
+                "--processing.job.node-id=" + nodeId,
+                "--processing.job.workers=2",
+                "--processing.job.claim-batch-size=1",
+                "--processing.job.poll-interval-ms=20",
+                "--processing.job.heartbeat-interval-ms=200",
+                "--processing.job.recovery-interval-ms=100");
+    }
+
+    private static void respond(HttpExchange ex, String json) throws IOException {
+        ex.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json");
+        ex.sendResponseHeaders(200, body.length);
+        ex.getResponseBody().write(body);
+        ex.close();
+    }
+}
@@ -0,0 +1,152 @@
+package com.adas.application.live;
+
+import com.adas.application.dto.LiveMessage;
+import com.adas.common.exception.ServiceBusyException;
+import com.adas.domain.diarization.DiarizationSegmentRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.domain.speaker.SpeakerTurnRepository;
+import com.adas.domain.transcript.TranscriptSegmentRepository;
+import com.adas.presentation.ApiApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 녹음이 끝나기 전에 구간별 턴이 전달되고, 확정 결과가 점진적으로 저장되는지 검증한다.
+ */
+class LiveIngestServiceTest {
+
+    private static final int SAMPLE_RATE = 8_000;
+    private static final int BYTES_PER_MS = SAMPLE_RATE * 2 / 1000;
+
+    private HttpServer stub;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // 구간마다 구간 기준 100~400ms에 단어 하나, 구간 전체에 화자 S
+        stub.createContext("/stt/transcribe", ex ->
+            respond(ex, "{\"lang\":\"ko\",\"words\":[{\"start\":100,\"end\":400,\"text\":\"말\",\"confidence\":0.9}]}"));
+        stub.createContext("/diarize", ex ->
+            respond(ex, "{\"segments\":[{\"start\":0,\"end\":700,\"speaker\":\"S\",\"confidence\":0.8}]}"));
+        stub.setExecutor(Executors.newFixedThreadPool(4));
+        stub.start();
+
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        context = new SpringApplicationBuilder(ApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:live-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--external.stt.base-url=" + stubUrl,
+                "--external.diarization.base-url=" + stubUrl,
+                "--processing.live.step-ms=1000",
+                "--processing.live.overlap-ms=200",
+                "--processing.job.workers=0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void 녹음_중에_구간별_턴을_전달하고_종료시_모두_확정() throws Exception {
+        // given
+        LiveIngestService service = context.getBean(LiveIngestService.class);
+        List<LiveMessage> messages = new CopyOnWriteArrayList<>();
+        LiveSession session = service.open("ko", null, SAMPLE_RATE, 1, messages::add);
+        Path spool = session.getSpool().path();
+
+        // when - 250ms 프레임으로 1.5초를 보낸 시점에 첫 구간 결과가 도착해야 한다
+        sendFrames(service, session, 6);
+        awaitUpdates(messages, 1);
+        assertThat(messages.get(0).type()).isEqualTo("opened");
+        LiveMessage first = messages.stream().filter(m -> "update".equals(m.type())).findFirst().orElseThrow();
+        assertThat(first.window()).isZero();
+        assertThat(first.provisional()).singleElement().satisfies(t -> assertThat(t.getText()).isEqualTo("말"));
+
+        sendFrames(service, session, 4);
+        service.finish(session).get(10, TimeUnit.SECONDS);
+
+        // then - 구간 0(0~1000), 1(800~2000), 마지막(1800~2500)
+        List<LiveMessage> updates = messages.stream().filter(m -> "update".equals(m.type())).toList();
+        assertThat(updates).extracting(LiveMessage::window).containsExactly(0, 1, 2);
+        assertThat(updates.get(2).finalized()).singleElement()
+            .satisfies(t -> assertThat(t.getText()).isEqualTo("말 말 말"));
+        assertThat(messages.get(messages.size() - 1).type()).isEqualTo("completed");
+
+        Long recordingId = session.getRecordingId();
+        Recording rec = context.getBean(RecordingRepository.class).findById(recordingId).orElseThrow();
+        assertThat(rec.isCompleted()).isTrue();
+        assertThat(rec.getDurationMs()).isEqualTo(2_500L);
+        assertThat(rec.getSizeBytes()).isEqualTo(2_500L * BYTES_PER_MS);
+        assertThat(context.getBean(TranscriptSegmentRepository.class).findAll())
+            .extracting(t -> t.getStartMs()).containsExactly(100L, 900L, 1_900L);
+        assertThat(context.getBean(DiarizationSegmentRepository.class).findAll()).hasSize(3);
+        // 구간마다 이어진 턴은 새 행을 추가하지 않고 같은 행을 고친다
+        assertThat(context.getBean(SpeakerTurnRepository.class).findAll()).singleElement()
+            .satisfies(t -> assertThat(t.getText()).isEqualTo("말 말 말"));
+        assertThat(spool).doesNotExist();
+        assertThat(service.getActiveSessions()).isZero();
+    }
+
+    @Test
+    void 동시_세션_수를_넘으면_거절() {
+        // given
+        LiveIngestService service = context.getBean(LiveIngestService.class);
+        int max = 20;
+        for (int i = 0; i < max; i++) {
+            service.open("ko", null, SAMPLE_RATE, 1, m -> { });
+        }
+
+        // when & then
+        assertThatThrownBy(() -> service.open("ko", null, SAMPLE_RATE, 1, m -> { }))
+            .isInstanceOf(ServiceBusyException.class);
+        assertThat(service.getActiveSessions()).isEqualTo(max);
+    }
+
+    private static void sendFrames(LiveIngestService service, LiveSession session, int frames) {
+        for (int i = 0; i < frames; i++) {
+            service.append(session, ByteBuffer.wrap(new byte[250 * BYTES_PER_MS]));
+        }
+    }
+
+    private static void awaitUpdates(List<LiveMessage> messages, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (messages.stream().filter(m -> "update".equals(m.type())).count() < count
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private static void respond(HttpExchange ex, String json) throws IOException {
+        ex.getRequestBody().readAllBytes();
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json");
+        ex.sendResponseHeaders(200, body.length);
+        ex.getResponseBody().write(body);
+        ex.close();
+    }
+}
@@ -0,0 +1,152 @@
+package com.adas.application.media;
+
+import com.adas.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdmissionControllerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void admit_슬롯이_있으면_즉시_입장하고_닫으면_반납() {
+        // given
+        AdmissionController admission = admission(1, 0, 100);
+
+        // when
+        AdmissionController.Permit permit = admission.admit();
+
+        // then
+        assertThat(admission.getInFlight()).isEqualTo(1);
+        permit.close();
+        permit.close();
+        assertThat(admission.getInFlight()).isZero();
+        assertThat(registry.get("media.admission.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void admit_대기열이_가득_차면_즉시_429() {
+        // given - 슬롯 1, 대기열 0
+        AdmissionController admission = admission(1, 0, 1_000);
+        AdmissionController.Permit held = admission.admit();
+
+        // when & then
+        long started = System.nanoTime();
+        assertThatThrownBy(admission::admit)
+            .isInstanceOfSatisfying(TooManyRequestsException.class,
+                e -> assertThat(e.getRetryAfterSeconds()).isPositive());
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(500);
+        assertThat(registry.get("media.admission.rejected").tag("reason", "queue_full").counter().count())
+            .isEqualTo(1.0);
+        held.close();
+    }
+
+    @Test
+    void admit_대기_시간을_넘기면_429() {
+        // given
+        AdmissionController admission = admission(1, 1, 100);
+        AdmissionController.Permit held = admission.admit();
+
+        // when & then
+        assertThatThrownBy(admission::admit).isInstanceOf(TooManyRequestsException.class);
+        assertThat(registry.get("media.admission.rejected").tag("reason", "timeout").counter().count())
+            .isEqualTo(1.0);
+        assertThat(registry.get("media.admission.queue.wait").timer().count()).isEqualTo(1);
+        assertThat(admission.getQueued()).isZero();
+        held.close();
+    }
+
+    @Test
+    void admit_대기_중_슬롯이_반납되면_입장() throws Exception {
+        // given
+        AdmissionController admission = admission(1, 1, 5_000);
+        AdmissionController.Permit held = admission.admit();
+        CountDownLatch waiting = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<AdmissionController.Permit> next = CompletableFuture.supplyAsync(() -> {
+            waiting.countDown();
+            return admission.admit();
+        });
+        waiting.await();
+        while (admission.getQueued() == 0 && !next.isDone()) {
+            Thread.sleep(5);
+        }
+        assertThat(registry.get("media.admission.queue.depth").gauge().value()).isEqualTo(1.0);
+        held.close();
+
+        // then
+        next.get(2, TimeUnit.SECONDS).close();
+        assertThat(admission.getInFlight()).isZero();
+    }
+
+    @Test
+    void admitAsync_대기_중_취소하면_대기열에서_빠지고_슬롯을_잃지_않음() {
+        // given
+        AdmissionController admission = admission(1, 2, 5_000);
+        AdmissionController.Permit held = admission.admit();
+        List<AdmissionController.Permit> received = new ArrayList<>();
+        Disposable waiting = admission.admitAsync().subscribe(received::add);
+        assertThat(admission.getQueued()).isEqualTo(1);
+
+        // when
+        waiting.dispose();
+        held.close();
+
+        // then - 취소한 요청에 슬롯이 넘어가지 않고, 다음 요청이 바로 입장한다
+        assertThat(received).isEmpty();
+        assertThat(admission.getQueued()).isZero();
+        assertThat(admission.getInFlight()).isZero();
+        AdmissionController.Permit next = admission.admitAsync().block(Duration.ofMillis(100));
+        assertThat(admission.getInFlight()).isEqualTo(1);
+        next.close();
+    }
+
+    @Test
+    void admitAsync_대기는_스레드를_점유하지_않고_반납한_스레드에서_다음_요청에_넘김() {
+        // given
+        AdmissionController admission = admission(1, 3, 5_000);
+        AdmissionController.Permit held = admission.admit();
+        List<AdmissionController.Permit> received = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            admission.admitAsync().subscribe(received::add);
+        }
+
+        // when & then - 구독만 하고 돌아오며, 반납할 때마다 도착 순으로 하나씩 입장한다
+        assertThat(admission.getQueued()).isEqualTo(3);
+        held.close();
+        assertThat(received).hasSize(1);
+        received.get(0).close();
+        received.get(1).close();
+        received.get(2).close();
+        assertThat(received).hasSize(3);
+        assertThat(admission.getInFlight()).isZero();
+        assertThat(admission.getQueued()).isZero();
+    }
+
+    @Test
+    void estimateRetryAfter_처리속도로_대기열이_비는_시간을_상하한으로_제한() {
+        assertThat(AdmissionController.estimateRetryAfter(10, 2.0, 30, 60)).isEqualTo(5);
+        assertThat(AdmissionController.estimateRetryAfter(1, 100.0, 30, 60)).isEqualTo(1);
+        assertThat(AdmissionController.estimateRetryAfter(1_000, 1.0, 30, 60)).isEqualTo(60);
+        assertThat(AdmissionController.estimateRetryAfter(3, 0, 30, 60)).isEqualTo(30);
+    }
+
+    private AdmissionController admission(int maxInFlight, int maxQueued, long maxQueueWaitMs) {
+        ProcessingProperties props = new ProcessingProperties();
+        props.getAdmission().setMaxInFlight(maxInFlight);
+        props.getAdmission().setMaxQueued(maxQueued);
+        props.getAdmission().setMaxQueueWaitMs(maxQueueWaitMs);
+        return new AdmissionController(props, registry);
+    }
+}
@@ -0,0 +1,112 @@
+package com.adas.application.media;
+
+import com.adas.application.dto.ProcessResponse;
+import com.adas.presentation.ApiApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 외부 호출 동안 DB 커넥션을 점유하지 않으므로, 커넥션 풀(M)보다 많은 업로드(N)가 커넥션 대기 없이 동시에 처리되는지 검증한다.
+ */
+class MediaProcessingConcurrencyTest {
+
+    private static final int POOL_SIZE = 2;
+    private static final int UPLOADS = 6;
+    private static final long REMOTE_DELAY_MS = 1_000;
+
+    private HttpServer stub;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/stt/transcribe", ex ->
+            respond(ex, "{\"lang\":\"ko\",\"words\":[{\"start\":0,\"end\":500,\"text\":\"안녕\",\"confidence\":0.9}]}"));
+        stub.createContext("/diarize", ex ->
+            respond(ex, "{\"segments\":[{\"start\":0,\"end\":1000,\"speaker\":\"S1\",\"confidence\":0.8}]}"));
+        stub.setExecutor(Executors.newFixedThreadPool(UPLOADS * 2));
+        stub.start();
+
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        // 커넥션 대기 시간(500ms)이 외부 호출 지연(1s)보다 짧아, 호출 중 커넥션을 쥐고 있으면 초과 요청은 획득 타임아웃으로 실패한다.
+        context = new SpringApplicationBuilder(ApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:pool-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.datasource.hikari.connection-timeout=500",
+                "--external.stt.base-url=" + stubUrl,
+                "--external.diarization.base-url=" + stubUrl,
+                "--processing.execution-mode=parallel",
+                "--processing.job.workers=0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void 커넥션_풀보다_많은_동시_업로드가_모두_처리됨() throws Exception {
+        // given
+        MediaProcessingService service = context.getBean(MediaProcessingService.class);
+        ExecutorService callers = Executors.newFixedThreadPool(UPLOADS);
+
+        // when
+        long started = System.nanoTime();
+        List<Future<ProcessResponse>> results = new ArrayList<>();
+        for (int i = 0; i < UPLOADS; i++) {
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "r" + i + ".wav", "audio/wav", ("audio-" + i).getBytes(StandardCharsets.UTF_8));
+            results.add(callers.submit(() -> service.process(file, "ko", null, true)));
+        }
+        List<ProcessResponse> responses = new ArrayList<>();
+        for (Future<ProcessResponse> f : results) {
+            responses.add(f.get());
+        }
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - started).toMillis();
+        callers.shutdown();
+
+        // then - 풀 크기 단위로 직렬화되면 (N/M) * 1s = 3s 이상 걸린다
+        assertThat(responses).hasSize(UPLOADS)
+            .allSatisfy(r -> assertThat(r.words()).hasSize(1));
+        assertThat(responses).extracting(ProcessResponse::recordingId).doesNotHaveDuplicates();
+        assertThat(elapsedMs).isLessThan(UPLOADS / POOL_SIZE * REMOTE_DELAY_MS);
+    }
+
+    private static void respond(HttpExchange ex, String json) throws IOException {
+        ex.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(REMOTE_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json");
+        ex.sendResponseHeaders(200, body.length);
+        ex.getResponseBody().write(body);
+        ex.close();
+    }
+}
@@ -1,26 +1,59 @@
 package com.adas.application.media;
 
 import com.adas.application.dto.ProcessResponse;
+import com.adas.application.media.ProcessingProperties.ExecutionMode;
+import com.adas.common.exception.UpstreamTimeoutException;
+import com.adas.domain.diarization.DiarizationSegment;
 import com.adas.domain.diarization.DiarizationSegmentRepository;
+import com.adas.domain.job.JobStatus;
 import com.adas.domain.recording.Recording;
 import com.adas.domain.recording.RecordingRepository;
 import com.adas.domain.speaker.SpeakerTurnRepository;
 import com.adas.domain.speech.SpeechMergeService;
+import com.adas.domain.speech.TranscriptStitcher;
 import com.adas.domain.speech.Turn;
+import com.adas.domain.speech.TurnDelta;
+import com.adas.domain.speech.TurnDelta.KeyedTurn;
+import com.adas.domain.transcript.TranscriptSegment;
 import com.adas.domain.transcript.TranscriptSegmentRepository;
+import com.adas.domain.transcript.TranscriptTimeline;
+import com.adas.domain.transcript.TranscriptTimelineRepository;
 import com.adas.infrastructure.external.DiarizationClient;
 import com.adas.infrastructure.external.SttClient;
 import com.adas.infrastructure.external.dto.DiarizationResponse;
 import com.adas.infrastructure.external.dto.SttResponse;
 import com.adas.infrastructure.media.MediaProbeService;
+import com.adas.infrastructure.media.MediaStorage;
+import com.adas.infrastructure.media.AudioChunk;
+import com.adas.infrastructure.media.StoredMedia;
+import com.adas.infrastructure.media.WavChunker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -49,18 +82,55 @@ class MediaProcessingServiceTest {
     
     @Mock
     private SpeakerTurnRepository speakerTurnRepository;
+
+    @Mock
+    private SpeakerTurnDiffWriter speakerTurnDiffWriter;
+
+    @Mock
+    private ResultRowWriter resultRowWriter;
+
+    @Mock
+    private TranscriptTimelineRepository transcriptTimelineRepository;
     
     @Mock
     private MediaProbeService mediaProbeService;
+
+    @Mock
+    private MediaStorage mediaStorage;
+
+    @Mock
+    private RecordingResultCache resultCache;
+
+    @Mock
+    private WavChunker wavChunker;
+
+    @Spy
+    private TranscriptStitcher transcriptStitcher = new TranscriptStitcher();
     
     @Mock
     private MultipartFile multipartFile;
 
+    @Spy
+    private ProcessingProperties processingProperties = new ProcessingProperties();
+
+    @Spy
+    private AdmissionController admissionController =
+        new AdmissionController(new ProcessingProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private TransactionTemplate transactionTemplate =
+        new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+
+    @Spy
+    private Scheduler mediaBlockingScheduler = Schedulers.immediate();
+
     @InjectMocks
     private MediaProcessingService mediaProcessingService;
 
+    private final StoredMedia spooled = new StoredMedia(Path.of("/tmp/adas-media/upload.wav"), "upload.wav", 1024L);
+
     @Test
-    void process_정상적인_파일_처리_흐름() {
+    void process_정상적인_파일_처리_흐름() throws Exception {
         // given
         String language = "ko";
         Integer maxSpeakers = 2;
@@ -85,15 +155,15 @@ class MediaProcessingServiceTest {
             Turn.startSpeaking("SPEAKER_0", 1000L, 2000L, "안녕 하세요")
         );
 
-        when(multipartFile.getSize()).thenReturn(fileSize);
-        when(mediaProbeService.safeProbeDurationMs(multipartFile)).thenReturn(duration);
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(mediaProbeService.safeProbeFileDurationMs(spooled.path())).thenReturn(duration);
         when(recordingRepository.save(any(Recording.class))).thenReturn(savedRecording);
-        when(sttClient.transcribe(multipartFile, language)).thenReturn(sttResponse);
-        when(diarizationClient.diarize(multipartFile, language, maxSpeakers)).thenReturn(diarResponse);
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language))).thenReturn(Mono.just(sttResponse));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), eq(maxSpeakers))).thenReturn(Mono.just(diarResponse));
         when(mergeService.merge(sttResponse, diarResponse)).thenReturn(turns);
 
         // when
-        ProcessResponse result = mediaProcessingService.process(multipartFile, language, maxSpeakers);
+        ProcessResponse result = mediaProcessingService.process(multipartFile, language, maxSpeakers, true);
 
         // then
         assertThat(result.recordingId()).isNotNull();
@@ -103,37 +173,130 @@ class MediaProcessingServiceTest {
         assertThat(result.turns()).isEqualTo(turns);
 
         verify(recordingRepository).save(any(Recording.class));
-        verify(transcriptSegmentRepository).saveAll(anyList());
-        verify(diarizationSegmentRepository).saveAll(anyList());
-        verify(speakerTurnRepository).saveAll(anyList());
+        verify(transcriptTimelineRepository).save(any(TranscriptTimeline.class));
+        verify(resultRowWriter).insertDiarizationSegments(anyList());
+        verify(resultRowWriter).insertSpeakerTurns(anyList());
+        verify(multipartFile, never()).getBytes();
+        verify(mediaStorage).delete(spooled);
     }
 
     @Test
-    void process_null_파일도_처리_가능() {
+    void process_행_저장_형식이면_단어마다_전사_행을_저장() {
         // given
+        processingProperties.getPersistence().setTranscriptStorage(ProcessingProperties.TranscriptStorage.ROWS);
         String language = "ko";
-        Integer maxSpeakers = 2;
-        
-        Recording savedRecording = Recording.createFromUpload("api", language, null);
-        SttResponse sttResponse = new SttResponse(language, List.of());
-        DiarizationResponse diarResponse = new DiarizationResponse(List.of());
-        List<Turn> turns = List.of();
+        Recording savedRecording = Recording.createFromUpload("api", language, 1024L);
+        SttResponse sttResponse = new SttResponse(language, List.of(
+            new SttResponse.Word(1000L, 1500L, "안녕", 0.9),
+            new SttResponse.Word(1500L, 2000L, "하세요", 0.8)
+        ));
+        DiarizationResponse diarResponse =
+            new DiarizationResponse(List.of(new DiarizationResponse.Segment(1000L, 2500L, "SPEAKER_0", 0.85)));
 
-        when(mediaProbeService.safeProbeDurationMs(null)).thenReturn(null);
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
         when(recordingRepository.save(any(Recording.class))).thenReturn(savedRecording);
-        when(sttClient.transcribe(null, language)).thenReturn(sttResponse);
-        when(diarizationClient.diarize(null, language, maxSpeakers)).thenReturn(diarResponse);
-        when(mergeService.merge(sttResponse, diarResponse)).thenReturn(turns);
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language))).thenReturn(Mono.just(sttResponse));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull()))
+            .thenReturn(Mono.just(diarResponse));
+        when(mergeService.merge(sttResponse, diarResponse)).thenReturn(List.of());
 
         // when
-        ProcessResponse result = mediaProcessingService.process(null, language, maxSpeakers);
+        mediaProcessingService.process(multipartFile, language, null, true);
+
+        // then
+        verify(resultRowWriter).insertTranscripts(argThat(rows -> rows.size() == 2));
+        verify(transcriptTimelineRepository, never()).save(any());
+    }
+
+    @Test
+    void process_구간분할시_동시_전사후_원본_시간축으로_이어붙임() {
+        // given - 4개 구간, 구간당 STT 300ms
+        String language = "ko";
+        processingProperties.setExecutionMode(ExecutionMode.PARALLEL);
+        processingProperties.getChunking().setEnabled(true);
+        processingProperties.getChunking().setWindowMs(4_000);
+        processingProperties.getChunking().setOverlapMs(1_000);
+        processingProperties.getChunking().setMaxConcurrency(4);
+        List<AudioChunk> chunks = List.of(
+            new AudioChunk(0, Path.of("/tmp/c0.wav"), 0L, 4_000L),
+            new AudioChunk(1, Path.of("/tmp/c1.wav"), 3_000L, 4_000L),
+            new AudioChunk(2, Path.of("/tmp/c2.wav"), 6_000L, 4_000L),
+            new AudioChunk(3, Path.of("/tmp/c3.wav"), 9_000L, 2_000L));
+        SttResponse chunkStt = new SttResponse(language, List.of(new SttResponse.Word(1_500L, 1_900L, "네", 0.9)));
+
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(recordingRepository.save(any(Recording.class)))
+            .thenReturn(Recording.createFromUpload("api", language, 1024L));
+        when(wavChunker.split(spooled.path(), 4_000, 1_000)).thenReturn(chunks);
+        when(sttClient.transcribeAsync(any(Resource.class), startsWith("c"), eq(language)))
+            .thenAnswer(inv -> Mono.delay(Duration.ofMillis(300)).thenReturn(chunkStt));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull()))
+            .thenReturn(Mono.just(new DiarizationResponse(List.of())));
+        when(mergeService.merge(any(), any())).thenReturn(List.of());
+
+        // when
+        long started = System.nanoTime();
+        ProcessResponse result = mediaProcessingService.process(multipartFile, language, null, true);
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        // then - 지연은 구간 수 × 300ms가 아니라 한 구간 수준
+        assertThat(elapsedMs).isLessThan(900L);
+        assertThat(result.words()).extracting(SttResponse.Word::start).containsExactly(1_500L, 4_500L, 7_500L, 10_500L);
+        verify(sttClient, times(4)).transcribeAsync(any(Resource.class), startsWith("c"), eq(language));
+        verify(wavChunker).delete(chunks);
+    }
+
+    @Test
+    void process_구간분할_대상이_아니면_단일_요청() {
+        // given
+        String language = "ko";
+        processingProperties.getChunking().setEnabled(true);
+        SttResponse sttResponse = new SttResponse(language, List.of());
+
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(recordingRepository.save(any(Recording.class)))
+            .thenReturn(Recording.createFromUpload("api", language, 1024L));
+        when(wavChunker.split(eq(spooled.path()), anyLong(), anyLong())).thenReturn(List.of());
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language)))
+            .thenReturn(Mono.just(sttResponse));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull()))
+            .thenReturn(Mono.just(new DiarizationResponse(List.of())));
+        when(mergeService.merge(sttResponse, new DiarizationResponse(List.of()))).thenReturn(List.of());
+
+        // when
+        ProcessResponse result = mediaProcessingService.process(multipartFile, language, null, true);
 
         // then
-        assertThat(result.recordingId()).isNotNull();
-        assertThat(result.lang()).isEqualTo(language);
         assertThat(result.words()).isEmpty();
-        assertThat(result.segments()).isEmpty();
-        assertThat(result.turns()).isEmpty();
+        verify(sttClient).transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language));
+    }
+
+    @Test
+    void process_캐시_적중시_외부호출없이_재사용결과_반환() {
+        // given
+        ProcessResponse cached = new ProcessResponse("42", "ko", List.of(), List.of(), List.of());
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(resultCache.reuse(spooled, "api", "ko", 2, true)).thenReturn(Optional.of(cached));
+
+        // when
+        ProcessResponse result = mediaProcessingService.process(multipartFile, "ko", 2, true);
+
+        // then
+        assertThat(result).isSameAs(cached);
+        verifyNoInteractions(sttClient, diarizationClient, recordingRepository);
+        verify(mediaStorage).delete(spooled);
+    }
+
+    @Test
+    void process_파일_보관_실패시_Recording을_만들지_않음() {
+        // given
+        when(mediaStorage.store(null)).thenThrow(new IllegalArgumentException("Upload file cannot be null or empty"));
+
+        // when & then
+        assertThatThrownBy(() -> mediaProcessingService.process(null, "ko", 2, true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Upload file cannot be null or empty");
+        verifyNoInteractions(recordingRepository, sttClient, diarizationClient);
     }
 
     @Test
@@ -143,25 +306,25 @@ class MediaProcessingServiceTest {
         Recording savedRecording = Recording.createFromUpload("api", language, 1024L);
         DiarizationResponse diarResponse = new DiarizationResponse(List.of());
         List<Turn> turns = List.of();
-
-        when(multipartFile.getSize()).thenReturn(1024L);
-        when(mediaProbeService.safeProbeDurationMs(multipartFile)).thenReturn(30000L);
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(mediaProbeService.safeProbeFileDurationMs(spooled.path())).thenReturn(30000L);
         when(recordingRepository.save(any(Recording.class))).thenReturn(savedRecording);
-        when(sttClient.transcribe(multipartFile, language)).thenReturn(null);
-        when(diarizationClient.diarize(multipartFile, language, null)).thenReturn(diarResponse);
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language))).thenReturn(Mono.empty());
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull())).thenReturn(Mono.just(diarResponse));
         when(mergeService.merge(null, diarResponse)).thenReturn(turns);
 
         // when
-        ProcessResponse result = mediaProcessingService.process(multipartFile, language, null);
+        ProcessResponse result = mediaProcessingService.process(multipartFile, language, null, true);
 
         // then
         assertThat(result.lang()).isNull();
         assertThat(result.words()).isNull();
         
-        // STT 결과가 null이어도 transcriptSegmentRepository.saveAll()은 호출되지 않아야 함
-        verify(transcriptSegmentRepository, never()).saveAll(anyList());
-        verify(diarizationSegmentRepository, never()).saveAll(anyList()); // 빈 리스트여서 호출되지 않음
-        verify(speakerTurnRepository, never()).saveAll(anyList());
+        // STT 결과가 null이어도 resultRowWriter.insertTranscripts()는 호출되지 않아야 함
+        verify(resultRowWriter, never()).insertTranscripts(anyList());
+        verify(transcriptTimelineRepository, never()).save(any());
+        verify(resultRowWriter, never()).insertDiarizationSegments(anyList()); // 빈 리스트여서 호출되지 않음
+        verify(resultRowWriter, never()).insertSpeakerTurns(anyList());
     }
 
     @Test
@@ -172,25 +335,418 @@ class MediaProcessingServiceTest {
         SttResponse sttResponse = new SttResponse(language, List.of());
         DiarizationResponse diarResponse = new DiarizationResponse(List.of());
         List<Turn> turns = List.of();
-
-        when(multipartFile.getSize()).thenReturn(1024L);
-        when(mediaProbeService.safeProbeDurationMs(multipartFile)).thenReturn(30000L);
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(mediaProbeService.safeProbeFileDurationMs(spooled.path())).thenReturn(30000L);
         when(recordingRepository.save(any(Recording.class))).thenReturn(savedRecording);
-        when(sttClient.transcribe(multipartFile, language)).thenReturn(sttResponse);
-        when(diarizationClient.diarize(multipartFile, language, null)).thenReturn(diarResponse);
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language))).thenReturn(Mono.just(sttResponse));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull())).thenReturn(Mono.just(diarResponse));
         when(mergeService.merge(sttResponse, diarResponse)).thenReturn(turns);
 
         // when
-        ProcessResponse result = mediaProcessingService.process(multipartFile, language, null);
+        ProcessResponse result = mediaProcessingService.process(multipartFile, language, null, true);
 
         // then
         assertThat(result.words()).isEmpty();
         assertThat(result.segments()).isEmpty();
         assertThat(result.turns()).isEmpty();
         
-        // 빈 리스트들도 saveAll 메서드는 호출되지 않음
-        verify(transcriptSegmentRepository, never()).saveAll(anyList());
-        verify(diarizationSegmentRepository, never()).saveAll(anyList());
-        verify(speakerTurnRepository, never()).saveAll(anyList());
+        // 빈 리스트들도 insert 메서드는 호출되지 않음
+        verify(resultRowWriter, never()).insertTranscripts(anyList());
+        verify(resultRowWriter, never()).insertDiarizationSegments(anyList());
+        verify(resultRowWriter, never()).insertSpeakerTurns(anyList());
+    }
+
+    @Test
+    void process_병렬모드는_STT와_Diarization을_동시에_호출() {
+        // given
+        String language = "ko";
+        processingProperties.setExecutionMode(ExecutionMode.PARALLEL);
+        Recording savedRecording = Recording.createFromUpload("api", language, 1024L);
+        SttResponse sttResponse = new SttResponse(language, List.of(new SttResponse.Word(0L, 500L, "안녕", 0.9)));
+        DiarizationResponse diarResponse =
+            new DiarizationResponse(List.of(new DiarizationResponse.Segment(0L, 500L, "SPEAKER_0", 0.9)));
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(recordingRepository.save(any(Recording.class))).thenReturn(savedRecording);
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language)))
+            .thenReturn(Mono.delay(Duration.ofMillis(300)).thenReturn(sttResponse));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), eq(2)))
+            .thenReturn(Mono.delay(Duration.ofMillis(300)).thenReturn(diarResponse));
+        when(mergeService.merge(sttResponse, diarResponse)).thenReturn(List.of());
+
+        // when
+        long started = System.nanoTime();
+        ProcessResponse result = mediaProcessingService.process(multipartFile, language, 2, true);
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        // then - 지연은 두 호출의 합(600ms)이 아니라 최대값(300ms) 수준이어야 함
+        assertThat(elapsedMs).isLessThan(550L);
+        assertThat(result.words()).isEqualTo(sttResponse.words());
+        assertThat(result.segments()).isEqualTo(diarResponse.segments());
+    }
+
+    @Test
+    void process_병렬모드에서_한쪽_실패시_나머지_호출_취소() {
+        // given
+        String language = "ko";
+        processingProperties.setExecutionMode(ExecutionMode.PARALLEL);
+        AtomicBoolean sttCancelled = new AtomicBoolean(false);
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(recordingRepository.save(any(Recording.class)))
+            .thenReturn(Recording.createFromUpload("api", language, 1024L));
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language)))
+            .thenReturn(Mono.<SttResponse>never().doOnCancel(() -> sttCancelled.set(true)));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull()))
+            .thenReturn(Mono.error(new IllegalStateException("diarization down")));
+
+        // when & then
+        assertThatThrownBy(() -> mediaProcessingService.process(multipartFile, language, null, true))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("diarization down");
+        assertThat(sttCancelled).isTrue();
+        verify(mergeService, never()).merge(any(), any());
+        verify(resultRowWriter, never()).insertTranscripts(anyList());
+    }
+
+    @Test
+    void process_병렬모드에서_호출별_타임아웃_초과시_예외발생() {
+        // given
+        String language = "ko";
+        processingProperties.setExecutionMode(ExecutionMode.PARALLEL);
+        processingProperties.setSttTimeoutMs(50);
+        AtomicBoolean diarCancelled = new AtomicBoolean(false);
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(recordingRepository.save(any(Recording.class)))
+            .thenReturn(Recording.createFromUpload("api", language, 1024L));
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language))).thenReturn(Mono.never());
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull()))
+            .thenReturn(Mono.<DiarizationResponse>never().doOnCancel(() -> diarCancelled.set(true)));
+
+        // when & then
+        assertThatThrownBy(() -> mediaProcessingService.process(multipartFile, language, null, true))
+            .isInstanceOf(UpstreamTimeoutException.class)
+            .hasMessage("STT timed out after 50ms");
+        assertThat(diarCancelled).isTrue();
+    }
+
+    @Test
+    void process_외부호출_실패시_생성한_Recording을_삭제해_보상() {
+        // given
+        String language = "ko";
+        Recording savedRecording = Recording.createFromUpload("api", language, 1024L);
+        ReflectionTestUtils.setField(savedRecording, "id", 3L);
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(recordingRepository.save(any(Recording.class))).thenReturn(savedRecording);
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language)))
+            .thenReturn(Mono.error(new IllegalStateException("stt down")));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull())).thenReturn(Mono.never());
+
+        // when & then
+        assertThatThrownBy(() -> mediaProcessingService.process(multipartFile, language, null, true))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("stt down");
+        InOrder inOrder = inOrder(recordingRepository, transcriptSegmentRepository);
+        inOrder.verify(recordingRepository).save(any(Recording.class));
+        inOrder.verify(recordingRepository).deleteById(3L);
+        verify(resultRowWriter, never()).insertTranscripts(anyList());
+        verify(mediaStorage).delete(spooled);
+    }
+
+    @Test
+    void processReactive_외부호출을_합성해_영속화하고_보관파일_삭제() {
+        // given
+        String language = "ko";
+        SttResponse sttResponse = new SttResponse(language, List.of(new SttResponse.Word(0L, 500L, "안녕", 0.9)));
+        DiarizationResponse diarResponse =
+            new DiarizationResponse(List.of(new DiarizationResponse.Segment(0L, 1000L, "SPEAKER_0", 0.8)));
+        List<Turn> turns = List.of(Turn.startSpeaking("SPEAKER_0", 0L, 500L, "안녕"));
+        Recording savedRecording = Recording.createFromUpload("api", language, 1024L);
+        ReflectionTestUtils.setField(savedRecording, "id", 7L);
+        AtomicInteger sttSubscriptions = new AtomicInteger();
+
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(recordingRepository.save(any(Recording.class))).thenReturn(savedRecording);
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language)))
+            .thenReturn(Mono.just(sttResponse).doOnSubscribe(s -> sttSubscriptions.incrementAndGet()));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull()))
+            .thenReturn(Mono.just(diarResponse));
+        when(mergeService.merge(sttResponse, diarResponse)).thenReturn(turns);
+
+        // when
+        Mono<ProcessResponse> pending = mediaProcessingService.processReactive(multipartFile, language, null, true);
+
+        // then - 구독 전에는 아무 작업도 하지 않는다
+        verify(mediaStorage, never()).store(any());
+        ProcessResponse result = pending.block();
+        assertThat(result.recordingId()).isEqualTo("7");
+        assertThat(result.turns()).isEqualTo(turns);
+        assertThat(sttSubscriptions).hasValue(1);
+        verify(resultRowWriter).insertSpeakerTurns(anyList());
+        verify(mediaStorage).delete(spooled);
+        assertThat(admissionController.getInFlight()).isZero();
+    }
+
+    @Test
+    void processReactive_입장_대기가_블로킹_스레드보다_많아도_모두_처리() {
+        // given - 블로킹 스레드 1개, 동시 처리 1, 대기 3
+        String language = "ko";
+        Scheduler oneThread = Schedulers.newBoundedElastic(1, 100, "media-blocking-test");
+        ProcessingProperties admissionProps = new ProcessingProperties();
+        admissionProps.getAdmission().setMaxInFlight(1);
+        admissionProps.getAdmission().setMaxQueued(3);
+        admissionProps.getAdmission().setMaxQueueWaitMs(3_000);
+        AdmissionController admission = new AdmissionController(admissionProps, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(mediaProcessingService, "mediaBlockingScheduler", oneThread);
+        ReflectionTestUtils.setField(mediaProcessingService, "admissionController", admission);
+        Recording savedRecording = Recording.createFromUpload("api", language, 1024L);
+        ReflectionTestUtils.setField(savedRecording, "id", 11L);
+
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(recordingRepository.save(any(Recording.class))).thenReturn(savedRecording);
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language)))
+            .thenAnswer(inv -> Mono.delay(Duration.ofMillis(100)).thenReturn(new SttResponse(language, List.of())));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull()))
+            .thenReturn(Mono.just(new DiarizationResponse(List.of())));
+        when(mergeService.merge(any(), any())).thenReturn(List.of());
+
+        try {
+            // when - 입장 대기가 블로킹 스레드를 붙잡으면 먼저 입장한 요청이 끝나지 못해 대기 요청이 429로 끝난다
+            List<ProcessResponse> results = Flux.range(0, 4)
+                .flatMap(i -> mediaProcessingService.processReactive(multipartFile, language, null, true))
+                .collectList()
+                .block(Duration.ofSeconds(2));
+
+            // then
+            assertThat(results).hasSize(4);
+            assertThat(admission.getInFlight()).isZero();
+            assertThat(admission.getQueued()).isZero();
+            verify(mediaStorage, times(4)).delete(spooled);
+        } finally {
+            oneThread.dispose();
+        }
+    }
+
+    @Test
+    void processReactive_외부호출_실패시_Recording을_삭제하고_예외전파() {
+        // given
+        String language = "ko";
+        Recording savedRecording = Recording.createFromUpload("api", language, 1024L);
+        ReflectionTestUtils.setField(savedRecording, "id", 3L);
+        processingProperties.setExecutionMode(ExecutionMode.PARALLEL);
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(recordingRepository.save(any(Recording.class))).thenReturn(savedRecording);
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language)))
+            .thenReturn(Mono.error(new IllegalStateException("stt down")));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull()))
+            .thenReturn(Mono.never());
+
+        // when & then
+        assertThatThrownBy(() -> mediaProcessingService.processReactive(multipartFile, language, null, true).block())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("stt down");
+        verify(recordingRepository).deleteById(3L);
+        verify(resultRowWriter, never()).insertTranscripts(anyList());
+        verify(mediaStorage).delete(spooled);
+        assertThat(admissionController.getInFlight()).isZero();
+    }
+
+    @Test
+    void processReactive_캐시_적중시_입장제어와_외부호출_없이_반환() {
+        // given
+        ProcessResponse cached = new ProcessResponse("9", "ko", List.of(), List.of(), List.of());
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(resultCache.reuse(spooled, "api", "ko", null, true)).thenReturn(Optional.of(cached));
+
+        // when
+        ProcessResponse result = mediaProcessingService.processReactive(multipartFile, "ko", null, true).block();
+
+        // then
+        assertThat(result).isSameAs(cached);
+        verify(admissionController, never()).admit();
+        verifyNoInteractions(sttClient, diarizationClient);
+        verify(mediaStorage).delete(spooled);
+    }
+
+    @Test
+    void process_보상_실패는_원래_예외에_덧붙임() {
+        // given
+        String language = "ko";
+        when(mediaStorage.store(multipartFile)).thenReturn(spooled);
+        when(recordingRepository.save(any(Recording.class)))
+            .thenReturn(Recording.createFromUpload("api", language, 1024L));
+        when(sttClient.transcribeAsync(any(Resource.class), eq("upload.wav"), eq(language)))
+            .thenReturn(Mono.error(new IllegalStateException("stt down")));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("upload.wav"), eq(language), isNull())).thenReturn(Mono.never());
+        doThrow(new IllegalStateException("db down")).when(recordingRepository).deleteById(any());
+
+        // when & then
+        assertThatThrownBy(() -> mediaProcessingService.process(multipartFile, language, null, true))
+            .hasMessage("stt down")
+            .satisfies(e -> assertThat(e.getSuppressed()).extracting(Throwable::getMessage).contains("db down"));
+    }
+
+    @Test
+    void processStored_단계별_상태를_순서대로_알리고_결과를_영속화() {
+        // given
+        String language = "ko";
+        Long recordingId = 7L;
+        StoredMedia media = new StoredMedia(Path.of("/tmp/stored.wav"), "stored.wav", 1024L);
+        Recording recording = Recording.createFromUpload("ingest", language, 1024L);
+        SttResponse sttResponse = new SttResponse(language, List.of(new SttResponse.Word(0L, 500L, "안녕", 0.9)));
+        DiarizationResponse diarResponse =
+            new DiarizationResponse(List.of(new DiarizationResponse.Segment(0L, 500L, "SPEAKER_0", 0.9)));
+
+        when(mediaProbeService.safeProbeFileDurationMs(media.path())).thenReturn(500L);
+        when(recordingRepository.findById(recordingId)).thenReturn(Optional.of(recording));
+        when(recordingRepository.getReferenceById(recordingId)).thenReturn(recording);
+        when(sttClient.transcribeAsync(any(Resource.class), eq("stored.wav"), eq(language)))
+            .thenReturn(Mono.just(sttResponse));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("stored.wav"), eq(language), isNull()))
+            .thenReturn(Mono.just(diarResponse));
+        List<JobStatus> stages = new ArrayList<>();
+
+        // when
+        ProcessResponse result = mediaProcessingService.processStored(recordingId, media, language, null, stages::add);
+
+        // then
+        assertThat(stages).containsExactly(
+            JobStatus.PROBING, JobStatus.TRANSCRIBING, JobStatus.DIARIZING, JobStatus.MERGING, JobStatus.PERSISTING);
+        assertThat(result.recordingId()).isEqualTo("7");
+        assertThat(result.turns()).extracting(Turn::getText).containsExactly("안녕");
+        assertThat(recording.getDurationMs()).isEqualTo(500L);
+        assertThat(recording.isCompleted()).isTrue();
+        verify(recordingRepository).save(recording);
+        verify(transcriptTimelineRepository).save(any(TranscriptTimeline.class));
+        verify(resultRowWriter).insertDiarizationSegments(anyList());
+        verify(speakerTurnDiffWriter).apply(eq(recording), argThat(delta -> delta.inserted().size() == 1));
+        verify(diarizationSegmentRepository, never()).deleteByRecordingId(any());
+        verify(transcriptTimelineRepository, never()).deleteByRecordingId(any());
+        verifyNoInteractions(mergeService);
+    }
+
+    @Test
+    void processStored_구간분할시_구간마다_그_구간의_턴만_저장() {
+        // given - 화자 구간이 먼저 오고, 구간 전사가 하나씩 도착한다
+        String language = "ko";
+        Long recordingId = 9L;
+        StoredMedia media = new StoredMedia(Path.of("/tmp/long.wav"), "long.wav", 1024L);
+        Recording recording = Recording.createFromUpload("ingest", language, 1024L);
+        processingProperties.setExecutionMode(ExecutionMode.PARALLEL);
+        processingProperties.getChunking().setEnabled(true);
+        processingProperties.getChunking().setWindowMs(4_000);
+        processingProperties.getChunking().setOverlapMs(1_000);
+        processingProperties.getChunking().setMaxConcurrency(1);
+        processingProperties.getPersistence().setTranscriptStorage(ProcessingProperties.TranscriptStorage.ROWS);
+        List<AudioChunk> chunks = List.of(
+            new AudioChunk(0, Path.of("/tmp/c0.wav"), 0L, 4_000L),
+            new AudioChunk(1, Path.of("/tmp/c1.wav"), 3_000L, 4_000L),
+            new AudioChunk(2, Path.of("/tmp/c2.wav"), 6_000L, 4_000L));
+        SttResponse chunkStt = new SttResponse(language, List.of(new SttResponse.Word(1_500L, 1_900L, "네", 0.9)));
+        DiarizationResponse diarResponse = new DiarizationResponse(List.of(
+            new DiarizationResponse.Segment(0L, 3_000L, "SPEAKER_0", 0.9),
+            new DiarizationResponse.Segment(3_000L, 6_000L, "SPEAKER_1", 0.9),
+            new DiarizationResponse.Segment(6_000L, 10_000L, "SPEAKER_0", 0.9)));
+
+        when(recordingRepository.findById(recordingId)).thenReturn(Optional.of(recording));
+        when(recordingRepository.getReferenceById(recordingId)).thenReturn(recording);
+        when(wavChunker.split(media.path(), 4_000, 1_000)).thenReturn(chunks);
+        when(sttClient.transcribeAsync(any(Resource.class), startsWith("c"), eq(language)))
+            .thenAnswer(inv -> Mono.delay(Duration.ofMillis(100)).thenReturn(chunkStt));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("long.wav"), eq(language), isNull()))
+            .thenReturn(Mono.just(diarResponse));
+        List<TurnDelta> deltas = new ArrayList<>();
+        when(speakerTurnDiffWriter.apply(eq(recording), any())).thenAnswer(inv -> {
+            deltas.add(inv.getArgument(1));
+            return Map.of();
+        });
+
+        // when
+        ProcessResponse result = mediaProcessingService.processStored(recordingId, media, language, null, stage -> { });
+
+        // then - 구간이 도착할 때마다 새 턴 하나만 추가하고 앞 턴은 다시 쓰지 않는다
+        assertThat(result.turns()).extracting(Turn::getSpeaker).containsExactly("SPEAKER_0", "SPEAKER_1", "SPEAKER_0");
+        assertThat(deltas).filteredOn(delta -> !delta.isEmpty()).hasSize(3).allSatisfy(delta -> {
+            assertThat(delta.inserted()).hasSize(1);
+            assertThat(delta.updated()).isEmpty();
+            assertThat(delta.removed()).isEmpty();
+        });
+        verify(resultRowWriter, times(3)).insertTranscripts(argThat(rows -> rows.size() == 1));
+        verify(transcriptSegmentRepository, never()).deleteByRecordingIdAndMidpointRange(any(), anyLong(), anyLong());
+        verify(wavChunker).delete(chunks);
+    }
+
+    @Test
+    void processStored_재시도가_이전_시도와_같은_결과를_받으면_아무것도_다시_쓰지_않음() {
+        // given - 이전 시도가 전사/화자 구간/턴 행을 모두 남겼다
+        String language = "ko";
+        Long recordingId = 10L;
+        StoredMedia media = new StoredMedia(Path.of("/tmp/retry.wav"), "retry.wav", 1024L);
+        Recording recording = Recording.createFromUpload("ingest", language, 1024L);
+        recording.specifyDuration(1_000L);
+        processingProperties.getPersistence().setTranscriptStorage(ProcessingProperties.TranscriptStorage.ROWS);
+        SttResponse sttResponse = new SttResponse(language, List.of(
+            new SttResponse.Word(0L, 500L, "안녕", 0.9), new SttResponse.Word(600L, 1_000L, "네", 0.8)));
+        DiarizationResponse diarResponse = new DiarizationResponse(List.of(
+            new DiarizationResponse.Segment(0L, 550L, "SPEAKER_0", 0.9),
+            new DiarizationResponse.Segment(550L, 1_000L, "SPEAKER_1", 0.9)));
+
+        when(recordingRepository.findById(recordingId)).thenReturn(Optional.of(recording));
+        when(recordingRepository.getReferenceById(recordingId)).thenReturn(recording);
+        when(transcriptSegmentRepository.findByRecordingIdOrderByStartMsAsc(recordingId)).thenReturn(
+            sttResponse.words().stream()
+                .map(w -> TranscriptSegment.transcribeSegment(recording, w.start(), w.end(), w.text(), w.confidence(),
+                    language, "stt"))
+                .toList());
+        when(diarizationSegmentRepository.findByRecordingIdOrderByStartMsAsc(recordingId)).thenReturn(
+            diarResponse.segments().stream()
+                .map(d -> DiarizationSegment.identifySpeaker(recording, d.speaker(), d.start(), d.end(), d.confidence()))
+                .toList());
+        when(speakerTurnDiffWriter.load(recordingId)).thenReturn(List.of(
+            new KeyedTurn(21L, Turn.startSpeaking("SPEAKER_0", 0L, 500L, "안녕")),
+            new KeyedTurn(22L, Turn.startSpeaking("SPEAKER_1", 600L, 1_000L, "네"))));
+        when(sttClient.transcribeAsync(any(Resource.class), eq("retry.wav"), eq(language)))
+            .thenReturn(Mono.just(sttResponse));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("retry.wav"), eq(language), isNull()))
+            .thenReturn(Mono.just(diarResponse));
+
+        // when
+        ProcessResponse result = mediaProcessingService.processStored(recordingId, media, language, null, stage -> { });
+
+        // then - 완료 기록 트랜잭션 하나만 연다(executeWithoutResult도 execute를 거친다)
+        assertThat(result.turns()).extracting(Turn::getText).containsExactly("안녕", "네");
+        assertThat(recording.isCompleted()).isTrue();
+        verify(transactionTemplate).executeWithoutResult(any());
+        verify(transactionTemplate).execute(any());
+        verify(speakerTurnDiffWriter, never()).apply(any(), any());
+        verifyNoInteractions(resultRowWriter);
+        verify(transcriptSegmentRepository, never()).deleteByRecordingIdAndMidpointRange(any(), anyLong(), anyLong());
+        verify(diarizationSegmentRepository, never()).deleteByRecordingId(any());
+    }
+
+    @Test
+    void processStored_접수시_길이를_알면_다시_추출하지_않음() {
+        // given
+        String language = "ko";
+        Long recordingId = 8L;
+        StoredMedia media = new StoredMedia(Path.of("/tmp/batch.wav"), "batch.wav", 1024L);
+        Recording recording = Recording.createFromUpload("batch", language, 1024L);
+        recording.specifyDuration(42_000L);
+        SttResponse sttResponse = new SttResponse(language, List.of(new SttResponse.Word(0L, 500L, "안녕", 0.9)));
+        DiarizationResponse diarResponse =
+            new DiarizationResponse(List.of(new DiarizationResponse.Segment(0L, 500L, "SPEAKER_0", 0.9)));
+
+        when(recordingRepository.findById(recordingId)).thenReturn(Optional.of(recording));
+        when(recordingRepository.getReferenceById(recordingId)).thenReturn(recording);
+        when(sttClient.transcribeAsync(any(Resource.class), eq("batch.wav"), eq(language)))
+            .thenReturn(Mono.just(sttResponse));
+        when(diarizationClient.diarizeAsync(any(Resource.class), eq("batch.wav"), eq(language), isNull()))
+            .thenReturn(Mono.just(diarResponse));
+
+        // when
+        mediaProcessingService.processStored(recordingId, media, language, null, stage -> { });
+
+        // then
+        assertThat(recording.getDurationMs()).isEqualTo(42_000L);
+        verify(mediaProbeService, never()).safeProbeFileDurationMs(any());
+        verify(recordingRepository, never()).save(any(Recording.class));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package com.adas.application.media;
+
+import com.adas.application.dto.ProcessResponse;
+import com.adas.domain.diarization.DiarizationSegment;
+import com.adas.domain.diarization.DiarizationSegmentRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.domain.speaker.SpeakerTurn;
+import com.adas.domain.speaker.SpeakerTurnRepository;
+import com.adas.domain.transcript.TranscriptSegment;
+import com.adas.domain.transcript.TranscriptSegmentRepository;
+import com.adas.domain.transcript.TranscriptTimeline;
+import com.adas.domain.transcript.TranscriptTimelineRepository;
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.media.StoredMedia;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(classes = com.adas.presentation.ApiApplication.class)
+@ActiveProfiles("test")
+class RecordingResultCacheTest {
+
+    @Autowired
+    private RecordingResultCache resultCache;
+
+    @Autowired
+    private RecordingRepository recordingRepository;
+
+    @Autowired
+    private TranscriptSegmentRepository transcriptSegmentRepository;
+
+    @Autowired
+    private TranscriptTimelineRepository transcriptTimelineRepository;
+
+    @Autowired
+    private DiarizationSegmentRepository diarizationSegmentRepository;
+
+    @Autowired
+    private SpeakerTurnRepository speakerTurnRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void reuse_완료된_같은_내용이면_결과행을_복제() {
+        // given
+        String sha256 = newHash();
+        Recording origin = completedRecording(sha256, "ko", null);
+
+        // when
+        Optional<ProcessResponse> cached = resultCache.reuse(media(sha256), "ingest", "ko", null, true);
+
+        // then
+        assertThat(cached).isPresent();
+        Long copyId = Long.valueOf(cached.get().recordingId());
+        assertThat(copyId).isNotEqualTo(origin.getId());
+        assertThat(cached.get().lang()).isEqualTo("ko");
+        assertThat(cached.get().words()).extracting(w -> w.text()).containsExactly("안녕");
+        assertThat(cached.get().turns()).extracting(t -> t.getText()).containsExactly("안녕");
+        assertThat(transcriptSegmentRepository.findByRecordingIdOrderByStartMsAsc(copyId)).hasSize(1);
+        assertThat(diarizationSegmentRepository.findByRecordingIdOrderByStartMsAsc(copyId)).hasSize(1);
+        assertThat(speakerTurnRepository.findByRecordingIdOrderByStartMsAsc(copyId)).hasSize(1);
+        Recording copy = recordingRepository.findById(copyId).orElseThrow();
+        assertThat(copy.getSource()).isEqualTo("ingest");
+        assertThat(copy.isCompleted()).isTrue();
+        assertThat(copy.getContentSha256()).isEqualTo(sha256);
+    }
+
+    @Test
+    void reuse_압축_타임라인으로_저장된_결과는_타임라인을_복제() {
+        // given
+        String sha256 = newHash();
+        Recording origin = Recording.createFromUpload("api", "ko", 10L);
+        origin.fingerprint(sha256, null);
+        origin.markCompleted();
+        origin = recordingRepository.save(origin);
+        transcriptTimelineRepository.save(TranscriptTimeline.encode(origin, "ko", "stt", List.of(
+            new SttResponse.Word(0L, 500L, "안녕", 0.9),
+            new SttResponse.Word(500L, 900L, "하세요", 0.8))));
+
+        // when
+        Optional<ProcessResponse> cached = resultCache.reuse(media(sha256), "ingest", "ko", null, true);
+
+        // then
+        assertThat(cached).isPresent();
+        Long copyId = Long.valueOf(cached.get().recordingId());
+        assertThat(cached.get().words()).extracting(SttResponse.Word::text).containsExactly("안녕", "하세요");
+        assertThat(transcriptSegmentRepository.findByRecordingIdOrderByStartMsAsc(copyId)).isEmpty();
+        assertThat(transcriptTimelineRepository.findByRecordingId(copyId).orElseThrow().words())
+            .extracting(SttResponse.Word::confidence).containsExactly(0.9, 0.8);
+    }
+
+    @Test
+    void reuse_처리옵션이_다르거나_미완료면_재사용하지_않음() {
+        // given
+        String sha256 = newHash();
+        completedRecording(sha256, "ko", 2);
+        Recording pending = Recording.createFromUpload("ingest", "ko", 10L);
+        pending.fingerprint(sha256, null);
+        recordingRepository.save(pending);
+
+        // when & then
+        assertThat(resultCache.reuse(media(sha256), "api", "ko", null, true)).isEmpty();
+        assertThat(resultCache.reuse(media(sha256), "api", "en", 2, true)).isEmpty();
+        assertThat(resultCache.reuse(media(sha256), "api", "ko", 2, true)).isPresent();
+    }
+
+    @Test
+    void reuse_적중률_지표_기록() {
+        // given
+        String sha256 = newHash();
+        completedRecording(sha256, "ko", null);
+        double hits = count("hit");
+        double misses = count("miss");
+        double bypasses = count("bypass");
+
+        // when
+        resultCache.reuse(media(sha256), "api", "ko", null, true);
+        resultCache.reuse(media(newHash()), "api", "ko", null, true);
+        resultCache.reuse(media(sha256), "api", "ko", null, false);
+
+        // then
+        assertThat(count("hit") - hits).isEqualTo(1.0);
+        assertThat(count("miss") - misses).isEqualTo(1.0);
+        assertThat(count("bypass") - bypasses).isEqualTo(1.0);
+        assertThat(meterRegistry.get("media.result.cache.hit.ratio").gauge().value()).isBetween(0.0, 1.0);
+    }
+
+    private Recording completedRecording(String sha256, String language, Integer maxSpeakers) {
+        Recording rec = Recording.createFromUpload("api", language, 10L);
+        rec.fingerprint(sha256, maxSpeakers);
+        rec.markCompleted();
+        rec = recordingRepository.save(rec);
+        transcriptSegmentRepository.save(TranscriptSegment.transcribeSegment(rec, 0L, 500L, "안녕", 0.9, language, "stt"));
+        diarizationSegmentRepository.save(DiarizationSegment.identifySpeaker(rec, "S1", 0L, 500L, 0.8));
+        speakerTurnRepository.save(SpeakerTurn.createTurn(rec, "S1", 0L, 500L, "안녕"));
+        return rec;
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("media.result.cache").tag("result", result).counter().count();
+    }
+
+    private static StoredMedia media(String sha256) {
+        return new StoredMedia(Path.of("/tmp/adas-media/x.wav"), "x.wav", 10L, sha256);
+    }
+
+    private static String newHash() {
+        return (UUID.randomUUID().toString().replace("-", "") + UUID.randomUUID().toString().replace("-", ""));
+    }
+}
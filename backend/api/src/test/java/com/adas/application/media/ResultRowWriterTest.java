@@ -0,0 +1,104 @@
+package com.adas.application.media;
+
+import com.adas.domain.diarization.DiarizationSegment;
+import com.adas.domain.diarization.DiarizationSegmentRepository;
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.domain.speaker.SpeakerTurn;
+import com.adas.domain.speaker.SpeakerTurnRepository;
+import com.adas.domain.transcript.TranscriptSegment;
+import com.adas.domain.transcript.TranscriptSegmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(classes = com.adas.presentation.ApiApplication.class)
+@ActiveProfiles("test")
+class ResultRowWriterTest {
+
+    @Autowired
+    private ResultRowWriter writer;
+
+    @Autowired
+    private ProcessingProperties props;
+
+    @Autowired
+    private RecordingRepository recordingRepository;
+
+    @Autowired
+    private TranscriptSegmentRepository transcriptSegmentRepository;
+
+    @Autowired
+    private DiarizationSegmentRepository diarizationSegmentRepository;
+
+    @Autowired
+    private SpeakerTurnRepository speakerTurnRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void restoreBatchSize() {
+        props.getPersistence().setBatchSize(1_000);
+    }
+
+    @Test
+    void insert_배치_크기로_나눠_모든_행을_저장() {
+        // given - 배치 크기(3)로 나누어떨어지지 않는 행 수, null 텍스트/신뢰도 포함
+        props.getPersistence().setBatchSize(3);
+        Recording rec = recordingRepository.save(Recording.createFromUpload("ingest", "ko", 10L));
+        List<TranscriptSegment> transcripts = LongStream.range(0, 10)
+            .mapToObj(i -> TranscriptSegment.transcribeSegment(rec, i * 100, i * 100 + 50, i == 0 ? null : "단어" + i,
+                i == 1 ? null : 0.9, "ko", "stt"))
+            .toList();
+        List<DiarizationSegment> segments = List.of(
+            DiarizationSegment.identifySpeaker(rec, "SPEAKER_0", 0L, 500L, null),
+            DiarizationSegment.identifySpeaker(rec, "SPEAKER_1", 500L, 1_000L, 0.8));
+        List<SpeakerTurn> turns = List.of(SpeakerTurn.createTurn(rec, "SPEAKER_0", 0L, 500L, "단어1 단어2"));
+
+        // when
+        transactionTemplate.executeWithoutResult(tx -> {
+            writer.insertTranscripts(transcripts);
+            writer.insertDiarizationSegments(segments);
+            writer.insertSpeakerTurns(turns);
+        });
+
+        // then
+        List<TranscriptSegment> saved = transcriptSegmentRepository.findByRecordingIdOrderByStartMsAsc(rec.getId());
+        assertThat(saved).hasSize(10);
+        assertThat(saved).extracting(TranscriptSegment::getStartMs)
+            .containsExactly(0L, 100L, 200L, 300L, 400L, 500L, 600L, 700L, 800L, 900L);
+        assertThat(saved.get(0).getText()).isNull();
+        assertThat(saved.get(1).getConfidence()).isNull();
+        assertThat(saved.get(9).getText()).isEqualTo("단어9");
+        assertThat(saved.get(9).getProvider()).isEqualTo("stt");
+        assertThat(diarizationSegmentRepository.findByRecordingIdOrderByStartMsAsc(rec.getId()))
+            .extracting(DiarizationSegment::getSpeakerLabel, DiarizationSegment::getConfidence)
+            .containsExactly(tuple("SPEAKER_0", null), tuple("SPEAKER_1", 0.8));
+        assertThat(speakerTurnRepository.findByRecordingIdOrderByStartMsAsc(rec.getId()))
+            .extracting(SpeakerTurn::getText).containsExactly("단어1 단어2");
+    }
+
+    @Test
+    void insert_트랜잭션이_롤백되면_저장하지_않음() {
+        // given
+        Recording rec = recordingRepository.save(Recording.createFromUpload("ingest", "ko", 10L));
+
+        // when
+        transactionTemplate.executeWithoutResult(tx -> {
+            writer.insertSpeakerTurns(List.of(SpeakerTurn.createTurn(rec, "SPEAKER_0", 0L, 500L, "안녕")));
+            tx.setRollbackOnly();
+        });
+
+        // then
+        assertThat(speakerTurnRepository.findByRecordingIdOrderByStartMsAsc(rec.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package com.adas.application.media;
+
+import com.adas.domain.recording.Recording;
+import com.adas.domain.recording.RecordingRepository;
+import com.adas.domain.speaker.SpeakerTurn;
+import com.adas.domain.speaker.SpeakerTurnRepository;
+import com.adas.domain.speech.IncrementalSpeechMerger;
+import com.adas.domain.speech.TurnDelta;
+import com.adas.domain.speech.TurnDelta.KeyedTurn;
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.SttResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(classes = com.adas.presentation.ApiApplication.class)
+@ActiveProfiles("test")
+class SpeakerTurnDiffWriterTest {
+
+    @Autowired
+    private SpeakerTurnDiffWriter writer;
+
+    @Autowired
+    private RecordingRepository recordingRepository;
+
+    @Autowired
+    private SpeakerTurnRepository speakerTurnRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void apply_새_턴은_행_id를_돌려주고_이어진_턴은_같은_행을_고침() {
+        // given
+        Recording rec = recordingRepository.save(Recording.createFromUpload("ingest", "ko", 10L));
+        IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+        merger.rekey(apply(rec, merger.append(
+            List.of(new SttResponse.Word(0L, 1_000L, "안녕", 0.9), new SttResponse.Word(1_000L, 2_000L, "네", 0.9)),
+            List.of(new DiarizationResponse.Segment(0L, 1_000L, "SPEAKER_0", 0.9),
+                new DiarizationResponse.Segment(1_000L, 2_900L, "SPEAKER_1", 0.9)))));
+        List<Long> ids = rowIds(rec);
+
+        // when
+        TurnDelta delta = merger.append(
+            List.of(new SttResponse.Word(2_000L, 2_500L, "그렇습니다", 0.9), new SttResponse.Word(3_000L, 4_000L, "좋아요", 0.9)),
+            List.of(new DiarizationResponse.Segment(2_900L, 4_000L, "SPEAKER_0", 0.9)));
+        Map<Long, Long> keys = apply(rec, delta);
+        merger.rekey(keys);
+
+        // then
+        assertThat(delta.updated()).hasSize(1);
+        assertThat(delta.inserted()).hasSize(1);
+        List<SpeakerTurn> rows = speakerTurnRepository.findByRecordingIdOrderByStartMsAsc(rec.getId());
+        assertThat(rows).extracting(SpeakerTurn::getText).containsExactly("안녕", "네 그렇습니다", "좋아요");
+        assertThat(rows.get(1).getEndMs()).isEqualTo(2_500L);
+        assertThat(rows.subList(0, 2)).extracting(SpeakerTurn::getId).isEqualTo(ids);
+        assertThat(keys).containsExactly(entry(delta.inserted().get(0).key(), rows.get(2).getId()));
+        assertThat(merger.keyedTurns()).extracting(KeyedTurn::key).containsExactlyElementsOf(rowIds(rec));
+    }
+
+    @Test
+    void apply_사라진_턴의_행만_지우고_load는_행_id로_턴을_돌려줌() {
+        // given
+        Recording rec = recordingRepository.save(Recording.createFromUpload("ingest", "ko", 10L));
+        IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+        merger.rekey(apply(rec, merger.append(
+            List.of(new SttResponse.Word(0L, 1_000L, "안녕", 0.9), new SttResponse.Word(1_000L, 2_000L, "네", 0.9)),
+            List.of(new DiarizationResponse.Segment(0L, 1_000L, "SPEAKER_0", 0.9),
+                new DiarizationResponse.Segment(1_000L, 2_000L, "SPEAKER_1", 0.9)))));
+        Long firstId = rowIds(rec).get(0);
+
+        // when
+        TurnDelta delta = merger.replaceWordsCenteredIn(1_000L, Long.MAX_VALUE, List.of());
+        apply(rec, delta);
+        List<KeyedTurn> loaded = writer.load(rec.getId());
+
+        // then
+        assertThat(delta.removed()).hasSize(1);
+        assertThat(rowIds(rec)).containsExactly(firstId);
+        assertThat(loaded).singleElement().satisfies(k -> {
+            assertThat(k.key()).isEqualTo(firstId);
+            assertThat(k.turn().getText()).isEqualTo("안녕");
+        });
+    }
+
+    private Map<Long, Long> apply(Recording rec, TurnDelta delta) {
+        return transactionTemplate.execute(tx -> writer.apply(recordingRepository.getReferenceById(rec.getId()), delta));
+    }
+
+    private List<Long> rowIds(Recording rec) {
+        return speakerTurnRepository.findByRecordingIdOrderByStartMsAsc(rec.getId()).stream()
+            .map(SpeakerTurn::getId).toList();
+    }
+}
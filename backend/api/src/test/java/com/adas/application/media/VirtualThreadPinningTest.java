@@ -0,0 +1,141 @@
+package com.adas.application.media;
+
+import com.adas.application.dto.ProcessResponse;
+import com.adas.presentation.ApiApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 가상 스레드에서 동기 처리 경로(입장 대기 포함)를 실행하는 동안, 우리 코드의 synchronized 구간 안에서 가상 스레드가 블로킹되어 캐리어
+ * 스레드에 고정(pinning)되지 않는지 JFR jdk.VirtualThreadPinned 이벤트로 검증한다. Java 21 이상에서만 실행된다.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+    private static final int UPLOADS = 8;
+    private static final long REMOTE_DELAY_MS = 200;
+
+    private HttpServer stub;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/stt/transcribe", ex ->
+            respond(ex, "{\"lang\":\"ko\",\"words\":[{\"start\":0,\"end\":500,\"text\":\"안녕\",\"confidence\":0.9}]}"));
+        stub.createContext("/diarize", ex ->
+            respond(ex, "{\"segments\":[{\"start\":0,\"end\":1000,\"speaker\":\"S1\",\"confidence\":0.8}]}"));
+        stub.setExecutor(Executors.newFixedThreadPool(UPLOADS * 2));
+        stub.start();
+
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        // 입장 한도를 업로드 수보다 작게 두어 대기열 대기(블로킹)도 가상 스레드에서 일어나게 한다.
+        context = new SpringApplicationBuilder(ApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:pinning-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.threads.virtual.enabled=true",
+                "--external.stt.base-url=" + stubUrl,
+                "--external.diarization.base-url=" + stubUrl,
+                "--processing.admission.max-in-flight=2",
+                "--processing.admission.max-queued=" + UPLOADS,
+                "--processing.job.workers=0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void 가상_스레드_처리중_우리_코드에서_캐리어_고정이_없음() throws Exception {
+        // given
+        MediaProcessingService service = context.getBean(MediaProcessingService.class);
+        VirtualThreadTaskExecutor callers = new VirtualThreadTaskExecutor("pinning-");
+        Path dump = Files.createTempFile("pinning-", ".jfr");
+
+        List<RecordedEvent> pinned;
+        List<ProcessResponse> responses = new ArrayList<>();
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            // when
+            List<Future<ProcessResponse>> results = new ArrayList<>();
+            for (int i = 0; i < UPLOADS; i++) {
+                MockMultipartFile file = new MockMultipartFile(
+                    "file", "r" + i + ".wav", "audio/wav", ("audio-" + i).getBytes(StandardCharsets.UTF_8));
+                results.add(callers.submit(() -> service.process(file, "ko", null, false)));
+            }
+            for (Future<ProcessResponse> f : results) {
+                responses.add(f.get());
+            }
+
+            recording.stop();
+            recording.dump(dump);
+            pinned = RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+
+        // then - 라이브러리 내부 고정은 여기서 다루지 않고, com.adas 프레임이 포함된 고정만 실패로 본다
+        assertThat(responses).hasSize(UPLOADS).allSatisfy(r -> assertThat(r.words()).hasSize(1));
+        assertThat(pinned).filteredOn(VirtualThreadPinningTest::inOurCode).isEmpty();
+    }
+
+    private static boolean inOurCode(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (frame.getMethod() != null && frame.getMethod().getType().getName().startsWith("com.adas.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void respond(HttpExchange ex, String json) throws IOException {
+        ex.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(REMOTE_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json");
+        ex.sendResponseHeaders(200, body.length);
+        ex.getResponseBody().write(body);
+        ex.close();
+    }
+}
@@ -1,6 +1,7 @@
 package com.adas.application.recording;
 
 import com.adas.application.dto.DiarizationSegmentResponse;
+import com.adas.application.dto.ProcessingStatusResponse;
 import com.adas.application.dto.RecordingResponse;
 import com.adas.application.dto.SegmentsResponse;
 import com.adas.application.dto.SpeakerTurnResponse;
@@ -8,12 +9,18 @@ import com.adas.application.dto.TranscriptSegmentResponse;
 import com.adas.common.exception.NotFoundException;
 import com.adas.domain.diarization.DiarizationSegment;
 import com.adas.domain.diarization.DiarizationSegmentRepository;
+import com.adas.domain.job.JobStatus;
+import com.adas.domain.job.ProcessingJob;
+import com.adas.domain.job.ProcessingJobRepository;
 import com.adas.domain.recording.Recording;
 import com.adas.domain.recording.RecordingRepository;
 import com.adas.domain.speaker.SpeakerTurn;
 import com.adas.domain.speaker.SpeakerTurnRepository;
 import com.adas.domain.transcript.TranscriptSegment;
 import com.adas.domain.transcript.TranscriptSegmentRepository;
+import com.adas.domain.transcript.TranscriptTimeline;
+import com.adas.domain.transcript.TranscriptTimelineRepository;
+import com.adas.infrastructure.external.dto.SttResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -36,12 +43,18 @@ class RecordingQueryServiceTest {
     @Mock
     private TranscriptSegmentRepository transcriptRepo;
     
+    @Mock
+    private TranscriptTimelineRepository timelineRepo;
+
     @Mock
     private DiarizationSegmentRepository diarizationRepo;
     
     @Mock
     private SpeakerTurnRepository turnRepo;
 
+    @Mock
+    private ProcessingJobRepository jobRepo;
+
     @InjectMocks
     private RecordingQueryService recordingQueryService;
 
@@ -115,6 +128,29 @@ class RecordingQueryServiceTest {
         assertThat(diarizationDto.confidence()).isEqualTo(0.85);
     }
 
+    @Test
+    void getSegments_압축_타임라인이_있으면_단어별_행_대신_타임라인으로_조회() {
+        // given
+        Long recordingId = 1L;
+        Recording recording = Recording.createFromUpload("api", "ko", 1024L);
+        TranscriptTimeline timeline = TranscriptTimeline.encode(recording, "ko", "stt", List.of(
+            new SttResponse.Word(2000L, 2500L, "하세요", null),
+            new SttResponse.Word(1000L, 2000L, "안녕", 0.9)
+        ));
+
+        when(timelineRepo.findByRecordingId(recordingId)).thenReturn(Optional.of(timeline));
+        when(diarizationRepo.findByRecordingIdOrderByStartMsAsc(recordingId)).thenReturn(List.of());
+
+        // when
+        SegmentsResponse result = recordingQueryService.getSegments(recordingId);
+
+        // then
+        assertThat(result.transcripts()).containsExactly(
+            new TranscriptSegmentResponse(1000L, 2000L, "안녕", 0.9, "ko", "stt"),
+            new TranscriptSegmentResponse(2000L, 2500L, "하세요", null, "ko", "stt"));
+        verify(transcriptRepo, never()).findByRecordingIdOrderByStartMsAsc(any());
+    }
+
     @Test
     void getTurns_화자_턴_리스트_조회() {
         // given
@@ -169,4 +205,34 @@ class RecordingQueryServiceTest {
         // then
         assertThat(result).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getProcessingStatus_진행중인_작업_상태_반환() {
+        // given
+        Long recordingId = 1L;
+        ProcessingJob job = ProcessingJob.enqueue(
+            Recording.createFromUpload("ingest", "ko", 1024L), "/tmp/a.webm", "a.webm", "ko", null);
+        job.advanceTo(JobStatus.TRANSCRIBING);
+        when(jobRepo.findTopByRecordingIdOrderByIdDesc(recordingId)).thenReturn(Optional.of(job));
+
+        // when
+        ProcessingStatusResponse result = recordingQueryService.getProcessingStatus(recordingId);
+
+        // then
+        assertThat(result.status()).isEqualTo("transcribing");
+        assertThat(result.message()).isNull();
+    }
+
+    @Test
+    void getProcessingStatus_작업이_없으면_completed() {
+        // given
+        Long recordingId = 1L;
+        when(jobRepo.findTopByRecordingIdOrderByIdDesc(recordingId)).thenReturn(Optional.empty());
+
+        // when
+        ProcessingStatusResponse result = recordingQueryService.getProcessingStatus(recordingId);
+
+        // then
+        assertThat(result.status()).isEqualTo("completed");
+    }
+}
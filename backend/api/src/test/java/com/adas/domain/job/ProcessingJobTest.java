@@ -0,0 +1,210 @@
+package com.adas.domain.job;
+
+import com.adas.domain.recording.Recording;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.*;
+
+class ProcessingJobTest {
+
+    @Test
+    void enqueue_QUEUED_상태로_생성() {
+        // given
+        Recording recording = Recording.createFromUpload("ingest", "ko", 1024L);
+
+        // when
+        ProcessingJob job = ProcessingJob.enqueue(recording, "/tmp/a.webm", "a.webm", "ko", 2);
+
+        // then
+        assertThat(job.getRecording()).isEqualTo(recording);
+        assertThat(job.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(job.getMediaPath()).isEqualTo("/tmp/a.webm");
+        assertThat(job.getOriginalFilename()).isEqualTo("a.webm");
+        assertThat(job.getLanguage()).isEqualTo("ko");
+        assertThat(job.getMaxSpeakers()).isEqualTo(2);
+        assertThat(job.getErrorMessage()).isNull();
+    }
+
+    @Test
+    void enqueue_빈_경로_예외발생() {
+        // given
+        Recording recording = Recording.createFromUpload("ingest", "ko", 1024L);
+
+        // when & then
+        assertThatThrownBy(() -> ProcessingJob.enqueue(recording, " ", "a.webm", "ko", null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Media path cannot be null or empty");
+    }
+
+    @Test
+    void enqueue_기본은_대화형_차선에서_접수순() {
+        // when
+        ProcessingJob job = newJob();
+
+        // then
+        assertThat(job.getLane()).isEqualTo(JobLane.INTERACTIVE);
+        assertThat(job.getPriorityKey()).isNotNull();
+    }
+
+    @Test
+    void assignToBatch_일괄_업로드_기록() {
+        // given
+        ProcessingJob job = newJob();
+
+        // when
+        job.assignToBatch(3L);
+
+        // then
+        assertThat(job.getBatchId()).isEqualTo(3L);
+    }
+
+    @Test
+    void schedule_차선과_길이_순서_기록() {
+        // given
+        ProcessingJob job = newJob();
+
+        // when
+        job.schedule(JobLane.BULK, 60_000L, 1_234L);
+
+        // then
+        assertThat(job.getLane()).isEqualTo(JobLane.BULK);
+        assertThat(job.getDurationMs()).isEqualTo(60_000L);
+        assertThat(job.getPriorityKey()).isEqualTo(1_234L);
+    }
+
+    @Test
+    void schedule_음수_길이_예외발생() {
+        // given
+        ProcessingJob job = newJob();
+
+        // when & then
+        assertThatThrownBy(() -> job.schedule(JobLane.BULK, -1L, 0L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Duration cannot be negative");
+    }
+
+    @Test
+    void advanceTo_단계_전환() {
+        // given
+        ProcessingJob job = newJob();
+
+        // when
+        job.advanceTo(JobStatus.PROBING);
+        job.advanceTo(JobStatus.TRANSCRIBING);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.TRANSCRIBING);
+    }
+
+    @Test
+    void advanceTo_QUEUED로_되돌리기_예외발생() {
+        // given
+        ProcessingJob job = newJob();
+        job.advanceTo(JobStatus.PROBING);
+
+        // when & then
+        assertThatThrownBy(() -> job.advanceTo(JobStatus.QUEUED))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid next status: QUEUED");
+    }
+
+    @Test
+    void advanceTo_완료된_작업_예외발생() {
+        // given
+        ProcessingJob job = newJob();
+        job.advanceTo(JobStatus.COMPLETED);
+
+        // when & then
+        assertThatThrownBy(() -> job.advanceTo(JobStatus.MERGING))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Job already finished: COMPLETED");
+    }
+
+    @Test
+    void fail_실패_사유_기록() {
+        // given
+        ProcessingJob job = newJob();
+
+        // when
+        job.fail("x".repeat(1500));
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getErrorMessage()).hasSize(1000);
+    }
+
+    @Test
+    void claim_임대_소유자와_시도횟수_기록() {
+        // given
+        ProcessingJob job = newJob();
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        // when
+        job.claim("node-a", now, now.plusSeconds(60));
+
+        // then
+        assertThat(job.isLeasedBy("node-a")).isTrue();
+        assertThat(job.isLeasedBy("node-b")).isFalse();
+        assertThat(job.getLeaseExpiresAt()).isEqualTo(now.plusSeconds(60));
+        assertThat(job.getHeartbeatAt()).isEqualTo(now);
+        assertThat(job.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void claim_이미_임대된_작업_예외발생() {
+        // given
+        ProcessingJob job = newJob();
+        Instant now = Instant.now();
+        job.claim("node-a", now, now.plusSeconds(60));
+
+        // when & then
+        assertThatThrownBy(() -> job.claim("node-b", now, now.plusSeconds(60)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Job is not claimable: QUEUED");
+    }
+
+    @Test
+    void reclaimExpiredLease_한도_미만이면_대기열로_복귀() {
+        // given
+        ProcessingJob job = newJob();
+        Instant now = Instant.now();
+        job.claim("node-a", now, now.plusSeconds(60));
+        job.advanceTo(JobStatus.TRANSCRIBING);
+
+        // when
+        job.reclaimExpiredLease(3);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(job.getLeaseOwner()).isNull();
+        assertThat(job.getLeaseExpiresAt()).isNull();
+        job.claim("node-b", now, now.plusSeconds(60));
+        assertThat(job.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void reclaimExpiredLease_한도_도달시_FAILED() {
+        // given
+        ProcessingJob job = newJob();
+        Instant now = Instant.now();
+        job.claim("node-a", now, now.plusSeconds(60));
+
+        // when
+        job.reclaimExpiredLease(1);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getErrorMessage()).isEqualTo("lease expired after 1 attempts (last owner: node-a)");
+    }
+
+    @Test
+    void apiValue_소문자_표기() {
+        assertThat(JobStatus.TRANSCRIBING.apiValue()).isEqualTo("transcribing");
+        assertThat(JobStatus.FAILED.isTerminal()).isTrue();
+        assertThat(JobStatus.MERGING.isTerminal()).isFalse();
+    }
+
+    private static ProcessingJob newJob() {
+        return ProcessingJob.enqueue(Recording.createFromUpload("ingest", "ko", 1024L), "/tmp/a.webm", "a.webm", "ko", null);
+    }
+}
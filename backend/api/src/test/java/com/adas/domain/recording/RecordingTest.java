@@ -92,4 +92,43 @@ class RecordingTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Source cannot be null or empty");
     }
-}
\ No newline at end of file
+
+    @Test
+    void fingerprint_내용해시와_처리옵션_기록() {
+        // given
+        Recording recording = Recording.createFromUpload("api", "ko", 1024L);
+        String sha256 = "ab".repeat(32);
+
+        // when
+        recording.fingerprint(sha256, 2);
+
+        // then
+        assertThat(recording.getContentSha256()).isEqualTo(sha256);
+        assertThat(recording.getMaxSpeakers()).isEqualTo(2);
+        assertThat(recording.isCompleted()).isFalse();
+    }
+
+    @Test
+    void fingerprint_잘못된_해시_예외발생() {
+        // given
+        Recording recording = Recording.createFromUpload("api", "ko", 1024L);
+
+        // when & then
+        assertThatThrownBy(() -> recording.fingerprint("abc", null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Content hash must be a SHA-256 hex string");
+    }
+
+    @Test
+    void markCompleted_완료시각_기록() {
+        // given
+        Recording recording = Recording.createFromUpload("api", "ko", 1024L);
+
+        // when
+        recording.markCompleted();
+
+        // then
+        assertThat(recording.isCompleted()).isTrue();
+        assertThat(recording.getCompletedAt()).isNotNull();
+    }
+}
@@ -0,0 +1,250 @@
+package com.adas.domain.speech;
+
+import com.adas.domain.speech.TurnDelta.KeyedTurn;
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.SttResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 점진 병합 결과가 보관 중인 단어/구간 전체를 한 번에 병합한 결과와 같은지, 변경분을 행처럼 차례로 적용하면 현재 턴이 되는지 무작위 추가/교체로 확인한다.
+ * 실패하면 메시지의 seed로 같은 입력을 재현할 수 있다.
+ */
+class IncrementalSpeechMergerTest {
+
+    private static final String[] SPEAKERS = {"SPEAKER_0", "SPEAKER_1", "SPEAKER_2", "UNKNOWN"};
+    private static final String[] TEXTS = {"안녕", "하세요", "네", "", " ", null};
+
+    private final SpeechMergeService speechMergeService = new SpeechMergeService();
+
+    @Test
+    void 무작위_변경에서_전체_병합과_같은_턴() {
+        for (long seed = 0; seed < 1_000; seed++) {
+            // given
+            Random random = new Random(seed);
+            IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+            Map<Long, Turn> rows = new HashMap<>();
+            long[] nextRowId = {1};
+
+            for (int step = 0, n = 1 + random.nextInt(12); step < n; step++) {
+                // when
+                long from = random.nextInt(20_000);
+                long to = from + random.nextInt(6_000);
+                TurnDelta delta = switch (step == 0 ? 0 : random.nextInt(5)) {
+                    case 0, 1 -> merger.append(randomWords(random, from, from + random.nextInt(4_000)),
+                        randomSegments(random, from, from + random.nextInt(4_000)));
+                    case 2 -> merger.replace(from, to, randomWords(random, from, to), randomSegments(random, from, to));
+                    case 3 -> merger.replaceWordsCenteredIn(from, to, randomWords(random, from, to));
+                    default -> merger.replaceSegments(from, to, randomSegments(random, from, to));
+                };
+                merger.rekey(store(rows, delta, nextRowId));
+
+                // then
+                List<Turn> expected = speechMergeService.merge(new SttResponse("ko", new ArrayList<>(merger.words())),
+                    new DiarizationResponse(new ArrayList<>(merger.segments())));
+                assertThat(snapshot(merger.turns())).as("seed %d step %d", seed, step).isEqualTo(snapshot(expected));
+                assertThat(rows).as("seed %d step %d", seed, step).hasSize(merger.keyedTurns().size());
+                for (KeyedTurn k : merger.keyedTurns()) {
+                    assertThat(snapshot(List.of(rows.get(k.key())))).as("seed %d step %d", seed, step)
+                        .isEqualTo(snapshot(List.of(k.turn())));
+                }
+                IncrementalSpeechMerger restored = new IncrementalSpeechMerger();
+                assertThat(restored.restore(merger.words(), merger.segments(), merger.keyedTurns()).isEmpty())
+                    .as("seed %d step %d", seed, step).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void append_같은_화자로_이어지는_단어는_마지막_턴만_updated() {
+        // given
+        IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+        merger.append(
+            List.of(new SttResponse.Word(0L, 500L, "안녕", 0.9), new SttResponse.Word(600L, 1_000L, "네", 0.9),
+                new SttResponse.Word(1_100L, 1_500L, "하세요", 0.9)),
+            List.of(new DiarizationResponse.Segment(0L, 550L, "SPEAKER_0", 0.9),
+                new DiarizationResponse.Segment(550L, 3_000L, "SPEAKER_1", 0.9)));
+        long lastKey = merger.keyedTurns().get(1).key();
+
+        // when
+        TurnDelta delta = merger.append(List.of(new SttResponse.Word(1_600L, 2_000L, "좋아요", 0.9)), null);
+
+        // then
+        assertThat(delta.inserted()).isEmpty();
+        assertThat(delta.removed()).isEmpty();
+        assertThat(delta.updated()).extracting(KeyedTurn::key).containsExactly(lastKey);
+        assertThat(delta.updated().get(0).turn().getText()).isEqualTo("네 하세요 좋아요");
+        assertThat(delta.updated().get(0).turn().getEnd()).isEqualTo(2_000L);
+    }
+
+    @Test
+    void append_중간에_턴이_끼어들면_그_턴만_inserted() {
+        // given - A, B, A, B 네 턴
+        IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+        merger.append(
+            List.of(new SttResponse.Word(0L, 1_000L, "하나", 0.9), new SttResponse.Word(2_000L, 3_000L, "둘", 0.9),
+                new SttResponse.Word(4_000L, 5_000L, "셋", 0.9), new SttResponse.Word(6_000L, 7_000L, "넷", 0.9)),
+            List.of(new DiarizationResponse.Segment(0L, 1_000L, "A", 0.9),
+                new DiarizationResponse.Segment(2_000L, 3_000L, "B", 0.9),
+                new DiarizationResponse.Segment(4_000L, 5_000L, "A", 0.9),
+                new DiarizationResponse.Segment(6_000L, 7_000L, "B", 0.9)));
+        List<Long> keys = merger.keyedTurns().stream().map(KeyedTurn::key).toList();
+
+        // when
+        TurnDelta delta = merger.append(List.of(new SttResponse.Word(1_400L, 1_600L, "끼어듦", 0.9)),
+            List.of(new DiarizationResponse.Segment(1_300L, 1_700L, "C", 0.9)));
+
+        // then - 뒤 턴은 자리가 밀려도 그대로다
+        assertThat(delta.inserted()).singleElement().satisfies(k -> {
+            assertThat(k.key()).isNegative();
+            assertThat(k.turn().getSpeaker()).isEqualTo("C");
+        });
+        assertThat(delta.updated()).isEmpty();
+        assertThat(delta.removed()).isEmpty();
+        assertThat(merger.keyedTurns()).extracting(KeyedTurn::key)
+            .containsExactly(keys.get(0), delta.inserted().get(0).key(), keys.get(1), keys.get(2), keys.get(3));
+    }
+
+    @Test
+    void append_화자구간이_늦게_오면_그때_턴을_만듦() {
+        // given - 화자 구간 전에는 한 번에 병합할 때처럼 턴이 없다
+        IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+        TurnDelta wordsOnly = merger.append(
+            List.of(new SttResponse.Word(0L, 500L, "안녕", 0.9), new SttResponse.Word(600L, 1_000L, "네", 0.9)), null);
+        assertThat(wordsOnly.isEmpty()).isTrue();
+        assertThat(merger.turns()).isEmpty();
+
+        // when
+        TurnDelta delta = merger.append(null, List.of(new DiarizationResponse.Segment(550L, 1_200L, "SPEAKER_1", 0.9)));
+
+        // then
+        assertThat(delta.inserted()).hasSize(2);
+        assertThat(delta.updated()).isEmpty();
+        assertThat(merger.turns()).extracting(Turn::getSpeaker).containsExactly("UNKNOWN", "SPEAKER_1");
+        assertThat(merger.turns()).extracting(Turn::getText).containsExactly("안녕", "네");
+    }
+
+    @Test
+    void rekey_새_턴의_임시_key를_행_id로_바꿈() {
+        // given
+        IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+        TurnDelta inserted = merger.append(List.of(new SttResponse.Word(0L, 500L, "안녕", 0.9)),
+            List.of(new DiarizationResponse.Segment(0L, 1_000L, "SPEAKER_0", 0.9)));
+
+        // when
+        merger.rekey(Map.of(inserted.inserted().get(0).key(), 42L));
+        TurnDelta delta = merger.append(List.of(new SttResponse.Word(500L, 900L, "네", 0.9)), null);
+
+        // then
+        assertThat(delta.updated()).extracting(KeyedTurn::key).containsExactly(42L);
+    }
+
+    @Test
+    void restore_저장된_턴과_병합_결과가_같으면_변경분_없음() {
+        // given
+        List<SttResponse.Word> words = List.of(
+            new SttResponse.Word(0L, 500L, "안녕", 0.9), new SttResponse.Word(600L, 1_000L, "네", 0.9));
+        List<DiarizationResponse.Segment> segments = List.of(
+            new DiarizationResponse.Segment(0L, 550L, "SPEAKER_0", 0.9),
+            new DiarizationResponse.Segment(550L, 1_000L, "SPEAKER_1", 0.9));
+        List<KeyedTurn> stored = List.of(new KeyedTurn(10L, Turn.merged("SPEAKER_0", 0L, 500L, "안녕")),
+            new KeyedTurn(11L, Turn.merged("SPEAKER_1", 600L, 1_000L, "네")));
+        IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+
+        // when
+        TurnDelta delta = merger.restore(words, segments, stored);
+        TurnDelta rerun = merger.replaceWordsCenteredIn(Long.MIN_VALUE, Long.MAX_VALUE, words);
+
+        // then
+        assertThat(delta.isEmpty()).isTrue();
+        assertThat(rerun.isEmpty()).isTrue();
+        assertThat(merger.keyedTurns()).extracting(KeyedTurn::key).containsExactly(10L, 11L);
+        assertThatThrownBy(() -> merger.restore(words, segments, stored)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void replaceWordsCenteredIn_중앙_시각이_범위_밖인_단어는_남김() {
+        // given - 400~1_200 단어는 중앙(800)이 경계(1_000) 앞이므로 앞 구간 것이다
+        IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+        merger.append(List.of(new SttResponse.Word(400L, 1_200L, "앞", 0.9), new SttResponse.Word(900L, 1_300L, "뒤", 0.9)),
+            List.of(new DiarizationResponse.Segment(0L, 2_000L, "SPEAKER_0", 0.9)));
+
+        // when
+        merger.replaceWordsCenteredIn(1_000L, Long.MAX_VALUE, List.of(new SttResponse.Word(950L, 1_350L, "다시", 0.9)));
+
+        // then
+        assertThat(merger.words()).extracting(SttResponse.Word::text).containsExactly("앞", "다시");
+        assertThat(merger.wordsCenteredIn(1_000L, Long.MAX_VALUE)).extracting(SttResponse.Word::text)
+            .containsExactly("다시");
+    }
+
+    @Test
+    void replace_잘못된_입력이면_상태를_바꾸지_않고_예외() {
+        // given
+        IncrementalSpeechMerger merger = new IncrementalSpeechMerger();
+        merger.append(List.of(new SttResponse.Word(0L, 500L, "안녕", 0.9)),
+            List.of(new DiarizationResponse.Segment(0L, 500L, "SPEAKER_0", 0.9)));
+
+        // when & then
+        assertThatThrownBy(() -> merger.replace(0L, 1_000L, List.of(new SttResponse.Word(300L, 200L, "네", 0.9)), null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Start time must be before end time");
+        assertThatThrownBy(() -> merger.append(null, List.of(new DiarizationResponse.Segment(0L, 500L, " ", 0.9))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(merger.words()).hasSize(1);
+        assertThat(merger.segments()).hasSize(1);
+        assertThat(snapshot(merger.turns())).containsExactly("SPEAKER_0|0|500|안녕");
+    }
+
+    /**
+     * 변경분을 행처럼 반영하고, 새 턴에는 행 id를 붙여 임시 key → 행 id를 돌려준다.
+     */
+    private static Map<Long, Long> store(Map<Long, Turn> rows, TurnDelta delta, long[] nextRowId) {
+        delta.removed().forEach(key -> assertThat(rows.remove(key)).isNotNull());
+        delta.updated().forEach(k -> assertThat(rows.put(k.key(), k.turn())).isNotNull());
+        Map<Long, Long> keys = new HashMap<>();
+        for (KeyedTurn k : delta.inserted()) {
+            assertThat(k.key()).isNegative();
+            long id = nextRowId[0]++;
+            rows.put(id, k.turn());
+            keys.put(k.key(), id);
+        }
+        return keys;
+    }
+
+    /**
+     * 대체로 [from, to)에서 시작하고 가끔 범위 밖이나 같은 시작 시각인 단어.
+     */
+    private static List<SttResponse.Word> randomWords(Random random, long from, long to) {
+        List<SttResponse.Word> words = new ArrayList<>();
+        for (int i = 0, n = random.nextInt(40); i < n; i++) {
+            long start = random.nextInt(10) == 0 ? random.nextInt(25_000) : from + random.nextInt((int) (to - from) + 1);
+            if (random.nextInt(10) == 0 && !words.isEmpty()) {
+                start = words.get(random.nextInt(words.size())).start();
+            }
+            words.add(new SttResponse.Word(start, start + 1 + random.nextInt(800), TEXTS[random.nextInt(TEXTS.length)], 0.9));
+        }
+        return words;
+    }
+
+    private static List<DiarizationResponse.Segment> randomSegments(Random random, long from, long to) {
+        List<DiarizationResponse.Segment> segments = new ArrayList<>();
+        for (int i = 0, n = random.nextInt(6); i < n; i++) {
+            long start = from + random.nextInt((int) (to - from) + 1);
+            long end = start + 1 + random.nextInt(random.nextInt(10) == 0 ? 10_000 : 1_500);
+            segments.add(new DiarizationResponse.Segment(start, end, SPEAKERS[random.nextInt(SPEAKERS.length)], 0.9));
+        }
+        return segments;
+    }
+
+    private static List<String> snapshot(List<Turn> turns) {
+        return turns.stream().map(t -> t.getSpeaker() + "|" + t.getStart() + "|" + t.getEnd() + "|" + t.getText()).toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.adas.domain.speech;
+
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.DiarizationResponse.Segment;
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.external.dto.SttResponse.Word;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LiveTranscriptAssemblerTest {
+
+    private final LiveTranscriptAssembler assembler = new LiveTranscriptAssembler(new SpeechMergeService(), 1_000);
+
+    @Test
+    void accept_경계_이전은_확정하고_이후는_잠정으로_둠() {
+        // given - 구간 0: 0~5000ms, 경계 4500ms
+        SttResponse stt = stt(new Word(1_000, 1_500, "안녕", 0.9), new Word(4_600, 4_900, "하세요", 0.9));
+        DiarizationResponse diar = diar(new Segment(0, 3_000, "A", 0.8), new Segment(3_000, 5_000, "B", 0.8));
+
+        // when
+        LiveTranscriptAssembler.Update update = assembler.accept(0, 4_500, stt, diar);
+
+        // then
+        assertThat(update.finalizedWords()).extracting(Word::text).containsExactly("안녕");
+        assertThat(update.finalizedSegments()).extracting(Segment::end).containsExactly(3_000L, 4_500L);
+        assertThat(update.finalizedTurns()).isEmpty();
+        assertThat(update.provisionalTurns()).extracting(Turn::getSpeaker).containsExactly("A", "B");
+    }
+
+    @Test
+    void accept_다음_구간이_겹침을_다시_인식하고_화자_레이블을_세션에_맞춤() {
+        // given
+        assembler.accept(0, 4_500, stt(new Word(1_000, 1_500, "안녕", 0.9), new Word(4_600, 4_900, "하세요", 0.9)),
+            diar(new Segment(0, 3_000, "A", 0.8), new Segment(3_000, 5_000, "B", 0.8)));
+        // 구간 1: 4000~10000ms. 이 구간의 Diarization은 B를 "A"로 부른다.
+        SttResponse stt = stt(new Word(600, 900, "하세요", 0.9), new Word(2_000, 2_500, "반갑습니다", 0.9));
+        DiarizationResponse diar = diar(new Segment(0, 3_000, "A", 0.8));
+
+        // when
+        LiveTranscriptAssembler.Update update = assembler.accept(4_000, 9_500, stt, diar);
+
+        // then
+        assertThat(update.finalizedWords()).extracting(Word::start).containsExactly(4_600L, 6_000L);
+        assertThat(update.finalizedSegments()).extracting(Segment::speaker).containsOnly("B");
+        assertThat(update.finalizedSegments()).extracting(Segment::start).containsExactly(4_500L);
+        assertThat(update.finalizedTurns()).singleElement()
+            .satisfies(t -> {
+                assertThat(t.getSpeaker()).isEqualTo("A");
+                assertThat(t.getText()).isEqualTo("안녕");
+            });
+        assertThat(update.provisionalTurns()).singleElement()
+            .satisfies(t -> assertThat(t.getText()).isEqualTo("하세요 반갑습니다"));
+    }
+
+    @Test
+    void accept_마지막_구간이면_남은_턴을_모두_확정() {
+        // given
+        assembler.accept(0, 4_500, stt(new Word(1_000, 1_500, "안녕", 0.9)), diar(new Segment(0, 5_000, "A", 0.8)));
+
+        // when
+        LiveTranscriptAssembler.Update update = assembler.accept(4_000, Long.MAX_VALUE,
+            stt(new Word(1_000, 1_400, "끝", 0.9)), diar(new Segment(0, 2_000, "A", 0.8)));
+
+        // then
+        assertThat(update.finalizedTurns()).singleElement()
+            .satisfies(t -> assertThat(t.getText()).isEqualTo("안녕 끝"));
+        assertThat(update.provisionalTurns()).isEmpty();
+    }
+
+    @Test
+    void accept_화자_구간이_없으면_UNKNOWN_턴으로_먼저_보여줌() {
+        // when
+        LiveTranscriptAssembler.Update update = assembler.accept(0, 4_500,
+            stt(new Word(1_000, 1_500, "안녕", 0.9)), null);
+
+        // then
+        assertThat(update.provisionalTurns()).extracting(Turn::getSpeaker).containsExactly("UNKNOWN");
+    }
+
+    @Test
+    void accept_경계가_뒤로_가면_예외발생() {
+        // given
+        assembler.accept(0, 4_500, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> assembler.accept(0, 4_000, null, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SttResponse stt(Word... words) {
+        return new SttResponse("ko", List.of(words));
+    }
+
+    private static DiarizationResponse diar(Segment... segments) {
+        return new DiarizationResponse(List.of(segments));
+    }
+}
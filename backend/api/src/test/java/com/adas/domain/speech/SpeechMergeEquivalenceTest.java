@@ -0,0 +1,282 @@
+package com.adas.domain.speech;
+
+import com.adas.infrastructure.external.dto.DiarizationResponse;
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.external.dto.WordBuffer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 스윕 라인 병합이 기존 구현(단어마다 모든 구간을 훑고 String을 이어 붙이는 방식)과, 분할 병렬 병합이 순차 병합과 같은 턴을 만드는지
+ * 무작위 입력으로 확인한다.
+ * 실패하면 메시지의 seed로 같은 입력을 재현할 수 있다.
+ */
+class SpeechMergeEquivalenceTest {
+
+    private static final String[] SPEAKERS = {"SPEAKER_0", "SPEAKER_1", "SPEAKER_2", "SPEAKER_3", "UNKNOWN"};
+    private static final String[] TEXTS = {"안녕", "하세요", "네", "그렇습니다", "", " ", "\t", null};
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private final SpeechMergeService speechMergeService = new SpeechMergeService();
+    // 작은 입력에서도 여러 분할로 나뉘도록 임계값/최소 분할 크기를 낮춘 병렬 병합
+    private final SpeechMergeService parallelMergeService = new SpeechMergeService(POOL, 1, 3);
+
+    @AfterAll
+    static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void merge_무작위_입력에서_기존_구현과_같은_턴() {
+        for (long seed = 0; seed < 2_000; seed++) {
+            // given
+            Random random = new Random(seed);
+            SttResponse stt = new SttResponse("ko", randomWords(random));
+            DiarizationResponse diar = new DiarizationResponse(randomSegments(random));
+
+            // when
+            List<Turn> actual = speechMergeService.merge(stt, diar);
+
+            // then
+            assertThat(snapshot(actual)).as("seed %d", seed).isEqualTo(referenceMerge(stt, diar));
+        }
+    }
+
+    @Test
+    void merge_WordBuffer_입력도_기존_구현과_같은_턴() {
+        for (long seed = 0; seed < 500; seed++) {
+            // given
+            Random random = new Random(seed);
+            List<SttResponse.Word> words = randomWords(random);
+            WordBuffer.Builder buffer = WordBuffer.builder();
+            words.forEach(w -> buffer.add(w.start(), w.end(), w.text(), 0.5f));
+            DiarizationResponse diar = new DiarizationResponse(randomSegments(random));
+
+            // when
+            List<Turn> actual = speechMergeService.merge(new SttResponse("ko", buffer.build()), diar);
+
+            // then
+            assertThat(snapshot(actual)).as("seed %d", seed)
+                .isEqualTo(referenceMerge(new SttResponse("ko", words), diar));
+        }
+    }
+
+    @Test
+    void merge_병렬_분할_병합이_순차_병합과_같은_턴() {
+        for (long seed = 0; seed < 2_000; seed++) {
+            // given
+            Random random = new Random(seed);
+            SttResponse stt = new SttResponse("ko", randomSpeech(random, false));
+            DiarizationResponse diar = new DiarizationResponse(randomSegments(random));
+
+            // when
+            List<Turn> actual = parallelMergeService.merge(stt, diar);
+
+            // then
+            assertThat(snapshot(actual)).as("seed %d", seed).isEqualTo(snapshot(speechMergeService.merge(stt, diar)));
+        }
+    }
+
+    @Test
+    void merge_병렬_분할_병합도_잘못된_단어에서_순차와_같은_예외() {
+        int failures = 0;
+        for (long seed = 0; seed < 1_000; seed++) {
+            // given - 종료가 시작보다 빠른 단어가 섞여 있다(같은 턴을 이어가는 중이면 순차 병합도 통과시킨다)
+            Random random = new Random(seed);
+            SttResponse stt = new SttResponse("ko", randomSpeech(random, true));
+            DiarizationResponse diar = new DiarizationResponse(randomSegments(random));
+
+            // when
+            Throwable expected = catchThrowable(() -> speechMergeService.merge(stt, diar));
+            Throwable actual = catchThrowable(() -> parallelMergeService.merge(stt, diar));
+
+            // then
+            if (expected == null) {
+                assertThat(actual).as("seed %d", seed).isNull();
+                assertThat(snapshot(parallelMergeService.merge(stt, diar))).as("seed %d", seed)
+                    .isEqualTo(snapshot(speechMergeService.merge(stt, diar)));
+            } else {
+                failures++;
+                assertThat(actual).as("seed %d", seed).isInstanceOf(expected.getClass()).hasMessage(expected.getMessage());
+            }
+        }
+        assertThat(failures).isPositive();
+    }
+
+    @Test
+    void merge_병렬_분할_경계를_넘어_이어지는_턴의_검증도_순차와_같음() {
+        // given - 모두 UNKNOWN 턴 하나로 이어지고, 세 번째 단어(다른 분할의 첫머리)의 종료가 턴 시작(0)과 같다
+        SttResponse stt = new SttResponse("ko", List.of(
+            new SttResponse.Word(0L, 100L, "하나", 0.9),
+            new SttResponse.Word(200L, 300L, "둘", 0.9),
+            new SttResponse.Word(400L, 0L, "셋", 0.9)
+        ));
+        DiarizationResponse diar = new DiarizationResponse(List.of(
+            new DiarizationResponse.Segment(5_000L, 6_000L, "SPEAKER_0", 0.9)
+        ));
+
+        SpeechMergeService perWord = new SpeechMergeService(POOL, 1, 1);
+
+        // when & then
+        assertThat(perWord.partitionAtSilence(WordTimeline.from(stt.words()))).containsExactly(0, 1, 2, 3);
+        assertThatThrownBy(() -> speechMergeService.merge(stt, diar))
+            .hasMessage("Start time must be before end time");
+        assertThatThrownBy(() -> perWord.merge(stt, diar))
+            .hasMessage("Start time must be before end time");
+    }
+
+    @Test
+    void partitionAtSilence_앞_단어가_모두_끝난_지점에서만_자름() {
+        for (long seed = 0; seed < 200; seed++) {
+            // given
+            Random random = new Random(seed);
+            List<SttResponse.Word> speech = randomSpeech(random, false);
+            WordTimeline words = WordTimeline.from(speech);
+
+            // when
+            int[] bounds = parallelMergeService.partitionAtSilence(words);
+
+            // then
+            assertThat(bounds[0]).isZero();
+            assertThat(bounds[bounds.length - 1]).isEqualTo(words.size());
+            for (int b = 1; b + 1 < bounds.length; b++) {
+                assertThat(bounds[b] - bounds[b - 1]).isGreaterThanOrEqualTo(3);
+                long maxEnd = 0;
+                for (int i = 0; i < bounds[b]; i++) {
+                    maxEnd = Math.max(maxEnd, words.end(i));
+                }
+                assertThat(words.start(bounds[b])).as("seed %d", seed).isGreaterThanOrEqualTo(maxEnd);
+            }
+        }
+    }
+
+    @Test
+    void extendSpeech_무작위_연장에서_String_연결과_같은_텍스트() {
+        for (long seed = 0; seed < 500; seed++) {
+            // given
+            Random random = new Random(seed);
+            String initial = TEXTS[random.nextInt(TEXTS.length)];
+            Turn turn = Turn.startSpeaking("SPEAKER_0", 0L, 1L, initial);
+            String expected = initial;
+
+            // when
+            for (int i = 0, n = random.nextInt(30); i < n; i++) {
+                String more = TEXTS[random.nextInt(TEXTS.length)];
+                turn.extendSpeech(i + 2L, more);
+                if (more != null && !more.trim().isEmpty()) {
+                    expected = expected == null ? more : expected + " " + more;
+                }
+                if (random.nextInt(4) == 0) {
+                    assertThat(turn.getText()).as("seed %d", seed).isEqualTo(expected);
+                }
+            }
+
+            // then
+            assertThat(turn.getText()).as("seed %d", seed).isEqualTo(expected);
+        }
+    }
+
+    /**
+     * 겹치거나 포개진 구간, 같은 시작 시각, 빈틈을 섞은 무작위 화자 구간.
+     */
+    private static List<DiarizationResponse.Segment> randomSegments(Random random) {
+        List<DiarizationResponse.Segment> segments = new ArrayList<>();
+        long cursor = 0;
+        for (int i = 0, n = 1 + random.nextInt(40); i < n; i++) {
+            long start = random.nextInt(5) == 0 ? Math.max(0, cursor - random.nextInt(3_000)) : cursor + random.nextInt(500);
+            long end = start + 1 + random.nextInt(random.nextInt(10) == 0 ? 20_000 : 2_000);
+            segments.add(new DiarizationResponse.Segment(start, end, SPEAKERS[random.nextInt(SPEAKERS.length)], 0.9));
+            cursor = Math.max(cursor, start);
+        }
+        Collections.shuffle(segments, random);
+        return segments;
+    }
+
+    private static List<SttResponse.Word> randomWords(Random random) {
+        List<SttResponse.Word> words = new ArrayList<>();
+        for (int i = 0, n = 1 + random.nextInt(200); i < n; i++) {
+            long start = random.nextInt(25_000);
+            long end = start + 1 + random.nextInt(800);
+            words.add(new SttResponse.Word(start, end, TEXTS[random.nextInt(TEXTS.length)], 0.9));
+        }
+        if (random.nextBoolean()) {
+            words.sort(Comparator.comparingLong(SttResponse.Word::start));
+        }
+        return words;
+    }
+
+    /**
+     * 앞 단어와 겹치거나 맞닿거나 쉼을 두고 이어지는 발화. invalid면 가끔 종료가 시작보다 빠른 단어를 넣는다.
+     */
+    private static List<SttResponse.Word> randomSpeech(Random random, boolean invalid) {
+        List<SttResponse.Word> words = new ArrayList<>();
+        long cursor = 0;
+        for (int i = 0, n = 1 + random.nextInt(300); i < n; i++) {
+            long start = Math.max(0, cursor + random.nextInt(400) - 150);
+            long end = start + 1 + random.nextInt(600);
+            if (invalid && random.nextInt(100) == 0) {
+                end = Math.max(0, start - random.nextInt(300));
+            }
+            words.add(new SttResponse.Word(start, end, TEXTS[random.nextInt(TEXTS.length)], 0.9));
+            cursor = Math.max(cursor, end);
+        }
+        return words;
+    }
+
+    private static List<String> snapshot(List<Turn> turns) {
+        return turns.stream().map(t -> t.getSpeaker() + "|" + t.getStart() + "|" + t.getEnd() + "|" + t.getText()).toList();
+    }
+
+    /**
+     * 스윕 라인 이전 구현을 그대로 옮긴 기준 구현.
+     */
+    private static List<String> referenceMerge(SttResponse stt, DiarizationResponse diar) {
+        List<SttResponse.Word> words = new ArrayList<>(stt.words());
+        List<DiarizationResponse.Segment> segs = new ArrayList<>(diar.segments());
+        words.sort(Comparator.comparingLong(SttResponse.Word::start));
+        segs.sort(Comparator.comparingLong(DiarizationResponse.Segment::start));
+
+        List<String> turns = new ArrayList<>();
+        String speaker = null;
+        long start = 0;
+        long end = 0;
+        String text = null;
+        for (SttResponse.Word w : words) {
+            long best = 0;
+            String label = "UNKNOWN";
+            for (DiarizationResponse.Segment s : segs) {
+                long overlap = Math.min(w.end(), s.end()) - Math.max(w.start(), s.start());
+                if (overlap > best) {
+                    best = overlap;
+                    label = s.speaker();
+                }
+            }
+            if (speaker == null || !speaker.equals(label)) {
+                if (speaker != null) {
+                    turns.add(speaker + "|" + start + "|" + end + "|" + text);
+                }
+                speaker = label;
+                start = w.start();
+                end = w.end();
+                text = w.text();
+            } else {
+                end = w.end();
+                if (w.text() != null && !w.text().trim().isEmpty()) {
+                    text = text == null ? w.text() : text + " " + w.text();
+                }
+            }
+        }
+        turns.add(speaker + "|" + start + "|" + end + "|" + text);
+        return turns;
+    }
+}
@@ -2,6 +2,7 @@ package com.adas.domain.speech;
 
 import com.adas.infrastructure.external.dto.DiarizationResponse;
 import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.external.dto.WordBuffer;
 import org.junit.jupiter.api.Test;
 import java.util.List;
 import static org.assertj.core.api.Assertions.*;
@@ -176,4 +177,102 @@ class SpeechMergeServiceTest {
         assertThat(secondTurn.getSpeaker()).isEqualTo("SPEAKER_1");
         assertThat(secondTurn.getText()).isEqualTo("반갑 습니다");
     }
-}
\ No newline at end of file
+
+    @Test
+    void merge_WordBuffer_입력도_같은_턴을_생성() {
+        // given
+        WordBuffer buffer = WordBuffer.builder()
+            .add(1000L, 1500L, "안녕", 0.9f)
+            .add(1500L, 2000L, "하세요", 0.8f)
+            .add(3000L, 3500L, "반갑", 0.9f)
+            .build();
+        DiarizationResponse diar = new DiarizationResponse(List.of(
+            new DiarizationResponse.Segment(1000L, 2500L, "SPEAKER_0", 0.85),
+            new DiarizationResponse.Segment(2800L, 4500L, "SPEAKER_1", 0.9)
+        ));
+
+        // when
+        List<Turn> turns = speechMergeService.merge(new SttResponse("ko", buffer), diar);
+
+        // then
+        assertThat(turns).extracting(Turn::getSpeaker, Turn::getText)
+            .containsExactly(tuple("SPEAKER_0", "안녕 하세요"), tuple("SPEAKER_1", "반갑"));
+    }
+
+    @Test
+    void merge_빈_텍스트와_null_텍스트는_기존_턴_규칙대로_이어붙임() {
+        // given - 첫 단어 텍스트가 null이면 다음 단어부터, 공백 단어는 건너뜀
+        List<SttResponse.Word> words = List.of(
+            new SttResponse.Word(1000L, 1200L, null, 0.9),
+            new SttResponse.Word(1200L, 1400L, "  ", 0.9),
+            new SttResponse.Word(1400L, 1600L, "안녕", 0.9),
+            new SttResponse.Word(3000L, 3200L, "", 0.9),
+            new SttResponse.Word(3200L, 3400L, "네", 0.9)
+        );
+        DiarizationResponse diar = new DiarizationResponse(List.of(
+            new DiarizationResponse.Segment(1000L, 2000L, "SPEAKER_0", 0.85),
+            new DiarizationResponse.Segment(3000L, 4000L, "SPEAKER_1", 0.85)
+        ));
+
+        // when
+        List<Turn> turns = speechMergeService.merge(new SttResponse("ko", words), diar);
+
+        // then
+        assertThat(turns).extracting(Turn::getText).containsExactly("안녕", " 네");
+    }
+
+    @Test
+    void merge_UNKNOWN_레이블_구간과_겹침없는_단어는_같은_화자로_봄() {
+        // given
+        List<SttResponse.Word> words = List.of(
+            new SttResponse.Word(1000L, 1500L, "안녕", 0.9),
+            new SttResponse.Word(5000L, 5500L, "하세요", 0.9)
+        );
+        DiarizationResponse diar = new DiarizationResponse(List.of(
+            new DiarizationResponse.Segment(1000L, 2000L, "UNKNOWN", 0.85)
+        ));
+
+        // when
+        List<Turn> turns = speechMergeService.merge(new SttResponse("ko", words), diar);
+
+        // then
+        assertThat(turns).singleElement()
+            .satisfies(t -> assertThat(t.getText()).isEqualTo("안녕 하세요"));
+    }
+
+    @Test
+    void merge_시작이_같은_단어는_입력_순서를_유지() {
+        // given
+        List<SttResponse.Word> words = List.of(
+            new SttResponse.Word(2000L, 2500L, "셋", 0.9),
+            new SttResponse.Word(1000L, 1500L, "하나", 0.9),
+            new SttResponse.Word(1000L, 1200L, "둘", 0.9)
+        );
+        DiarizationResponse diar = new DiarizationResponse(List.of(
+            new DiarizationResponse.Segment(0L, 3000L, "SPEAKER_0", 0.85)
+        ));
+
+        // when
+        List<Turn> turns = speechMergeService.merge(new SttResponse("ko", words), diar);
+
+        // then
+        assertThat(turns).singleElement()
+            .satisfies(t -> {
+                assertThat(t.getText()).isEqualTo("하나 둘 셋");
+                assertThat(t.getEnd()).isEqualTo(2500L);
+            });
+    }
+
+    @Test
+    void merge_화자_레이블이_비어있으면_예외발생() {
+        // given
+        SttResponse stt = new SttResponse("ko", List.of(new SttResponse.Word(1000L, 1500L, "안녕", 0.9)));
+        DiarizationResponse diar = new DiarizationResponse(List.of(
+            new DiarizationResponse.Segment(1000L, 2000L, " ", 0.85)
+        ));
+
+        // when & then
+        assertThatThrownBy(() -> speechMergeService.merge(stt, diar))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package com.adas.domain.speech;
+
+import com.adas.domain.speech.TranscriptStitcher.ChunkTranscript;
+import com.adas.infrastructure.external.dto.SttResponse;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.assertj.core.api.Assertions.*;
+
+class TranscriptStitcherTest {
+
+    private final TranscriptStitcher stitcher = new TranscriptStitcher();
+
+    @Test
+    void stitch_구간_시작위치만큼_타임스탬프_이동() {
+        // given - 겹침 없는 두 구간
+        ChunkTranscript first = new ChunkTranscript(0L, 4000L, new SttResponse("ko", List.of(
+            new SttResponse.Word(1000L, 1500L, "안녕", 0.9))));
+        ChunkTranscript second = new ChunkTranscript(4000L, 4000L, new SttResponse("ko", List.of(
+            new SttResponse.Word(500L, 1000L, "하세요", 0.8))));
+
+        // when
+        SttResponse stitched = stitcher.stitch(List.of(first, second));
+
+        // then
+        assertThat(stitched.lang()).isEqualTo("ko");
+        assertThat(stitched.words()).containsExactly(
+            new SttResponse.Word(1000L, 1500L, "안녕", 0.9),
+            new SttResponse.Word(4500L, 5000L, "하세요", 0.8));
+    }
+
+    @Test
+    void stitch_겹침_구간의_중복_단어_제거() {
+        // given - 0~4000, 3000~7000 (겹침 3000~4000, 경계 3500)
+        ChunkTranscript first = new ChunkTranscript(0L, 4000L, new SttResponse("ko", List.of(
+            new SttResponse.Word(2000L, 2800L, "오늘", 0.9),
+            new SttResponse.Word(3100L, 3400L, "회의를", 0.9),
+            new SttResponse.Word(3600L, 3950L, "시작", 0.6))));
+        ChunkTranscript second = new ChunkTranscript(3000L, 4000L, new SttResponse("ko", List.of(
+            new SttResponse.Word(100L, 400L, "회의를", 0.9),
+            new SttResponse.Word(600L, 1000L, "시작", 0.9),
+            new SttResponse.Word(1200L, 1600L, "합니다", 0.9))));
+
+        // when
+        SttResponse stitched = stitcher.stitch(List.of(first, second));
+
+        // then - 경계 이전은 앞 구간, 이후는 뒤 구간 단어를 채택
+        assertThat(stitched.words()).extracting(SttResponse.Word::text)
+            .containsExactly("오늘", "회의를", "시작", "합니다");
+        assertThat(stitched.words().get(2)).isEqualTo(new SttResponse.Word(3600L, 4000L, "시작", 0.9));
+    }
+
+    @Test
+    void stitch_경계에_걸친_같은_단어는_한번만_유지() {
+        // given - 경계(3500)를 사이에 두고 양쪽 구간이 같은 단어를 약간 다른 위치로 인식
+        ChunkTranscript first = new ChunkTranscript(0L, 4000L, new SttResponse("ko", List.of(
+            new SttResponse.Word(3200L, 3700L, "네", 0.9))));
+        ChunkTranscript second = new ChunkTranscript(3000L, 4000L, new SttResponse("ko", List.of(
+            new SttResponse.Word(300L, 800L, "네", 0.9),
+            new SttResponse.Word(1000L, 1400L, "좋아요", 0.9))));
+
+        // when
+        SttResponse stitched = stitcher.stitch(List.of(first, second));
+
+        // then
+        assertThat(stitched.words()).extracting(SttResponse.Word::text).containsExactly("네", "좋아요");
+    }
+
+    @Test
+    void stitch_빈_구간_결과는_건너뜀() {
+        // given
+        ChunkTranscript empty = new ChunkTranscript(0L, 4000L, null);
+        ChunkTranscript second = new ChunkTranscript(3000L, 4000L, new SttResponse("en", List.of(
+            new SttResponse.Word(1000L, 1500L, "hi", 0.9))));
+
+        // when
+        SttResponse stitched = stitcher.stitch(List.of(empty, second));
+
+        // then
+        assertThat(stitched.lang()).isEqualTo("en");
+        assertThat(stitched.words()).containsExactly(new SttResponse.Word(4000L, 4500L, "hi", 0.9));
+        assertThat(stitcher.stitch(List.of())).isNull();
+    }
+}
@@ -0,0 +1,106 @@
+package com.adas.domain.transcript;
+
+import com.adas.domain.recording.Recording;
+import com.adas.infrastructure.external.dto.SttResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TranscriptTimelineTest {
+
+    private static final String[] TEXTS = {"안녕하세요", "회의를", "네", "", " ", "emoji 😀", null};
+
+    private final Recording recording = Recording.createFromUpload("api", "ko", 1024L);
+
+    @Test
+    void encode_무작위_단어를_시작_시각_순으로_복원() {
+        for (long seed = 0; seed < 300; seed++) {
+            // given
+            Random random = new Random(seed);
+            List<SttResponse.Word> words = new ArrayList<>();
+            for (int i = 0, n = random.nextInt(300); i < n; i++) {
+                long start = random.nextInt(5) == 0 ? random.nextLong(0, 1L << 40) : random.nextInt(100_000);
+                Double confidence = random.nextInt(10) == 0 ? null : random.nextInt(10_001) / 10_000.0;
+                words.add(new SttResponse.Word(start, start + 1 + random.nextInt(2_000),
+                    TEXTS[random.nextInt(TEXTS.length)], confidence));
+            }
+
+            // when
+            TranscriptTimeline timeline = TranscriptTimeline.encode(recording, "ko", "stt", words);
+
+            // then
+            List<SttResponse.Word> expected = new ArrayList<>(words);
+            expected.sort(Comparator.comparingLong(SttResponse.Word::start));
+            assertThat(timeline.getWordCount()).isEqualTo(words.size());
+            assertThat(timeline.words()).as("seed %d", seed).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void encode_신뢰도는_0_0001_단위로_저장() {
+        // given
+        List<SttResponse.Word> words = List.of(new SttResponse.Word(0L, 100L, "네", 0.876543));
+
+        // when
+        TranscriptTimeline timeline = TranscriptTimeline.encode(recording, "ko", "stt", words);
+
+        // then
+        assertThat(timeline.words().get(0).confidence()).isEqualTo(0.8765);
+    }
+
+    @Test
+    void encode_반복되는_회의_단어는_행_저장보다_훨씬_작음() {
+        // given - 단어당 평균 약 0.4초, 어휘 10개
+        List<SttResponse.Word> words = new ArrayList<>();
+        Random random = new Random(1);
+        long cursor = 0;
+        for (int i = 0; i < 20_000; i++) {
+            long start = cursor + random.nextInt(300);
+            long end = start + 150 + random.nextInt(450);
+            words.add(new SttResponse.Word(start, end, TEXTS[random.nextInt(3)], 0.5 + random.nextInt(500) / 1000.0));
+            cursor = end;
+        }
+
+        // when
+        TranscriptTimeline timeline = TranscriptTimeline.encode(recording, "ko", "stt", words);
+
+        // then
+        assertThat(timeline.sizeBytes()).isLessThan(words.size() * 6);
+        assertThat(TranscriptTimelineCodec.wordCount(TranscriptTimelineCodec.encode(words))).isEqualTo(20_000);
+    }
+
+    @Test
+    void decode_매직_버전_본문이_맞지_않으면_예외() {
+        // given
+        byte[] valid = TranscriptTimelineCodec.encode(List.of(new SttResponse.Word(0L, 100L, "네", 0.9)));
+        byte[] version = valid.clone();
+        version[4] = 2;
+        byte[] truncated = Arrays.copyOf(valid, valid.length - 3);
+
+        // when & then
+        assertThatThrownBy(() -> TranscriptTimelineCodec.decode(new byte[]{1, 2, 3}))
+            .isInstanceOf(IllegalStateException.class).hasMessage("Not a transcript timeline");
+        assertThatThrownBy(() -> TranscriptTimelineCodec.decode(version))
+            .isInstanceOf(IllegalStateException.class).hasMessage("Unsupported transcript timeline version: 2");
+        assertThatThrownBy(() -> TranscriptTimelineCodec.decode(truncated))
+            .isInstanceOf(IllegalStateException.class).hasMessage("Corrupted transcript timeline");
+    }
+
+    @Test
+    void encode_잘못된_단어나_제공자는_예외() {
+        assertThatThrownBy(() -> TranscriptTimeline.encode(recording, "ko", "stt",
+            List.of(new SttResponse.Word(100L, 100L, "네", 0.9))))
+            .isInstanceOf(IllegalArgumentException.class).hasMessage("Start time must be before end time");
+        assertThatThrownBy(() -> TranscriptTimeline.encode(recording, "ko", "stt",
+            List.of(new SttResponse.Word(0L, 100L, "네", 1.5))))
+            .isInstanceOf(IllegalArgumentException.class).hasMessage("Confidence must be between 0.0 and 1.0");
+        assertThatThrownBy(() -> TranscriptTimeline.encode(recording, "ko", " ", List.of()))
+            .isInstanceOf(IllegalArgumentException.class).hasMessage("Provider cannot be null or empty");
+    }
+}
@@ -0,0 +1,236 @@
+package com.adas.infrastructure.external;
+
+import com.adas.common.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+    private final AdaptiveConcurrencyLimiter.Options options = new AdaptiveConcurrencyLimiter.Options();
+    private final List<Sinks.One<ClientResponse>> pending = new ArrayList<>();
+    private final ExchangeFunction exchange = request -> {
+        Sinks.One<ClientResponse> sink = Sinks.one();
+        pending.add(sink);
+        return sink.asMono();
+    };
+
+    @Test
+    void 한도를_채운_상태에서_지연이_그대로면_한도를_늘림() {
+        // given
+        options.setInitialLimit(4);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        // when - 매번 한도까지 채우고 100ms 만에 응답
+        for (int i = 0; i < 20; i++) {
+            round(limiter, (int) limiter.getLimit(), 100, 0);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+        assertThat(limiter.rttMillis(true)).isCloseTo(100.0, within(1.0));
+    }
+
+    @Test
+    void 지연이_늘어나면_한도를_줄임() {
+        // given - 100ms로 학습한 뒤
+        options.setInitialLimit(20);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        for (int i = 0; i < 5; i++) {
+            round(limiter, 20, 100, 0);
+        }
+        double learned = limiter.getLimit();
+
+        // when - 같은 요청이 400ms 걸리기 시작하면
+        for (int i = 0; i < 2; i++) {
+            round(limiter, (int) limiter.getLimit(), 400, 0);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(learned);
+        assertThat(limiter.rttMillis(false)).isGreaterThan(limiter.rttMillis(true));
+        assertThat(registry.get("external.limit").tag("service", "stt").gauge().value()).isEqualTo(limiter.getLimit());
+    }
+
+    @Test
+    void 업로드_크기에_비례한_지연은_혼잡으로_보지_않음() {
+        // given
+        options.setInitialLimit(10);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        for (int i = 0; i < 5; i++) {
+            round(limiter, 10, 100, 1 << 20);
+        }
+        double learned = limiter.getLimit();
+
+        // when - 4배 큰 파일이 4배 걸림
+        for (int i = 0; i < 5; i++) {
+            round(limiter, (int) limiter.getLimit(), 400, 4 << 20);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(learned);
+    }
+
+    @Test
+    void 서버_오류면_backoff_ratio만큼_줄임() {
+        // given
+        options.setInitialLimit(10);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        // when
+        limiter.filter(request(0), exchange).subscribe(r -> { }, e -> { });
+        pending.get(0).tryEmitValue(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build());
+
+        // then
+        assertThat(limiter.getLimit()).isCloseTo(9.0, within(0.001));
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void 서버에_닿지_않고_거절된_호출은_한도에_반영하지_않음() {
+        // given
+        options.setInitialLimit(10);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        // when
+        limiter.filter(request(0), exchange).subscribe(r -> { }, e -> { });
+        pending.get(0).tryEmitError(new UpstreamUnavailableException("stt circuit is open"));
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(10.0);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void AIMD는_성공하면_1씩_늘림() {
+        // given
+        options.setAlgorithm(AdaptiveConcurrencyLimiter.Algorithm.AIMD);
+        options.setInitialLimit(2);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        // when
+        round(limiter, 2, 100, 0);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+    }
+
+    @Test
+    void 한도를_넘는_요청은_대기했다가_슬롯이_비면_보냄() {
+        // given
+        options.setInitialLimit(1);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        limiter.filter(request(0), exchange).subscribe();
+
+        // when
+        limiter.filter(request(0), exchange).subscribe();
+
+        // then
+        assertThat(pending).hasSize(1);
+        assertThat(limiter.getQueued()).isEqualTo(1);
+        pending.get(0).tryEmitValue(ClientResponse.create(HttpStatus.OK).build());
+        assertThat(pending).hasSize(2);
+        assertThat(limiter.getQueued()).isZero();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기열이_가득_차면_바로_거절() {
+        // given
+        options.setInitialLimit(1);
+        options.setMaxQueued(0);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        limiter.filter(request(0), exchange).subscribe();
+
+        // when & then
+        assertThatThrownBy(() -> limiter.filter(request(0), exchange).block(Duration.ofSeconds(5)))
+            .isInstanceOf(UpstreamUnavailableException.class)
+            .hasMessageContaining("queue is full");
+        assertThat(registry.counter("external.limit.rejected", "service", "stt").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 대기_시간을_넘기면_거절하고_대기열에서_빠짐() {
+        // given
+        options.setInitialLimit(1);
+        options.setMaxQueueWaitMs(50);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        limiter.filter(request(0), exchange).subscribe();
+
+        // when & then
+        assertThatThrownBy(() -> limiter.filter(request(0), exchange).block(Duration.ofSeconds(5)))
+            .isInstanceOf(UpstreamUnavailableException.class)
+            .hasMessageContaining("timed out");
+        assertThat(limiter.getQueued()).isZero();
+        pending.get(0).tryEmitValue(ClientResponse.create(HttpStatus.OK).build());
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void 진행_중_요청이_취소되면_슬롯을_돌려줌() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        // when
+        limiter.filter(request(0), exchange).subscribe().dispose();
+
+        // then
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void 비활성화하면_그대로_통과() {
+        // given
+        options.setEnabled(false);
+        options.setInitialLimit(1);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        // when
+        limiter.filter(request(0), exchange).subscribe();
+        limiter.filter(request(0), exchange).subscribe();
+
+        // then
+        assertThat(pending).hasSize(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    /**
+     * n개 요청을 동시에 보내고 rttMs 뒤에 모두 성공시킨다.
+     */
+    private void round(AdaptiveConcurrencyLimiter limiter, int n, long rttMs, long payloadBytes) {
+        pending.clear();
+        for (int i = 0; i < n; i++) {
+            limiter.filter(request(payloadBytes), exchange).subscribe();
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(rttMs));
+        new ArrayList<>(pending).forEach(s -> s.tryEmitValue(ClientResponse.create(HttpStatus.OK).build()));
+    }
+
+    private AdaptiveConcurrencyLimiter limiter() {
+        return new AdaptiveConcurrencyLimiter("stt", options, registry, clock::get);
+    }
+
+    private static ClientRequest request(long payloadBytes) {
+        ClientRequest.Builder builder = ClientRequest.create(HttpMethod.POST, URI.create("http://stt/api/v1/stt/transcribe"));
+        if (payloadBytes > 0) {
+            builder.attribute(AdaptiveConcurrencyLimiter.PAYLOAD_BYTES, payloadBytes);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.adas.infrastructure.external;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000L);
+    private final CircuitBreaker.Options options = new CircuitBreaker.Options();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        options.setWindowSize(4);
+        options.setMinimumCalls(4);
+        options.setFailureRateThreshold(50);
+        options.setOpenMs(1_000);
+        options.setHalfOpenCalls(2);
+        breaker = new CircuitBreaker(options, clock::get);
+    }
+
+    @Test
+    void 실패_비율이_기준에_도달하면_열림() {
+        // when - 최근 4건 중 2건 실패
+        call(true);
+        call(false);
+        call(true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        call(false);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void 오래된_실패는_창에서_빠짐() {
+        // when
+        call(false);
+        for (int i = 0; i < 6; i++) {
+            call(true);
+        }
+        call(false);
+
+        // then - 최근 4건 중 실패 1건
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 열린_뒤_시험_호출이_모두_성공하면_닫힘() {
+        // given
+        open();
+        advanceMs(1_000);
+
+        // when - 반열림: 시험 호출 2건만 허용
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void 시험_호출이_실패하면_다시_열림() {
+        // given
+        open();
+        advanceMs(1_000);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        // when
+        breaker.onFailure();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        advanceMs(999);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void 취소된_시험_호출은_허용_수를_돌려줌() {
+        // given
+        open();
+        advanceMs(1_000);
+        breaker.tryAcquire();
+        breaker.tryAcquire();
+
+        // when
+        breaker.onCancel();
+
+        // then
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void 꺼져_있으면_항상_허용() {
+        // given
+        options.setEnabled(false);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            call(false);
+        }
+
+        // then
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(false);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean success) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (success) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+    }
+
+    private void advanceMs(long ms) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(ms));
+    }
+}
@@ -0,0 +1,183 @@
+package com.adas.infrastructure.external;
+
+import com.adas.infrastructure.external.EndpointBalancer.Endpoint;
+import com.adas.infrastructure.external.EndpointBalancer.Options;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EndpointBalancerTest {
+
+    private static final List<String> URLS = List.of("http://a:8000/api/v1", "http://b:8000/api/v1/");
+
+    private final AtomicLong clock = new AtomicLong(1_000L);
+    private final Options options = new Options();
+
+    @Test
+    void select_진행중_요청이_적은_복제본을_고름() {
+        // given
+        EndpointBalancer balancer = balancer();
+        balancer.getEndpoints().get(0).start();
+
+        // when & then
+        assertThat(balancer.select().getBaseUrl()).isEqualTo("http://b:8000/api/v1");
+    }
+
+    @Test
+    void select_부하가_같으면_돌아가며_고름() {
+        // given
+        EndpointBalancer balancer = balancer();
+
+        // when
+        List<String> picked = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            picked.add(balancer.select().getBaseUrl());
+        }
+
+        // then
+        assertThat(picked).containsExactly(
+            "http://a:8000/api/v1", "http://b:8000/api/v1", "http://a:8000/api/v1", "http://b:8000/api/v1");
+    }
+
+    @Test
+    void select_EWMA는_응답이_빠른_복제본을_고름() {
+        // given
+        options.setStrategy(EndpointBalancer.Strategy.EWMA);
+        EndpointBalancer balancer = balancer();
+        complete(balancer.getEndpoints().get(0), 900);
+        complete(balancer.getEndpoints().get(1), 100);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            counts.merge(balancer.select().getBaseUrl(), 1, Integer::sum);
+        }
+
+        // then
+        assertThat(counts).containsOnlyKeys("http://b:8000/api/v1");
+    }
+
+    @Test
+    void 연속_실패하면_격리하고_격리가_끝나면_천천히_복귀() {
+        // given
+        options.setFailureThreshold(2);
+        options.setEjectionMs(1_000);
+        options.setSlowStartMs(10_000);
+        EndpointBalancer balancer = balancer();
+        Endpoint a = balancer.getEndpoints().get(0);
+        Endpoint b = balancer.getEndpoints().get(1);
+
+        // when - a가 연속 2회 실패
+        a.start().failure();
+        a.start().failure();
+
+        // then - 격리 중에는 b만 받는다
+        for (int i = 0; i < 4; i++) {
+            assertThat(balancer.select()).isSameAs(b);
+        }
+
+        // when - 격리 종료 직후: 가중치 10%라 b에 요청이 9개 쌓일 때까지 b가 더 낫다
+        advanceMs(1_000);
+        for (int i = 0; i < 5; i++) {
+            b.start();
+        }
+
+        // then
+        assertThat(balancer.select()).isSameAs(b);
+        assertThat(a.weight(clock.get())).isEqualTo(0.1);
+
+        // when - slow-start가 끝나면 다시 동등하게 받는다
+        advanceMs(10_000);
+
+        // then
+        assertThat(balancer.select()).isSameAs(a);
+        assertThat(a.weight(clock.get())).isEqualTo(1.0);
+    }
+
+    @Test
+    void 다시_격리되면_격리_시간을_두배로_늘림() {
+        // given
+        options.setFailureThreshold(1);
+        options.setEjectionMs(1_000);
+        options.setMaxEjectionMs(1_500);
+        EndpointBalancer balancer = balancer();
+        Endpoint a = balancer.getEndpoints().get(0);
+
+        // when
+        a.start().failure();
+        advanceMs(1_000);
+        assertThat(a.isEjected(clock.get())).isFalse();
+        a.start().failure();
+
+        // then - 두 번째 격리는 최대 1.5초
+        advanceMs(1_400);
+        assertThat(a.isEjected(clock.get())).isTrue();
+        advanceMs(100);
+        assertThat(a.isEjected(clock.get())).isFalse();
+    }
+
+    @Test
+    void select_모두_격리되면_먼저_풀리는_복제본으로_보냄() {
+        // given
+        options.setFailureThreshold(1);
+        EndpointBalancer balancer = balancer();
+        Endpoint a = balancer.getEndpoints().get(0);
+        Endpoint b = balancer.getEndpoints().get(1);
+        a.start().failure();
+        advanceMs(10);
+        b.start().failure();
+
+        // when & then
+        assertThat(balancer.select()).isSameAs(a);
+    }
+
+    @Test
+    void resolve_첫_복제본_기준_URL을_선택한_복제본으로_바꿈() {
+        // given
+        EndpointBalancer balancer = balancer();
+
+        // when
+        URI routed = balancer.getEndpoints().get(1).resolve(URI.create("http://a:8000/api/v1/stt/transcribe"));
+
+        // then
+        assertThat(routed).hasToString("http://b:8000/api/v1/stt/transcribe");
+    }
+
+    @Test
+    void 요청_하나는_한_번만_반영() {
+        // given
+        EndpointBalancer balancer = balancer();
+        Endpoint a = balancer.getEndpoints().get(0);
+        EndpointBalancer.Call call = a.start();
+
+        // when
+        call.success();
+        call.failure();
+        call.cancel();
+
+        // then
+        assertThat(a.getOutstanding()).isZero();
+    }
+
+    private EndpointBalancer balancer() {
+        return new EndpointBalancer("stt", URLS, options, null, clock::get);
+    }
+
+    private void complete(Endpoint endpoint, long latencyMs) {
+        EndpointBalancer.Call call = endpoint.start();
+        advanceMs(latencyMs);
+        call.success();
+    }
+
+    private void advanceMs(long ms) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(ms));
+    }
+}
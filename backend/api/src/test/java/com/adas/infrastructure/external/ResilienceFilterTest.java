@@ -0,0 +1,290 @@
+package com.adas.infrastructure.external;
+
+import com.adas.common.exception.UpstreamUnavailableException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로컬 스텁 서버에 대해 ResilienceFilter의 연결 오류 재시도, 서킷 브레이커, 헤지 요청과 안쪽 동시 요청 한도와의 관계를 검증한다.
+ */
+class ResilienceFilterTest {
+
+    private static final String OK = "{\"lang\":\"ko\",\"words\":[]}";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ResilienceFilter.Options options = new ResilienceFilter.Options();
+    private final List<HttpServer> servers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(s -> s.stop(0));
+    }
+
+    @Test
+    void 연결_오류는_다른_복제본으로_재시도() throws IOException {
+        // given - 첫 복제본은 닫힌 포트
+        AtomicInteger calls = new AtomicInteger();
+        String live = stub(calls, n -> 0, 200);
+        SttClient client = client(List.of(deadUrl(), live));
+
+        // when
+        client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10));
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(registry.counter("external.retries", "service", "stt").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 재시도를_모두_써도_연결되지_않으면_원래_오류() throws IOException {
+        // given
+        options.getRetry().setMaxRetries(2);
+        options.getRetry().setInitialBackoffMs(10);
+        SttClient client = client(List.of(deadUrl()));
+
+        // when & then
+        assertThatThrownBy(() -> client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10)))
+            .isInstanceOf(WebClientRequestException.class);
+        assertThat(registry.counter("external.retries", "service", "stt").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 서버_오류가_이어지면_서킷이_열려_호출하지_않고_실패() {
+        // given
+        options.getCircuitBreaker().setWindowSize(4);
+        options.getCircuitBreaker().setMinimumCalls(4);
+        AtomicInteger calls = new AtomicInteger();
+        SttClient client = client(List.of(stub(calls, n -> 0, 500)));
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10)))
+                .isInstanceOf(WebClientResponseException.class);
+        }
+
+        // then
+        assertThatThrownBy(() -> client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10)))
+            .isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(registry.get("external.circuit.state").tag("service", "stt").gauge().value()).isEqualTo(2.0);
+        assertThat(registry.counter("external.circuit.rejected", "service", "stt").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 응답_없는_호출을_호출자_타임아웃이_끊어도_느린_호출은_실패로_세어_서킷이_열림() {
+        // given - 모든 요청이 2초 걸리고, 보낸 뒤 200ms가 지나 취소되면 실패로 센다
+        options.getCircuitBreaker().setWindowSize(2);
+        options.getCircuitBreaker().setMinimumCalls(2);
+        options.getCircuitBreaker().setSlowCallMs(200);
+        AtomicInteger calls = new AtomicInteger();
+        SttClient client = client(List.of(stub(calls, n -> 2_000, 200)));
+
+        // when - 바로 취소한 호출은 세지 않는다
+        assertThatThrownBy(() -> client.transcribeAsync(audio(), "a.wav", "ko").timeout(Duration.ofMillis(50)).block())
+            .hasCauseInstanceOf(java.util.concurrent.TimeoutException.class);
+        for (int i = 0; i < 2; i++) {
+            assertThat(registry.get("external.circuit.state").tag("service", "stt").gauge().value()).isZero();
+            assertThatThrownBy(() -> client.transcribeAsync(audio(), "a.wav", "ko").timeout(Duration.ofMillis(400)).block())
+                .hasCauseInstanceOf(java.util.concurrent.TimeoutException.class);
+        }
+
+        // then
+        assertThat(registry.get("external.circuit.state").tag("service", "stt").gauge().value()).isEqualTo(2.0);
+        assertThatThrownBy(() -> client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10)))
+            .isInstanceOf(UpstreamUnavailableException.class);
+    }
+
+    @Test
+    void 응답이_p95를_넘기면_헤지_요청이_먼저_응답() {
+        // given - 6번째 요청만 3초 걸린다
+        options.getHedging().setEnabled(true);
+        options.getHedging().setMinSamples(5);
+        options.getHedging().setMinDelayMs(50);
+        AtomicInteger calls = new AtomicInteger();
+        SttClient client = client(List.of(stub(calls, n -> n == 6 ? 3_000 : 0, 200)));
+        for (int i = 0; i < 5; i++) {
+            client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10));
+        }
+
+        // when
+        long started = System.nanoTime();
+        client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10));
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        // then
+        assertThat(elapsedMs).isLessThan(2_000);
+        assertThat(calls.get()).isEqualTo(7);
+        assertThat(registry.counter("external.hedge.sent", "service", "stt").count()).isEqualTo(1.0);
+        assertThat(registry.counter("external.hedge.wins", "service", "stt", "winner", "hedge").count()).isEqualTo(1.0);
+        assertThat(registry.counter("external.hedge.wins", "service", "stt", "winner", "primary").count())
+            .isEqualTo(0.0);
+    }
+
+    @Test
+    void 헤지_전에_첫_요청이_연결_오류가_아닌_오류로_끝나면_헤지하지_않고_실패() throws InterruptedException {
+        // given - 6번째 요청은 서버에 닿은 뒤 응답 없이 끊긴다
+        options.getHedging().setEnabled(true);
+        options.getHedging().setMinSamples(5);
+        options.getHedging().setMinDelayMs(300);
+        AtomicInteger calls = new AtomicInteger();
+        SttClient client = client(List.of(stub(calls, n -> 0, n -> n == 6 ? 0 : 200)));
+        for (int i = 0; i < 5; i++) {
+            client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10));
+        }
+
+        // when & then
+        assertThatThrownBy(() -> client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10)))
+            .isInstanceOf(WebClientRequestException.class)
+            .matches(e -> !ResilienceFilter.isConnectError(e));
+        Thread.sleep(500);
+        assertThat(calls.get()).isEqualTo(6);
+        assertThat(registry.counter("external.hedge.sent", "service", "stt").count()).isZero();
+    }
+
+    @Test
+    void 서킷이_열려_거절된_호출은_동시_요청_한도를_줄이지_않음() {
+        // given - 서버 오류로 서킷이 열린 상태
+        options.getCircuitBreaker().setWindowSize(4);
+        options.getCircuitBreaker().setMinimumCalls(4);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("stt", new AdaptiveConcurrencyLimiter.Options(), registry);
+        SttClient client = client(List.of(stub(new AtomicInteger(), n -> 0, 500)), limiter);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10)))
+                .isInstanceOf(WebClientResponseException.class);
+        }
+        double limit = limiter.getLimit();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10)))
+                .isInstanceOf(UpstreamUnavailableException.class);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(limit);
+        assertThat(registry.counter("external.circuit.rejected", "service", "stt").count()).isEqualTo(10.0);
+    }
+
+    @Test
+    void 헤지_요청도_동시_요청_한도의_슬롯을_따로_씀() {
+        // given - 한도 1, 대기열 없음. 6번째 요청만 1초 걸린다
+        options.getHedging().setEnabled(true);
+        options.getHedging().setMinSamples(5);
+        options.getHedging().setMinDelayMs(50);
+        AdaptiveConcurrencyLimiter.Options limit = new AdaptiveConcurrencyLimiter.Options();
+        limit.setInitialLimit(1);
+        limit.setMaxLimit(1);
+        limit.setMaxQueued(0);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("stt", limit, registry);
+        AtomicInteger calls = new AtomicInteger();
+        SttClient client = client(List.of(stub(calls, n -> n == 6 ? 1_000 : 0, 200)), limiter);
+        for (int i = 0; i < 5; i++) {
+            client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10));
+        }
+
+        // when
+        client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10));
+
+        // then - 첫 요청이 슬롯을 쥐고 있으므로 헤지 요청은 한도에서 거절되고, 거절은 서킷 실패로 세지 않는다
+        assertThat(calls.get()).isEqualTo(6);
+        assertThat(registry.counter("external.hedge.sent", "service", "stt").count()).isEqualTo(1.0);
+        assertThat(registry.counter("external.limit.rejected", "service", "stt").count()).isEqualTo(1.0);
+        assertThat(registry.counter("external.hedge.wins", "service", "stt", "winner", "primary").count()).isEqualTo(1.0);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(registry.get("external.circuit.state").tag("service", "stt").gauge().value()).isZero();
+    }
+
+    private SttClient client(List<String> urls) {
+        return client(urls, null);
+    }
+
+    /**
+     * WebClientConfig와 같은 순서(복원력 → 동시 요청 한도 → 복제본 분산)로 필터를 건다.
+     */
+    private SttClient client(List<String> urls, AdaptiveConcurrencyLimiter limiter) {
+        WebClient.Builder builder = WebClient.builder()
+            .baseUrl(urls.get(0))
+            .filter(new ResilienceFilter("stt", options, registry));
+        if (limiter != null) {
+            builder.filter(limiter);
+        }
+        if (urls.size() > 1) {
+            builder.filter(new EndpointBalancer("stt", urls, new EndpointBalancer.Options(), registry));
+        }
+        return new SttClient(builder.build());
+    }
+
+    private String stub(AtomicInteger calls, IntUnaryOperator delayMs, int status) {
+        return stub(calls, delayMs, n -> status);
+    }
+
+    /**
+     * status가 0 이하인 요청은 응답 없이 연결을 끊는다.
+     */
+    private String stub(AtomicInteger calls, IntUnaryOperator delayMs, IntUnaryOperator status) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/api/v1/stt/transcribe", ex -> {
+                int n = calls.incrementAndGet();
+                ex.getRequestBody().readAllBytes();
+                try {
+                    Thread.sleep(delayMs.applyAsInt(n));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                int code = status.applyAsInt(n);
+                if (code <= 0) {
+                    ex.close();
+                    return;
+                }
+                byte[] body = (code == 200 ? OK : "{}").getBytes(StandardCharsets.UTF_8);
+                ex.getResponseHeaders().add("Content-Type", "application/json");
+                ex.sendResponseHeaders(code, body.length);
+                ex.getResponseBody().write(body);
+                ex.close();
+            });
+            server.setExecutor(Executors.newFixedThreadPool(4));
+            server.start();
+            servers.add(server);
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1";
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String deadUrl() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        return "http://127.0.0.1:" + port + "/api/v1";
+    }
+
+    private static ByteArrayResource audio() {
+        return new ByteArrayResource("audio".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "a.wav";
+            }
+        };
+    }
+}
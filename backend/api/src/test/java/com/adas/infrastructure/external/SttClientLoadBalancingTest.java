@@ -0,0 +1,154 @@
+package com.adas.infrastructure.external;
+
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 여러 STT 복제본(로컬 스텁 서버)에 대해 EndpointBalancer가 요청을 나누고, 실패하는 복제본을 격리했다가 복귀시키는지 검증한다.
+ */
+class SttClientLoadBalancingTest {
+
+    private static final String OK = "{\"lang\":\"ko\",\"words\":[{\"start\":0,\"end\":500,\"text\":\"안녕\",\"confidence\":0.9}]}";
+
+    private final List<HttpServer> servers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(s -> s.stop(0));
+    }
+
+    @Test
+    void 실패하는_복제본을_격리하고_회복하면_다시_보냄() throws Exception {
+        // given - c는 처음에 500을 반환
+        Replica a = replica(0, new AtomicBoolean(true));
+        Replica b = replica(0, new AtomicBoolean(true));
+        AtomicBoolean cHealthy = new AtomicBoolean(false);
+        Replica c = replica(0, cHealthy);
+        EndpointBalancer.Options options = new EndpointBalancer.Options();
+        options.setFailureThreshold(2);
+        options.setEjectionMs(300);
+        options.setSlowStartMs(0);
+        SttClient client = client(options, a, b, c);
+
+        // when
+        int failed = 0;
+        for (int i = 0; i < 12; i++) {
+            failed += transcribe(client) ? 0 : 1;
+        }
+
+        // then - c는 연속 2회 실패 후 격리된다
+        assertThat(c.calls.get()).isEqualTo(2);
+        assertThat(failed).isEqualTo(2);
+        assertThat(a.calls.get() + b.calls.get()).isEqualTo(10);
+
+        // when - c가 회복되고 격리 시간이 지남
+        cHealthy.set(true);
+        Thread.sleep(400);
+        for (int i = 0; i < 6; i++) {
+            assertThat(transcribe(client)).isTrue();
+        }
+
+        // then
+        assertThat(c.calls.get()).isGreaterThan(2);
+    }
+
+    @Test
+    void 진행중_요청이_적은_복제본이_더_많이_받음() {
+        // given - slow는 응답에 300ms, fast는 20ms
+        Replica slow = replica(300, new AtomicBoolean(true));
+        Replica fast = replica(20, new AtomicBoolean(true));
+        SttClient client = client(new EndpointBalancer.Options(), slow, fast);
+
+        // when - 동시에 4개씩 24건
+        List<SttResponse> responses = Flux.range(0, 24)
+            .flatMap(i -> client.transcribeAsync(audio(), "a.wav", "ko"), 4)
+            .collectList()
+            .block(Duration.ofSeconds(30));
+
+        // then
+        assertThat(responses).hasSize(24);
+        assertThat(fast.calls.get()).isGreaterThan(slow.calls.get() * 2);
+    }
+
+    private boolean transcribe(SttClient client) {
+        return client.transcribeAsync(audio(), "a.wav", "ko")
+            .map(r -> true)
+            .onErrorResume(e -> Mono.just(false))
+            .block(Duration.ofSeconds(10));
+    }
+
+    private SttClient client(EndpointBalancer.Options options, Replica... replicas) {
+        List<String> urls = new ArrayList<>();
+        for (Replica r : replicas) {
+            urls.add("http://127.0.0.1:" + r.server.getAddress().getPort() + "/api/v1");
+        }
+        WebClient webClient = WebClient.builder()
+            .baseUrl(urls.get(0))
+            .filter(new EndpointBalancer("stt", urls, options, null))
+            .build();
+        return new SttClient(webClient);
+    }
+
+    private Replica replica(long delayMs, AtomicBoolean healthy) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            Replica replica = new Replica(server, new AtomicInteger());
+            server.createContext("/api/v1/stt/transcribe", ex -> {
+                replica.calls.incrementAndGet();
+                respond(ex, delayMs, healthy.get() ? 200 : 500);
+            });
+            server.setExecutor(Executors.newFixedThreadPool(8));
+            server.start();
+            servers.add(server);
+            return replica;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ByteArrayResource audio() {
+        return new ByteArrayResource("audio".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "a.wav";
+            }
+        };
+    }
+
+    private static void respond(HttpExchange ex, long delayMs, int status) throws IOException {
+        ex.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = (status == 200 ? OK : "{\"detail\":\"gpu busy\"}").getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json");
+        ex.sendResponseHeaders(status, body.length);
+        ex.getResponseBody().write(body);
+        ex.close();
+    }
+
+    private record Replica(HttpServer server, AtomicInteger calls) {
+
+    }
+}
@@ -0,0 +1,127 @@
+package com.adas.infrastructure.external;
+
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.external.dto.WordBuffer;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SttResponseDecoderTest {
+
+    private static final String JSON = """
+        {"lang":"ko","model":{"name":"whisper","layers":[1,2]},"words":[
+          {"start":0,"end":500,"text":"안녕","confidence":0.91,"extra":[{"a":1}]},
+          {"start":500.0,"end":900,"text":"하세요","confidence":null},
+          {"end":1200,"text":null,"confidence":1},
+          {"start":1200,"end":1500,"text":"안녕","confidence":0.123456}
+        ],"duration":1.5}
+        """;
+
+    private final SttResponseDecoder decoder = new SttResponseDecoder(1024 * 1024);
+    // Spring 기본 ObjectMapper처럼 모르는 필드는 무시한다.
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void decode_Jackson_데이터_바인딩과_같은_결과() throws Exception {
+        // given
+        byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        SttResponse response = decoder.decode(json);
+
+        // then
+        assertThat(response).isEqualTo(objectMapper.readValue(json, SttResponse.class));
+        assertThat(response.words()).isInstanceOf(WordBuffer.class);
+    }
+
+    @Test
+    void decodeToMono_바이트_단위로_나눠_받아도_같은_결과() {
+        // given
+        byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> chunks = new ArrayList<>();
+        for (byte b : json) {
+            chunks.add(DefaultDataBufferFactory.sharedInstance.wrap(new byte[]{b}));
+        }
+
+        // when
+        SttResponse response = decoder.decodeToMono(Flux.fromIterable(chunks),
+            ResolvableType.forClass(SttResponse.class), MediaType.APPLICATION_JSON, Map.of()).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(response).isEqualTo(decoder.decode(json));
+    }
+
+    @Test
+    void decode_같은_텍스트는_풀에서_공유() {
+        // when
+        WordBuffer words = (WordBuffer) decoder.decode(JSON.getBytes(StandardCharsets.UTF_8)).words();
+
+        // then
+        assertThat(words.textId(0)).isEqualTo(words.textId(3));
+        assertThat(words.text(0)).isSameAs(words.text(3));
+        assertThat(words.textId(2)).isEqualTo(-1);
+        assertThat(words.distinctTexts()).isEqualTo(2);
+        assertThat(words.confidence(1)).isNaN();
+    }
+
+    @Test
+    void decode_words가_없거나_null이면_null() {
+        // when & then
+        assertThat(decoder.decode("{\"lang\":\"ko\"}".getBytes(StandardCharsets.UTF_8)).words()).isNull();
+        assertThat(decoder.decode("{\"lang\":\"ko\",\"words\":null}".getBytes(StandardCharsets.UTF_8)).words()).isNull();
+        assertThat(decoder.decode("{\"words\":[]}".getBytes(StandardCharsets.UTF_8)).words()).isEmpty();
+    }
+
+    @Test
+    void decodeToMono_빈_본문이면_빈_결과() {
+        // when
+        SttResponse response = decoder.decodeToMono(Flux.empty(), ResolvableType.forClass(SttResponse.class),
+            MediaType.APPLICATION_JSON, Map.of()).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(response).isNull();
+    }
+
+    @Test
+    void decode_최대_크기를_넘으면_예외발생() {
+        // given
+        SttResponseDecoder small = new SttResponseDecoder(64);
+
+        // when & then
+        assertThatThrownBy(() -> small.decode(JSON.getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(DataBufferLimitException.class);
+    }
+
+    @Test
+    void decode_객체가_아니거나_잘린_JSON이면_예외발생() {
+        // when & then
+        assertThatThrownBy(() -> decoder.decode("[1,2]".getBytes(StandardCharsets.UTF_8)))
+            .hasMessageContaining("must be a JSON object");
+        assertThatThrownBy(() -> decoder.decode("{\"words\":[{\"start\":1".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(DecodingException.class);
+    }
+
+    @Test
+    void canDecode_SttResponse_JSON만_처리() {
+        // when & then
+        assertThat(decoder.canDecode(ResolvableType.forClass(SttResponse.class), MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(decoder.canDecode(ResolvableType.forClass(Object.class), MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(decoder.canDecode(ResolvableType.forClass(SttResponse.class), MediaType.TEXT_PLAIN)).isFalse();
+    }
+}
@@ -0,0 +1,52 @@
+package com.adas.infrastructure.media;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MediaStorageTest {
+
+    private static final byte[] CONTENT = "RIFF....WAVEfmt 회의 녹음".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path dir;
+
+    private MediaStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        MediaProperties props = new MediaProperties();
+        props.setStorageDir(dir.toString());
+        storage = new MediaStorage(props);
+    }
+
+    @Test
+    void store_업로드는_옮긴_파일을_읽어_해시하고_스트림으로_다시_쓰지_않음() throws IOException {
+        // given - 컨테이너 파트 파일을 옮기는 transferTo만 허용한다
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("meeting.wav");
+        doAnswer(inv -> Files.write(inv.<File>getArgument(0).toPath(), CONTENT)).when(file).transferTo(any(File.class));
+
+        // when
+        StoredMedia media = storage.store(file);
+
+        // then
+        verify(file, never()).getInputStream();
+        assertThat(media.path()).startsWith(dir).hasBinaryContent(CONTENT);
+        assertThat(media.sizeBytes()).isEqualTo(CONTENT.length);
+        assertThat(media.sha256()).isEqualTo(storage.store(new ByteArrayInputStream(CONTENT), "copy.wav").sha256());
+    }
+}
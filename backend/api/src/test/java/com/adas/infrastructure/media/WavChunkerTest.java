@@ -0,0 +1,117 @@
+package com.adas.infrastructure.media;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class WavChunkerTest {
+
+    private static final int SAMPLE_RATE = 8000;
+    private static final int BYTE_RATE = SAMPLE_RATE * 2;
+
+    private final WavChunker chunker = new WavChunker();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void split_겹치는_구간으로_분할() throws IOException {
+        // given - 10초 16bit mono
+        byte[] pcm = pcm(10_000);
+        Path wav = writeWav("long.wav", pcm);
+
+        // when - 4초 구간, 1초 겹침
+        List<AudioChunk> chunks = chunker.split(wav, 4_000, 1_000);
+
+        // then
+        assertThat(chunks).extracting(AudioChunk::offsetMs).containsExactly(0L, 3_000L, 6_000L);
+        assertThat(chunks).extracting(AudioChunk::durationMs).containsExactly(4_000L, 4_000L, 4_000L);
+        AudioChunk second = chunks.get(1);
+        byte[] written = Files.readAllBytes(second.path());
+        assertThat(written).hasSize(44 + 4 * BYTE_RATE);
+        assertThat(Arrays.copyOfRange(written, 44, written.length))
+            .isEqualTo(Arrays.copyOfRange(pcm, 3 * BYTE_RATE, 7 * BYTE_RATE));
+        assertThat(ByteBuffer.wrap(written).order(ByteOrder.LITTLE_ENDIAN).getInt(40)).isEqualTo(4 * BYTE_RATE);
+
+        chunker.delete(chunks);
+        assertThat(chunks).allSatisfy(c -> assertThat(c.path()).doesNotExist());
+    }
+
+    @Test
+    void split_마지막_구간은_남은_길이만큼() throws IOException {
+        // given
+        Path wav = writeWav("odd.wav", pcm(9_000));
+
+        // when
+        List<AudioChunk> chunks = chunker.split(wav, 4_000, 1_000);
+
+        // then
+        assertThat(chunks).extracting(AudioChunk::endMs).containsExactly(4_000L, 7_000L, 9_000L);
+    }
+
+    @Test
+    void split_구간보다_짧거나_WAV가_아니면_분할하지_않음() throws IOException {
+        // given
+        Path shortWav = writeWav("short.wav", pcm(3_000));
+        Path webm = Files.write(dir.resolve("a.webm"), new byte[2048]);
+
+        // when & then
+        assertThat(chunker.split(shortWav, 4_000, 1_000)).isEmpty();
+        assertThat(chunker.split(webm, 4_000, 1_000)).isEmpty();
+    }
+
+    @Test
+    void split_겹침이_구간보다_길면_예외발생() throws IOException {
+        // given
+        Path wav = writeWav("x.wav", pcm(1_000));
+
+        // when & then
+        assertThatThrownBy(() -> chunker.split(wav, 1_000, 1_000))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void extractWindow_헤더없는_PCM_구간을_WAV로_기록() throws IOException {
+        // given - 아직 6초까지만 기록된 스풀 파일
+        byte[] pcm = pcm(6_000);
+        Path spool = Files.write(dir.resolve("live.pcm"), pcm);
+
+        // when - 4초~9초 요청(뒷부분은 아직 없음)
+        AudioChunk window = chunker.extractWindow(spool, SAMPLE_RATE, 1, 2, 4_000, 9_000, dir.resolve("w2.wav"));
+
+        // then
+        assertThat(window.index()).isEqualTo(2);
+        assertThat(window.offsetMs()).isEqualTo(4_000L);
+        assertThat(window.durationMs()).isEqualTo(2_000L);
+        byte[] written = Files.readAllBytes(window.path());
+        assertThat(new String(written, 0, 4)).isEqualTo("RIFF");
+        assertThat(Arrays.copyOfRange(written, 44, written.length))
+            .isEqualTo(Arrays.copyOfRange(pcm, 4 * BYTE_RATE, 6 * BYTE_RATE));
+    }
+
+    private static byte[] pcm(long durationMs) {
+        byte[] data = new byte[(int) (durationMs * BYTE_RATE / 1000)];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 31);
+        }
+        return data;
+    }
+
+    private Path writeWav(String name, byte[] pcm) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(44 + pcm.length).order(ByteOrder.LITTLE_ENDIAN);
+        buf.put("RIFF".getBytes()).putInt(36 + pcm.length).put("WAVE".getBytes());
+        buf.put("fmt ".getBytes()).putInt(16).putShort((short) 1).putShort((short) 1)
+            .putInt(SAMPLE_RATE).putInt(BYTE_RATE).putShort((short) 2).putShort((short) 16);
+        buf.put("data".getBytes()).putInt(pcm.length).put(pcm);
+        return Files.write(dir.resolve(name), buf.array());
+    }
+}
@@ -0,0 +1,173 @@
+package com.adas.presentation.config;
+
+import com.adas.infrastructure.external.SttClient;
+import com.adas.infrastructure.external.dto.SttResponse;
+import com.adas.infrastructure.external.dto.WordBuffer;
+import com.adas.presentation.config.ExternalServicesProperties.ServiceProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import reactor.core.publisher.Mono;
+import reactor.netty.internal.shaded.reactor.pool.PoolAcquireTimeoutException;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로컬 스텁 서버에 대해 서비스 전용 연결 풀의 연결 재사용, 대기 제한, 풀 지표와 STT 응답 디코딩 설정을 검증한다.
+ */
+class WebClientConfigTest {
+
+    private static final String OK = "{\"lang\":\"ko\",\"words\":[]}";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ServiceProperties props = new ServiceProperties();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private ConnectionProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.globalRegistry.add(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.globalRegistry.remove(registry);
+        if (provider != null) {
+            provider.dispose();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void 유휴_시간이_읽기_타임아웃을_넘어도_같은_연결을_재사용() throws InterruptedException {
+        // given - 요청마다 붙는 읽기 타임아웃(200ms)보다 오래 쉰다
+        props.setBaseUrl(stub(0));
+        props.setReadTimeoutMs(200);
+        SttClient client = client("stt-reuse");
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10));
+            Thread.sleep(400);
+        }
+
+        // then
+        assertThat(clientPorts).hasSize(1);
+        assertThat(registry.get("reactor.netty.connection.provider.total.connections").tag("name", "stt-reuse")
+            .gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("reactor.netty.connection.provider.idle.connections").tag("name", "stt-reuse")
+            .gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 연결이_모두_사용_중이면_대기_시간_뒤_실패() {
+        // given
+        props.setBaseUrl(stub(1_000));
+        props.getPool().setMaxConnections(1);
+        props.getPool().setPendingAcquireTimeoutMs(100);
+        SttClient client = client("stt-pending");
+
+        // when
+        Mono<?> first = client.transcribeAsync(audio(), "a.wav", "ko");
+        Mono<?> second = client.transcribeAsync(audio(), "a.wav", "ko").delaySubscription(Duration.ofMillis(100));
+
+        // then
+        assertThatThrownBy(() -> Mono.when(first, second).block(Duration.ofSeconds(10)))
+            .hasRootCauseInstanceOf(PoolAcquireTimeoutException.class);
+        assertThat(registry.get("reactor.netty.connection.provider.pending.connections.time").tag("name", "stt-pending")
+            .tag("status", "ERROR").timer().count()).isEqualTo(1);
+        assertThat(registry.get("reactor.netty.connection.provider.max.pending.connections").tag("name", "stt-pending")
+            .gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 기본_코덱_한도보다_큰_STT_응답도_스트리밍으로_디코딩() {
+        // given - 약 1MB 응답
+        StringBuilder json = new StringBuilder("{\"lang\":\"ko\",\"words\":[");
+        for (int i = 0; i < 20_000; i++) {
+            json.append(i > 0 ? "," : "").append("{\"start\":").append(i * 100).append(",\"end\":").append(i * 100 + 90)
+                .append(",\"text\":\"단어\",\"confidence\":0.9}");
+        }
+        props.setBaseUrl(stub(0, json.append("]}").toString()));
+        SttClient client = client("stt-large");
+
+        // when
+        SttResponse response = client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10));
+
+        // then
+        assertThat(response.words()).isInstanceOf(WordBuffer.class).hasSize(20_000);
+        assertThat(response.words().get(19_999).confidence()).isEqualTo(0.9);
+    }
+
+    @Test
+    void STT_응답이_최대_크기를_넘으면_실패() {
+        // given
+        props.setBaseUrl(stub(0));
+        props.setMaxResponseBytes(8);
+        SttClient client = client("stt-limit");
+
+        // when & then
+        assertThatThrownBy(() -> client.transcribeAsync(audio(), "a.wav", "ko").block(Duration.ofSeconds(10)))
+            .hasRootCauseInstanceOf(DataBufferLimitException.class);
+    }
+
+    private SttClient client(String service) {
+        provider = WebClientConfig.connectionProvider(service, props.getPool());
+        return new SttClient(WebClientConfig.build(service, props, provider, registry));
+    }
+
+    private String stub(long delayMs) {
+        return stub(delayMs, OK);
+    }
+
+    private String stub(long delayMs, String response) {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/api/v1/stt/transcribe", ex -> {
+                clientPorts.add(ex.getRemoteAddress().getPort());
+                ex.getRequestBody().readAllBytes();
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] body = response.getBytes(StandardCharsets.UTF_8);
+                ex.getResponseHeaders().add("Content-Type", "application/json");
+                ex.sendResponseHeaders(200, body.length);
+                ex.getResponseBody().write(body);
+                ex.close();
+            });
+            server.setExecutor(Executors.newFixedThreadPool(4));
+            server.start();
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1";
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ByteArrayResource audio() {
+        return new ByteArrayResource("audio".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "a.wav";
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.adas.presentation.media;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.adas.application.dto.BatchReceipt;
+import com.adas.application.dto.BatchStatusResponse;
+import com.adas.application.dto.IngestReceipt;
+import com.adas.application.job.IngestBatchService;
+import com.adas.application.job.IngestJobService;
+import com.adas.common.exception.ServiceBusyException;
+import com.adas.common.exception.TooManyRequestsException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(classes = com.adas.presentation.ApiApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IngestControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private IngestJobService ingestJobService;
+
+    @MockitoBean
+    private IngestBatchService ingestBatchService;
+
+    private final MockMultipartFile file =
+        new MockMultipartFile("file", "recording.webm", "audio/webm", "x".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    @DisplayName("/ingest/audio는 처리를 기다리지 않고 202와 transcript_url을 반환한다")
+    void ingest_accepted() throws Exception {
+        when(ingestJobService.submit(any(), eq("ko"), eq("cm-700usb"), eq(true)))
+            .thenReturn(new IngestReceipt(5L, 9L, "queued"));
+
+        mvc.perform(multipart("/api/ingest/audio").file(file).param("language", "ko").param("source", "cm-700usb"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.recording_id").value("5"))
+            .andExpect(jsonPath("$.job_id").value(9))
+            .andExpect(jsonPath("$.status").value("queued"))
+            .andExpect(jsonPath("$.transcript_url").value("/api/v1/recordings/5/transcript"));
+    }
+
+    @Test
+    @DisplayName("처리 대기열이 가득 차면 503을 반환한다")
+    void ingest_busy() throws Exception {
+        when(ingestJobService.submit(any(), any(), any(), anyBoolean()))
+            .thenThrow(new ServiceBusyException("Processing queue is full, retry later"));
+
+        mvc.perform(multipart("/api/ingest/audio").file(file))
+            .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("입장 한도를 넘으면 429와 Retry-After를 반환한다")
+    void ingest_too_many_requests() throws Exception {
+        when(ingestJobService.submit(any(), any(), any(), anyBoolean()))
+            .thenThrow(new TooManyRequestsException("Processing queue is full, retry later", 7));
+
+        mvc.perform(multipart("/api/ingest/audio").file(file))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "7"))
+            .andExpect(jsonPath("$.retryAfterSeconds").value(7));
+    }
+
+    @Test
+    @DisplayName("같은 내용의 완료된 결과를 재사용하면 200과 completed를 반환한다")
+    void ingest_cached() throws Exception {
+        when(ingestJobService.submit(any(), any(), any(), eq(true)))
+            .thenReturn(new IngestReceipt(6L, null, "completed"));
+
+        mvc.perform(multipart("/api/ingest/audio").file(file))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.recording_id").value("6"))
+            .andExpect(jsonPath("$.status").value("completed"));
+    }
+
+    @Test
+    @DisplayName("useCache=false면 캐시 없이 접수한다")
+    void ingest_cache_disabled() throws Exception {
+        when(ingestJobService.submit(any(), any(), any(), eq(false)))
+            .thenReturn(new IngestReceipt(7L, 11L, "queued"));
+
+        mvc.perform(multipart("/api/ingest/audio").file(file).param("useCache", "false"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.job_id").value(11));
+    }
+
+    @Test
+    @DisplayName("/ingest/batch는 파일 여러 개를 받아 202와 status_url을 반환한다")
+    void ingest_batch_accepted() throws Exception {
+        MockMultipartFile first =
+            new MockMultipartFile("files", "a.wav", "audio/wav", "a".getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile second =
+            new MockMultipartFile("files", "b.zip", "application/zip", "b".getBytes(StandardCharsets.UTF_8));
+        when(ingestBatchService.submit(anyList(), eq("ko"), any(), eq(true)))
+            .thenReturn(new BatchReceipt(3L, 12));
+
+        mvc.perform(multipart("/api/ingest/batch").file(first).file(second).param("language", "ko"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.batch_id").value(3))
+            .andExpect(jsonPath("$.file_count").value(12))
+            .andExpect(jsonPath("$.status_url").value("/api/ingest/batches/3"));
+    }
+
+    @Test
+    @DisplayName("일괄 상태는 파일별 진행 상황과 transcript_url을 반환한다")
+    void batch_status() throws Exception {
+        when(ingestBatchService.getStatus(3L)).thenReturn(new BatchStatusResponse(3L, "processing", 2, 0, 1, 1, 0,
+            0.5, 0.25, List.of(
+                new BatchStatusResponse.Item(0, "long.wav", 11L, 21L, 30_000L, "TRANSCRIBING", null),
+                new BatchStatusResponse.Item(1, "short.wav", 12L, 22L, 10_000L, "COMPLETED", null))));
+
+        mvc.perform(get("/api/ingest/batches/3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("processing"))
+            .andExpect(jsonPath("$.progress").value(0.5))
+            .andExpect(jsonPath("$.duration_progress").value(0.25))
+            .andExpect(jsonPath("$.files[1].status").value("COMPLETED"))
+            .andExpect(jsonPath("$.files[1].transcript_url").value("/api/v1/recordings/12/transcript"));
+    }
+}
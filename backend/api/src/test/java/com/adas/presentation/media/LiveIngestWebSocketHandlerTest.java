@@ -0,0 +1,134 @@
+package com.adas.presentation.media;
+
+import com.adas.presentation.ApiApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * WebSocket으로 PCM 프레임을 보내면 opened → update → completed 메시지를 받고 연결이 정상 종료되는지 검증한다.
+ */
+class LiveIngestWebSocketHandlerTest {
+
+    private static final int SAMPLE_RATE = 8_000;
+    private static final int BYTES_PER_MS = SAMPLE_RATE * 2 / 1000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpServer stub;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/stt/transcribe", ex ->
+            respond(ex, "{\"lang\":\"ko\",\"words\":[{\"start\":100,\"end\":400,\"text\":\"말\",\"confidence\":0.9}]}"));
+        stub.createContext("/diarize", ex ->
+            respond(ex, "{\"segments\":[{\"start\":0,\"end\":700,\"speaker\":\"S\",\"confidence\":0.8}]}"));
+        stub.setExecutor(Executors.newFixedThreadPool(4));
+        stub.start();
+
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        context = new SpringApplicationBuilder(ApiApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .profiles("test")
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:live-ws-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--external.stt.base-url=" + stubUrl,
+                "--external.diarization.base-url=" + stubUrl,
+                "--processing.live.step-ms=1000",
+                "--processing.live.overlap-ms=200",
+                "--processing.job.workers=0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void 프레임을_보내고_stop하면_턴을_받고_정상_종료() throws Exception {
+        // given
+        List<JsonNode> received = new CopyOnWriteArrayList<>();
+        CompletableFuture<CloseStatus> closed = new CompletableFuture<>();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        WebSocketSession ws = new StandardWebSocketClient().execute(new TextWebSocketHandler() {
+            @Override
+            protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+                received.add(objectMapper.readTree(message.getPayload()));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+                closed.complete(status);
+            }
+        }, "ws://127.0.0.1:" + port + "/api/ingest/live?language=ko&sampleRate=" + SAMPLE_RATE).get(5, TimeUnit.SECONDS);
+
+        // when - 250ms 프레임 10개(2.5초) 후 stop
+        for (int i = 0; i < 10; i++) {
+            ws.sendMessage(new BinaryMessage(new byte[250 * BYTES_PER_MS]));
+        }
+        ws.sendMessage(new TextMessage("{\"type\":\"stop\"}"));
+
+        // then
+        assertThat(closed.get(10, TimeUnit.SECONDS).getCode()).isEqualTo(CloseStatus.NORMAL.getCode());
+        assertThat(received).extracting(m -> m.path("type").asText())
+            .containsExactly("opened", "update", "update", "update", "completed");
+        JsonNode last = received.get(3);
+        assertThat(last.path("finalized").get(0).path("text").asText()).isEqualTo("말 말 말");
+        assertThat(last.path("finalized").get(0).path("speaker").asText()).isEqualTo("S");
+    }
+
+    @Test
+    void 잘못된_샘플레이트면_BAD_DATA로_종료() throws Exception {
+        // given
+        CompletableFuture<CloseStatus> closed = new CompletableFuture<>();
+        String port = context.getEnvironment().getProperty("local.server.port");
+
+        // when
+        new StandardWebSocketClient().execute(new TextWebSocketHandler() {
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+                closed.complete(status);
+            }
+        }, "ws://127.0.0.1:" + port + "/api/ingest/live?sampleRate=abc").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(closed.get(5, TimeUnit.SECONDS).getCode()).isEqualTo(CloseStatus.BAD_DATA.getCode());
+    }
+
+    private static void respond(HttpExchange ex, String json) throws IOException {
+        ex.getRequestBody().readAllBytes();
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json");
+        ex.sendResponseHeaders(200, body.length);
+        ex.getResponseBody().write(body);
+        ex.close();
+    }
+}
@@ -2,8 +2,12 @@ package com.adas.presentation.media;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -22,6 +26,8 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 
 @SpringBootTest(classes = com.adas.presentation.ApiApplication.class)
 @AutoConfigureMockMvc
@@ -39,7 +45,7 @@ class MediaControllerTest {
     void process_ok() throws Exception {
         ProcessResponse resp =
             new ProcessResponse("1", "ko", List.of(), List.of(), List.of(Turn.startSpeaking("S1", 0, 1000, "hi")));
-        when(mediaProcessingService.process(any(), eq("ko"), eq(2))).thenReturn(resp);
+        when(mediaProcessingService.process(any(), eq("ko"), eq(2), eq(true))).thenReturn(resp);
 
         MockMultipartFile file =
             new MockMultipartFile(
@@ -56,4 +62,42 @@ class MediaControllerTest {
             .andExpect(jsonPath("$.data.recordingId").value("1"))
             .andExpect(jsonPath("$.data.lang").value("ko"));
     }
+
+    @Test
+    @DisplayName("/media/process는 file 파트가 없으면 서비스를 호출하지 않고 400을 반환한다")
+    void process_file_파트_없음() throws Exception {
+        mvc.perform(
+                multipart("/api/v1/media/process")
+                    .param("language", "ko")
+                    .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.exception").value("MissingServletRequestPartException"));
+
+        verifyNoInteractions(mediaProcessingService);
+    }
+
+    @Test
+    @DisplayName("/media/process/reactive는 비동기로 처리한 뒤 같은 형식으로 200을 반환한다")
+    void process_reactive_ok() throws Exception {
+        ProcessResponse resp =
+            new ProcessResponse("2", "ko", List.of(), List.of(), List.of(Turn.startSpeaking("S1", 0, 1000, "hi")));
+        when(mediaProcessingService.processReactive(any(), eq("ko"), isNull(), eq(true))).thenReturn(Mono.just(resp));
+
+        MockMultipartFile file =
+            new MockMultipartFile(
+                "file", "test.wav", "audio/wav", "x".getBytes(StandardCharsets.UTF_8));
+
+        MvcResult started = mvc.perform(
+                multipart("/api/v1/media/process/reactive")
+                    .file(file)
+                    .param("language", "ko")
+                    .accept(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.isSuccess").value(true))
+            .andExpect(jsonPath("$.data.recordingId").value("2"));
+    }
 }
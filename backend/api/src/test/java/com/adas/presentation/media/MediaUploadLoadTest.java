@@ -0,0 +1,198 @@
+package com.adas.presentation.media;
+
+import com.adas.presentation.ApiApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 동기 업로드(/api/v1/media/process) 부하 비교. 동시 업로드 수를 단계적으로 올리며 p95 지연이 기준(동시 1건)의 2배를 넘거나 실패가 생기기 직전
+ * 단계를 "최대 동시 업로드 수"로 기록한다. 기본 test 작업에서는 제외되며 `gradle loadTest`로 실행한다(가상 스레드 비교는 -PjavaVersion=21).
+ */
+@Tag("load")
+class MediaUploadLoadTest {
+
+    private static final long REMOTE_DELAY_MS = 500;
+    private static final int[] LEVELS = {50, 100, 200, 400, 800};
+    private static final double DEGRADATION_FACTOR = 2.0;
+    private static final String BOUNDARY = "adas-load-boundary";
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private HttpServer stub;
+    private ExecutorService clientThreads;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        stub.createContext("/stt/transcribe", ex ->
+            respond(ex, "{\"lang\":\"ko\",\"words\":[{\"start\":0,\"end\":500,\"text\":\"안녕\",\"confidence\":0.9}]}"));
+        stub.createContext("/diarize", ex ->
+            respond(ex, "{\"segments\":[{\"start\":0,\"end\":1000,\"speaker\":\"S1\",\"confidence\":0.8}]}"));
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+
+        clientThreads = Executors.newCachedThreadPool();
+        client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(clientThreads)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+        clientThreads.shutdownNow();
+    }
+
+    @Test
+    void 플랫폼_스레드_최대_동시_업로드_측정() throws Exception {
+        // when - 절대 한도는 실행 환경(CPU 수)에 따라 달라지므로 기록만 하고, 예열 단계가 모두 성공하는지만 본다
+        int platform = measure(false);
+
+        // then
+        System.out.printf("[load] max concurrent uploads: platform=%d%n", platform);
+        assertThat(platform).isBetween(0, LEVELS[LEVELS.length - 1]);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void 가상_스레드가_플랫폼_스레드보다_적지_않은_동시_업로드를_버팀() throws Exception {
+        // when
+        int platform = measure(false);
+        int virtual = measure(true);
+
+        // then
+        System.out.printf("[load] max concurrent uploads: platform=%d, virtual=%d%n", platform, virtual);
+        assertThat(virtual).isGreaterThanOrEqualTo(platform);
+    }
+
+    /**
+     * 주어진 스레드 모드로 서버를 띄워 단계별 부하를 건 뒤, 지연이 무너지기 전 최대 동시 업로드 수를 반환한다(첫 단계부터 무너지면 0).
+     */
+    private int measure(boolean virtualThreads) throws Exception {
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        // 입장 제어/DB 풀이 아니라 요청 처리 스레드 모델을 비교하도록 다른 한도는 충분히 크게 둔다.
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .profiles("test")
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=20",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--external.stt.base-url=" + stubUrl,
+                "--external.diarization.base-url=" + stubUrl,
+                "--processing.admission.max-in-flight=10000",
+                "--processing.admission.max-queued=10000",
+                "--processing.job.workers=0")) {
+            URI uri = URI.create("http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                + "/api/v1/media/process?useCache=false");
+            String mode = virtualThreads ? "virtual" : "platform";
+
+            assertThat(round(uri, 10).failures()).isZero();
+            long baseline = round(uri, 1).p95Ms();
+            System.out.printf("[load] %s baseline p95=%dms%n", mode, baseline);
+
+            int sustained = 0;
+            for (int level : LEVELS) {
+                Round r = round(uri, level);
+                System.out.printf("[load] %s concurrency=%d p95=%dms failures=%d%n", mode, level, r.p95Ms(), r.failures());
+                if (r.failures() > 0 || r.p95Ms() > baseline * DEGRADATION_FACTOR) {
+                    break;
+                }
+                sustained = level;
+            }
+            return sustained;
+        }
+    }
+
+    /**
+     * concurrency개의 업로드를 동시에 보내고 p95 지연과 실패 수를 반환한다.
+     */
+    private Round round(URI uri, int concurrency) {
+        List<CompletableFuture<Long>> calls = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(multipart(sequence.incrementAndGet())))
+                .build();
+            long started = System.nanoTime();
+            calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(res -> res.statusCode() == 200 ? Duration.ofNanos(System.nanoTime() - started).toMillis() : -1L)
+                .exceptionally(e -> -1L));
+        }
+        List<Long> latencies = new ArrayList<>();
+        int failures = 0;
+        for (CompletableFuture<Long> call : calls) {
+            long ms = call.join();
+            if (ms < 0) {
+                failures++;
+            } else {
+                latencies.add(ms);
+            }
+        }
+        latencies.sort(null);
+        long p95 = latencies.isEmpty() ? Long.MAX_VALUE
+            : latencies.get(Math.min(latencies.size() - 1, (int) Math.ceil(latencies.size() * 0.95) - 1));
+        return new Round(p95, failures);
+    }
+
+    private static byte[] multipart(int n) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String head = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"load-" + n + ".wav\"\r\n"
+            + "Content-Type: audio/wav\r\n\r\n";
+        out.writeBytes(head.getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(("audio-" + n).getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static void respond(HttpExchange ex, String json) throws IOException {
+        ex.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(REMOTE_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json");
+        ex.sendResponseHeaders(200, body.length);
+        ex.getResponseBody().write(body);
+        ex.close();
+    }
+
+    private record Round(long p95Ms, int failures) {
+
+    }
+}
@@ -0,0 +1,129 @@
+package com.adas.presentation.media;
+
+import com.adas.presentation.ApiApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 논블로킹 처리 경로는 외부 응답을 기다리는 동안 요청 스레드를 반납하므로, 요청 스레드 수(T)보다 많은 업로드(N)가 스레드 대기 없이 동시에
+ * 진행되는지 검증한다.
+ */
+class ReactiveProcessConcurrencyTest {
+
+    private static final int REQUEST_THREADS = 2;
+    private static final int UPLOADS = 12;
+    private static final long REMOTE_DELAY_MS = 1_000;
+    private static final String BOUNDARY = "adas-reactive-boundary";
+
+    private HttpServer stub;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/stt/transcribe", ex ->
+            respond(ex, "{\"lang\":\"ko\",\"words\":[{\"start\":0,\"end\":500,\"text\":\"안녕\",\"confidence\":0.9}]}"));
+        stub.createContext("/diarize", ex ->
+            respond(ex, "{\"segments\":[{\"start\":0,\"end\":1000,\"speaker\":\"S1\",\"confidence\":0.8}]}"));
+        stub.setExecutor(Executors.newFixedThreadPool(UPLOADS * 2));
+        stub.start();
+
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        context = new SpringApplicationBuilder(ApiApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .profiles("test")
+            .run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + REQUEST_THREADS,
+                "--server.tomcat.threads.min-spare=1",
+                "--spring.datasource.url=jdbc:h2:mem:reactive-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--external.stt.base-url=" + stubUrl,
+                "--external.diarization.base-url=" + stubUrl,
+                "--processing.execution-mode=parallel",
+                "--processing.admission.max-in-flight=" + UPLOADS,
+                "--processing.job.workers=0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void 요청_스레드보다_많은_동시_업로드가_함께_진행됨() {
+        // given
+        URI uri = URI.create("http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+            + "/api/v1/media/process/reactive?language=ko");
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // when
+        long started = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> calls = new ArrayList<>();
+        for (int i = 0; i < UPLOADS; i++) {
+            calls.add(client.sendAsync(HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(multipart(i)))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString()));
+        }
+        List<HttpResponse<String>> responses = calls.stream().map(CompletableFuture::join).toList();
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        // then - 요청 스레드 단위로 직렬화되면 (N/T) * 1s = 6s 이상 걸린다
+        assertThat(responses).allSatisfy(r -> {
+            assertThat(r.statusCode()).isEqualTo(200);
+            assertThat(r.body()).contains("\"isSuccess\":true");
+        });
+        assertThat(elapsedMs).isLessThan(UPLOADS / REQUEST_THREADS * REMOTE_DELAY_MS);
+    }
+
+    private static byte[] multipart(int n) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String head = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"r" + n + ".wav\"\r\n"
+            + "Content-Type: audio/wav\r\n\r\n";
+        out.writeBytes(head.getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(("audio-" + n).getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static void respond(HttpExchange ex, String json) throws IOException {
+        ex.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(REMOTE_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json");
+        ex.sendResponseHeaders(200, body.length);
+        ex.getResponseBody().write(body);
+        ex.close();
+    }
+}
@@ -9,7 +9,9 @@ export default defineConfig({
             // 프론트에서 /api 로 부르면 백엔드로 프록시
             "/api": {
                 target: process.env.VITE_API_BASE || "http://localhost:8081",
-                changeOrigin: true
+                changeOrigin: true,
+                // 실시간 수집(/api/ingest/live) WebSocket 프록시
+                ws: true
                 // 필요 시:
                 // rewrite: p => p.replace(/^\/api/, ''),
             }